@@ -241,6 +241,27 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics);
 
+    /**
+     * Opt-in feature flag to batch job completions. If enabled, the jobs completed by the handler
+     * via its {@link JobClient} are not completed one request at a time; instead, completions are
+     * collected and sent together to the gateway. A batch is sent once it holds {@code
+     * maxBatchSize} completions, or once {@code maxDelay} has passed since its first completion,
+     * whichever comes first.
+     *
+     * <p>The future returned when sending a complete command is still completed per job, i.e. a job
+     * which could not be completed does not fail the other jobs of its batch. Complete commands
+     * which are sent via REST are never batched.
+     *
+     * <p>Batching trades a little latency, at most {@code maxDelay}, for far fewer requests, and is
+     * meant for workers which complete many jobs per second.
+     *
+     * @param maxBatchSize the maximum number of completions sent together; a size of 1 disables
+     *     batching
+     * @param maxDelay the maximum time a completion is held back before its batch is sent
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 completionBatching(int maxBatchSize, Duration maxDelay);
+
     /**
      * Open the worker and start to work on available tasks.
      *
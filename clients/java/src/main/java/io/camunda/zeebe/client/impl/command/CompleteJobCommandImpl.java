@@ -25,6 +25,7 @@ import io.camunda.zeebe.client.impl.RetriableClientFutureImpl;
 import io.camunda.zeebe.client.impl.http.HttpClient;
 import io.camunda.zeebe.client.impl.http.HttpZeebeFuture;
 import io.camunda.zeebe.client.impl.response.CompleteJobResponseImpl;
+import io.camunda.zeebe.client.impl.worker.JobCompletionBatcher;
 import io.camunda.zeebe.client.protocol.rest.JobCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
@@ -49,6 +50,7 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
   private boolean useRest;
   private final long jobKey;
   private final JsonMapper jsonMapper;
+  private final JobCompletionBatcher completionBatcher;
 
   public CompleteJobCommandImpl(
       final GatewayStub asyncStub,
@@ -58,6 +60,30 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
       final Predicate<StatusCode> retryPredicate,
       final HttpClient httpClient,
       final boolean preferRestOverGrpc) {
+    this(
+        asyncStub,
+        jsonMapper,
+        key,
+        requestTimeout,
+        retryPredicate,
+        httpClient,
+        preferRestOverGrpc,
+        null);
+  }
+
+  /**
+   * Creates a command which, when sent via gRPC, is added to the given batcher instead of being
+   * sent on its own. If the batcher is null, the command is always sent on its own.
+   */
+  public CompleteJobCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final long key,
+      final Duration requestTimeout,
+      final Predicate<StatusCode> retryPredicate,
+      final HttpClient httpClient,
+      final boolean preferRestOverGrpc,
+      final JobCompletionBatcher completionBatcher) {
     super(jsonMapper);
     this.asyncStub = asyncStub;
     this.requestTimeout = requestTimeout;
@@ -70,6 +96,7 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
     useRest = preferRestOverGrpc;
     jobKey = key;
     this.jsonMapper = jsonMapper;
+    this.completionBatcher = completionBatcher;
   }
 
   @Override
@@ -112,6 +139,9 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
 
   private ZeebeFuture<CompleteJobResponse> sendGrpcRequest() {
     final CompleteJobRequest request = grpcRequestObjectBuilder.build();
+    if (completionBatcher != null) {
+      return completionBatcher.add(request, requestTimeout);
+    }
 
     final RetriableClientFutureImpl<CompleteJobResponse, GatewayOuterClass.CompleteJobResponse>
         future =
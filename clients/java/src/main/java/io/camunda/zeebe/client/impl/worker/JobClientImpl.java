@@ -32,6 +32,8 @@ import io.camunda.zeebe.client.impl.command.StreamJobsCommandImpl;
 import io.camunda.zeebe.client.impl.command.ThrowErrorCommandImpl;
 import io.camunda.zeebe.client.impl.http.HttpClient;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Predicate;
 
 public final class JobClientImpl implements JobClient {
@@ -41,6 +43,7 @@ public final class JobClientImpl implements JobClient {
   private final ZeebeClientConfiguration config;
   private final JsonMapper jsonMapper;
   private final Predicate<StatusCode> retryPredicate;
+  private final JobCompletionBatcher completionBatcher;
 
   public JobClientImpl(
       final GatewayStub asyncStub,
@@ -48,11 +51,40 @@ public final class JobClientImpl implements JobClient {
       final ZeebeClientConfiguration config,
       final JsonMapper jsonMapper,
       final Predicate<StatusCode> retryPredicate) {
+    this(asyncStub, httpClient, config, jsonMapper, retryPredicate, null);
+  }
+
+  private JobClientImpl(
+      final GatewayStub asyncStub,
+      final HttpClient httpClient,
+      final ZeebeClientConfiguration config,
+      final JsonMapper jsonMapper,
+      final Predicate<StatusCode> retryPredicate,
+      final JobCompletionBatcher completionBatcher) {
     this.asyncStub = asyncStub;
     this.httpClient = httpClient;
     this.config = config;
     this.jsonMapper = jsonMapper;
     this.retryPredicate = retryPredicate;
+    this.completionBatcher = completionBatcher;
+  }
+
+  /**
+   * Creates a batcher which sends job completions to the gateway in batches, using the same
+   * connection as this client.
+   */
+  public JobCompletionBatcher newCompletionBatcher(
+      final ScheduledExecutorService executor, final int maxBatchSize, final Duration maxDelay) {
+    return new JobCompletionBatcher(asyncStub, executor, maxBatchSize, maxDelay, retryPredicate);
+  }
+
+  /**
+   * Returns a copy of this client whose complete commands are sent via the given batcher, unless
+   * they are sent via REST.
+   */
+  public JobClientImpl withCompletionBatcher(final JobCompletionBatcher completionBatcher) {
+    return new JobClientImpl(
+        asyncStub, httpClient, config, jsonMapper, retryPredicate, completionBatcher);
   }
 
   @Override
@@ -64,7 +96,8 @@ public final class JobClientImpl implements JobClient {
         config.getDefaultRequestTimeout(),
         retryPredicate,
         httpClient,
-        config.preferRestOverGrpc());
+        config.preferRestOverGrpc(),
+        completionBatcher);
   }
 
   @Override
@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import io.camunda.zeebe.client.CredentialsProvider.StatusCode;
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.response.CompleteJobResponse;
+import io.camunda.zeebe.client.impl.GrpcStatusCode;
+import io.camunda.zeebe.client.impl.ZeebeClientFutureImpl;
+import io.camunda.zeebe.client.impl.response.CompleteJobResponseImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCommandResult;
+import io.grpc.Status;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Collects the job completions of a worker and sends them to the gateway together via the {@code
+ * CompleteJobs} RPC. A batch is sent as soon as it holds {@code maxBatchSize} completions, or once
+ * {@code maxDelay} has passed since its first completion was added, whichever comes first.
+ *
+ * <p>The future of each completion is completed with the result of its job, so a job which could
+ * not be completed fails only its own future, not the whole batch. A completion whose result
+ * matches the client's retry predicate is retried like a single command, by adding it to the next
+ * batch again. A batch which fails as a whole is not retried, as some of its jobs may have been
+ * completed already, and completing them again would fail. The deadline of a batch is the longest
+ * request timeout of the completions it contains.
+ */
+public final class JobCompletionBatcher implements Closeable {
+
+  // same as for a single command, see RetriableClientFutureImpl
+  private static final int MAX_RETRIES = 2;
+
+  private final GatewayStub asyncStub;
+  private final ScheduledExecutorService executor;
+  private final int maxBatchSize;
+  private final Duration maxDelay;
+  private final Predicate<StatusCode> retryPredicate;
+
+  private List<PendingCompletion> pendingCompletions = new ArrayList<>();
+
+  public JobCompletionBatcher(
+      final GatewayStub asyncStub,
+      final ScheduledExecutorService executor,
+      final int maxBatchSize,
+      final Duration maxDelay,
+      final Predicate<StatusCode> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.executor = executor;
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelay = maxDelay;
+    this.retryPredicate = retryPredicate;
+  }
+
+  /**
+   * Adds the given completion to the current batch.
+   *
+   * @param request the completion to send
+   * @param requestTimeout the request timeout of the completion
+   * @return a future which is completed once the job was completed, or completed exceptionally if
+   *     the job could not be completed
+   */
+  public ZeebeFuture<CompleteJobResponse> add(
+      final CompleteJobRequest request, final Duration requestTimeout) {
+    final ZeebeClientFutureImpl<CompleteJobResponse, GatewayOuterClass.CompleteJobResponse> future =
+        new ZeebeClientFutureImpl<>(CompleteJobResponseImpl::new);
+    enqueue(new PendingCompletion(request, requestTimeout, future, MAX_RETRIES));
+    return future;
+  }
+
+  /** Sends all collected completions immediately. */
+  public void flush() {
+    final List<PendingCompletion> batch;
+    synchronized (this) {
+      batch = takePendingCompletions();
+    }
+
+    if (!batch.isEmpty()) {
+      send(batch);
+    }
+  }
+
+  @Override
+  public void close() {
+    flush();
+  }
+
+  private void enqueue(final PendingCompletion completion) {
+    final List<PendingCompletion> fullBatch;
+
+    synchronized (this) {
+      pendingCompletions.add(completion);
+      if (pendingCompletions.size() >= maxBatchSize) {
+        fullBatch = takePendingCompletions();
+      } else {
+        fullBatch = null;
+        if (pendingCompletions.size() == 1) {
+          executor.schedule(this::flush, maxDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+      }
+    }
+
+    if (fullBatch != null) {
+      send(fullBatch);
+    }
+  }
+
+  private List<PendingCompletion> takePendingCompletions() {
+    final List<PendingCompletion> batch = pendingCompletions;
+    pendingCompletions = new ArrayList<>();
+    return batch;
+  }
+
+  private void send(final List<PendingCompletion> batch) {
+    final CompleteJobsRequest.Builder requestBuilder = CompleteJobsRequest.newBuilder();
+    Duration requestTimeout = Duration.ZERO;
+    for (final PendingCompletion completion : batch) {
+      requestBuilder.addJobs(completion.request);
+      if (completion.requestTimeout.compareTo(requestTimeout) > 0) {
+        requestTimeout = completion.requestTimeout;
+      }
+    }
+
+    final CompleteJobsRequest request = requestBuilder.build();
+    final long deadlineMillis = requestTimeout.toMillis();
+    final ZeebeClientFutureImpl<CompleteJobsResponse, CompleteJobsResponse> future =
+        new ZeebeClientFutureImpl<>(Function.identity());
+    future.whenComplete(
+        (response, error) -> {
+          if (error != null) {
+            batch.forEach(completion -> completion.future.onError(error));
+          } else {
+            completeJobs(batch, response);
+          }
+        });
+
+    asyncStub
+        .withDeadlineAfter(deadlineMillis, TimeUnit.MILLISECONDS)
+        .completeJobs(request, future);
+  }
+
+  private void completeJobs(
+      final List<PendingCompletion> batch, final CompleteJobsResponse response) {
+    // the gateway returns the results in the order of the requested jobs
+    for (int i = 0; i < batch.size(); i++) {
+      final PendingCompletion completion = batch.get(i);
+      final ZeebeClientFutureImpl<CompleteJobResponse, GatewayOuterClass.CompleteJobResponse>
+          future = completion.future;
+      if (i >= response.getResultsCount()) {
+        future.onError(
+            Status.INTERNAL
+                .withDescription("Expected a result for every job, but got none")
+                .asRuntimeException());
+        continue;
+      }
+
+      final JobCommandResult result = response.getResults(i);
+      final Status status =
+          Status.fromCodeValue(result.getCode()).withDescription(result.getMessage());
+      if (status.isOk()) {
+        future.onNext(GatewayOuterClass.CompleteJobResponse.getDefaultInstance());
+        future.onCompleted();
+      } else if (completion.retries > 0
+          && retryPredicate.test(new GrpcStatusCode(status.getCode()))) {
+        enqueue(
+            new PendingCompletion(
+                completion.request, completion.requestTimeout, future, completion.retries - 1));
+      } else {
+        future.onError(status.asRuntimeException());
+      }
+    }
+  }
+
+  private static final class PendingCompletion {
+
+    private final CompleteJobRequest request;
+    private final Duration requestTimeout;
+    private final ZeebeClientFutureImpl<CompleteJobResponse, GatewayOuterClass.CompleteJobResponse>
+        future;
+    private final int retries;
+
+    private PendingCompletion(
+        final CompleteJobRequest request,
+        final Duration requestTimeout,
+        final ZeebeClientFutureImpl<CompleteJobResponse, GatewayOuterClass.CompleteJobResponse>
+            future,
+        final int retries) {
+      this.request = request;
+      this.requestTimeout = requestTimeout;
+      this.future = future;
+      this.retries = retries;
+    }
+  }
+}
@@ -60,6 +60,8 @@ public final class JobWorkerBuilderImpl
   private boolean enableStreaming;
   private Duration streamingTimeout;
   private JobWorkerMetrics metrics = JobWorkerMetrics.noop();
+  private int completionBatchSize = 1;
+  private Duration completionBatchDelay = Duration.ZERO;
 
   public JobWorkerBuilderImpl(
       final ZeebeClientConfiguration configuration,
@@ -164,6 +166,15 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 completionBatching(final int maxBatchSize, final Duration maxDelay) {
+    ensureGreaterThan("maxBatchSize", maxBatchSize, 0);
+    ensureNotNull("maxDelay", maxDelay);
+    completionBatchSize = maxBatchSize;
+    completionBatchDelay = maxDelay;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -173,7 +184,8 @@ public final class JobWorkerBuilderImpl
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
 
     final JobStreamer jobStreamer;
-    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactoryImpl(jobClient, handler);
+    final JobRunnableFactory jobRunnableFactory =
+        new JobRunnableFactoryImpl(createHandlerJobClient(), handler);
     final JobPoller jobPoller =
         new JobPollerImpl(
             jobClient,
@@ -241,6 +253,19 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  private JobClient createHandlerJobClient() {
+    if (completionBatchSize <= 1 || !(jobClient instanceof JobClientImpl)) {
+      return jobClient;
+    }
+
+    final JobClientImpl jobClientImpl = (JobClientImpl) jobClient;
+    final JobCompletionBatcher completionBatcher =
+        jobClientImpl.newCompletionBatcher(
+            executorService, completionBatchSize, completionBatchDelay);
+    closeables.add(completionBatcher);
+    return jobClientImpl.withCompletionBatcher(completionBatcher);
+  }
+
   private List<String> getTenantIds() {
     return customTenantIds.isEmpty() ? defaultTenantIds : customTenantIds;
   }
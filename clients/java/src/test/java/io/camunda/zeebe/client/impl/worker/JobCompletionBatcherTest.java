@@ -0,0 +1,258 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.ClientStatusException;
+import io.camunda.zeebe.client.api.response.CompleteJobResponse;
+import io.camunda.zeebe.client.util.ClientTest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class JobCompletionBatcherTest extends ClientTest {
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+  private ScheduledExecutorService executor;
+
+  @Before
+  public void setupExecutor() {
+    executor = Executors.newSingleThreadScheduledExecutor();
+  }
+
+  @After
+  public void tearDownExecutor() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void shouldSendBatchWhenFull() {
+    // given
+    final JobCompletionBatcher batcher = newBatcher(2, Duration.ofHours(1));
+
+    // when
+    final ZeebeFuture<CompleteJobResponse> first = batcher.add(completeJob(1), REQUEST_TIMEOUT);
+    final ZeebeFuture<CompleteJobResponse> second = batcher.add(completeJob(2), REQUEST_TIMEOUT);
+
+    // then
+    first.join();
+    second.join();
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldSendBatchAfterDelay() {
+    // given
+    final JobCompletionBatcher batcher = newBatcher(100, Duration.ofMillis(10));
+
+    // when
+    final ZeebeFuture<CompleteJobResponse> future = batcher.add(completeJob(1), REQUEST_TIMEOUT);
+
+    // then
+    future.join(10, TimeUnit.SECONDS);
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsList()).extracting(CompleteJobRequest::getJobKey).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldSendPendingCompletionsOnClose() {
+    // given
+    final JobCompletionBatcher batcher = newBatcher(100, Duration.ofHours(1));
+    final ZeebeFuture<CompleteJobResponse> future = batcher.add(completeJob(1), REQUEST_TIMEOUT);
+
+    // when
+    batcher.close();
+
+    // then
+    future.join();
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsList()).extracting(CompleteJobRequest::getJobKey).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldFailOnlyRejectedJobs() {
+    // given
+    gatewayService.onCompleteJobsRequest(
+        job -> job.getJobKey() == 2 ? Status.NOT_FOUND.withDescription("no such job") : Status.OK);
+    final JobCompletionBatcher batcher = newBatcher(2, Duration.ofHours(1));
+
+    // when
+    final ZeebeFuture<CompleteJobResponse> completed = batcher.add(completeJob(1), REQUEST_TIMEOUT);
+    final ZeebeFuture<CompleteJobResponse> rejected = batcher.add(completeJob(2), REQUEST_TIMEOUT);
+
+    // then
+    completed.join();
+    assertThatThrownBy(rejected::join)
+        .isInstanceOf(ClientStatusException.class)
+        .hasMessageContaining("no such job")
+        .extracting(e -> ((ClientStatusException) e).getStatusCode())
+        .isEqualTo(Code.NOT_FOUND);
+  }
+
+  @Test
+  public void shouldFailAllJobsIfBatchFails() {
+    // given
+    gatewayService.errorOnRequest(
+        CompleteJobsRequest.class, () -> new IllegalStateException("gateway unavailable"));
+    final JobCompletionBatcher batcher = newBatcher(2, Duration.ofHours(1));
+
+    // when
+    final ZeebeFuture<CompleteJobResponse> first = batcher.add(completeJob(1), REQUEST_TIMEOUT);
+    final ZeebeFuture<CompleteJobResponse> second = batcher.add(completeJob(2), REQUEST_TIMEOUT);
+
+    // then
+    assertThatThrownBy(first::join).isInstanceOf(ClientStatusException.class);
+    assertThatThrownBy(second::join).isInstanceOf(ClientStatusException.class);
+  }
+
+  @Test
+  public void shouldRetryOnlyJobsWhoseResultMatchesRetryPredicate() {
+    // given
+    final AtomicInteger attempts = new AtomicInteger();
+    gatewayService.onCompleteJobsRequest(
+        job ->
+            job.getJobKey() == 2 && attempts.incrementAndGet() == 1
+                ? Status.RESOURCE_EXHAUSTED
+                : Status.OK);
+    final JobCompletionBatcher batcher =
+        new JobCompletionBatcher(
+            rule.getGatewayStub(),
+            executor,
+            2,
+            Duration.ofMillis(10),
+            statusCode -> statusCode.code() == Code.RESOURCE_EXHAUSTED.value());
+
+    // when
+    final ZeebeFuture<CompleteJobResponse> first = batcher.add(completeJob(1), REQUEST_TIMEOUT);
+    final ZeebeFuture<CompleteJobResponse> second = batcher.add(completeJob(2), REQUEST_TIMEOUT);
+
+    // then
+    first.join(10, TimeUnit.SECONDS);
+    second.join(10, TimeUnit.SECONDS);
+    assertThat(attempts).hasValue(2);
+    final CompleteJobsRequest retryRequest = gatewayService.getLastRequest();
+    assertThat(retryRequest.getJobsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(2L);
+  }
+
+  @Test
+  public void shouldFailJobOnceRetriesAreExhausted() {
+    // given
+    final AtomicInteger attempts = new AtomicInteger();
+    gatewayService.onCompleteJobsRequest(
+        job -> {
+          attempts.incrementAndGet();
+          return Status.RESOURCE_EXHAUSTED;
+        });
+    final JobCompletionBatcher batcher =
+        new JobCompletionBatcher(
+            rule.getGatewayStub(), executor, 1, Duration.ofHours(1), statusCode -> true);
+
+    // when
+    final ZeebeFuture<CompleteJobResponse> future = batcher.add(completeJob(1), REQUEST_TIMEOUT);
+
+    // then
+    assertThatThrownBy(() -> future.join(10, TimeUnit.SECONDS))
+        .isInstanceOf(ClientStatusException.class)
+        .extracting(e -> ((ClientStatusException) e).getStatusCode())
+        .isEqualTo(Code.RESOURCE_EXHAUSTED);
+    assertThat(attempts).hasValue(3);
+  }
+
+  @Test
+  public void shouldNotRetryJobIfRetryPredicateDoesNotMatch() {
+    // given
+    final AtomicInteger attempts = new AtomicInteger();
+    gatewayService.onCompleteJobsRequest(
+        job -> {
+          attempts.incrementAndGet();
+          return Status.RESOURCE_EXHAUSTED;
+        });
+    final JobCompletionBatcher batcher = newBatcher(1, Duration.ofHours(1));
+
+    // when
+    final ZeebeFuture<CompleteJobResponse> future = batcher.add(completeJob(1), REQUEST_TIMEOUT);
+
+    // then
+    assertThatThrownBy(future::join).isInstanceOf(ClientStatusException.class);
+    assertThat(attempts).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotRetryBatchIfItFailsAsWhole() {
+    // given
+    final AtomicInteger attempts = new AtomicInteger();
+    gatewayService.errorOnRequest(
+        CompleteJobsRequest.class,
+        () -> {
+          attempts.incrementAndGet();
+          return new IllegalStateException("gateway unavailable");
+        });
+    final JobCompletionBatcher batcher =
+        new JobCompletionBatcher(
+            rule.getGatewayStub(), executor, 1, Duration.ofHours(1), statusCode -> true);
+
+    // when
+    final ZeebeFuture<CompleteJobResponse> future = batcher.add(completeJob(1), REQUEST_TIMEOUT);
+
+    // then
+    assertThatThrownBy(future::join).isInstanceOf(ClientStatusException.class);
+    assertThat(attempts).hasValue(1);
+  }
+
+  @Test
+  public void shouldUseLongestRequestTimeoutOfBatch() {
+    // given
+    final JobCompletionBatcher batcher = newBatcher(2, Duration.ofHours(1));
+
+    // when
+    final ZeebeFuture<CompleteJobResponse> first =
+        batcher.add(completeJob(1), Duration.ofSeconds(5));
+    final ZeebeFuture<CompleteJobResponse> second =
+        batcher.add(completeJob(2), Duration.ofSeconds(30));
+    first.join();
+    second.join();
+
+    // then
+    rule.verifyRequestTimeout(Duration.ofSeconds(30));
+  }
+
+  private JobCompletionBatcher newBatcher(final int maxBatchSize, final Duration maxDelay) {
+    return new JobCompletionBatcher(
+        rule.getGatewayStub(), executor, maxBatchSize, maxDelay, statusCode -> false);
+  }
+
+  private static CompleteJobRequest completeJob(final long jobKey) {
+    return CompleteJobRequest.newBuilder().setJobKey(jobKey).build();
+  }
+}
@@ -17,6 +17,8 @@ public interface FlowNodeInstanceMapper {
 
   void insert(FlowNodeInstanceDbModel flowNode);
 
+  void insertBatch(List<FlowNodeInstanceDbModel> flowNodes);
+
   void updateStateAndEndDate(EndFlowNodeDto dto);
 
   Long count(FlowNodeInstanceDbQuery filter);
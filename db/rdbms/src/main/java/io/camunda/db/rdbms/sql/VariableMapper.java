@@ -16,6 +16,8 @@ public interface VariableMapper {
 
   void insert(VariableDbModel variable);
 
+  void insertBatch(List<VariableDbModel> variables);
+
   void update(VariableDbModel variable);
 
   Long count(VariableQuery filter);
@@ -8,7 +8,9 @@
 package io.camunda.db.rdbms.write.queue;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import org.apache.ibatis.session.ExecutorType;
@@ -19,11 +21,16 @@ import org.slf4j.LoggerFactory;
 
 public class ExecutionQueue {
 
+  /** Limits the number of rows of a multi-row insert, to stay within the bind variable limits. */
+  static final int MAX_BATCH_INSERT_ROWS = 100;
+
   private static final Logger LOG = LoggerFactory.getLogger(ExecutionQueue.class);
 
   private final SqlSessionFactory sessionFactory;
   private final List<PreFlushListener> preFlushListeners = new ArrayList<>();
   private final List<PostFlushListener> postFlushListeners = new ArrayList<>();
+  private final List<QueueItemMerger> mergers = new ArrayList<>();
+  private final Map<String, String> batchInsertStatements = new HashMap<>();
 
   private final Queue<QueueItem> queue = new ConcurrentLinkedQueue<>();
 
@@ -53,6 +60,26 @@ public class ExecutionQueue {
     postFlushListeners.add(listener);
   }
 
+  /**
+   * Registers a merger which is used on flush to merge items into an earlier item of the same
+   * entity, e.g. to insert an entity in its final state instead of inserting and updating it.
+   */
+  public void registerMerger(final QueueItemMerger merger) {
+    mergers.add(merger);
+  }
+
+  /**
+   * Registers a multi-row insert statement for the given insert statement. On flush, all items of
+   * the insert statement are written with the batch statement, which is called with the list of
+   * their parameters.
+   *
+   * @param statementId the statement which inserts a single row
+   * @param batchStatementId the statement which inserts the list of rows it is called with
+   */
+  public void registerBatchInsert(final String statementId, final String batchStatementId) {
+    batchInsertStatements.put(statementId, batchStatementId);
+  }
+
   public void flush() {
     if (queue.isEmpty()) {
       LOG.trace(
@@ -71,14 +98,19 @@ public class ExecutionQueue {
 
     var flushedElements = 0;
     try {
+      final var entries = new ArrayList<QueueItem>(queue.size());
       while (!queue.isEmpty()) {
-        final var entry = queue.peek();
-        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
-        session.update(entry.statementId(), entry.parameter());
-        queue.remove();
+        entries.add(queue.remove());
         flushedElements++;
       }
 
+      final var statements = batchInserts(mergeEntries(entries));
+      for (final var statement : statements) {
+        LOG.trace(
+            "[RDBMS ExecutionQueue, Partition {}] Executing statement: {}", partitionId, statement);
+        session.update(statement.statementId(), statement.parameter());
+      }
+
       if (!preFlushListeners.isEmpty()) {
         LOG.debug("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
         preFlushListeners.forEach(PreFlushListener::onPreFlush);
@@ -91,9 +123,10 @@ public class ExecutionQueue {
         postFlushListeners.forEach(PostFlushListener::onPostFlush);
       }
       LOG.debug(
-          "[RDBMS ExecutionQueue, Partition {}] Commit queue with {} entries in {}ms",
+          "[RDBMS ExecutionQueue, Partition {}] Commit queue with {} entries as {} statements in {}ms",
           partitionId,
           flushedElements,
+          statements.size(),
           System.currentTimeMillis() - startMillis);
     } catch (final Exception e) {
       LOG.error("[RDBMS ExecutionQueue, Partition {}] Error while executing queue", partitionId, e);
@@ -103,6 +136,95 @@ public class ExecutionQueue {
     }
   }
 
+  /**
+   * Merges every entry into the earlier entry of the same entity, if a registered merger supports
+   * it. Entries of different entities are kept in their order.
+   */
+  private List<QueueItem> mergeEntries(final List<QueueItem> entries) {
+    if (mergers.isEmpty()) {
+      return entries;
+    }
+
+    final var merged = new ArrayList<QueueItem>(entries.size());
+    final var lastEntryOfEntity = new HashMap<EntityKey, Integer>();
+    for (final var entry : entries) {
+      if (entry.id() == null) {
+        merged.add(entry);
+        continue;
+      }
+
+      final var entityKey = new EntityKey(entry.contextType(), entry.id());
+      final var queuedIndex = lastEntryOfEntity.get(entityKey);
+      if (queuedIndex != null) {
+        final var queuedEntry = merged.get(queuedIndex);
+        final var merger = findMerger(queuedEntry, entry);
+        if (merger != null) {
+          merged.set(queuedIndex, merger.merge(queuedEntry, entry));
+          continue;
+        }
+      }
+
+      lastEntryOfEntity.put(entityKey, merged.size());
+      merged.add(entry);
+    }
+    return merged;
+  }
+
+  private QueueItemMerger findMerger(final QueueItem queuedEntry, final QueueItem entry) {
+    for (final var merger : mergers) {
+      if (merger.canBeMerged(queuedEntry, entry)) {
+        return merger;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Combines the entries of insert statements with a registered batch insert into multi-row
+   * inserts. A multi-row insert is executed at the position of its first entry. This is safe, as an
+   * insert is the first statement of its entity and no foreign keys exist between the entities.
+   */
+  @SuppressWarnings("unchecked")
+  private List<QueueItem> batchInserts(final List<QueueItem> entries) {
+    if (batchInsertStatements.isEmpty()) {
+      return entries;
+    }
+
+    final var statements = new ArrayList<QueueItem>(entries.size());
+    final var openBatches = new HashMap<String, Integer>();
+    for (final var entry : entries) {
+      final var batchStatementId = batchInsertStatements.get(entry.statementId());
+      if (batchStatementId == null) {
+        statements.add(entry);
+        continue;
+      }
+
+      final var batchIndex = openBatches.get(batchStatementId);
+      if (batchIndex == null) {
+        // a single insert is executed as is, it only becomes a batch with the next row
+        openBatches.put(batchStatementId, statements.size());
+        statements.add(entry);
+        continue;
+      }
+
+      final var batchItem = statements.get(batchIndex);
+      final List<Object> rows;
+      if (batchStatementId.equals(batchItem.statementId())) {
+        rows = (List<Object>) batchItem.parameter();
+      } else {
+        rows = new ArrayList<>();
+        rows.add(batchItem.parameter());
+        statements.set(
+            batchIndex, new QueueItem(batchItem.contextType(), null, batchStatementId, rows));
+      }
+      rows.add(entry.parameter());
+      if (rows.size() >= MAX_BATCH_INSERT_ROWS) {
+        openBatches.remove(batchStatementId);
+      }
+    }
+    return statements;
+  }
+
   private void checkQueueForFlush() {
     LOG.trace(
         "[RDBMS ExecutionQueue, Partition {}] Checking if queue is flushed. Queue size: {}",
@@ -112,4 +234,6 @@ public class ExecutionQueue {
       flush();
     }
   }
+
+  private record EntityKey(ContextType contextType, Object id) {}
 }
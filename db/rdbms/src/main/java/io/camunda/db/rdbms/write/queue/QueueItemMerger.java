@@ -0,0 +1,29 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+/**
+ * Merges a {@link QueueItem} into an earlier item of the same entity (same {@link ContextType} and
+ * id) when the {@link ExecutionQueue} is flushed, so both are written with a single statement.
+ */
+public interface QueueItemMerger {
+
+  /**
+   * @param queuedItem the earlier item of the entity
+   * @param item the later item of the same entity
+   * @return true if this merger can merge the later item into the earlier one
+   */
+  boolean canBeMerged(QueueItem queuedItem, QueueItem item);
+
+  /**
+   * @param queuedItem the earlier item of the entity
+   * @param item the later item of the same entity
+   * @return the item which replaces both items
+   */
+  QueueItem merge(QueueItem queuedItem, QueueItem item);
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+import java.util.function.BiFunction;
+
+/**
+ * Merges a statement into an earlier statement of the same entity by combining their parameters.
+ * The merged item keeps the statement of the earlier item, e.g. an update following an insert
+ * results in an insert of the updated entity.
+ *
+ * @param <Q> the parameter type of the earlier statement
+ * @param <P> the parameter type of the later statement
+ */
+public final class StatementMerger<Q, P> implements QueueItemMerger {
+
+  private final ContextType contextType;
+  private final String queuedStatementId;
+  private final String statementId;
+  private final BiFunction<Q, P, Q> parameterMerger;
+
+  public StatementMerger(
+      final ContextType contextType,
+      final String queuedStatementId,
+      final String statementId,
+      final BiFunction<Q, P, Q> parameterMerger) {
+    this.contextType = contextType;
+    this.queuedStatementId = queuedStatementId;
+    this.statementId = statementId;
+    this.parameterMerger = parameterMerger;
+  }
+
+  @Override
+  public boolean canBeMerged(final QueueItem queuedItem, final QueueItem item) {
+    return queuedItem.contextType() == contextType
+        && item.contextType() == contextType
+        && queuedStatementId.equals(queuedItem.statementId())
+        && statementId.equals(item.statementId());
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public QueueItem merge(final QueueItem queuedItem, final QueueItem item) {
+    return new QueueItem(
+        queuedItem.contextType(),
+        queuedItem.id(),
+        queuedItem.statementId(),
+        parameterMerger.apply((Q) queuedItem.parameter(), (P) item.parameter()));
+  }
+}
@@ -9,9 +9,11 @@ package io.camunda.db.rdbms.write.service;
 
 import io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.EndFlowNodeDto;
 import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel;
+import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel.FlowNodeInstanceDbModelBuilder;
 import io.camunda.db.rdbms.write.queue.ContextType;
 import io.camunda.db.rdbms.write.queue.ExecutionQueue;
 import io.camunda.db.rdbms.write.queue.QueueItem;
+import io.camunda.db.rdbms.write.queue.StatementMerger;
 import io.camunda.search.entities.FlowNodeInstanceEntity.FlowNodeState;
 import java.time.OffsetDateTime;
 import org.slf4j.Logger;
@@ -20,29 +22,44 @@ import org.slf4j.LoggerFactory;
 public class FlowNodeInstanceWriter {
 
   private static final Logger LOG = LoggerFactory.getLogger(FlowNodeInstanceWriter.class);
+  private static final String INSERT_STATEMENT =
+      "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.insert";
+  private static final String INSERT_BATCH_STATEMENT =
+      "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.insertBatch";
+  private static final String END_STATEMENT =
+      "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.updateStateAndEndDate";
 
   private final ExecutionQueue executionQueue;
 
   public FlowNodeInstanceWriter(final ExecutionQueue executionQueue) {
     this.executionQueue = executionQueue;
+
+    // a flow node which is created and ended within one flush is inserted in its final state
+    executionQueue.registerMerger(
+        new StatementMerger<FlowNodeInstanceDbModel, EndFlowNodeDto>(
+            ContextType.FLOW_NODE,
+            INSERT_STATEMENT,
+            END_STATEMENT,
+            (flowNode, end) ->
+                FlowNodeInstanceDbModelBuilder.of(flowNode)
+                    .state(end.state())
+                    .endDate(end.endDate())
+                    .build()));
+    executionQueue.registerMerger(
+        new StatementMerger<EndFlowNodeDto, EndFlowNodeDto>(
+            ContextType.FLOW_NODE, END_STATEMENT, END_STATEMENT, (previous, end) -> end));
+    executionQueue.registerBatchInsert(INSERT_STATEMENT, INSERT_BATCH_STATEMENT);
   }
 
   public void create(final FlowNodeInstanceDbModel flowNode) {
     executionQueue.executeInQueue(
         new QueueItem(
-            ContextType.FLOW_NODE,
-            flowNode.flowNodeInstanceKey(),
-            "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.insert",
-            flowNode));
+            ContextType.FLOW_NODE, flowNode.flowNodeInstanceKey(), INSERT_STATEMENT, flowNode));
   }
 
   public void end(final long flowNodeKey, final FlowNodeState state, final OffsetDateTime endDate) {
     final var dto = new EndFlowNodeDto(flowNodeKey, state, endDate);
     executionQueue.executeInQueue(
-        new QueueItem(
-            ContextType.FLOW_NODE,
-            flowNodeKey,
-            "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.updateStateAndEndDate",
-            dto));
+        new QueueItem(ContextType.FLOW_NODE, flowNodeKey, END_STATEMENT, dto));
   }
 }
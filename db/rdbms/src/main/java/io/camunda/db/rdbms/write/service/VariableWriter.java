@@ -11,30 +11,58 @@ import io.camunda.db.rdbms.write.domain.VariableDbModel;
 import io.camunda.db.rdbms.write.queue.ContextType;
 import io.camunda.db.rdbms.write.queue.ExecutionQueue;
 import io.camunda.db.rdbms.write.queue.QueueItem;
+import io.camunda.db.rdbms.write.queue.StatementMerger;
 
 public class VariableWriter {
 
+  private static final String INSERT_STATEMENT = "io.camunda.db.rdbms.sql.VariableMapper.insert";
+  private static final String INSERT_BATCH_STATEMENT =
+      "io.camunda.db.rdbms.sql.VariableMapper.insertBatch";
+  private static final String UPDATE_STATEMENT = "io.camunda.db.rdbms.sql.VariableMapper.update";
+
   private final ExecutionQueue executionQueue;
 
   public VariableWriter(final ExecutionQueue executionQueue) {
     this.executionQueue = executionQueue;
+
+    // a variable which is created and updated within one flush is inserted with its last value
+    executionQueue.registerMerger(
+        new StatementMerger<VariableDbModel, VariableDbModel>(
+            ContextType.VARIABLE, INSERT_STATEMENT, UPDATE_STATEMENT, VariableWriter::withValueOf));
+    executionQueue.registerMerger(
+        new StatementMerger<VariableDbModel, VariableDbModel>(
+            ContextType.VARIABLE,
+            UPDATE_STATEMENT,
+            UPDATE_STATEMENT,
+            (previous, variable) -> variable));
+    executionQueue.registerBatchInsert(INSERT_STATEMENT, INSERT_BATCH_STATEMENT);
   }
 
   public void create(final VariableDbModel variable) {
     executionQueue.executeInQueue(
-        new QueueItem(
-            ContextType.VARIABLE,
-            variable.key(),
-            "io.camunda.db.rdbms.sql.VariableMapper.insert",
-            variable));
+        new QueueItem(ContextType.VARIABLE, variable.key(), INSERT_STATEMENT, variable));
   }
 
   public void update(final VariableDbModel variable) {
     executionQueue.executeInQueue(
-        new QueueItem(
-            ContextType.VARIABLE,
-            variable.key(),
-            "io.camunda.db.rdbms.sql.VariableMapper.update",
-            variable));
+        new QueueItem(ContextType.VARIABLE, variable.key(), UPDATE_STATEMENT, variable));
+  }
+
+  /** Applies the columns which are changed by an update to the inserted variable. */
+  private static VariableDbModel withValueOf(
+      final VariableDbModel variable, final VariableDbModel update) {
+    return new VariableDbModel(
+        variable.key(),
+        variable.name(),
+        update.type(),
+        update.doubleValue(),
+        update.longValue(),
+        update.value(),
+        update.fullValue(),
+        update.isPreview(),
+        variable.scopeKey(),
+        variable.processInstanceKey(),
+        variable.processDefinitionId(),
+        variable.tenantId());
   }
 }
@@ -0,0 +1,221 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+import io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.EndFlowNodeDto;
+import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel;
+import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel.FlowNodeInstanceDbModelBuilder;
+import io.camunda.db.rdbms.write.domain.VariableDbModel;
+import io.camunda.db.rdbms.write.domain.VariableDbModel.VariableDbModelBuilder;
+import io.camunda.db.rdbms.write.service.FlowNodeInstanceWriter;
+import io.camunda.db.rdbms.write.service.VariableWriter;
+import io.camunda.search.entities.FlowNodeInstanceEntity.FlowNodeState;
+import io.camunda.search.entities.FlowNodeInstanceEntity.FlowNodeType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.AuxCounters.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures flushing the {@link ExecutionQueue} to an embedded H2 database, with and without merging
+ * the statements of the same entity and multi-row inserts. Every invocation exports {@link
+ * #RECORDS} flow node instances and variables which are created and completed, or updated, in the
+ * same flush. The queued items and the executed statements are reported as secondary results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutionQueueBenchmark {
+
+  static final int RECORDS = 100;
+  private static final String FLOW_NODE_MAPPER = "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.";
+  private static final String VARIABLE_MAPPER = "io.camunda.db.rdbms.sql.VariableMapper.";
+
+  @Param({"true", "false"})
+  public boolean coalescing;
+
+  private H2TestDatabase database;
+  private ExecutionQueue executionQueue;
+  private FlowNodeInstanceWriter flowNodeInstanceWriter;
+  private VariableWriter variableWriter;
+  private long statements;
+  private long nextKey;
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ExecutionQueueBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    database = H2TestDatabase.create();
+    executionQueue =
+        new ExecutionQueue(countingSessions(database.getSessionFactory()), 1, Integer.MAX_VALUE);
+    if (coalescing) {
+      flowNodeInstanceWriter = new FlowNodeInstanceWriter(executionQueue);
+      variableWriter = new VariableWriter(executionQueue);
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void deleteRows() throws SQLException {
+    // keep the tables small, otherwise later iterations measure the growing indexes
+    try (final var connection = database.getConnection();
+        final var statement = connection.createStatement()) {
+      statement.execute("DELETE FROM FLOW_NODE_INSTANCE");
+      statement.execute("DELETE FROM VARIABLE");
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    database.close();
+  }
+
+  @Benchmark
+  public void flush(final StatementCounter counter) {
+    final var statementsBefore = statements;
+    final var endDate = OffsetDateTime.now();
+    for (int i = 0; i < RECORDS; i++) {
+      final var key = ++nextKey;
+      if (coalescing) {
+        flowNodeInstanceWriter.create(flowNode(key));
+        flowNodeInstanceWriter.end(key, FlowNodeState.COMPLETED, endDate);
+        variableWriter.create(variable(key, "1"));
+        variableWriter.update(variable(key, "2"));
+      } else {
+        queue(ContextType.FLOW_NODE, key, FLOW_NODE_MAPPER + "insert", flowNode(key));
+        queue(
+            ContextType.FLOW_NODE,
+            key,
+            FLOW_NODE_MAPPER + "updateStateAndEndDate",
+            new EndFlowNodeDto(key, FlowNodeState.COMPLETED, endDate));
+        queue(ContextType.VARIABLE, key, VARIABLE_MAPPER + "insert", variable(key, "1"));
+        queue(ContextType.VARIABLE, key, VARIABLE_MAPPER + "update", variable(key, "2"));
+      }
+    }
+    executionQueue.flush();
+
+    counter.records += RECORDS * 4L;
+    counter.statements += statements - statementsBefore;
+  }
+
+  private void queue(
+      final ContextType contextType,
+      final long key,
+      final String statementId,
+      final Object parameter) {
+    executionQueue.executeInQueue(new QueueItem(contextType, key, statementId, parameter));
+  }
+
+  private SqlSessionFactory countingSessions(final SqlSessionFactory sessionFactory) {
+    return proxy(
+        SqlSessionFactory.class,
+        sessionFactory,
+        (method, result) ->
+            result instanceof final SqlSession session
+                ? proxy(
+                    SqlSession.class,
+                    session,
+                    (sessionMethod, sessionResult) -> {
+                      if (sessionMethod.getName().equals("update")) {
+                        statements++;
+                      }
+                      return sessionResult;
+                    })
+                : result);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(
+      final Class<T> type, final T delegate, final ResultInterceptor interceptor) {
+    return (T)
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+              try {
+                return interceptor.intercept(method, method.invoke(delegate, args));
+              } catch (final InvocationTargetException e) {
+                throw e.getCause();
+              }
+            });
+  }
+
+  private static FlowNodeInstanceDbModel flowNode(final long key) {
+    return new FlowNodeInstanceDbModelBuilder()
+        .flowNodeInstanceKey(key)
+        .processInstanceKey(1L)
+        .processDefinitionKey(2L)
+        .processDefinitionId("process")
+        .flowNodeId("task")
+        .type(FlowNodeType.SERVICE_TASK)
+        .state(FlowNodeState.ACTIVE)
+        .startDate(OffsetDateTime.now())
+        .treePath("1/" + key)
+        .scopeKey(1L)
+        .tenantId("<default>")
+        .build();
+  }
+
+  private static VariableDbModel variable(final long key, final String value) {
+    return new VariableDbModelBuilder()
+        .key(key)
+        .name("var")
+        .value(value)
+        .scopeKey(1L)
+        .processInstanceKey(1L)
+        .processDefinitionId("process")
+        .tenantId("<default>")
+        .build();
+  }
+
+  @FunctionalInterface
+  private interface ResultInterceptor {
+    Object intercept(Method method, Object result);
+  }
+
+  /** Reports the queued items and the executed statements, which gives the ratio of both. */
+  @AuxCounters(Type.EVENTS)
+  @State(Scope.Thread)
+  public static class StatementCounter {
+    public long records;
+    public long statements;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      records = 0;
+      statements = 0;
+    }
+  }
+}
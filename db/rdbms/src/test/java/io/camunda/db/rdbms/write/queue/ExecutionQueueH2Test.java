@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel;
+import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel.FlowNodeInstanceDbModelBuilder;
+import io.camunda.db.rdbms.write.domain.VariableDbModel;
+import io.camunda.db.rdbms.write.domain.VariableDbModel.VariableDbModelBuilder;
+import io.camunda.db.rdbms.write.service.FlowNodeInstanceWriter;
+import io.camunda.db.rdbms.write.service.VariableWriter;
+import io.camunda.search.entities.FlowNodeInstanceEntity.FlowNodeState;
+import io.camunda.search.entities.FlowNodeInstanceEntity.FlowNodeType;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Verifies the merged and multi-row statements of the {@link ExecutionQueue} against H2. */
+class ExecutionQueueH2Test {
+
+  private H2TestDatabase database;
+  private ExecutionQueue executionQueue;
+  private FlowNodeInstanceWriter flowNodeInstanceWriter;
+  private VariableWriter variableWriter;
+
+  @BeforeEach
+  void beforeEach() throws Exception {
+    database = H2TestDatabase.create();
+    executionQueue = new ExecutionQueue(database.getSessionFactory(), 1, Integer.MAX_VALUE);
+    flowNodeInstanceWriter = new FlowNodeInstanceWriter(executionQueue);
+    variableWriter = new VariableWriter(executionQueue);
+  }
+
+  @AfterEach
+  void afterEach() throws SQLException {
+    database.close();
+  }
+
+  @Test
+  void shouldInsertFlowNodeInstancesInFinalState() throws SQLException {
+    // given
+    final var endDate = OffsetDateTime.now();
+    flowNodeInstanceWriter.create(flowNode(1L));
+    flowNodeInstanceWriter.create(flowNode(2L));
+    flowNodeInstanceWriter.create(flowNode(3L));
+    flowNodeInstanceWriter.end(1L, FlowNodeState.COMPLETED, endDate);
+    flowNodeInstanceWriter.end(3L, FlowNodeState.TERMINATED, endDate);
+
+    // when
+    executionQueue.flush();
+
+    // then
+    assertThat(queryFlowNodeStates())
+        .containsExactlyInAnyOrderEntriesOf(
+            Map.of(
+                1L, FlowNodeState.COMPLETED.name(),
+                2L, FlowNodeState.ACTIVE.name(),
+                3L, FlowNodeState.TERMINATED.name()));
+  }
+
+  @Test
+  void shouldUpdateFlowNodeInstanceInsertedInPreviousFlush() throws SQLException {
+    // given
+    flowNodeInstanceWriter.create(flowNode(1L));
+    executionQueue.flush();
+
+    // when
+    flowNodeInstanceWriter.end(1L, FlowNodeState.COMPLETED, OffsetDateTime.now());
+    executionQueue.flush();
+
+    // then
+    assertThat(queryFlowNodeStates())
+        .containsExactly(Map.entry(1L, FlowNodeState.COMPLETED.name()));
+  }
+
+  @Test
+  void shouldInsertVariablesWithLastValue() throws SQLException {
+    // given
+    variableWriter.create(variable(1L, "\"a\""));
+    variableWriter.create(variable(2L, "\"b\""));
+    variableWriter.update(variable(1L, "12"));
+    variableWriter.update(variable(1L, "13"));
+
+    // when
+    executionQueue.flush();
+
+    // then
+    assertThat(queryVariableValues())
+        .containsExactlyInAnyOrderEntriesOf(Map.of(1L, "13", 2L, "\"b\""));
+  }
+
+  @Test
+  void shouldInsertMoreRowsThanFitIntoOneStatement() throws SQLException {
+    // given
+    final var count = ExecutionQueue.MAX_BATCH_INSERT_ROWS * 2 + 1;
+    for (long key = 1; key <= count; key++) {
+      flowNodeInstanceWriter.create(flowNode(key));
+    }
+
+    // when
+    executionQueue.flush();
+
+    // then
+    assertThat(queryFlowNodeStates()).hasSize(count);
+  }
+
+  private Map<Long, String> queryFlowNodeStates() throws SQLException {
+    return query("SELECT FLOW_NODE_INSTANCE_KEY, STATE FROM FLOW_NODE_INSTANCE");
+  }
+
+  private Map<Long, String> queryVariableValues() throws SQLException {
+    return query("SELECT VAR_KEY, VAR_VALUE FROM VARIABLE");
+  }
+
+  private Map<Long, String> query(final String sql) throws SQLException {
+    final var result = new HashMap<Long, String>();
+    try (final var connection = database.getConnection();
+        final var statement = connection.createStatement();
+        final var resultSet = statement.executeQuery(sql)) {
+      while (resultSet.next()) {
+        result.put(resultSet.getLong(1), resultSet.getString(2));
+      }
+    }
+    return result;
+  }
+
+  private static FlowNodeInstanceDbModel flowNode(final long key) {
+    return new FlowNodeInstanceDbModelBuilder()
+        .flowNodeInstanceKey(key)
+        .processInstanceKey(100L)
+        .processDefinitionKey(200L)
+        .processDefinitionId("process")
+        .flowNodeId("task")
+        .type(FlowNodeType.SERVICE_TASK)
+        .state(FlowNodeState.ACTIVE)
+        .startDate(OffsetDateTime.now())
+        .treePath("100/" + key)
+        .scopeKey(100L)
+        .tenantId("<default>")
+        .build();
+  }
+
+  private static VariableDbModel variable(final long key, final String value) {
+    return new VariableDbModelBuilder()
+        .key(key)
+        .name("var" + key)
+        .value(value)
+        .scopeKey(100L)
+        .processInstanceKey(100L)
+        .processDefinitionId("process")
+        .tenantId("<default>")
+        .build();
+  }
+}
@@ -7,12 +7,16 @@
  */
 package io.camunda.db.rdbms.write.queue;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -124,4 +128,67 @@ class ExecutionQueueTest {
     verify(session, never()).commit();
     verify(postFlushListener, never()).onPostFlush();
   }
+
+  @Test
+  public void whenItemsOfSameEntityAreQueuedTheyAreMerged() {
+    executionQueue = new ExecutionQueue(sqlSessionFactory, 1, Integer.MAX_VALUE);
+    executionQueue.registerMerger(
+        new StatementMerger<String, String>(
+            ContextType.PROCESS_INSTANCE, "insert", "update", (queued, item) -> queued + item));
+    executionQueue.executeInQueue(new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "insert", "a"));
+    executionQueue.executeInQueue(new QueueItem(ContextType.PROCESS_INSTANCE, 2L, "insert", "x"));
+    executionQueue.executeInQueue(new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "update", "b"));
+
+    // when
+    executionQueue.flush();
+
+    verify(session).update("insert", "ab");
+    verify(session).update("insert", "x");
+    verify(session, times(2)).update(anyString(), any());
+    verify(session).commit();
+  }
+
+  @Test
+  public void whenItemsOfOtherContextAreQueuedTheyAreNotMerged() {
+    executionQueue = new ExecutionQueue(sqlSessionFactory, 1, Integer.MAX_VALUE);
+    executionQueue.registerMerger(
+        new StatementMerger<String, String>(
+            ContextType.PROCESS_INSTANCE, "insert", "update", (queued, item) -> queued + item));
+    executionQueue.executeInQueue(new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "insert", "a"));
+    executionQueue.executeInQueue(new QueueItem(ContextType.VARIABLE, 1L, "update", "b"));
+
+    // when
+    executionQueue.flush();
+
+    verify(session).update("insert", "a");
+    verify(session).update("update", "b");
+  }
+
+  @Test
+  public void whenBatchInsertIsRegisteredInsertsAreCombined() {
+    executionQueue = new ExecutionQueue(sqlSessionFactory, 1, Integer.MAX_VALUE);
+    executionQueue.registerBatchInsert("insert", "insertBatch");
+    executionQueue.executeInQueue(new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "insert", "a"));
+    executionQueue.executeInQueue(new QueueItem(ContextType.PROCESS_INSTANCE, 2L, "other", "x"));
+    executionQueue.executeInQueue(new QueueItem(ContextType.PROCESS_INSTANCE, 3L, "insert", "b"));
+
+    // when
+    executionQueue.flush();
+
+    verify(session).update("insertBatch", List.of("a", "b"));
+    verify(session).update("other", "x");
+    verify(session, times(2)).update(anyString(), any());
+  }
+
+  @Test
+  public void whenSingleInsertIsQueuedItIsNotCombined() {
+    executionQueue = new ExecutionQueue(sqlSessionFactory, 1, Integer.MAX_VALUE);
+    executionQueue.registerBatchInsert("insert", "insertBatch");
+    executionQueue.executeInQueue(new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "insert", "a"));
+
+    // when
+    executionQueue.flush();
+
+    verify(session).update("insert", "a");
+  }
 }
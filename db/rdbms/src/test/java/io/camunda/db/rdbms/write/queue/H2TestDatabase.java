@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.UUID;
+import liquibase.Scope;
+import liquibase.command.CommandScope;
+import liquibase.command.core.UpdateCommandStep;
+import liquibase.command.core.helpers.DbUrlConnectionArgumentsCommandStep;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.apache.ibatis.type.JdbcType;
+import org.h2.jdbcx.JdbcDataSource;
+
+/**
+ * An in-memory H2 database with the RDBMS schema, and a {@link SqlSessionFactory} configured like
+ * in the application. The database lives until it is closed.
+ */
+final class H2TestDatabase implements AutoCloseable {
+
+  private static final String CHANGELOG = "db/changelog/rdbms-support/changelog-master.xml";
+  private static final String[] MAPPERS = {
+    "mapper/Commons.xml",
+    "mapper/ExporterPositionMapper.xml",
+    "mapper/FlowNodeInstanceMapper.xml",
+    "mapper/ProcessDefinitionMapper.xml",
+    "mapper/ProcessInstanceMapper.xml",
+    "mapper/VariableMapper.xml",
+  };
+
+  private final JdbcDataSource dataSource;
+  private final Connection keepAliveConnection;
+  private final SqlSessionFactory sessionFactory;
+
+  private H2TestDatabase(final JdbcDataSource dataSource) throws Exception {
+    this.dataSource = dataSource;
+    keepAliveConnection = dataSource.getConnection();
+    migrate();
+    sessionFactory = createSessionFactory();
+  }
+
+  static H2TestDatabase create() throws Exception {
+    final var dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    return new H2TestDatabase(dataSource);
+  }
+
+  SqlSessionFactory getSessionFactory() {
+    return sessionFactory;
+  }
+
+  Connection getConnection() throws SQLException {
+    return dataSource.getConnection();
+  }
+
+  @Override
+  public void close() throws SQLException {
+    try (final var statement = keepAliveConnection.createStatement()) {
+      statement.execute("SHUTDOWN");
+    }
+    keepAliveConnection.close();
+  }
+
+  private void migrate() throws Exception {
+    final var database =
+        DatabaseFactory.getInstance()
+            .findCorrectDatabaseImplementation(new JdbcConnection(keepAliveConnection));
+    Scope.child(
+        Scope.Attr.resourceAccessor,
+        new ClassLoaderResourceAccessor(),
+        () ->
+            new CommandScope(UpdateCommandStep.COMMAND_NAME)
+                .addArgumentValue(DbUrlConnectionArgumentsCommandStep.DATABASE_ARG, database)
+                .addArgumentValue(UpdateCommandStep.CHANGELOG_FILE_ARG, CHANGELOG)
+                .execute());
+  }
+
+  private SqlSessionFactory createSessionFactory() throws IOException {
+    final var configuration =
+        new Configuration(new Environment("h2", new JdbcTransactionFactory(), dataSource));
+    configuration.setJdbcTypeForNull(JdbcType.NULL);
+    configuration.setDatabaseId("h2");
+    configuration.setVariables(loadVendorProperties());
+
+    final var classLoader = getClass().getClassLoader();
+    for (final var mapper : MAPPERS) {
+      try (final var mapperStream = classLoader.getResourceAsStream(mapper)) {
+        new XMLMapperBuilder(mapperStream, configuration, mapper, configuration.getSqlFragments())
+            .parse();
+      }
+    }
+    return new SqlSessionFactoryBuilder().build(configuration);
+  }
+
+  private Properties loadVendorProperties() throws IOException {
+    final var properties = new Properties();
+    try (final var propertiesStream =
+        getClass().getClassLoader().getResourceAsStream("db/vendor-properties/h2.properties")) {
+      properties.load(propertiesStream);
+    }
+    return properties;
+  }
+}
@@ -9,6 +9,7 @@ package io.camunda.application.commons.actor;
 
 import io.camunda.application.commons.actor.ActorIdleStrategyConfiguration.IdleStrategyProperties;
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.AdaptiveIdleStrategy;
 import java.time.Duration;
 import java.util.function.Supplier;
 import org.agrona.concurrent.BackoffIdleStrategy;
@@ -31,7 +32,7 @@ public final class ActorIdleStrategyConfiguration {
   }
 
   public ActorIdleStrategyConfiguration() {
-    this(new IdleStrategyProperties(null, null, null, null));
+    this(new IdleStrategyProperties(null, null, null, null, null));
   }
 
   @Bean
@@ -40,7 +41,8 @@ public final class ActorIdleStrategyConfiguration {
         properties.maxSpins(),
         properties.maxYields(),
         properties.minParkPeriodNs(),
-        properties.maxParkPeriodNs());
+        properties.maxParkPeriodNs(),
+        properties.adaptive());
   }
 
   @ConfigurationProperties(prefix = "zeebe.actor.idle")
@@ -48,7 +50,8 @@ public final class ActorIdleStrategyConfiguration {
       @Nullable Long maxSpins,
       @Nullable Long maxYields,
       @Nullable Duration minParkPeriod,
-      @Nullable Duration maxParkPeriod) {
+      @Nullable Duration maxParkPeriod,
+      @Nullable Boolean adaptive) {
     @Override
     public Long maxSpins() {
       return maxSpins == null ? ActorSchedulerBuilder.DEFAULT_MAX_SPINS : maxSpins;
@@ -70,14 +73,23 @@ public final class ActorIdleStrategyConfiguration {
           ? ActorSchedulerBuilder.DEFAULT_MAX_PARK_PERIOD_NS
           : maxParkPeriod.toNanos();
     }
+
+    @Override
+    public Boolean adaptive() {
+      return adaptive != null && adaptive;
+    }
   }
 
   public record IdleStrategySupplier(
-      long maxSpins, long maxYields, long minParkPeriodNs, long maxParkPeriodNs)
+      long maxSpins, long maxYields, long minParkPeriodNs, long maxParkPeriodNs, boolean adaptive)
       implements Supplier<IdleStrategy> {
 
     @Override
     public IdleStrategy get() {
+      if (adaptive) {
+        return new AdaptiveIdleStrategy(maxSpins, maxYields, minParkPeriodNs, maxParkPeriodNs);
+      }
+
       return new BackoffIdleStrategy(maxSpins, maxYields, minParkPeriodNs, maxParkPeriodNs);
     }
 
@@ -86,7 +98,8 @@ public final class ActorIdleStrategyConfiguration {
           ActorSchedulerBuilder.DEFAULT_MAX_SPINS,
           ActorSchedulerBuilder.DEFAULT_MAX_YIELDS,
           ActorSchedulerBuilder.DEFAULT_MIN_PARK_PERIOD_NS,
-          ActorSchedulerBuilder.DEFAULT_MAX_PARK_PERIOD_NS);
+          ActorSchedulerBuilder.DEFAULT_MAX_PARK_PERIOD_NS,
+          false);
     }
   }
 }
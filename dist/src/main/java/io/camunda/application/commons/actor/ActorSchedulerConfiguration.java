@@ -36,6 +36,7 @@ public final class ActorSchedulerConfiguration {
   public ActorScheduler scheduler() {
     final var cpuThreads = schedulerConfiguration.cpuThreads();
     final var ioThreads = schedulerConfiguration.ioThreads();
+    final var virtualIoThreads = schedulerConfiguration.virtualIoThreads();
     final var metricsEnabled = schedulerConfiguration.metricsEnabled();
     final var prefix = schedulerConfiguration.schedulerPrefix();
     final var nodeId = schedulerConfiguration.nodeId();
@@ -45,6 +46,7 @@ public final class ActorSchedulerConfiguration {
             .setActorClock(actorClockConfiguration.getClock().orElse(null))
             .setCpuBoundActorThreadCount(cpuThreads)
             .setIoBoundActorThreadCount(ioThreads)
+            .setIoBoundVirtualThreads(virtualIoThreads)
             .setMetricsEnabled(metricsEnabled)
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
             .setIdleStrategySupplier(idleStrategySupplier)
@@ -57,6 +59,7 @@ public final class ActorSchedulerConfiguration {
   public record SchedulerConfiguration(
       int cpuThreads,
       int ioThreads,
+      boolean virtualIoThreads,
       boolean metricsEnabled,
       String schedulerPrefix,
       String nodeId) {}
@@ -12,7 +12,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.camunda.application.commons.actor.ActorIdleStrategyConfiguration;
 import io.camunda.application.commons.actor.ActorIdleStrategyConfiguration.IdleStrategyProperties;
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.AdaptiveIdleStrategy;
 import java.time.Duration;
+import org.agrona.concurrent.BackoffIdleStrategy;
 import org.junit.jupiter.api.Test;
 
 final class IdleStrategyConfigTest {
@@ -20,7 +22,7 @@ final class IdleStrategyConfigTest {
   void shouldConfigureIdleStrategy() {
     // given
     final var props =
-        new IdleStrategyProperties(50L, 62L, Duration.ofNanos(100), Duration.ofNanos(500));
+        new IdleStrategyProperties(50L, 62L, Duration.ofNanos(100), Duration.ofNanos(500), null);
     final var config = new ActorIdleStrategyConfiguration(props);
 
     // when
@@ -37,7 +39,7 @@ final class IdleStrategyConfigTest {
   @Test
   void shouldUseSchedulerDefaults() {
     // given
-    final var props = new IdleStrategyProperties(null, null, null, null);
+    final var props = new IdleStrategyProperties(null, null, null, null, null);
     final var config = new ActorIdleStrategyConfiguration(props);
 
     // when
@@ -56,7 +58,7 @@ final class IdleStrategyConfigTest {
   @Test
   void shouldAcceptPartialConfig() {
     // given
-    final var props = new IdleStrategyProperties(null, 62L, Duration.ofNanos(100), null);
+    final var props = new IdleStrategyProperties(null, 62L, Duration.ofNanos(100), null, null);
     final var config = new ActorIdleStrategyConfiguration(props);
 
     // when
@@ -70,4 +72,36 @@ final class IdleStrategyConfigTest {
         .hasFieldOrPropertyWithValue(
             "maxParkPeriodNs", ActorSchedulerBuilder.DEFAULT_MAX_PARK_PERIOD_NS);
   }
+
+  @Test
+  void shouldUseBackoffIdleStrategyByDefault() {
+    // given
+    final var props = new IdleStrategyProperties(null, null, null, null, null);
+    final var config = new ActorIdleStrategyConfiguration(props);
+
+    // when
+    final var idleStrategy = config.toSupplier().get();
+
+    // then
+    assertThat(idleStrategy).isInstanceOf(BackoffIdleStrategy.class);
+  }
+
+  @Test
+  void shouldConfigureAdaptiveIdleStrategy() {
+    // given
+    final var props =
+        new IdleStrategyProperties(50L, 62L, Duration.ofNanos(100), Duration.ofNanos(500), true);
+    final var config = new ActorIdleStrategyConfiguration(props);
+
+    // when
+    final var idleStrategy = config.toSupplier().get();
+
+    // then
+    assertThat(idleStrategy)
+        .isInstanceOf(AdaptiveIdleStrategy.class)
+        .hasFieldOrPropertyWithValue("maxSpins", 50L)
+        .hasFieldOrPropertyWithValue("maxYields", 62L)
+        .hasFieldOrPropertyWithValue("minParkPeriodNs", 100L)
+        .hasFieldOrPropertyWithValue("maxParkPeriodNs", 500L);
+  }
 }
@@ -11,10 +11,17 @@ import io.camunda.security.auth.Authentication;
 import io.camunda.service.exception.CamundaBrokerException;
 import io.camunda.service.security.SecurityContextProvider;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.broker.client.api.RequestDispatchStrategy;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommandBatch;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.msgpack.value.DocumentValue;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.util.Either;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -23,6 +30,9 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public abstract class ApiServices<T extends ApiServices<T>> {
 
+  private static final RequestDispatchStrategy BATCH_DISPATCH_STRATEGY =
+      RequestDispatchStrategy.roundRobin();
+
   protected final BrokerClient brokerClient;
   protected final SecurityContextProvider securityContextProvider;
   protected final Authentication authentication;
@@ -66,6 +76,68 @@ public abstract class ApiServices<T extends ApiServices<T>> {
             });
   }
 
+  /**
+   * Sends the given commands with one command batch per partition. Commands which don't address a
+   * specific partition are spread over the partitions, by their own dispatch strategy or
+   * round-robin. The returned future is completed once all batches are answered, with the result of
+   * each command in the order of the given commands: either its response, or the reason why it was
+   * not applied.
+   */
+  @SuppressWarnings("unchecked")
+  protected <R>
+      CompletableFuture<List<Either<CamundaBrokerException, BrokerResponse<R>>>>
+          sendBrokerCommandBatches(final List<? extends BrokerExecuteCommand<R>> commands) {
+    final Map<BrokerExecuteCommand<R>, Integer> positions = new IdentityHashMap<>();
+    for (int i = 0; i < commands.size(); i++) {
+      positions.put(commands.get(i), i);
+    }
+
+    final Either<CamundaBrokerException, BrokerResponse<R>>[] results = new Either[commands.size()];
+    final var batches =
+        BrokerExecuteCommandBatch.byPartition(
+                commands, brokerClient.getTopologyManager(), BATCH_DISPATCH_STRATEGY)
+            .stream()
+            .map(
+                batch -> {
+                  batch.setAuthorization(authentication.token());
+                  return brokerClient
+                      .sendRequest(batch)
+                      .handle(
+                          (response, error) -> {
+                            final var batchCommands = batch.getCommands();
+                            for (int i = 0; i < batchCommands.size(); i++) {
+                              results[positions.get(batchCommands.get(i))] =
+                                  getCommandResult(i, response, error);
+                            }
+                            return null;
+                          });
+                })
+            .toArray(CompletableFuture[]::new);
+
+    return CompletableFuture.allOf(batches).thenApply(ignored -> Arrays.asList(results));
+  }
+
+  private <R> Either<CamundaBrokerException, BrokerResponse<R>> getCommandResult(
+      final int command,
+      final BrokerResponse<List<BrokerResponse<R>>> batchResponse,
+      final Throwable batchError) {
+    if (batchError != null) {
+      return Either.left(new CamundaBrokerException(batchError));
+    } else if (batchResponse.isError()) {
+      return Either.left(new CamundaBrokerException(batchResponse.getError()));
+    } else if (batchResponse.isRejection()) {
+      return Either.left(new CamundaBrokerException(batchResponse.getRejection()));
+    }
+
+    final var response = batchResponse.getResponse().get(command);
+    if (response.isError()) {
+      return Either.left(new CamundaBrokerException(response.getError()));
+    } else if (response.isRejection()) {
+      return Either.left(new CamundaBrokerException(response.getRejection()));
+    }
+    return Either.right(response);
+  }
+
   protected DirectBuffer getDocumentOrEmpty(final Map<String, Object> value) {
     return value == null || value.isEmpty()
         ? DocumentValue.EMPTY_DOCUMENT
@@ -8,8 +8,10 @@
 package io.camunda.service;
 
 import io.camunda.security.auth.Authentication;
+import io.camunda.service.exception.CamundaBrokerException;
 import io.camunda.service.security.SecurityContextProvider;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
@@ -23,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 public final class JobServices<T> extends ApiServices<JobServices<T>> {
 
@@ -90,12 +93,55 @@ public final class JobServices<T> extends ApiServices<JobServices<T>> {
         new BrokerCompleteJobRequest(jobKey, getDocumentOrEmpty(variables), result));
   }
 
+  /**
+   * Completes the given jobs with one command batch per partition. The returned future is completed
+   * with the result of each job, in the order of the given jobs, once all batches are answered.
+   */
+  public CompletableFuture<List<JobCommandResult>> completeJobs(final List<JobCompletion> jobs) {
+    return sendJobCommandBatches(
+        jobs.stream()
+            .<BrokerExecuteCommand<JobRecord>>map(
+                job ->
+                    new BrokerCompleteJobRequest(
+                        job.jobKey(), getDocumentOrEmpty(job.variables()), job.result()))
+            .toList());
+  }
+
+  /**
+   * Fails the given jobs with one command batch per partition. The returned future is completed
+   * with the result of each job, in the order of the given jobs, once all batches are answered.
+   */
+  public CompletableFuture<List<JobCommandResult>> failJobs(final List<JobFailure> jobs) {
+    return sendJobCommandBatches(
+        jobs.stream()
+            .<BrokerExecuteCommand<JobRecord>>map(
+                job ->
+                    new BrokerFailJobRequest(job.jobKey(), job.retries(), job.retryBackOff())
+                        .setVariables(getDocumentOrEmpty(job.variables()))
+                        .setErrorMessage(job.errorMessage()))
+            .toList());
+  }
+
   public CompletableFuture<JobRecord> updateJob(
       final long jobKey, final UpdateJobChangeset changeset) {
     return sendBrokerRequest(
         new BrokerUpdateJobRequest(jobKey, changeset.retries(), changeset.timeout()));
   }
 
+  private CompletableFuture<List<JobCommandResult>> sendJobCommandBatches(
+      final List<BrokerExecuteCommand<JobRecord>> commands) {
+    return sendBrokerCommandBatches(commands)
+        .thenApply(
+            results ->
+                IntStream.range(0, results.size())
+                    .mapToObj(
+                        i ->
+                            new JobCommandResult(
+                                commands.get(i).getKey(),
+                                results.get(i).isLeft() ? results.get(i).getLeft() : null))
+                    .toList());
+  }
+
   public record ActivateJobsRequest(
       String type,
       int maxJobsToActivate,
@@ -106,4 +152,21 @@ public final class JobServices<T> extends ApiServices<JobServices<T>> {
       long requestTimeout) {}
 
   public record UpdateJobChangeset(Integer retries, Long timeout) {}
+
+  public record JobCompletion(long jobKey, Map<String, Object> variables, JobResult result) {}
+
+  public record JobFailure(
+      long jobKey,
+      int retries,
+      String errorMessage,
+      Long retryBackOff,
+      Map<String, Object> variables) {}
+
+  /**
+   * The result of a job's command within a batch.
+   *
+   * @param jobKey the key of the job
+   * @param error the reason why the command was not applied, or null if it was applied
+   */
+  public record JobCommandResult(long jobKey, CamundaBrokerException error) {}
 }
@@ -8,6 +8,7 @@
 package io.camunda.service;
 
 import io.camunda.security.auth.Authentication;
+import io.camunda.service.exception.CamundaBrokerException;
 import io.camunda.service.security.SecurityContextProvider;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
@@ -15,6 +16,8 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerCorrelateMessageReques
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageCorrelationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.util.Either;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -44,13 +47,27 @@ public final class MessageServices extends ApiServices<MessageServices> {
 
   public CompletableFuture<BrokerResponse<MessageRecord>> publishMessage(
       final PublicationMessageRequest request) {
-    final var brokerRequest =
-        new BrokerPublishMessageRequest(request.name, request.correlationKey)
-            .setTimeToLive(request.timeToLive)
-            .setMessageId(request.messageId)
-            .setVariables(getDocumentOrEmpty(request.variables))
-            .setTenantId(request.tenantId);
-    return sendBrokerRequestWithFullResponse(brokerRequest);
+    return sendBrokerRequestWithFullResponse(toBrokerPublishMessageRequest(request));
+  }
+
+  /**
+   * Publishes the given messages with one command batch per partition, where the partition of each
+   * message is determined by its correlation key. The returned future is completed with the result
+   * of each message, in the order of the given messages, once all batches are answered.
+   */
+  public CompletableFuture<List<Either<CamundaBrokerException, BrokerResponse<MessageRecord>>>>
+      publishMessages(final List<PublicationMessageRequest> requests) {
+    return sendBrokerCommandBatches(
+        requests.stream().map(this::toBrokerPublishMessageRequest).toList());
+  }
+
+  private BrokerPublishMessageRequest toBrokerPublishMessageRequest(
+      final PublicationMessageRequest request) {
+    return new BrokerPublishMessageRequest(request.name, request.correlationKey)
+        .setTimeToLive(request.timeToLive)
+        .setMessageId(request.messageId)
+        .setVariables(getDocumentOrEmpty(request.variables))
+        .setTenantId(request.tenantId);
   }
 
   public record CorrelateMessageRequest(
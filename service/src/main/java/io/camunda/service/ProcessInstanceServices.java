@@ -15,11 +15,13 @@ import io.camunda.search.query.ProcessInstanceQuery;
 import io.camunda.search.query.SearchQueryResult;
 import io.camunda.security.auth.Authentication;
 import io.camunda.security.auth.Authorization;
+import io.camunda.service.exception.CamundaBrokerException;
 import io.camunda.service.exception.ForbiddenException;
 import io.camunda.service.search.core.SearchQueryService;
 import io.camunda.service.security.SecurityContextProvider;
 import io.camunda.util.ObjectBuilder;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceWithResultRequest;
@@ -34,6 +36,7 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceModificationTerminateInstruction;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceResultRecord;
+import io.camunda.zeebe.util.Either;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -93,6 +96,23 @@ public final class ProcessInstanceServices
 
   public CompletableFuture<ProcessInstanceCreationRecord> createProcessInstance(
       final ProcessInstanceCreateRequest request) {
+    return sendBrokerRequest(toBrokerCreateProcessInstanceRequest(request));
+  }
+
+  /**
+   * Creates the given process instances with one command batch per partition, spreading the
+   * instances over the partitions. The returned future is completed with the result of each
+   * instance, in the order of the given requests, once all batches are answered.
+   */
+  public CompletableFuture<
+          List<Either<CamundaBrokerException, BrokerResponse<ProcessInstanceCreationRecord>>>>
+      createProcessInstances(final List<ProcessInstanceCreateRequest> requests) {
+    return sendBrokerCommandBatches(
+        requests.stream().map(this::toBrokerCreateProcessInstanceRequest).toList());
+  }
+
+  private BrokerCreateProcessInstanceRequest toBrokerCreateProcessInstanceRequest(
+      final ProcessInstanceCreateRequest request) {
     final var brokerRequest =
         new BrokerCreateProcessInstanceRequest()
             .setBpmnProcessId(request.bpmnProcessId())
@@ -105,7 +125,7 @@ public final class ProcessInstanceServices
     if (request.operationReference() != null) {
       brokerRequest.setOperationReference(request.operationReference());
     }
-    return sendBrokerRequest(brokerRequest);
+    return brokerRequest;
   }
 
   public CompletableFuture<ProcessInstanceResultRecord> createProcessInstanceWithResult(
@@ -18,7 +18,9 @@ package io.atomix.cluster.messaging;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.utils.net.Address;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -129,6 +131,46 @@ public interface ClusterCommunicationService {
       MemberId toMemberId,
       Duration timeout);
 
+  /**
+   * Sends a message and expects a reply, like {@link #send(String, Object, Function, Function,
+   * MemberId, Duration)}, but with a payload which consists of the encoded message followed by the
+   * given region of a file. The recipient's decoder receives both as one payload.
+   *
+   * <p>Where the connection allows it, the region is sent straight from the file; see {@link
+   * MessagingService#sendAndReceive(Address, String, byte[], FileSlice, Duration)}. By default, it
+   * is read into a copy of the encoded message.
+   *
+   * @param subject message subject
+   * @param message message to send
+   * @param encoder function for encoding request to byte[]
+   * @param payloadTrailer the region of a file which is sent after the encoded message
+   * @param decoder function for decoding response from byte[]
+   * @param toMemberId recipient node identifier
+   * @param timeout response timeout
+   * @param <M> request type
+   * @param <R> reply type
+   * @return reply future
+   */
+  default <M, R> CompletableFuture<R> send(
+      final String subject,
+      final M message,
+      final Function<M, byte[]> encoder,
+      final FileSlice payloadTrailer,
+      final Function<byte[], R> decoder,
+      final MemberId toMemberId,
+      final Duration timeout) {
+    final Function<M, byte[]> fullEncoder =
+        m -> {
+          final byte[] payload = encoder.apply(m);
+          final byte[] fullPayload =
+              Arrays.copyOf(payload, payload.length + payloadTrailer.length());
+          payloadTrailer.readInto(
+              ByteBuffer.wrap(fullPayload, payload.length, payloadTrailer.length()));
+          return fullPayload;
+        };
+    return send(subject, message, fullEncoder, decoder, toMemberId, timeout);
+  }
+
   /**
    * Adds a new subscriber for the specified message subject, which must return a reply.
    *
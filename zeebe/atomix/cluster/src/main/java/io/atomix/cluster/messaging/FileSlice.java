@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A region of a file which is sent as part of a message payload. Transports which support it send
+ * the region straight from the file, e.g. via zero-copy file transfers, instead of reading it onto
+ * the heap first.
+ *
+ * @param file the file to send the region of
+ * @param position the position of the region in the file
+ * @param length the length of the region
+ */
+public record FileSlice(Path file, long position, int length) {
+
+  public FileSlice {
+    Objects.requireNonNull(file, "must specify a file");
+    if (position < 0 || length < 0) {
+      throw new IllegalArgumentException(
+          "Expected position and length to be non-negative, but got position %d and length %d"
+              .formatted(position, length));
+    }
+  }
+
+  /**
+   * Reads the region into the given buffer, for transports which cannot send it from the file.
+   *
+   * @param buffer the buffer to read into; must have at least {@link #length()} bytes remaining
+   * @throws UncheckedIOException if the file cannot be read, or ends before the region does
+   */
+  public void readInto(final ByteBuffer buffer) {
+    final ByteBuffer region = buffer.slice(buffer.position(), length);
+    try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      while (region.hasRemaining()) {
+        if (channel.read(region, position + region.position()) < 0) {
+          throw new IOException(
+              "Expected to read %d bytes of %s from position %d, but reached the end of the file"
+                  .formatted(length, file, position));
+        }
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    buffer.position(buffer.position() + length);
+  }
+}
@@ -17,7 +17,11 @@
 package io.atomix.cluster.messaging;
 
 import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -303,6 +307,76 @@ public interface MessagingService {
       Duration timeout,
       Executor executor);
 
+  /**
+   * Sends a message asynchronously and expects a response on a pooled connection, like {@link
+   * #sendAndReceive(Address, String, byte[], Duration)}, but with the readable bytes of the given
+   * buffer as payload.
+   *
+   * @param address address to send the message to.
+   * @param type type of message.
+   * @param payload message payload, which is released once sent
+   * @param timeout response timeout
+   * @return a response future
+   * @see #sendAndReceive(Address, String, ByteBuf, boolean, Duration)
+   */
+  default CompletableFuture<byte[]> sendAndReceive(
+      final Address address, final String type, final ByteBuf payload, final Duration timeout) {
+    return sendAndReceive(address, type, payload, true, timeout);
+  }
+
+  /**
+   * Sends a message asynchronously and expects a response, like {@link #sendAndReceive(Address,
+   * String, byte[], boolean, Duration)}, but with the readable bytes of the given buffer as
+   * payload. The buffer is written as is, without copying it into an array first.
+   *
+   * <p>This takes ownership of the buffer: it is released once the message was sent, or once the
+   * returned future is completed if the message could not be sent, e.g. because the service is not
+   * running or no connection could be established. Callers which still need the buffer afterwards,
+   * e.g. to retry, have to retain it before.
+   *
+   * @param address address to send the message to.
+   * @param type type of message.
+   * @param payload message payload, which is released once sent
+   * @param keepAlive whether to keep the connection alive after usage
+   * @param timeout response timeout
+   * @return a response future
+   */
+  CompletableFuture<byte[]> sendAndReceive(
+      Address address, String type, ByteBuf payload, boolean keepAlive, Duration timeout);
+
+  /**
+   * Sends a message asynchronously on a pooled connection and expects a response, like {@link
+   * #sendAndReceive(Address, String, byte[], Duration)}, but with a payload which consists of the
+   * given array followed by the given region of a file. The recipient receives both as one payload.
+   *
+   * <p>Where the connection allows it, the region is sent straight from the file, without reading
+   * it onto the heap. By default, it is read into a copy of the payload array.
+   *
+   * @param address address to send the message to.
+   * @param type type of message.
+   * @param payload the first part of the message payload
+   * @param payloadTrailer the region of a file which makes up the rest of the payload
+   * @param timeout response timeout
+   * @return a response future, completed exceptionally with an {@link java.io.UncheckedIOException}
+   *     if the region could not be read
+   */
+  default CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final byte[] payload,
+      final FileSlice payloadTrailer,
+      final Duration timeout) {
+    final byte[] fullPayload = Arrays.copyOf(payload, payload.length + payloadTrailer.length());
+    try {
+      payloadTrailer.readInto(
+          ByteBuffer.wrap(fullPayload, payload.length, payloadTrailer.length()));
+    } catch (final UncheckedIOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    return sendAndReceive(address, type, fullPayload, timeout);
+  }
+
   /**
    * Registers a new message handler for message type.
    *
@@ -329,6 +403,17 @@ public interface MessagingService {
    */
   void registerHandler(String type, BiFunction<Address, byte[], CompletableFuture<byte[]>> handler);
 
+  /**
+   * Registers a new message handler for message type, which replies with the readable bytes of the
+   * buffer the returned future is completed with. The buffer is written as is, without copying it
+   * into an array first, and is released once the reply was sent.
+   *
+   * @param type message type.
+   * @param handler message handler
+   */
+  void registerBufferHandler(
+      String type, BiFunction<Address, byte[], CompletableFuture<ByteBuf>> handler);
+
   /**
    * Unregister current handler, if one exists for message type.
    *
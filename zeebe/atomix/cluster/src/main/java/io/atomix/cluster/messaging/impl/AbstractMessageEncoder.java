@@ -16,12 +16,23 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.atomix.cluster.messaging.FileSlice;
 import io.atomix.utils.net.Address;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.codec.compression.SnappyFrameEncoder;
+import io.netty.handler.codec.compression.ZlibEncoder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.PromiseCombiner;
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +41,11 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
   // Effectively MessageToByteEncoder<InternalMessage>,
   // had to specify <Object> to avoid Class Loader not being able to find some classes.
 
+  // estimate of everything but the payload and the subject: the sender address on the first
+  // message, the type, the variable length id and payload length, and the reply status; the buffer
+  // still grows if the sender's host name is longer
+  private static final int MAX_HEADER_LENGTH = 128;
+
   protected final Address address;
   private final Logger log = LoggerFactory.getLogger(getClass());
   private boolean addressWritten;
@@ -47,15 +63,16 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
 
   protected abstract void encodeReply(ProtocolReply reply, ByteBuf out);
 
+  /**
+   * Writes the length prefixed UTF-8 string directly into the buffer, and sets the length once the
+   * string is written, instead of encoding it into a temporary buffer first.
+   */
   static void writeString(final ByteBuf buffer, final String value) {
-    final ByteBuf buf = buffer.alloc().buffer(ByteBufUtil.utf8MaxBytes(value));
-    try {
-      final int length = ByteBufUtil.writeUtf8(buf, value);
-      buffer.writeShort(length);
-      buffer.writeBytes(buf);
-    } finally {
-      buf.release();
-    }
+    final int lengthIndex = buffer.writerIndex();
+    buffer.writeShort(0);
+    final int length =
+        ByteBufUtil.reserveAndWriteUtf8(buffer, value, ByteBufUtil.utf8MaxBytes(value));
+    buffer.setShort(lengthIndex, length);
   }
 
   static void writeInt(final ByteBuf buf, final int value) {
@@ -153,26 +170,137 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
     }
   }
 
+  /**
+   * Allocates the buffer with the capacity for the whole message, instead of the default initial
+   * capacity of 256 bytes, such that larger payloads are not copied again when the buffer grows.
+   */
+  @Override
+  protected ByteBuf allocateBuffer(
+      final ChannelHandlerContext context, final Object rawMessage, final boolean preferDirect) {
+    final ProtocolMessage message = (ProtocolMessage) rawMessage;
+    int capacity = MAX_HEADER_LENGTH + message.payloadLength();
+    if (message instanceof final ProtocolRequest request) {
+      capacity += ByteBufUtil.utf8MaxBytes(request.subject());
+    }
+
+    return preferDirect ? context.alloc().ioBuffer(capacity) : context.alloc().heapBuffer(capacity);
+  }
+
   // Effectively same result as one generated by MessageToByteEncoder<InternalMessage>
   @Override
   public final boolean acceptOutboundMessage(final Object msg) throws Exception {
     return msg instanceof ProtocolMessage;
   }
 
+  @Override
+  public void write(
+      final ChannelHandlerContext context, final Object message, final ChannelPromise promise)
+      throws Exception {
+    if (message instanceof final ProtocolMessage protocolMessage
+        && protocolMessage.payloadTrailer() != null
+        && canWriteFileRegions(context)) {
+      writeWithFileRegion(context, protocolMessage, promise);
+    } else {
+      super.write(context, message, promise);
+    }
+  }
+
   @Override
   protected void encode(
-      final ChannelHandlerContext context, final Object rawMessage, final ByteBuf out) {
+      final ChannelHandlerContext context, final Object rawMessage, final ByteBuf out)
+      throws IOException {
+    final ProtocolMessage message = (ProtocolMessage) rawMessage;
+    encodeHead(message, out);
+
+    final FileSlice payloadTrailer = message.payloadTrailer();
+    if (payloadTrailer != null) {
+      writeTrailer(payloadTrailer, out);
+    }
+
+    encodeTail(message, out);
+  }
+
+  /**
+   * Writes the message in three parts: everything up to the end of the payload array, then the
+   * payload trailer as a {@link DefaultFileRegion}, which is sent straight from the file without
+   * copying it onto the heap, and finally the rest of the message.
+   */
+  private void writeWithFileRegion(
+      final ChannelHandlerContext context,
+      final ProtocolMessage message,
+      final ChannelPromise promise) {
+    final FileSlice payloadTrailer = message.payloadTrailer();
+    final ByteBuf head =
+        context
+            .alloc()
+            .ioBuffer(MAX_HEADER_LENGTH + message.payloadLength() - payloadTrailer.length());
+    final ByteBuf tail = context.alloc().ioBuffer();
+    try {
+      encodeHead(message, head);
+      encodeTail(message, tail);
+    } catch (final RuntimeException e) {
+      head.release();
+      tail.release();
+      promise.setFailure(e);
+      return;
+    }
+
+    final var region =
+        new DefaultFileRegion(
+            payloadTrailer.file().toFile(), payloadTrailer.position(), payloadTrailer.length());
+    final var combiner = new PromiseCombiner(context.executor());
+    combiner.add(context.write(head));
+    combiner.add(context.write(region));
+    combiner.add(context.write(tail));
+    combiner.finish(promise);
+  }
+
+  private void encodeHead(final ProtocolMessage message, final ByteBuf out) {
     if (!addressWritten) {
-      encodeAddress((ProtocolMessage) rawMessage, out);
+      encodeAddress(message, out);
       addressWritten = true;
     }
 
-    encodeMessage((ProtocolMessage) rawMessage, out);
+    encodeMessage(message, out);
+  }
+
+  private void encodeTail(final ProtocolMessage message, final ByteBuf out) {
+    if (message instanceof final ProtocolRequest request) {
+      encodeRequest(request, out);
+    } else if (message instanceof final ProtocolReply reply) {
+      encodeReply(reply, out);
+    }
+  }
 
-    if (rawMessage instanceof ProtocolRequest) {
-      encodeRequest((ProtocolRequest) rawMessage, out);
-    } else if (rawMessage instanceof ProtocolReply) {
-      encodeReply((ProtocolReply) rawMessage, out);
+  private static void writeTrailer(final FileSlice payloadTrailer, final ByteBuf out)
+      throws IOException {
+    try (final var file = FileChannel.open(payloadTrailer.file(), StandardOpenOption.READ)) {
+      int written = 0;
+      while (written < payloadTrailer.length()) {
+        final int read =
+            out.writeBytes(
+                file, payloadTrailer.position() + written, payloadTrailer.length() - written);
+        if (read < 0) {
+          throw new EOFException(
+              "Expected to read %d bytes of %s from position %d, but reached the end of the file"
+                  .formatted(
+                      payloadTrailer.length(), payloadTrailer.file(), payloadTrailer.position()));
+        }
+
+        written += read;
+      }
     }
   }
+
+  /**
+   * File regions bypass the byte transformations of the pipeline: the TLS handler rejects them, and
+   * the compression encoders pass them through as is. With either, the payload trailer is thus read
+   * into the message buffer instead.
+   */
+  private static boolean canWriteFileRegions(final ChannelHandlerContext context) {
+    final ChannelPipeline pipeline = context.pipeline();
+    return pipeline.get(SslHandler.class) == null
+        && pipeline.get(ZlibEncoder.class) == null
+        && pipeline.get(SnappyFrameEncoder.class) == null;
+  }
 }
@@ -24,6 +24,7 @@ import io.atomix.cluster.ClusterMembershipService;
 import io.atomix.cluster.Member;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.FileSlice;
 import io.atomix.cluster.messaging.ManagedClusterCommunicationService;
 import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.cluster.messaging.MessagingException.NoSuchMemberException;
@@ -118,6 +119,30 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
     }
   }
 
+  @Override
+  public <M, R> CompletableFuture<R> send(
+      final String subject,
+      final M message,
+      final Function<M, byte[]> encoder,
+      final FileSlice payloadTrailer,
+      final Function<byte[], R> decoder,
+      final MemberId toMemberId,
+      final Duration timeout) {
+    final Member member = membershipService.getMember(toMemberId);
+    if (member == null) {
+      return failOnMemberNotKnown(subject, toMemberId);
+    }
+
+    try {
+      return messagingService
+          .sendAndReceive(
+              member.address(), subject, encoder.apply(message), payloadTrailer, timeout)
+          .thenApply(decoder);
+    } catch (final Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   @Override
   public <M, R> void replyTo(
       final String subject,
@@ -16,6 +16,7 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import java.io.UncheckedIOException;
 import java.util.concurrent.CompletableFuture;
 
 /** Local client-side connection. */
@@ -28,17 +29,43 @@ final class LocalClientConnection extends AbstractClientConnection {
 
   @Override
   public CompletableFuture<Void> sendAsync(final ProtocolRequest message) {
-    serverConnection.dispatch(message);
+    try {
+      serverConnection.dispatch(withPayloadArray(message));
+    } catch (final UncheckedIOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
     return CompletableFuture.completedFuture(null);
   }
 
   @Override
   public CompletableFuture<byte[]> sendAndReceive(final ProtocolRequest message) {
     final CompletableFuture<byte[]> future = awaitResponseForRequestWithId(message.id());
-    serverConnection.dispatch(message);
+    try {
+      serverConnection.dispatch(withPayloadArray(message));
+    } catch (final UncheckedIOException e) {
+      future.completeExceptionally(e);
+    }
     return future;
   }
 
+  /**
+   * Handlers get the payload as an array, and may keep a reference to it, so a request with a
+   * payload buffer is copied into one with a payload array, and its buffer is released. Likewise, a
+   * payload trailer is read from its file into the array.
+   */
+  private ProtocolRequest withPayloadArray(final ProtocolRequest message) {
+    if (message.payloadBuffer() == null && message.payloadTrailer() == null) {
+      return message;
+    }
+
+    try {
+      return new ProtocolRequest(
+          message.id(), message.sender(), message.subject(), message.payload());
+    } finally {
+      message.releasePayload();
+    }
+  }
+
   @Override
   public void close() {
     super.close();
@@ -16,6 +16,8 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -36,4 +38,15 @@ final class LocalServerConnection extends AbstractServerConnection {
       final long messageId, final ProtocolReply.Status status, final Optional<byte[]> payload) {
     clientConnection.dispatch(new ProtocolReply(messageId, payload.orElse(EMPTY_PAYLOAD), status));
   }
+
+  @Override
+  public void reply(
+      final long messageId, final ProtocolReply.Status status, final ByteBuf payload) {
+    // the local client completes the response with the payload as is, so it has to be copied
+    try {
+      reply(messageId, status, Optional.of(ByteBufUtil.getBytes(payload)));
+    } finally {
+      payload.release();
+    }
+  }
 }
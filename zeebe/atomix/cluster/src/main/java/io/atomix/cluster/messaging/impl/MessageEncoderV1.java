@@ -40,9 +40,16 @@ class MessageEncoderV1 extends AbstractMessageEncoder {
     buffer.writeByte(message.type().id());
     writeLong(buffer, message.id());
 
-    final byte[] payload = message.payload();
-    writeInt(buffer, payload.length);
-    buffer.writeBytes(payload);
+    final ByteBuf payloadBuffer = message.payloadBuffer();
+    if (payloadBuffer != null) {
+      final int length = payloadBuffer.readableBytes();
+      writeInt(buffer, length);
+      buffer.writeBytes(payloadBuffer, payloadBuffer.readerIndex(), length);
+    } else {
+      // the length includes the payload trailer, if any, which is written right after the array
+      writeInt(buffer, message.payloadLength());
+      buffer.writeBytes(message.payloadWithoutTrailer());
+    }
   }
 
   @Override
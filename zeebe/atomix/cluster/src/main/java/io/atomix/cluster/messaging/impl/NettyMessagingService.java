@@ -22,6 +22,7 @@ import com.google.common.base.Throwables;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.MoreExecutors;
+import io.atomix.cluster.messaging.FileSlice;
 import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingConfig;
 import io.atomix.cluster.messaging.MessagingException;
@@ -268,13 +269,89 @@ public final class NettyMessagingService implements ManagedMessagingService {
     final long messageId = messageIdGenerator.incrementAndGet();
     final ProtocolRequest message =
         new ProtocolRequest(messageId, advertisedAddress, type, payload);
+    return sendAndReceive(
+        address, type, c -> c.sendAndReceive(message), keepAlive, timeout, executor);
+  }
+
+  @Override
+  public CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final ByteBuf payload,
+      final boolean keepAlive,
+      final Duration timeout) {
+    if (!started.get()) {
+      payload.release();
+      return CompletableFuture.failedFuture(
+          new IllegalStateException("MessagingService is closed."));
+    }
+
+    final long messageId = messageIdGenerator.incrementAndGet();
+    final ProtocolRequest message =
+        new ProtocolRequest(messageId, advertisedAddress, type, payload);
+
+    // the payload is released by the connection once the message is sent; if the request is
+    // completed before it could be sent, e.g. because no channel could be acquired in time, it is
+    // released here instead. Whichever comes first claims the message, such that it is neither
+    // sent after it was released nor released twice.
+    final var claimed = new AtomicBoolean();
+    final CompletableFuture<byte[]> responseFuture =
+        sendAndReceive(
+            address,
+            type,
+            c ->
+                claimed.compareAndSet(false, true)
+                    ? c.sendAndReceive(message)
+                    : CompletableFuture.completedFuture(null),
+            keepAlive,
+            timeout,
+            MoreExecutors.directExecutor());
+    responseFuture.whenComplete(
+        (ignored, error) -> {
+          if (claimed.compareAndSet(false, true)) {
+            message.releasePayload();
+          }
+        });
+
+    return responseFuture;
+  }
+
+  @Override
+  public CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final byte[] payload,
+      final FileSlice payloadTrailer,
+      final Duration timeout) {
+    if (!started.get()) {
+      return CompletableFuture.failedFuture(
+          new IllegalStateException("MessagingService is closed."));
+    }
+
+    final long messageId = messageIdGenerator.incrementAndGet();
+    final ProtocolRequest message =
+        new ProtocolRequest(messageId, advertisedAddress, type, payload, payloadTrailer);
+    return sendAndReceive(
+        address,
+        type,
+        c -> c.sendAndReceive(message),
+        true,
+        timeout,
+        MoreExecutors.directExecutor());
+  }
+
+  private CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final Function<ClientConnection, CompletableFuture<byte[]>> callback,
+      final boolean keepAlive,
+      final Duration timeout,
+      final Executor executor) {
     final CompletableFuture<byte[]> responseFuture;
     if (keepAlive) {
-      responseFuture =
-          executeOnPooledConnection(address, type, c -> c.sendAndReceive(message), executor);
+      responseFuture = executeOnPooledConnection(address, type, callback, executor);
     } else {
-      responseFuture =
-          executeOnTransientConnection(address, c -> c.sendAndReceive(message), executor);
+      responseFuture = executeOnTransientConnection(address, callback, executor);
     }
 
     final var timeoutFuture =
@@ -349,30 +426,58 @@ public final class NettyMessagingService implements ManagedMessagingService {
               .apply(sender, payload)
               .whenComplete(
                   (result, error) -> {
-                    byte[] responsePayload = null;
-                    final ProtocolReply.Status status;
-
                     if (error == null) {
-                      status = ProtocolReply.Status.OK;
-                      responsePayload = result;
+                      connection.reply(id, ProtocolReply.Status.OK, Optional.ofNullable(result));
                     } else {
-                      log.warn(
-                          "Unexpected error while handling message {} from {}",
-                          subject,
-                          sender,
-                          error);
-
-                      status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
-                      final String exceptionMessage = error.getMessage();
-                      if (exceptionMessage != null) {
-                        responsePayload = StringUtil.getBytes(error.getMessage());
-                      }
+                      replyWithHandlerFailure(connection, id, subject, sender, error);
                     }
-                    connection.reply(id, status, Optional.ofNullable(responsePayload));
                   });
         });
   }
 
+  @Override
+  public void registerBufferHandler(
+      final String type, final BiFunction<Address, byte[], CompletableFuture<ByteBuf>> handler) {
+    handlers.register(
+        type,
+        (message, connection) -> {
+          // Extract message components here to avoid retaining a reference to the entire message.
+          final var id = message.id();
+          final var subject = message.subject();
+          final var sender = message.sender();
+          final var payload = message.payload();
+          handler
+              .apply(sender, payload)
+              .whenComplete(
+                  (result, error) -> {
+                    if (error != null) {
+                      replyWithHandlerFailure(connection, id, subject, sender, error);
+                    } else if (result == null) {
+                      connection.reply(id, ProtocolReply.Status.OK, Optional.empty());
+                    } else {
+                      connection.reply(id, ProtocolReply.Status.OK, result);
+                    }
+                  });
+        });
+  }
+
+  private void replyWithHandlerFailure(
+      final ServerConnection connection,
+      final long id,
+      final String subject,
+      final Address sender,
+      final Throwable error) {
+    log.warn("Unexpected error while handling message {} from {}", subject, sender, error);
+
+    byte[] responsePayload = null;
+    final String exceptionMessage = error.getMessage();
+    if (exceptionMessage != null) {
+      responsePayload = StringUtil.getBytes(exceptionMessage);
+    }
+    connection.reply(
+        id, ProtocolReply.Status.ERROR_HANDLER_EXCEPTION, Optional.ofNullable(responsePayload));
+  }
+
   @Override
   public void unregisterHandler(final String type) {
     handlers.unregister(type);
@@ -16,15 +16,46 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.atomix.cluster.messaging.FileSlice;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 /** Base class for internal messages. */
 public abstract class ProtocolMessage {
 
   private final long id;
   private final byte[] payload;
+  private final ByteBuf payloadBuffer;
+  private final FileSlice payloadTrailer;
 
   protected ProtocolMessage(final long id, final byte[] payload) {
+    this(id, payload, null);
+  }
+
+  /**
+   * Creates a message whose payload is the given array followed by the given region of a file. The
+   * region is only read when the message is encoded, and is sent straight from the file where the
+   * channel allows it.
+   */
+  protected ProtocolMessage(final long id, final byte[] payload, final FileSlice payloadTrailer) {
     this.id = id;
     this.payload = payload;
+    this.payloadTrailer = payloadTrailer;
+    payloadBuffer = null;
+  }
+
+  /**
+   * Creates a message whose payload are the readable bytes of the given buffer. The message takes
+   * ownership of the buffer, which is written as is when encoding the message, and must be released
+   * via {@link #releasePayload()} once the message was written.
+   */
+  protected ProtocolMessage(final long id, final ByteBuf payloadBuffer) {
+    this.id = id;
+    this.payloadBuffer = payloadBuffer;
+    payload = null;
+    payloadTrailer = null;
   }
 
   public abstract Type type();
@@ -41,10 +72,64 @@ public abstract class ProtocolMessage {
     return id;
   }
 
+  /**
+   * Returns the payload as an array. If the message was created with a payload buffer, its readable
+   * bytes are copied into a new array, so prefer {@link #payloadBuffer()} where possible. Likewise,
+   * a payload trailer is read from its file into a new array.
+   */
   public byte[] payload() {
+    if (payloadBuffer != null) {
+      return ByteBufUtil.getBytes(payloadBuffer);
+    }
+
+    if (payloadTrailer != null) {
+      final byte[] fullPayload = Arrays.copyOf(payload, payload.length + payloadTrailer.length());
+      payloadTrailer.readInto(
+          ByteBuffer.wrap(fullPayload, payload.length, payloadTrailer.length()));
+      return fullPayload;
+    }
+
+    return payload;
+  }
+
+  /**
+   * @return the payload array, without the payload trailer if any; null if the message was created
+   *     with a payload buffer
+   */
+  byte[] payloadWithoutTrailer() {
     return payload;
   }
 
+  /**
+   * @return the region of a file which follows the payload array, or null if there is none
+   */
+  public FileSlice payloadTrailer() {
+    return payloadTrailer;
+  }
+
+  /**
+   * @return the payload buffer, or null if the message was created with a payload array
+   */
+  public ByteBuf payloadBuffer() {
+    return payloadBuffer;
+  }
+
+  public int payloadLength() {
+    if (payloadBuffer != null) {
+      return payloadBuffer.readableBytes();
+    }
+
+    final int trailerLength = payloadTrailer == null ? 0 : payloadTrailer.length();
+    return (payload == null ? 0 : payload.length) + trailerLength;
+  }
+
+  /** Releases the payload buffer, if any. Messages with a payload array need no releasing. */
+  public void releasePayload() {
+    if (payloadBuffer != null) {
+      payloadBuffer.release();
+    }
+  }
+
   /** Internal message type. */
   public enum Type {
     REQUEST(1),
@@ -18,6 +18,7 @@ package io.atomix.cluster.messaging.impl;
 
 import com.google.common.base.MoreObjects;
 import io.atomix.utils.misc.ArraySizeHashPrinter;
+import io.netty.buffer.ByteBuf;
 
 /** Internal reply message. */
 public final class ProtocolReply extends ProtocolMessage {
@@ -29,6 +30,11 @@ public final class ProtocolReply extends ProtocolMessage {
     this.status = status;
   }
 
+  public ProtocolReply(final long id, final ByteBuf payload, final Status status) {
+    super(id, payload);
+    this.status = status;
+  }
+
   @Override
   public Type type() {
     return Type.REPLY;
@@ -43,7 +49,9 @@ public final class ProtocolReply extends ProtocolMessage {
     return MoreObjects.toStringHelper(this)
         .add("id", id())
         .add("status", status())
-        .add("payload", ArraySizeHashPrinter.of(payload()))
+        .add(
+            "payload",
+            payloadBuffer() != null ? payloadBuffer() : ArraySizeHashPrinter.of(payload()))
         .toString();
   }
 
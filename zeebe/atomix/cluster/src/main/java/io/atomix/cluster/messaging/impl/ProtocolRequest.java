@@ -17,8 +17,10 @@
 package io.atomix.cluster.messaging.impl;
 
 import com.google.common.base.MoreObjects;
+import io.atomix.cluster.messaging.FileSlice;
 import io.atomix.utils.misc.ArraySizeHashPrinter;
 import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
 
 /** Internal request message. */
 public final class ProtocolRequest extends ProtocolMessage {
@@ -32,6 +34,24 @@ public final class ProtocolRequest extends ProtocolMessage {
     this.subject = subject;
   }
 
+  public ProtocolRequest(
+      final long id,
+      final Address sender,
+      final String subject,
+      final byte[] payload,
+      final FileSlice payloadTrailer) {
+    super(id, payload, payloadTrailer);
+    this.sender = sender;
+    this.subject = subject;
+  }
+
+  public ProtocolRequest(
+      final long id, final Address sender, final String subject, final ByteBuf payload) {
+    super(id, payload);
+    this.sender = sender;
+    this.subject = subject;
+  }
+
   @Override
   public Type type() {
     return Type.REQUEST;
@@ -47,11 +67,20 @@ public final class ProtocolRequest extends ProtocolMessage {
 
   @Override
   public String toString() {
-    return MoreObjects.toStringHelper(this)
-        .add("id", id())
-        .add("subject", subject)
-        .add("sender", sender)
-        .add("payload", ArraySizeHashPrinter.of(payload()))
-        .toString();
+    final var helper =
+        MoreObjects.toStringHelper(this)
+            .add("id", id())
+            .add("subject", subject)
+            .add("sender", sender)
+            .add(
+                "payload",
+                payloadBuffer() != null
+                    ? payloadBuffer()
+                    : ArraySizeHashPrinter.of(payloadWithoutTrailer()));
+    if (payloadTrailer() != null) {
+      helper.add("payloadTrailer", payloadTrailer());
+    }
+
+    return helper.toString();
   }
 }
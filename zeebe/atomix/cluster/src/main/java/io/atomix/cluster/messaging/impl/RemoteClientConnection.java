@@ -37,6 +37,7 @@ final class RemoteClientConnection extends AbstractClientConnection {
         .writeAndFlush(message)
         .addListener(
             channelFuture -> {
+              message.releasePayload();
               if (!channelFuture.isSuccess()) {
                 future.completeExceptionally(channelFuture.cause());
               } else {
@@ -54,6 +55,7 @@ final class RemoteClientConnection extends AbstractClientConnection {
         .writeAndFlush(message)
         .addListener(
             channelFuture -> {
+              message.releasePayload();
               if (!channelFuture.isSuccess()) {
                 responseFuture.completeExceptionally(channelFuture.cause());
               }
@@ -65,8 +67,7 @@ final class RemoteClientConnection extends AbstractClientConnection {
     final String toAddress = channel.remoteAddress().toString();
     final String subject = message.subject();
     messagingMetrics.countMessage(channel.remoteAddress().toString(), message.subject());
-    final byte[] payload = message.payload();
-    messagingMetrics.observeRequestSize(toAddress, subject, payload == null ? 0 : payload.length);
+    messagingMetrics.observeRequestSize(toAddress, subject, message.payloadLength());
   }
 
   private void countReqResponseMetrics(
@@ -76,8 +77,7 @@ final class RemoteClientConnection extends AbstractClientConnection {
     messagingMetrics.countRequestResponse(toAddress, subject);
     messagingMetrics.incInFlightRequests(toAddress, subject);
     final var timer = messagingMetrics.startRequestTimer(subject);
-    final byte[] payload = message.payload();
-    messagingMetrics.observeRequestSize(toAddress, subject, payload == null ? 0 : payload.length);
+    messagingMetrics.observeRequestSize(toAddress, subject, message.payloadLength());
 
     responseFuture.whenComplete(
         (success, failure) -> {
@@ -17,6 +17,7 @@
 package io.atomix.cluster.messaging.impl;
 
 import io.atomix.cluster.messaging.impl.ProtocolReply.Status;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import java.util.Optional;
 
@@ -37,4 +38,10 @@ final class RemoteServerConnection extends AbstractServerConnection {
         new ProtocolReply(messageId, payload.orElse(EMPTY_PAYLOAD), status);
     channel.writeAndFlush(response, channel.voidPromise());
   }
+
+  @Override
+  public void reply(final long messageId, final Status status, final ByteBuf payload) {
+    final ProtocolReply response = new ProtocolReply(messageId, payload, status);
+    channel.writeAndFlush(response).addListener(ignored -> response.releasePayload());
+  }
 }
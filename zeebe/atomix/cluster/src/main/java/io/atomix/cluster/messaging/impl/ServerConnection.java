@@ -16,6 +16,7 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.netty.buffer.ByteBuf;
 import java.util.Optional;
 
 /** Server-side connection interface which handles replying to messages. */
@@ -30,6 +31,16 @@ interface ServerConnection extends Connection<ProtocolRequest> {
    */
   void reply(long messageId, ProtocolReply.Status status, Optional<byte[]> payload);
 
+  /**
+   * Sends a reply to the other side of the connection. Takes ownership of the payload buffer, which
+   * is released once the reply was sent.
+   *
+   * @param messageId the message to which to reply
+   * @param status the reply status
+   * @param payload the response payload
+   */
+  void reply(long messageId, ProtocolReply.Status status, ByteBuf payload);
+
   /** Closes the connection. */
   @Override
   default void close() {}
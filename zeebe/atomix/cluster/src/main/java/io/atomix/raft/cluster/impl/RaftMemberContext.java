@@ -35,6 +35,7 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final int maxSnapshotChunksInFlight;
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -48,7 +49,8 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
+  private boolean installFailed;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -58,9 +60,11 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxSnapshotChunksInFlight) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
   }
 
   /** Resets the member state. */
@@ -74,7 +78,8 @@ public final class RaftMemberContext {
     inFlightAppendCount = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
+    installFailed = false;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -100,6 +105,12 @@ public final class RaftMemberContext {
       reader.close();
       reader = null;
     }
+    if (snapshotChunkReader != null) {
+      snapshotChunkReader.close();
+      snapshotChunkReader = null;
+      // a new snapshot chunk reader must be opened if the snapshot is sent again
+      nextSnapshotIndex = 0;
+    }
   }
 
   public boolean hasReplicationContext() {
@@ -231,17 +242,48 @@ public final class RaftMemberContext {
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open && !installFailed && inFlightInstallCount < maxSnapshotChunksInFlight;
+  }
+
+  /**
+   * Returns a boolean indicating whether install requests to the member are still awaiting their
+   * response.
+   *
+   * @return Indicates whether install requests to the member are in flight.
+   */
+  public boolean isInstalling() {
+    return inFlightInstallCount > 0;
+  }
+
+  /**
+   * Returns a boolean indicating whether an install request to the member failed while others were
+   * in flight. The responses to those must then be ignored, as the snapshot is sent again from the
+   * last acknowledged chunk once they are all completed.
+   *
+   * @return Indicates whether an install request to the member failed.
+   */
+  public boolean hasInstallFailed() {
+    return installFailed;
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount--;
+    if (inFlightInstallCount == 0) {
+      installFailed = false;
+    }
+  }
+
+  /** Fails an install request to the member, such that no more are sent until all are completed. */
+  public void failInstall() {
+    if (inFlightInstallCount > 0) {
+      installFailed = true;
+    }
   }
 
   /**
@@ -277,7 +319,7 @@ public final class RaftMemberContext {
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
@@ -459,6 +501,10 @@ public final class RaftMemberContext {
   }
 
   public void setSnapshotChunkReader(final SnapshotChunkReader snapshotChunkReader) {
+    // the previous reader may still keep a snapshot file open
+    if (this.snapshotChunkReader != null && this.snapshotChunkReader != snapshotChunkReader) {
+      this.snapshotChunkReader.close();
+    }
     this.snapshotChunkReader = snapshotChunkReader;
   }
 
@@ -0,0 +1,45 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.metrics;
+
+import io.prometheus.client.Histogram;
+
+public final class RaftFlushMetrics extends RaftMetrics {
+  private static final Histogram FLUSH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("log_flush_latency")
+          .help("Time it takes to flush the log to disk, i.e. the fsync latency")
+          .buckets(0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
+  private static final Histogram FLUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("log_flush_batch_size")
+          .help("Number of flush requests which are served by a single flush of the log")
+          .buckets(1, 2, 5, 10, 20, 50, 100, 200, 500)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
+  private final Histogram.Child flushLatency;
+  private final Histogram.Child flushBatchSize;
+
+  public RaftFlushMetrics(final String partitionName) {
+    super(partitionName);
+
+    flushLatency = FLUSH_LATENCY.labels(partitionGroupName, partition);
+    flushBatchSize = FLUSH_BATCH_SIZE.labels(partitionGroupName, partition);
+  }
+
+  public void observeFlush(final long latencyNanos, final int batchSize) {
+    flushLatency.observe(latencyNanos / 1_000_000_000d);
+    flushBatchSize.observe(batchSize);
+  }
+}
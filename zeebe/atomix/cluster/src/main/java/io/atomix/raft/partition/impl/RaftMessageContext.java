@@ -32,6 +32,7 @@ class RaftMessageContext {
   final String joinSubject;
   final String leaveSubject;
   final String installSubject;
+  final String installFileSubject;
   final String transferSubject;
   final String pollSubject;
   final String voteSubject;
@@ -53,6 +54,7 @@ class RaftMessageContext {
     joinSubject = getSubject(prefix, "join");
     leaveSubject = getSubject(prefix, "leave");
     installSubject = getSubject(prefix, "install");
+    installFileSubject = getSubject(prefix, "install-file");
     transferSubject = getSubject(prefix, "transfer");
     pollSubject = getSubject(prefix, "poll");
     voteSubject = getSubject(prefix, "vote");
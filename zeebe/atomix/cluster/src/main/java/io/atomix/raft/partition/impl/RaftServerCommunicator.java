@@ -19,6 +19,8 @@ package io.atomix.raft.partition.impl;
 import com.google.common.base.Preconditions;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.FileSlice;
+import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.raft.metrics.RaftRequestMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
@@ -43,14 +45,23 @@ import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.utils.serializer.Serializer;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /** Raft server protocol that uses a {@link ClusterCommunicationService}. */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  private static final ByteBuffer NO_DATA = ByteBuffer.allocate(0);
+
   private final RaftMessageContext context;
   private final Serializer serializer;
   private final ClusterCommunicationService clusterCommunicator;
@@ -58,6 +69,9 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   private final Duration requestTimeout;
   private final Duration snapshotRequestTimeout;
   private final Duration configurationChangeTimeout;
+  // members which do not handle install requests with chunks sent from their file, e.g. because
+  // they run an older version; those only receive install requests with the chunk as data
+  private final Set<MemberId> legacyInstallMembers = ConcurrentHashMap.newKeySet();
 
   public RaftServerCommunicator(
       final String prefix,
@@ -112,6 +126,52 @@ public class RaftServerCommunicator implements RaftServerProtocol {
     return sendAndReceive(context.installSubject, request, memberId, snapshotRequestTimeout);
   }
 
+  /**
+   * Sends the content of chunks which have a content file straight from that file. The request and
+   * the chunk without its content are encoded as a prefix of the payload, which the file region
+   * then completes; see {@link #encodeFileInstallRequest(InstallRequest, SnapshotChunkImpl)}.
+   * Members which don't handle such requests receive the chunk as data of the request instead.
+   */
+  @Override
+  public CompletableFuture<InstallResponse> install(
+      final MemberId memberId, final InstallRequest request, final SnapshotChunk chunk) {
+    if (chunk.getContentFile() == null || legacyInstallMembers.contains(memberId)) {
+      return RaftServerProtocol.super.install(memberId, request, chunk);
+    }
+
+    final var encodedChunk = new SnapshotChunkImpl(chunk);
+    final var content =
+        new FileSlice(
+            chunk.getContentFile(), chunk.getFileBlockPosition(), chunk.getContentLength());
+    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    return clusterCommunicator
+        .<InstallRequest, InstallResponse>send(
+            context.installFileSubject,
+            request.withData(NO_DATA),
+            r -> encodeFileInstallRequest(r, encodedChunk),
+            content,
+            serializer::decode,
+            memberId,
+            snapshotRequestTimeout)
+        .exceptionallyCompose(
+            error -> {
+              final var cause = error instanceof CompletionException ? error.getCause() : error;
+              if (!(cause instanceof MessagingException.NoRemoteHandler)) {
+                return CompletableFuture.failedFuture(error);
+              }
+
+              // only remember the member if it handles the legacy requests, as neither is
+              // handled while it is not ready to receive snapshots at all
+              return RaftServerProtocol.super
+                  .install(memberId, request, chunk)
+                  .thenApply(
+                      response -> {
+                        legacyInstallMembers.add(memberId);
+                        return response;
+                      });
+            });
+  }
+
   @Override
   public CompletableFuture<TransferResponse> transfer(
       final MemberId memberId, final TransferRequest request) {
@@ -238,11 +298,17 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<InstallRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.installFileSubject,
+        this::decodeFileInstallRequest,
+        handler.<InstallRequest>compose(this::recordReceivedMetrics),
+        serializer::encode);
   }
 
   @Override
   public void unregisterInstallHandler() {
     clusterCommunicator.unsubscribe(context.installSubject);
+    clusterCommunicator.unsubscribe(context.installFileSubject);
   }
 
   @Override
@@ -313,6 +379,32 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         subject, request, serializer::encode, serializer::decode, memberId, timeout);
   }
 
+  /**
+   * Encodes the length of the serialized request, the serialized request, and the chunk without its
+   * content. The latter ends with the length of the content, such that appending the content yields
+   * the encoded chunk.
+   */
+  private byte[] encodeFileInstallRequest(
+      final InstallRequest request, final SnapshotChunkImpl chunk) {
+    final byte[] encodedRequest = serializer.encode(request);
+    final byte[] encodedChunk = chunk.toBytesWithoutContent();
+    return ByteBuffer.allocate(Integer.BYTES + encodedRequest.length + encodedChunk.length)
+        .putInt(encodedRequest.length)
+        .put(encodedRequest)
+        .put(encodedChunk)
+        .array();
+  }
+
+  private InstallRequest decodeFileInstallRequest(final byte[] payload) {
+    final int requestLength = ByteBuffer.wrap(payload).getInt();
+    final int chunkOffset = Integer.BYTES + requestLength;
+    final InstallRequest request =
+        serializer.decode(Arrays.copyOfRange(payload, Integer.BYTES, chunkOffset));
+    // slice, so that the data doesn't expose the request prefix of the payload
+    return request.withData(
+        ByteBuffer.wrap(payload, chunkOffset, payload.length - chunkOffset).slice());
+  }
+
   private <T extends RaftMessage> T recordReceivedMetrics(final T m) {
     metrics.receivedMessage(m.getClass().getSimpleName());
     return m;
@@ -161,6 +161,26 @@ public class InstallRequest extends AbstractRaftRequest {
     return data;
   }
 
+  /**
+   * Returns a copy of this request with the given snapshot data.
+   *
+   * @param data the snapshot data of the copy
+   * @return a copy of this request with the given data
+   */
+  public InstallRequest withData(final ByteBuffer data) {
+    return new InstallRequest(
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        checkNotNull(data, "data cannot be null"),
+        initial,
+        complete);
+  }
+
   /**
    * Returns a boolean value indicating whether this is the last chunk of the snapshot.
    *
@@ -17,6 +17,8 @@
 package io.atomix.raft.protocol;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -78,6 +80,22 @@ public interface RaftServerProtocol {
    */
   CompletableFuture<InstallResponse> install(MemberId memberId, InstallRequest request);
 
+  /**
+   * Sends an install request for the given snapshot chunk to the given node. The chunk is only
+   * encoded as the data of the request when sending it, which allows implementations to send its
+   * content straight from its file; see {@link SnapshotChunk#getContentFile()}. The data of the
+   * given request is replaced.
+   *
+   * @param memberId the node to which to send the request
+   * @param request the request to send
+   * @param chunk the snapshot chunk to send as data of the request
+   * @return a future to be completed with the response
+   */
+  default CompletableFuture<InstallResponse> install(
+      final MemberId memberId, final InstallRequest request, final SnapshotChunk chunk) {
+    return install(memberId, request.withData(new SnapshotChunkImpl(chunk).toByteBuffer()));
+  }
+
   /**
    * Sends a transfer request to the given node.
    *
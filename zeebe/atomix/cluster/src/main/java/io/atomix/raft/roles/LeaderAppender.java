@@ -36,7 +36,6 @@ import io.atomix.raft.protocol.RaftRequest;
 import io.atomix.raft.protocol.RaftResponse;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
-import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.utils.logging.ContextualLoggerFactory;
 import io.atomix.utils.logging.LoggerContext;
@@ -63,6 +62,7 @@ import org.slf4j.Logger;
 final class LeaderAppender {
 
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
+  private static final ByteBuffer NO_SNAPSHOT_DATA = ByteBuffer.allocate(0);
 
   private final int maxBatchSizePerAppend;
   private final Logger log;
@@ -78,6 +78,10 @@ final class LeaderAppender {
   private final long heartbeatTime;
   private final int minStepDownFailureCount;
   private final long maxQuorumResponseTimeout;
+  // the index up to which the leader's log is known to be flushed, and up to which a flush was
+  // requested; entries are only committed once they are flushed
+  private long flushedIndex;
+  private long requestedFlushIndex;
 
   LeaderAppender(final LeaderRole leader) {
     raft = checkNotNull(leader.raft, "context cannot be null");
@@ -378,10 +382,15 @@ final class LeaderAppender {
     appendEntries(member);
   }
 
-  /** Builds an install request for the given member. */
-  private Optional<InstallRequest> buildInstallRequest(
+  /** Builds an install request for the next snapshot chunk of the given member. */
+  private Optional<InstallChunkRequest> buildInstallRequest(
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
+      if (member.isInstalling()) {
+        // wait for the chunks of the previous snapshot before sending the new one
+        return Optional.empty();
+      }
+
       try {
         final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
         member.setSnapshotChunkReader(snapshotChunkReader);
@@ -402,12 +411,16 @@ final class LeaderAppender {
     try {
       // Reader might have advanced to the next chunk already. But if we want to retry a chunk the
       // reader should seek to the chunk. To handle retries and not-retries the same, we seek
-      // always.
-      if (member.getNextSnapshotChunk() != null) {
-        reader.seek(member.getNextSnapshotChunk());
-      } else {
-        // member.getNextSnapshotChunk is null when it is the first chunk.
-        reader.reset();
+      // always, unless chunks are in flight, in which case the reader is already at the chunk
+      // after the last one sent.
+      final boolean initial = !member.isInstalling() && member.getNextSnapshotChunk() == null;
+      if (!member.isInstalling()) {
+        if (member.getNextSnapshotChunk() != null) {
+          reader.seek(member.getNextSnapshotChunk());
+        } else {
+          // member.getNextSnapshotChunk is null when it is the first chunk.
+          reader.reset();
+        }
       }
 
       if (!reader.hasNext()) {
@@ -417,7 +430,8 @@ final class LeaderAppender {
       final SnapshotChunk chunk = reader.next();
 
       // Create the install request, indicating whether this is the last chunk of data based on
-      // the number of bytes remaining in the buffer.
+      // the number of bytes remaining in the buffer. The chunk is only encoded as its data by the
+      // protocol, which may send its content straight from the snapshot file.
       final DefaultRaftMember leader = raft.getLeader();
 
       final InstallRequest request =
@@ -427,13 +441,13 @@ final class LeaderAppender {
               .withIndex(persistedSnapshot.getIndex())
               .withTerm(persistedSnapshot.getTerm())
               .withVersion(persistedSnapshot.version())
-              .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+              .withData(NO_SNAPSHOT_DATA)
               .withChunkId(currentChunkId)
-              .withInitial(member.getNextSnapshotChunk() == null)
+              .withInitial(initial)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
               .build();
-      return Optional.of(request);
+      return Optional.of(new InstallChunkRequest(request, chunk));
     } catch (final UncheckedIOException e) {
       log.warn(
           "Expected to send next chunk of Snapshot {} to {}. But could not read SnapshotChunk. Snapshot may have been deleted. Will retry.",
@@ -448,22 +462,32 @@ final class LeaderAppender {
   }
 
   /** Connects to the member and sends a snapshot request. */
-  private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
+  private void sendInstallRequest(
+      final RaftMemberContext member, final InstallChunkRequest installChunkRequest) {
     // Start the install to the member.
     member.startInstall();
 
     final long timestamp = System.currentTimeMillis();
+    final InstallRequest request = installChunkRequest.request();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
-        .install(member.getMember().memberId(), request)
+        .install(member.getMember().memberId(), request, installChunkRequest.chunk())
         .whenCompleteAsync(
             (response, error) -> {
               if (open) {
+                // Responses to chunks sent after a failed one are stale, as the snapshot is sent
+                // again from the last acknowledged chunk once all of them are completed.
+                final boolean stale = member.hasInstallFailed();
                 // Complete the install to the member.
                 member.completeInstall();
 
-                if (error == null) {
+                if (stale) {
+                  log.trace(
+                      "Ignoring response to {} from {}, as a previous chunk failed",
+                      request,
+                      member.getMember().memberId());
+                } else if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
                   handleInstallResponse(member, request, response, timestamp);
                 } else {
@@ -488,6 +512,7 @@ final class LeaderAppender {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
     }
+    member.failInstall();
 
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
@@ -536,6 +561,7 @@ final class LeaderAppender {
 
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunkId(null);
+    member.failInstall();
   }
 
   /**
@@ -560,9 +586,13 @@ final class LeaderAppender {
     // commit.
     // The updated commit index will be sent to passive/reserve members on heartbeats.
     if (raft.getCluster().isSingleMemberCluster()) {
-      raft.setCommitIndex(index);
-      completeCommits(index);
-      return CompletableFuture.completedFuture(index);
+      commit(index);
+      if (index <= raft.getCommitIndex()) {
+        return CompletableFuture.completedFuture(index);
+      }
+
+      // the log is flushed asynchronously; the future is completed once the entry is committed
+      return appendFutures.computeIfAbsent(index, i -> new CompletableFuture<>());
     }
 
     if (!open) {
@@ -908,8 +938,12 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    // Send chunks until as many are in flight as the member allows
+    Optional<InstallChunkRequest> installRequest;
+    do {
+      installRequest = buildInstallRequest(member, persistedSnapshot);
+      installRequest.ifPresent(request -> sendInstallRequest(member, request));
+    } while (installRequest.isPresent() && member.canInstall());
   }
 
   private void replicateEvents(final RaftMemberContext member) {
@@ -1019,12 +1053,62 @@ final class LeaderAppender {
     if (commitIndex > 0
         && commitIndex > previousCommitIndex
         && (leaderIndex > 0 && commitIndex >= leaderIndex)) {
+      commit(commitIndex);
+    }
+  }
+
+  /**
+   * Commits entries up to the given index, as far as the leader's log is flushed. The leader counts
+   * itself in the quorum, so in order to commit the leader must persist. If the log is flushed
+   * asynchronously, the remaining entries are committed once the flush is done.
+   */
+  private void commit(final long index) {
+    if (index > flushedIndex && index > requestedFlushIndex) {
+      flushLog();
+    }
+
+    final long commitIndex = Math.min(index, flushedIndex);
+    if (commitIndex > raft.getCommitIndex() && commitIndex >= leaderIndex) {
       log.trace("Committed entries up to {}", commitIndex);
       raft.setCommitIndex(commitIndex);
       completeCommits(commitIndex);
     }
   }
 
+  private void flushLog() {
+    final long lastIndex = raft.getLog().getLastIndex();
+    requestedFlushIndex = lastIndex;
+
+    final var flushed = raft.getLog().flush();
+    if (flushed.isDone() && !flushed.isCompletedExceptionally()) {
+      flushedIndex = lastIndex;
+      return;
+    }
+
+    flushed.whenCompleteAsync(
+        (ignored, error) -> onLogFlushed(lastIndex, error), raft.getThreadContext());
+  }
+
+  private void onLogFlushed(final long index, final Throwable error) {
+    if (!open) {
+      return;
+    }
+
+    if (error != null) {
+      log.warn(
+          "Failed to flush the log up to index {}, will retry on the next commit", index, error);
+      requestedFlushIndex = flushedIndex;
+      return;
+    }
+
+    flushedIndex = Math.max(flushedIndex, index);
+    if (raft.getCluster().isSingleMemberCluster()) {
+      commit(raft.getLog().getLastIndex());
+    } else {
+      commitEntries();
+    }
+  }
+
   private long computeResponseTime() {
     return raft.getCluster()
         .getQuorumFor(RaftMemberContext::getResponseTime)
@@ -1067,4 +1151,7 @@ final class LeaderAppender {
       this.timestamp = timestamp;
     }
   }
+
+  /** An install request together with the snapshot chunk to send as its data. */
+  private record InstallChunkRequest(InstallRequest request, SnapshotChunk chunk) {}
 }
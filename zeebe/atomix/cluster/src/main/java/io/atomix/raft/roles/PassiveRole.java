@@ -61,6 +61,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /** Passive state. */
@@ -762,27 +763,55 @@ public class PassiveRole extends InactiveRole {
       log.trace("Committed entries up to index {}", commitIndex);
     }
 
+    final CompletableFuture<Void> flushed;
     try {
       //     Make sure all entries are flushed before ack to ensure we have persisted what we
       //     acknowledge
-      flush(lastLogIndex, request.prevLogIndex());
+      flushed = flush(lastLogIndex, request.prevLogIndex());
     } catch (final Exception e) {
-      log.warn(
-          "Failed to flush appended entries to the log, cannot guarantee durability; leader will retry the append operation",
-          e);
-      // Flush failed, return error to the leader so we can retry.
-      failAppend(request.prevLogIndex(), future);
+      failAppendOnFlushError(request, future, e);
       return;
     }
 
-    // Return a successful append response.
-    succeedAppend(lastLogIndex, future);
+    // Return a successful append response once the entries are flushed. If the flusher completes
+    // the flush asynchronously, the response is sent from the Raft thread once it is done.
+    final long flushedIndex = lastLogIndex;
+    final BiConsumer<Void, Throwable> respond =
+        (ignored, error) -> {
+          if (error != null) {
+            failAppendOnFlushError(request, future, error);
+          } else {
+            succeedAppend(flushedIndex, future);
+          }
+        };
+    if (flushed.isDone()) {
+      flushed.whenComplete(respond);
+    } else {
+      flushed.whenCompleteAsync(respond, raft.getThreadContext());
+    }
+  }
+
+  private void failAppendOnFlushError(
+      final InternalAppendRequest request,
+      final CompletableFuture<AppendResponse> future,
+      final Throwable error) {
+    log.warn(
+        "Failed to flush appended entries to the log, cannot guarantee durability; leader will retry the append operation",
+        error);
+    // Flush failed, return error to the leader so we can retry.
+    failAppend(request.prevLogIndex(), future);
   }
 
-  private void flush(final long lastFlushedIndex, final long previousEntryIndex) {
+  private CompletableFuture<Void> flush(
+      final long lastFlushedIndex, final long previousEntryIndex) {
     if (lastFlushedIndex > previousEntryIndex) {
-      raft.getLog().flush();
+      return raft.getLog().flush();
     }
+
+    // nothing was appended, but the entries acknowledged with the response may still be flushed by
+    // a previous request; if that one failed, they must be flushed again
+    final var lastFlush = raft.getLog().lastFlush();
+    return lastFlush.isCompletedExceptionally() ? raft.getLog().flush() : lastFlush;
   }
 
   private boolean tryToAppend(
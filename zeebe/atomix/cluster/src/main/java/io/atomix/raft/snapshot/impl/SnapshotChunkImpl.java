@@ -30,6 +30,8 @@ public final class SnapshotChunkImpl
   private final SnapshotChunkEncoder encoder = new SnapshotChunkEncoder();
   private final SnapshotChunkDecoder decoder = new SnapshotChunkDecoder();
   private final DirectBuffer content = new UnsafeBuffer(0, 0);
+  // a chunk whose content is in its file, and is only read once it is needed
+  private SnapshotChunk unreadContent;
   private String snapshotId;
   private int totalCount;
   private String chunkName;
@@ -44,7 +46,11 @@ public final class SnapshotChunkImpl
     totalCount = chunk.getTotalCount();
     chunkName = chunk.getChunkName();
     checksum = chunk.getChecksum();
-    content.wrap(chunk.getContent());
+    if (chunk.getContentFile() != null) {
+      unreadContent = chunk;
+    } else {
+      content.wrap(chunk.getContent());
+    }
     fileBlockPosition = chunk.getFileBlockPosition();
     totalFileSize = chunk.getTotalFileSize();
   }
@@ -71,6 +77,7 @@ public final class SnapshotChunkImpl
     snapshotId = "";
     chunkName = "";
     content.wrap(0, 0);
+    unreadContent = null;
   }
 
   @Override
@@ -81,24 +88,48 @@ public final class SnapshotChunkImpl
         + SnapshotChunkEncoder.chunkNameHeaderLength()
         + chunkName.length()
         + SnapshotChunkEncoder.contentHeaderLength()
-        + content.capacity();
+        + getContentLength();
   }
 
   @Override
   public void write(final MutableDirectBuffer buffer, final int offset) {
+    final DirectBuffer chunkContent = content();
+    writeWithoutContent(buffer, offset).putContent(chunkContent, 0, chunkContent.capacity());
+  }
+
+  /**
+   * Encodes the chunk without its content, i.e. up to and including the length of the content. The
+   * content has to follow right after to form a complete chunk, which allows sending it separately,
+   * e.g. straight from its file.
+   *
+   * @return the encoded chunk without its content
+   */
+  public byte[] toBytesWithoutContent() {
+    final int contentLength = getContentLength();
+    final byte[] bytes = new byte[getLength() - contentLength];
+    final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
+    writeWithoutContent(buffer, 0);
+    buffer.putInt(
+        bytes.length - SnapshotChunkEncoder.contentHeaderLength(),
+        contentLength,
+        SnapshotChunkEncoder.BYTE_ORDER);
+    return bytes;
+  }
+
+  private SnapshotChunkEncoder writeWithoutContent(
+      final MutableDirectBuffer buffer, final int offset) {
     super.write(buffer, offset);
 
     // The snapshot checksum is 0 for backwards compatibility reasons, when sending chunk data to
     // brokers on older versions which checks on the snapshot checksum.
-    encoder
+    return encoder
         .totalCount(totalCount)
         .fileBlockPosition(fileBlockPosition)
         .totalFileSize(totalFileSize)
         .snapshotId(snapshotId)
         .chunkName(chunkName)
         .checksum(checksum)
-        .snapshotChecksum(0)
-        .putContent(content, 0, content.capacity());
+        .snapshotChecksum(0);
   }
 
   @Override
@@ -139,7 +170,12 @@ public final class SnapshotChunkImpl
 
   @Override
   public byte[] getContent() {
-    return BufferUtil.bufferAsArray(content);
+    return BufferUtil.bufferAsArray(content());
+  }
+
+  @Override
+  public int getContentLength() {
+    return unreadContent != null ? unreadContent.getContentLength() : content.capacity();
   }
 
   @Override
@@ -156,12 +192,21 @@ public final class SnapshotChunkImpl
   public long getTotalFileSize() {
     // backwards comptability
     if (totalFileSize == SnapshotChunkDecoder.totalFileSizeNullValue()) {
-      return getContent().length;
+      return getContentLength();
     }
 
     return totalFileSize;
   }
 
+  private DirectBuffer content() {
+    if (unreadContent != null) {
+      content.wrap(unreadContent.getContent());
+      unreadContent = null;
+    }
+
+    return content;
+  }
+
   @Override
   public String toString() {
     return "SnapshotChunkImpl{"
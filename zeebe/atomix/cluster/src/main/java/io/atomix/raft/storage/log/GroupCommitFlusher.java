@@ -0,0 +1,195 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.metrics.RaftFlushMetrics;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which adapts the flush rate to the load, by
+ * coalescing the calls to {@link #flushAsync(Journal)} into group commits. Flushes are performed
+ * asynchronously on the given scheduler, which is expected to be single threaded:
+ *
+ * <ul>
+ *   <li>if no flush is in flight, a flush is scheduled right away, i.e. when idle, data is flushed
+ *       without any delay
+ *   <li>if a flush is in flight, all calls made until it completes are coalesced into a single
+ *       follow-up flush; the follow-up flush starts once the flush in flight completed, but waits
+ *       until the first coalesced call is at least {@code maxWait} old to coalesce more calls
+ * </ul>
+ *
+ * <p>As such, the flush covering a call starts at the latest after {@code maxWait}, or once the
+ * flush in flight completed if that takes longer. Under load, the number of flushes is then bound
+ * by the disk's flush latency instead of the number of appends. The flush latency and the number of
+ * calls coalesced by each flush are recorded in the given {@link RaftFlushMetrics}.
+ *
+ * <p>The future returned by {@link #flushAsync(Journal)} is completed once a flush covering the
+ * call completed. Raft waits for it before acknowledging appended entries and before committing
+ * them as leader, so this provides the same durability guarantees as the {@link
+ * RaftLogFlusher.DirectFlusher}, without blocking the Raft thread. Failed flushes are retried until
+ * they succeed; if the flusher is closed first, the pending futures are completed exceptionally.
+ *
+ * <p>NOTE: like {@link DelayedFlusher}, this class is expected to be called from the same thread as
+ * the journal write path, e.g. the Raft thread.
+ */
+public final class GroupCommitFlusher implements RaftLogFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitFlusher.class);
+  private static final Duration RETRY_DELAY = Duration.ofMillis(100);
+
+  private final Scheduler scheduler;
+  private final Duration maxWait;
+  private final RaftFlushMetrics metrics;
+
+  private final Object scheduledMonitor = new Object();
+  private Scheduled scheduledFlush;
+  private boolean flushInFlight;
+  private List<CompletableFuture<Void>> pendingRequests = new ArrayList<>();
+  private long firstPendingRequestNanos;
+
+  private boolean closed;
+
+  public GroupCommitFlusher(
+      final Scheduler scheduler, final Duration maxWait, final RaftFlushMetrics metrics) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify a scheduler");
+    this.maxWait = Objects.requireNonNull(maxWait, "must specify a max wait");
+    this.metrics = Objects.requireNonNull(metrics, "must specify flush metrics");
+  }
+
+  @Override
+  public void flush(final Journal journal) {
+    flushAsync(journal);
+  }
+
+  @Override
+  public CompletableFuture<Void> flushAsync(final Journal journal) {
+    final var request = new CompletableFuture<Void>();
+    synchronized (scheduledMonitor) {
+      if (closed) {
+        LOGGER.debug("Skipped scheduling flush due to flusher being closed");
+        request.completeExceptionally(new IllegalStateException("The flusher is closed"));
+        return request;
+      }
+
+      if (pendingRequests.isEmpty()) {
+        firstPendingRequestNanos = System.nanoTime();
+      }
+      pendingRequests.add(request);
+
+      if (!flushInFlight) {
+        scheduleFlush(journal, Duration.ZERO);
+      } else {
+        LOGGER.trace("Coalescing flush with the follow-up flush of the flush in flight");
+      }
+    }
+
+    return request;
+  }
+
+  @Override
+  public void close() {
+    final List<CompletableFuture<Void>> abortedRequests;
+    synchronized (scheduledMonitor) {
+      closed = true;
+
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+        scheduledFlush = null;
+      }
+
+      abortedRequests = pendingRequests;
+      pendingRequests = new ArrayList<>();
+    }
+
+    final var error = new IllegalStateException("The flusher was closed before flushing");
+    abortedRequests.forEach(request -> request.completeExceptionally(error));
+    scheduler.close();
+  }
+
+  private void scheduleFlush(final Journal journal, final Duration delay) {
+    synchronized (scheduledMonitor) {
+      if (closed) {
+        LOGGER.debug("Skipped scheduling flush due to flusher being closed");
+        return;
+      }
+
+      if (scheduledFlush == null) {
+        LOGGER.trace("Scheduling flush up to index {} in {}", journal.getLastIndex(), delay);
+        scheduledFlush = scheduler.schedule(delay, () -> asyncFlush(journal));
+      } else {
+        LOGGER.trace("Coalescing flush with the pending, scheduled flush");
+      }
+    }
+  }
+
+  private void scheduleFollowUpFlush(final Journal journal) {
+    final var waited = Duration.ofNanos(System.nanoTime() - firstPendingRequestNanos);
+    final var remainingWait = maxWait.minus(waited);
+    scheduleFlush(journal, remainingWait.isNegative() ? Duration.ZERO : remainingWait);
+  }
+
+  private void asyncFlush(final Journal journal) {
+    final List<CompletableFuture<Void>> flushedRequests;
+    synchronized (scheduledMonitor) {
+      scheduledFlush = null;
+      flushInFlight = true;
+      flushedRequests = pendingRequests;
+      pendingRequests = new ArrayList<>();
+    }
+
+    try {
+      final long startTime = System.nanoTime();
+      journal.flush();
+      metrics.observeFlush(System.nanoTime() - startTime, flushedRequests.size());
+    } catch (final JournalException | UncheckedIOException e) {
+      LOGGER.warn("Failed to flush journal, operation will be retried after {}", RETRY_DELAY, e);
+      synchronized (scheduledMonitor) {
+        flushInFlight = false;
+        flushedRequests.addAll(pendingRequests);
+        pendingRequests = flushedRequests;
+        scheduleFlush(journal, RETRY_DELAY);
+      }
+      return;
+    }
+
+    flushedRequests.forEach(request -> request.complete(null));
+    synchronized (scheduledMonitor) {
+      flushInFlight = false;
+      if (!pendingRequests.isEmpty()) {
+        scheduleFollowUpFlush(journal);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "GroupCommitFlusher{"
+        + "scheduler="
+        + scheduler
+        + ", maxWait="
+        + maxWait
+        + ", scheduledFlush="
+        + scheduledFlush
+        + ", flushInFlight="
+        + flushInFlight
+        + ", pendingRequests="
+        + pendingRequests.size()
+        + '}';
+  }
+}
@@ -42,16 +42,25 @@ record IndexedRaftLogEntryImpl(long index, long term, RaftEntry entry, JournalRe
 
   @Override
   public PersistedRaftRecord getPersistedRaftRecord() {
+    return toPersistedRaftRecord(term, record);
+  }
+
+  @Override
+  public ReplicatableJournalRecord getReplicatableJournalRecord() {
+    return toReplicatableJournalRecord(term, record);
+  }
+
+  static PersistedRaftRecord toPersistedRaftRecord(final long term, final JournalRecord record) {
     final byte[] serializedRaftLogEntry = new byte[record.data().capacity()];
     record.data().getBytes(0, serializedRaftLogEntry);
     return new PersistedRaftRecord(
-        term, index, record.asqn(), record.checksum(), serializedRaftLogEntry);
+        term, record.index(), record.asqn(), record.checksum(), serializedRaftLogEntry);
   }
 
-  @Override
-  public ReplicatableJournalRecord getReplicatableJournalRecord() {
+  static ReplicatableJournalRecord toReplicatableJournalRecord(
+      final long term, final JournalRecord record) {
     final byte[] serializedRecord = new byte[record.serializedRecord().capacity()];
     record.serializedRecord().getBytes(0, serializedRecord);
-    return new ReplicatableJournalRecord(term, index, record.checksum(), serializedRecord);
+    return new ReplicatableJournalRecord(term, record.index(), record.checksum(), serializedRecord);
   }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.protocol.PersistedRaftRecord;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.storage.log.entry.ApplicationEntry;
+import io.atomix.raft.storage.log.entry.RaftEntry;
+import io.atomix.raft.storage.serializer.RaftEntrySerializer;
+import io.camunda.zeebe.journal.JournalRecord;
+import java.util.Objects;
+
+/**
+ * An indexed entry which only decodes the {@link RaftEntry} from the written journal record when it
+ * is first accessed. Entries replicated to a follower are appended as already serialized records,
+ * and are most of the time never read back through the returned entry, so this saves decoding every
+ * replicated entry a second time.
+ *
+ * <p>Like the {@link RaftLog} itself, this is not thread safe, since the entry is decoded with the
+ * log's serializer.
+ */
+final class LazyIndexedRaftLogEntry implements IndexedRaftLogEntry {
+  private final long term;
+  private final JournalRecord record;
+  private final RaftEntrySerializer serializer;
+  private RaftEntry entry;
+
+  LazyIndexedRaftLogEntry(
+      final long term, final JournalRecord record, final RaftEntrySerializer serializer) {
+    this.term = term;
+    this.record = record;
+    this.serializer = serializer;
+  }
+
+  @Override
+  public long index() {
+    return record.index();
+  }
+
+  @Override
+  public long term() {
+    return term;
+  }
+
+  @Override
+  public RaftEntry entry() {
+    if (entry == null) {
+      entry = serializer.readRaftLogEntry(record.data()).entry();
+    }
+
+    return entry;
+  }
+
+  @Override
+  public boolean isApplicationEntry() {
+    return entry() instanceof ApplicationEntry;
+  }
+
+  @Override
+  public ApplicationEntry getApplicationEntry() {
+    return (ApplicationEntry) entry();
+  }
+
+  @Override
+  public PersistedRaftRecord getPersistedRaftRecord() {
+    return IndexedRaftLogEntryImpl.toPersistedRaftRecord(term, record);
+  }
+
+  @Override
+  public ReplicatableJournalRecord getReplicatableJournalRecord() {
+    return IndexedRaftLogEntryImpl.toReplicatableJournalRecord(term, record);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(index(), term, record);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final LazyIndexedRaftLogEntry that = (LazyIndexedRaftLogEntry) o;
+    return term == that.term && Objects.equals(record, that.record);
+  }
+
+  @Override
+  public String toString() {
+    return "LazyIndexedRaftLogEntry{"
+        + "index="
+        + index()
+        + ", term="
+        + term
+        + ", entry="
+        + entry()
+        + ", record="
+        + record
+        + '}';
+  }
+}
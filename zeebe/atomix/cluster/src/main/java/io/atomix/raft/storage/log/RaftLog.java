@@ -29,6 +29,7 @@ import io.camunda.zeebe.journal.JournalRecord;
 import java.io.Closeable;
 import java.nio.file.Path;
 import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +43,7 @@ public final class RaftLog implements Closeable {
   private final RaftLogFlusher flusher;
   private IndexedRaftLogEntry lastAppendedEntry;
   private volatile long commitIndex;
+  private CompletableFuture<Void> lastFlush = CompletableFuture.completedFuture(null);
 
   RaftLog(final Journal journal, final RaftLogFlusher flusher) {
     this.journal = journal;
@@ -155,16 +157,15 @@ public final class RaftLog implements Closeable {
   public IndexedRaftLogEntry append(final PersistedRaftRecord entry) {
     journal.append(entry);
 
-    final RaftLogEntry raftEntry = serializer.readRaftLogEntry(entry.data());
-    lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), raftEntry.entry(), entry);
+    lastAppendedEntry = new LazyIndexedRaftLogEntry(entry.term(), entry, serializer);
     return lastAppendedEntry;
   }
 
   public IndexedRaftLogEntry append(final ReplicatableJournalRecord entry) {
     final var writtenRecord = journal.append(entry.checksum(), entry.serializedJournalRecord());
 
-    final RaftLogEntry raftEntry = serializer.readRaftLogEntry(writtenRecord.data());
-    lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), raftEntry.entry(), writtenRecord);
+    // the entry is only decoded if it is read, which followers rarely do
+    lastAppendedEntry = new LazyIndexedRaftLogEntry(entry.term(), writtenRecord, serializer);
     return lastAppendedEntry;
   }
 
@@ -204,9 +205,23 @@ public final class RaftLog implements Closeable {
   /**
    * Flushes the underlying journal using the configured flushing strategy. For guarantees, refer to
    * the configured {@link RaftLogFlusher}.
+   *
+   * @return a future which is completed once the data appended until now is flushed, see {@link
+   *     RaftLogFlusher#flushAsync(Journal)}
+   */
+  public CompletableFuture<Void> flush() {
+    lastFlush = flusher.flushAsync(journal);
+    return lastFlush;
+  }
+
+  /**
+   * Returns the future of the last call to {@link #flush()}, such that callers can wait for data
+   * which was appended before that call without requesting another flush.
+   *
+   * @return a future which is completed once the last requested flush is done
    */
-  public void flush() {
-    flusher.flush(journal);
+  public CompletableFuture<Void> lastFlush() {
+    return lastFlush;
   }
 
   /**
@@ -10,6 +10,7 @@ package io.atomix.raft.storage.log;
 import io.atomix.utils.concurrent.ThreadContextFactory;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.util.CloseableSilently;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Configurable flush strategy for the {@link io.atomix.raft.storage.log.RaftLog}. You can use its
@@ -27,6 +28,11 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupCommitFlusher} adapts to the load instead of using a fixed delay: it flushes right
+ * away when idle, and coalesces all flush requests made while a flush is in flight into a single
+ * follow-up flush. As Raft waits for its flushes to complete before acknowledging or committing
+ * entries, it is as safe as {@link DirectFlusher}.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -39,6 +45,22 @@ public interface RaftLogFlusher extends CloseableSilently {
    */
   void flush(final Journal journal);
 
+  /**
+   * Signals that there is data to be flushed in the journal, and returns a future which is
+   * completed once the guarantees offered by the implementation hold for the data written before
+   * the call. Raft waits for it before acknowledging or committing entries.
+   *
+   * <p>By default, this calls {@link #flush(Journal)} and returns a completed future, i.e. it does
+   * not wait for implementations which defer the flush.
+   *
+   * @param journal the journal to flush
+   * @return a future which is completed once the data written before the call is flushed
+   */
+  default CompletableFuture<Void> flushAsync(final Journal journal) {
+    flush(journal);
+    return CompletableFuture.completedFuture(null);
+  }
+
   /**
    * If this returns true, then any calls to {@link #flush(Journal)} are synchronous and immediate,
    * and any guarantees offered by the implementation will hold after a call to {@link
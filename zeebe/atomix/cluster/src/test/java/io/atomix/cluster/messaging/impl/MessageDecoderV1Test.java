@@ -47,6 +47,20 @@ public class MessageDecoderV1Test {
     assertEquals(10, MessageDecoderV1.readLong(buffer));
   }
 
+  @Test
+  public void testDecodeLengthPrefixedString() throws Exception {
+    final String value = "command-api-\u00e9\u4e2d";
+    final ByteBuf buffer = Unpooled.buffer(1);
+    try {
+      MessageEncoderV1.writeString(buffer, value);
+      final int length = buffer.readShort();
+      assertEquals(value.getBytes(StandardCharsets.UTF_8).length, length);
+      assertEquals(value, MessageDecoderV1.readString(buffer, length));
+    } finally {
+      buffer.release();
+    }
+  }
+
   @Test
   public void testReadStringFromHeapBuffer() throws Exception {
     final String payload = "huuhaa";
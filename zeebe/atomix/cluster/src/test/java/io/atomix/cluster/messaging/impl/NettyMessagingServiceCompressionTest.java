@@ -17,13 +17,18 @@ package io.atomix.cluster.messaging.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.atomix.cluster.messaging.FileSlice;
 import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingConfig;
 import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.test.util.socket.SocketUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
@@ -73,4 +78,49 @@ class NettyMessagingServiceCompressionTest {
     senderNetty.stop();
     receiverNetty.stop();
   }
+
+  @ParameterizedTest
+  @EnumSource(CompressionAlgorithm.class)
+  void shouldSendFileTrailerWhenCompressionEnabled(
+      final CompressionAlgorithm algorithm, @TempDir final Path tempDir) throws IOException {
+    // given
+    var nextAddress = SocketUtil.getNextAddress();
+    final var senderAddress = Address.from(nextAddress.getHostName(), nextAddress.getPort());
+    final var config =
+        new MessagingConfig()
+            .setShutdownQuietPeriod(Duration.ofMillis(50))
+            .setCompressionAlgorithm(algorithm);
+
+    final var senderNetty =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", senderAddress, config).start().join();
+
+    nextAddress = SocketUtil.getNextAddress();
+    final var receiverAddress = Address.from(nextAddress.getHostName(), nextAddress.getPort());
+    final var receiverNetty =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", receiverAddress, config).start().join();
+
+    final String subject = "subject";
+    final var file = Files.writeString(tempDir.resolve("file"), "--world--");
+    receiverNetty.registerHandler(
+        subject, (m, payload) -> CompletableFuture.completedFuture(payload));
+
+    // when
+    final CompletableFuture<byte[]> response =
+        senderNetty.sendAndReceive(
+            receiverAddress,
+            subject,
+            "hello ".getBytes(),
+            new FileSlice(file, 2, 5),
+            Duration.ofSeconds(5));
+
+    // then
+    final var result = response.join();
+    assertThat(new String(result)).isEqualTo("hello world");
+
+    // teardown
+    senderNetty.stop();
+    receiverNetty.stop();
+  }
 }
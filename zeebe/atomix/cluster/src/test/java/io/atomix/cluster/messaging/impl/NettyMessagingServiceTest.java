@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.Uninterruptibles;
 import com.sun.security.auth.module.UnixSystem;
+import io.atomix.cluster.messaging.FileSlice;
 import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingConfig;
 import io.atomix.cluster.messaging.MessagingException;
@@ -29,6 +30,8 @@ import io.camunda.zeebe.test.util.junit.AutoCloseResources;
 import io.camunda.zeebe.test.util.junit.AutoCloseResources.AutoCloseResource;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
 import io.camunda.zeebe.test.util.socket.SocketUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import java.io.IOException;
 import java.net.ConnectException;
 import java.nio.file.Files;
@@ -50,6 +53,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 import org.agrona.collections.MutableReference;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -57,6 +61,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnOs;
 import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 
 /** Netty messaging service test. */
 @AutoCloseResources
@@ -420,6 +425,185 @@ final class NettyMessagingServiceTest {
       }
     }
 
+    @Test
+    void shouldSendAndReceiveWithBufferPayload() {
+      // given
+      final var subject = nextSubject();
+      final var payload = newBuffer("hello world");
+      netty2.registerHandler(subject, (address, bytes) -> CompletableFuture.completedFuture(bytes));
+
+      // when
+      final var response =
+          netty1.sendAndReceive(netty2.address(), subject, payload, Duration.ofSeconds(5));
+
+      // then
+      assertThat(response.join()).isEqualTo("hello world".getBytes());
+      Awaitility.await("payload is released once sent").until(() -> payload.refCnt() == 0);
+    }
+
+    @Test
+    void shouldSendAndReceiveWithBufferPayloadLocally() {
+      // given
+      final var subject = nextSubject();
+      final var payload = newBuffer("hello world");
+      netty1.registerHandler(subject, (address, bytes) -> CompletableFuture.completedFuture(bytes));
+
+      // when
+      final var response =
+          netty1.sendAndReceive(netty1.address(), subject, payload, Duration.ofSeconds(5));
+
+      // then
+      assertThat(response.join()).isEqualTo("hello world".getBytes());
+      assertThat(payload.refCnt()).isZero();
+    }
+
+    @Test
+    void shouldSendAndReceiveWithFileTrailer(@TempDir final Path tempDir) throws IOException {
+      // given
+      final var subject = nextSubject();
+      final var file = Files.writeString(tempDir.resolve("file"), "--world--");
+      netty2.registerHandler(subject, (address, bytes) -> CompletableFuture.completedFuture(bytes));
+
+      // when
+      final var response =
+          netty1.sendAndReceive(
+              netty2.address(),
+              subject,
+              "hello ".getBytes(),
+              new FileSlice(file, 2, 5),
+              Duration.ofSeconds(5));
+
+      // then
+      assertThat(response.join()).asString().isEqualTo("hello world");
+    }
+
+    @Test
+    void shouldSendAndReceiveWithFileTrailerLocally(@TempDir final Path tempDir)
+        throws IOException {
+      // given
+      final var subject = nextSubject();
+      final var file = Files.writeString(tempDir.resolve("file"), "--world--");
+      netty1.registerHandler(subject, (address, bytes) -> CompletableFuture.completedFuture(bytes));
+
+      // when
+      final var response =
+          netty1.sendAndReceive(
+              netty1.address(),
+              subject,
+              "hello ".getBytes(),
+              new FileSlice(file, 2, 5),
+              Duration.ofSeconds(5));
+
+      // then
+      assertThat(response.join()).asString().isEqualTo("hello world");
+    }
+
+    @Test
+    void shouldFailIfFileTrailerCannotBeSent(@TempDir final Path tempDir) {
+      // given
+      final var subject = nextSubject();
+      netty2.registerHandler(subject, (address, bytes) -> CompletableFuture.completedFuture(bytes));
+
+      // when
+      final var response =
+          netty1.sendAndReceive(
+              netty2.address(),
+              subject,
+              "hello ".getBytes(),
+              new FileSlice(tempDir.resolve("missing"), 0, 5),
+              Duration.ofSeconds(5));
+
+      // then
+      assertThat(response).failsWithin(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void shouldReleaseBufferPayloadIfNotSent() {
+      // given
+      final var subject = nextSubject();
+      final var payload = newBuffer("hello world");
+
+      // when
+      final var response =
+          netty1.sendAndReceive(newAddress(), subject, payload, Duration.ofSeconds(5));
+
+      // then
+      assertThat(response).failsWithin(Duration.ofSeconds(10));
+      Awaitility.await("payload is released").until(() -> payload.refCnt() == 0);
+    }
+
+    @Test
+    void shouldReleaseBufferPayloadIfServiceIsClosed() {
+      // given
+      final var subject = nextSubject();
+      final var payload = newBuffer("hello world");
+      netty1.stop().join();
+
+      // when
+      final var response =
+          netty1.sendAndReceive(netty2.address(), subject, payload, Duration.ofSeconds(5));
+
+      // then
+      assertThat(response).isCompletedExceptionally();
+      assertThat(payload.refCnt()).isZero();
+    }
+
+    @Test
+    void shouldReplyWithBufferPayload() {
+      // given
+      final var subject = nextSubject();
+      final var reply = newBuffer("hello there");
+      netty2.registerBufferHandler(
+          subject, (address, bytes) -> CompletableFuture.completedFuture(reply));
+
+      // when
+      final var response = netty1.sendAndReceive(netty2.address(), subject, "hello".getBytes());
+
+      // then
+      assertThat(response.join()).isEqualTo("hello there".getBytes());
+      Awaitility.await("reply is released once sent").until(() -> reply.refCnt() == 0);
+    }
+
+    @Test
+    void shouldReplyWithBufferPayloadLocally() {
+      // given
+      final var subject = nextSubject();
+      final var reply = newBuffer("hello there");
+      netty1.registerBufferHandler(
+          subject, (address, bytes) -> CompletableFuture.completedFuture(reply));
+
+      // when
+      final var response = netty1.sendAndReceive(netty1.address(), subject, "hello".getBytes());
+
+      // then
+      assertThat(response.join()).isEqualTo("hello there".getBytes());
+      assertThat(reply.refCnt()).isZero();
+    }
+
+    @Test
+    void shouldReplyWithHandlerFailureOfBufferHandler() {
+      // given
+      final var subject = nextSubject();
+      netty2.registerBufferHandler(
+          subject,
+          (address, bytes) -> CompletableFuture.failedFuture(new RuntimeException("foo bar")));
+
+      // when
+      final var response = netty1.sendAndReceive(netty2.address(), subject, "hello".getBytes());
+
+      // then
+      assertThat(response)
+          .failsWithin(Duration.ofSeconds(10))
+          .withThrowableOfType(ExecutionException.class)
+          .havingCause()
+          .isInstanceOf(MessagingException.RemoteHandlerFailure.class)
+          .withMessageContaining("foo bar");
+    }
+
+    private ByteBuf newBuffer(final String content) {
+      return PooledByteBufAllocator.DEFAULT.buffer().writeBytes(content.getBytes());
+    }
+
     @Test
     @Disabled
     void testSendAndReceiveWithExecutor() {
@@ -23,6 +23,8 @@ import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.atomix.cluster.messaging.MessagingService;
 import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import java.net.ConnectException;
 import java.time.Duration;
 import java.util.Collection;
@@ -190,6 +192,16 @@ public class TestMessagingService implements ManagedMessagingService {
     return future;
   }
 
+  @Override
+  public CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final ByteBuf payload,
+      final boolean keepAlive,
+      final Duration timeout) {
+    return sendAndReceive(address, type, copyAndRelease(payload), keepAlive, timeout);
+  }
+
   @Override
   public void registerHandler(
       final String type, final BiConsumer<Address, byte[]> handler, final Executor executor) {
@@ -235,6 +247,23 @@ public class TestMessagingService implements ManagedMessagingService {
     handlers.put(type, handler);
   }
 
+  @Override
+  public void registerBufferHandler(
+      final String type, final BiFunction<Address, byte[], CompletableFuture<ByteBuf>> handler) {
+    checkNotNull(type);
+    checkNotNull(handler);
+    handlers.put(
+        type, (e, p) -> handler.apply(e, p).thenApply(TestMessagingService::copyAndRelease));
+  }
+
+  private static byte[] copyAndRelease(final ByteBuf buffer) {
+    try {
+      return ByteBufUtil.getBytes(buffer);
+    } finally {
+      buffer.release();
+    }
+  }
+
   @Override
   public void unregisterHandler(final String type) {
     handlers.remove(checkNotNull(type));
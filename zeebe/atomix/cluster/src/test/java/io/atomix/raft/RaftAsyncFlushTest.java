@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.RaftServer.Builder;
+import io.atomix.raft.storage.RaftStorage;
+import io.atomix.raft.storage.log.RaftLogFlusher;
+import io.camunda.zeebe.journal.Journal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftAsyncFlushTest {
+
+  private final FlushGate gate = new FlushGate();
+
+  @Rule
+  public RaftRule raftRule = RaftRule.withBootstrappedNodes(3, new GatedFlusherConfigurator(gate));
+
+  @Test
+  public void shouldCommitEntriesOnlyOnceFlushed() throws Throwable {
+    // given
+    raftRule.appendEntry();
+    gate.close();
+
+    // when
+    final var appendListener = raftRule.appendEntryAsync();
+
+    // then
+    assertThatThrownBy(() -> appendListener.awaitCommit(Duration.ofMillis(500)))
+        .isInstanceOf(TimeoutException.class);
+
+    // when
+    gate.open();
+
+    // then
+    final var committedIndex = appendListener.awaitCommit();
+    raftRule.awaitSameLogSizeOnAllNodes(committedIndex);
+    assertThat(committedIndex)
+        .isEqualTo(raftRule.getLeader().orElseThrow().getContext().getCommitIndex());
+  }
+
+  /** Holds back the completion of all flushes while it is closed. */
+  private static final class FlushGate {
+    private final List<CompletableFuture<Void>> pendingFlushes = new ArrayList<>();
+    private boolean closed;
+
+    private synchronized CompletableFuture<Void> flush(final Journal journal) {
+      journal.flush();
+      if (!closed) {
+        return CompletableFuture.completedFuture(null);
+      }
+
+      final var flushed = new CompletableFuture<Void>();
+      pendingFlushes.add(flushed);
+      return flushed;
+    }
+
+    private synchronized void close() {
+      closed = true;
+    }
+
+    private void open() {
+      final List<CompletableFuture<Void>> flushed;
+      synchronized (this) {
+        closed = false;
+        flushed = new ArrayList<>(pendingFlushes);
+        pendingFlushes.clear();
+      }
+
+      flushed.forEach(future -> future.complete(null));
+    }
+  }
+
+  private record GatedFlusherConfigurator(FlushGate gate) implements Configurator {
+
+    @Override
+    public void configure(final MemberId id, final Builder builder) {
+      final var storage = builder.storage;
+      Objects.requireNonNull(storage);
+      builder.withStorage(
+          RaftStorage.builder()
+              .withDirectory(storage.directory())
+              .withSnapshotStore(storage.getPersistedSnapshotStore())
+              .withFlusherFactory(ignored -> new GatedFlusher(gate))
+              .build());
+    }
+  }
+
+  private record GatedFlusher(FlushGate gate) implements RaftLogFlusher {
+
+    @Override
+    public void flush(final Journal journal) {
+      gate.flush(journal);
+    }
+
+    @Override
+    public CompletableFuture<Void> flushAsync(final Journal journal) {
+      return gate.flush(journal);
+    }
+  }
+}
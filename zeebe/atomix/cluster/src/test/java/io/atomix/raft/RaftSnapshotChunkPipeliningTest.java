@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError.Type;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.RaftServer.Builder;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftSnapshotChunkPipeliningTest {
+
+  private static final int MAX_CHUNKS_IN_FLIGHT = 4;
+  private static final int NUMBER_OF_CHUNKS = 10;
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(3, new ChunksInFlightConfigurator(MAX_CHUNKS_IN_FLIGHT));
+
+  private RaftServer leader;
+  private RaftServer follower;
+  private TestRaftServerProtocol leaderProtocol;
+
+  @Before
+  public void setup() {
+    leader = raftRule.getLeader().orElseThrow();
+    leaderProtocol = (TestRaftServerProtocol) leader.getContext().getProtocol();
+  }
+
+  @Test
+  public void shouldSendChunksWithoutAwaitingPreviousResponses() throws Throwable {
+    // given
+    disconnectFollowerAndTakeSnapshot();
+
+    // only forwards the first chunks once all of them were sent, which never happens if every
+    // chunk awaits the response to the previous one
+    final var gate = new ChunkGate(MAX_CHUNKS_IN_FLIGHT);
+    leaderProtocol.interceptRequest(InstallRequest.class, gate);
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(gate.getCount()).isGreaterThanOrEqualTo(NUMBER_OF_CHUNKS);
+  }
+
+  @Test
+  public void shouldRestartSnapshotReplicationIfChunkInFlightIsRejected() throws Throwable {
+    // given
+    disconnectFollowerAndTakeSnapshot();
+    final var totalInstallRequests = new AtomicInteger();
+    leaderProtocol.interceptRequest(
+        InstallRequest.class,
+        (Consumer<InstallRequest>) request -> totalInstallRequests.incrementAndGet());
+    leaderProtocol.interceptResponse(InstallResponse.class, new RejectingInterceptor(2));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(totalInstallRequests.get())
+        .describedAs("Should resend the snapshot after the rejected chunk")
+        .isGreaterThan(NUMBER_OF_CHUNKS);
+  }
+
+  private void reconnectFollowerAndAwaitSnapshot() throws InterruptedException {
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(s -> snapshotReceived.countDown());
+    raftRule.reconnect(follower);
+
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void disconnectFollowerAndTakeSnapshot() throws Exception {
+    follower = raftRule.getFollower().orElseThrow();
+    raftRule.partition(follower);
+
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+    final var commitIndex = raftRule.appendEntries(2); // awaits commit
+
+    raftRule.takeSnapshot(leader, commitIndex, NUMBER_OF_CHUNKS);
+    raftRule.appendEntry();
+  }
+
+  private record ChunksInFlightConfigurator(int maxChunksInFlight) implements Configurator {
+
+    @Override
+    public void configure(final MemberId id, final Builder builder) {
+      builder.partitionConfig.setMaxSnapshotChunksInFlight(maxChunksInFlight);
+    }
+  }
+
+  /** Holds back install requests until the given number of them was sent. */
+  private static final class ChunkGate
+      implements Function<InstallRequest, CompletableFuture<Void>> {
+    private final List<CompletableFuture<Void>> heldBack = new ArrayList<>();
+    private final int releaseAt;
+    private int count;
+
+    private ChunkGate(final int releaseAt) {
+      this.releaseAt = releaseAt;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> apply(final InstallRequest request) {
+      count++;
+      if (count > releaseAt) {
+        return CompletableFuture.completedFuture(null);
+      }
+
+      final var forwarded = new CompletableFuture<Void>();
+      heldBack.add(forwarded);
+      if (count == releaseAt) {
+        heldBack.forEach(future -> future.complete(null));
+      }
+      return forwarded;
+    }
+
+    private synchronized int getCount() {
+      return count;
+    }
+  }
+
+  private static final class RejectingInterceptor
+      implements TestRaftServerProtocol.ResponseInterceptor<InstallResponse> {
+    private final int rejectAtChunk;
+    private int count;
+
+    private RejectingInterceptor(final int rejectAtChunk) {
+      this.rejectAtChunk = rejectAtChunk;
+    }
+
+    @Override
+    public synchronized CompletableFuture<InstallResponse> apply(final InstallResponse response) {
+      count++;
+      if (count == rejectAtChunk) {
+        return CompletableFuture.completedFuture(
+            InstallResponse.builder()
+                .withError(Type.PROTOCOL_ERROR)
+                .withStatus(InstallResponse.Status.ERROR)
+                .build());
+      }
+      return CompletableFuture.completedFuture(response);
+    }
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.FileSlice;
+import io.atomix.cluster.messaging.MessagingException;
+import io.atomix.raft.RaftError.Type;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
+import io.atomix.utils.serializer.Serializer;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.impl.FileBasedSnapshotChunkReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+final class RaftServerCommunicatorTest {
+
+  private static final String PREFIX = "raft-partition-partition-1";
+  private static final MemberId MEMBER = MemberId.from("1");
+  private static final InstallResponse RESPONSE =
+      InstallResponse.builder().withStatus(Status.OK).build();
+
+  private final ClusterCommunicationService clusterCommunicator =
+      mock(ClusterCommunicationService.class);
+  private final RaftServerCommunicator communicator =
+      new RaftServerCommunicator(
+          PREFIX,
+          Serializer.using(RaftNamespaces.RAFT_PROTOCOL),
+          clusterCommunicator,
+          Duration.ofSeconds(5),
+          Duration.ofSeconds(5),
+          Duration.ofSeconds(5));
+
+  private SnapshotChunk chunk;
+
+  @BeforeEach
+  void beforeEach(@TempDir final Path tempDir) throws IOException {
+    final var snapshotDirectory = Files.createDirectory(tempDir.resolve("1-1-1-1"));
+    Files.writeString(snapshotDirectory.resolve("file"), "snapshot chunk content");
+    try (final var reader = new FileBasedSnapshotChunkReader(snapshotDirectory)) {
+      chunk = reader.next();
+    }
+  }
+
+  @Test
+  void shouldSendChunkContentFromItsFile() {
+    // given
+    communicator.registerInstallHandler(request -> CompletableFuture.completedFuture(RESPONSE));
+    final Function<byte[], InstallRequest> decoder = installFileDecoder();
+    final var received = new AtomicReference<InstallRequest>();
+    when(clusterCommunicator.send(
+            eq(PREFIX + "-install-file"),
+            any(),
+            any(),
+            any(FileSlice.class),
+            any(),
+            eq(MEMBER),
+            any()))
+        .thenAnswer(
+            invocation -> {
+              // emulate the transport, which appends the file slice to the encoded message
+              final Function<Object, byte[]> encoder = invocation.getArgument(2);
+              final FileSlice trailer = invocation.getArgument(3);
+              final byte[] message = encoder.apply(invocation.getArgument(1));
+              final byte[] payload = Arrays.copyOf(message, message.length + trailer.length());
+              trailer.readInto(ByteBuffer.wrap(payload, message.length, trailer.length()));
+              received.set(decoder.apply(payload));
+              return CompletableFuture.completedFuture(RESPONSE);
+            });
+    final var request = newRequest();
+
+    // when
+    final var response = communicator.install(MEMBER, request, chunk);
+
+    // then
+    assertThat(response).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(RESPONSE);
+    assertThat(received.get())
+        .isEqualTo(request.withData(new SnapshotChunkImpl(chunk).toByteBuffer()));
+    verify(clusterCommunicator)
+        .send(
+            any(),
+            any(),
+            any(),
+            eq(new FileSlice(chunk.getContentFile(), 0, chunk.getContentLength())),
+            any(),
+            any(),
+            any());
+  }
+
+  @Test
+  void shouldFallBackToChunkAsDataIfMemberDoesNotHandleFileRequests() {
+    // given
+    when(clusterCommunicator.send(any(), any(), any(), any(FileSlice.class), any(), any(), any()))
+        .thenReturn(
+            CompletableFuture.failedFuture(
+                new CompletionException(
+                    new MessagingException.NoRemoteHandler(PREFIX + "-install-file"))));
+    when(clusterCommunicator.send(
+            eq(PREFIX + "-install"), any(), any(), any(Function.class), eq(MEMBER), any()))
+        .thenReturn(CompletableFuture.completedFuture(RESPONSE));
+    final var request = newRequest();
+
+    // when
+    final var first = communicator.install(MEMBER, request, chunk);
+    final var second = communicator.install(MEMBER, request, chunk);
+
+    // then
+    assertThat(first).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(RESPONSE);
+    assertThat(second).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(RESPONSE);
+    verify(clusterCommunicator, times(1))
+        .send(any(), any(), any(), any(FileSlice.class), any(), any(), any());
+    verify(clusterCommunicator, times(2))
+        .send(
+            eq(PREFIX + "-install"),
+            eq(request.withData(new SnapshotChunkImpl(chunk).toByteBuffer())),
+            any(),
+            any(Function.class),
+            eq(MEMBER),
+            any());
+  }
+
+  @Test
+  void shouldNotFallBackOnOtherFailures() {
+    // given
+    when(clusterCommunicator.send(any(), any(), any(), any(FileSlice.class), any(), any(), any()))
+        .thenReturn(
+            CompletableFuture.failedFuture(
+                new MessagingException.RemoteHandlerFailure(Type.PROTOCOL_ERROR.name())));
+
+    // when
+    final var response = communicator.install(MEMBER, newRequest(), chunk);
+
+    // then
+    assertThat(response).failsWithin(Duration.ofSeconds(5));
+    verify(clusterCommunicator, never())
+        .send(eq(PREFIX + "-install"), any(), any(), any(Function.class), any(), any());
+  }
+
+  private InstallRequest newRequest() {
+    return InstallRequest.builder()
+        .withCurrentTerm(1)
+        .withLeader(MemberId.from("0"))
+        .withIndex(1)
+        .withTerm(1)
+        .withVersion(1)
+        .withChunkId(ByteBuffer.wrap("chunk".getBytes()))
+        .withNextChunkId(null)
+        .withData(ByteBuffer.allocate(0))
+        .withInitial(true)
+        .withComplete(true)
+        .build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Function<byte[], InstallRequest> installFileDecoder() {
+    final ArgumentCaptor<String> subjects = ArgumentCaptor.forClass(String.class);
+    final ArgumentCaptor<Function<byte[], InstallRequest>> decoders =
+        ArgumentCaptor.forClass(Function.class);
+    verify(clusterCommunicator, times(2))
+        .replyTo(subjects.capture(), decoders.capture(), any(Function.class), any());
+    return decoders.getAllValues().get(subjects.getAllValues().indexOf(PREFIX + "-install-file"));
+  }
+}
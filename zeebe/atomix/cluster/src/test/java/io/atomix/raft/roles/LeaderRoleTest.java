@@ -49,6 +49,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -80,6 +81,7 @@ public class LeaderRoleTest {
 
     log = mock(RaftLog.class);
     when(log.getLastIndex()).thenReturn(1L);
+    when(log.flush()).thenReturn(CompletableFuture.completedFuture(null));
     when(log.append(any(RaftLogEntry.class)))
         .then(
             i -> {
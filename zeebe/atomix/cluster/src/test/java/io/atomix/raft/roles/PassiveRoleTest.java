@@ -17,6 +17,7 @@ package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -35,6 +36,7 @@ import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.utils.concurrent.ThreadContext;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
@@ -42,6 +44,7 @@ import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Rule;
@@ -61,8 +64,20 @@ public class PassiveRoleTest {
 
     log = mock(RaftLog.class);
     when(log.flushesDirectly()).thenReturn(true);
+    when(log.flush()).thenReturn(CompletableFuture.completedFuture(null));
+    when(log.lastFlush()).thenReturn(CompletableFuture.completedFuture(null));
     when(ctx.getLog()).thenReturn(log);
 
+    final ThreadContext threadContext = mock(ThreadContext.class);
+    doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(threadContext)
+        .execute(any());
+    when(ctx.getThreadContext()).thenReturn(threadContext);
+
     final PersistedSnapshot snapshot = mock(PersistedSnapshot.class);
     when(snapshot.getIndex()).thenReturn(1L);
     when(snapshot.getTerm()).thenReturn(1L);
@@ -135,6 +150,93 @@ public class PassiveRoleTest {
     assertThat(response.lastLogIndex()).isEqualTo(2);
   }
 
+  @Test
+  public void shouldAcknowledgeAppendOnceFlushed() {
+    // given
+    final var entries =
+        List.of(
+            new ReplicatableJournalRecord(1, 1, 1, new byte[1]),
+            new ReplicatableJournalRecord(1, 2, 1, new byte[1]));
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(entries)
+            .withCommitIndex(2)
+            .build();
+
+    final var flushed = new CompletableFuture<Void>();
+    when(log.flush()).thenReturn(flushed);
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+
+    // when
+    final var response = role.handleAppend(ProtocolVersionHandler.transform(request));
+
+    // then
+    assertThat(response).isNotDone();
+    flushed.complete(null);
+    assertThat(response.join().succeeded()).isTrue();
+    assertThat(response.join().lastLogIndex()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldFailAppendIfFlushFails() {
+    // given
+    final var entries = List.of(new ReplicatableJournalRecord(1, 1, 1, new byte[1]));
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(entries)
+            .withCommitIndex(1)
+            .build();
+
+    final var flushed = new CompletableFuture<Void>();
+    when(log.flush()).thenReturn(flushed);
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+
+    // when
+    final var response = role.handleAppend(ProtocolVersionHandler.transform(request));
+    flushed.completeExceptionally(new IllegalStateException("expected"));
+
+    // then
+    assertThat(response.join().succeeded()).isFalse();
+    assertThat(response.join().lastLogIndex()).isZero();
+  }
+
+  @Test
+  public void shouldAcknowledgeHeartbeatOnceLastFlushIsDone() {
+    // given
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(List.of())
+            .withCommitIndex(0)
+            .build();
+
+    final var lastFlush = new CompletableFuture<Void>();
+    when(log.lastFlush()).thenReturn(lastFlush);
+
+    // when
+    final var response = role.handleAppend(ProtocolVersionHandler.transform(request));
+
+    // then
+    assertThat(response).isNotDone();
+    lastFlush.complete(null);
+    assertThat(response.join().succeeded()).isTrue();
+    verify(log, never()).flush();
+  }
+
   @Test
   public void shouldFlushAfterPartiallyAppendedRequest() {
     // given
@@ -0,0 +1,265 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.metrics.RaftFlushMetrics;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.Journal;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class GroupCommitFlusherTest {
+  private final TestScheduler scheduler = new TestScheduler();
+  private final RaftFlushMetrics metrics = Mockito.mock(RaftFlushMetrics.class);
+  private final GroupCommitFlusher flusher =
+      new GroupCommitFlusher(scheduler, Duration.ZERO, metrics);
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(flusher);
+  }
+
+  @Test
+  void shouldFlushImmediatelyWhenIdle() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+
+    // when
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isZero();
+    Mockito.verify(journal, Mockito.never()).flush();
+  }
+
+  @Test
+  void shouldCoalesceFlushesUntilScheduledFlushRuns() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+
+    // when
+    final var first = flusher.flushAsync(journal);
+    final var second = flusher.flushAsync(journal);
+    final var third = flusher.flushAsync(journal);
+    scheduler.runNext();
+
+    // then
+    assertThat(scheduler.operations).isEmpty();
+    assertThat(List.of(first, second, third)).allMatch(CompletableFuture::isDone);
+    Mockito.verify(journal, Mockito.times(1)).flush();
+    Mockito.verify(metrics).observeFlush(Mockito.anyLong(), Mockito.eq(3));
+  }
+
+  @Test
+  void shouldCompleteFlushOnlyOnceFlushed() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+
+    // when
+    final var flushed = flusher.flushAsync(journal);
+
+    // then
+    assertThat(flushed).isNotDone();
+    scheduler.runNext();
+    assertThat(flushed).isCompleted();
+  }
+
+  @Test
+  void shouldScheduleSingleFollowUpFlushWhileFlushIsInFlight() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    final List<CompletableFuture<Void>> followUps = new ArrayList<>();
+    Mockito.doAnswer(
+            ignored -> {
+              followUps.add(flusher.flushAsync(journal));
+              followUps.add(flusher.flushAsync(journal));
+              return null;
+            })
+        .doNothing()
+        .when(journal)
+        .flush();
+
+    // when
+    final var first = flusher.flushAsync(journal);
+    scheduler.runNext();
+
+    // then
+    assertThat(first).isCompleted();
+    assertThat(followUps).noneMatch(CompletableFuture::isDone);
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isZero();
+
+    scheduler.runNext();
+    assertThat(followUps).allMatch(CompletableFuture::isDone);
+    Mockito.verify(journal, Mockito.times(2)).flush();
+    Mockito.verify(metrics).observeFlush(Mockito.anyLong(), Mockito.eq(1));
+    Mockito.verify(metrics).observeFlush(Mockito.anyLong(), Mockito.eq(2));
+  }
+
+  @Test
+  void shouldDelayFollowUpFlushByAtMostMaxWait() {
+    // given
+    final var maxWait = Duration.ofHours(1);
+    final var waitingFlusher = new GroupCommitFlusher(scheduler, maxWait, metrics);
+    final var journal = Mockito.mock(Journal.class);
+    Mockito.doAnswer(ignored -> waitingFlusher.flushAsync(journal))
+        .doNothing()
+        .when(journal)
+        .flush();
+
+    // when
+    final var idle = waitingFlusher.flushAsync(journal);
+
+    // then - the idle flush is not delayed, but its follow-up waits to coalesce more requests
+    assertThat(scheduler.operations.get(0).delay).isZero();
+    scheduler.runNext();
+    assertThat(idle).isCompleted();
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isPositive().isLessThanOrEqualTo(maxWait);
+    CloseHelper.quietClose(waitingFlusher);
+  }
+
+  @Test
+  void shouldCancelScheduledFlushOnClose() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+
+    // when
+    flusher.flush(journal);
+    flusher.close();
+
+    // then
+    final var scheduled = scheduler.operations.get(0);
+    assertThat(scheduled.cancelled).isTrue();
+  }
+
+  @Test
+  void shouldFailPendingFlushesOnClose() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    final var flushed = flusher.flushAsync(journal);
+
+    // when
+    flusher.close();
+
+    // then
+    assertThat(flushed).isCompletedExceptionally();
+  }
+
+  @Test
+  void shouldNotScheduleFlushWhenClosed() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+
+    // when
+    flusher.close();
+    final var flushed = flusher.flushAsync(journal);
+
+    // then
+    assertThat(scheduler.operations).isEmpty();
+    assertThat(flushed).isCompletedExceptionally();
+  }
+
+  @Test
+  void shouldRetryFailedFlushWithSameBatch() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .doNothing()
+        .when(journal)
+        .flush();
+
+    // when
+    final var first = flusher.flushAsync(journal);
+    final var second = flusher.flushAsync(journal);
+    scheduler.runNext();
+
+    // then
+    assertThat(first).isNotDone();
+    assertThat(second).isNotDone();
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isPositive();
+    scheduler.runNext();
+    assertThat(first).isCompleted();
+    assertThat(second).isCompleted();
+    Mockito.verify(journal, Mockito.times(2)).flush();
+    Mockito.verify(metrics, Mockito.times(1)).observeFlush(Mockito.anyLong(), Mockito.eq(2));
+  }
+
+  @Test
+  void shouldNotRetryFailedFlushIfClosed() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.flush(journal);
+    flusher.close();
+    scheduler.runNext();
+
+    // then
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  private static final class TestScheduled implements Scheduled {
+    private final Duration delay;
+    private final Runnable operation;
+
+    private boolean cancelled;
+
+    private TestScheduled(final Duration delay, final Runnable operation) {
+      this.delay = delay;
+      this.operation = operation;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    @Override
+    public boolean isDone() {
+      return cancelled;
+    }
+  }
+
+  private static final class TestScheduler implements Scheduler {
+    private final List<TestScheduled> operations = new ArrayList<>();
+
+    @Override
+    public Scheduled schedule(final Duration delay, final Runnable callback) {
+      final var scheduled = new TestScheduled(delay, callback);
+      operations.add(scheduled);
+      return scheduled;
+    }
+
+    @Override
+    public Scheduled schedule(
+        final Duration initialDelay, final Duration interval, final Runnable callback) {
+      throw new UnsupportedOperationException("Flushes are never scheduled at a fixed rate");
+    }
+
+    private void runNext() {
+      operations.remove(0).operation.run();
+    }
+  }
+}
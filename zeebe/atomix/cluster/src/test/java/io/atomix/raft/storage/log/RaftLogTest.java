@@ -42,6 +42,7 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.time.Instant;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -171,6 +172,31 @@ class RaftLogTest {
     raftlogFollower.close();
   }
 
+  @Test
+  void shouldDecodeReplicatedConfigurationEntryWhenRead(@TempDir final File directory) {
+    // given
+    final RaftLogEntry entry = new RaftLogEntry(1, configurationEntry);
+    final var replicatedRecord = raftlog.append(entry).getReplicatableJournalRecord();
+    final var raftlogFollower =
+        RaftLog.builder()
+            .withDirectory(directory)
+            .withName("test-follower")
+            .withMetaStore(new InMemory())
+            .build();
+
+    // when
+    final var appended = raftlogFollower.append(replicatedRecord);
+
+    // then
+    assertThat(appended.isApplicationEntry()).isFalse();
+    assertThat(appended.entry()).isInstanceOf(ConfigurationEntry.class);
+    assertThat(((ConfigurationEntry) appended.entry()).newMembers())
+        .containsExactlyInAnyOrderElementsOf(configurationEntry.newMembers());
+    assertThat(appended.getReplicatableJournalRecord()).isEqualTo(replicatedRecord);
+
+    raftlogFollower.close();
+  }
+
   @Test
   void shouldDeleteAfter() {
     // given
@@ -259,7 +285,24 @@ class RaftLogTest {
       log.flush();
 
       // then
-      verify(flusher, times(1)).flush(journal);
+      verify(flusher, times(1)).flushAsync(journal);
+    }
+
+    @Test
+    void shouldReturnLastFlush() {
+      // given
+      final var journal = mock(Journal.class);
+      final var flusher = mock(RaftLogFlusher.class);
+      final var log = new RaftLog(journal, flusher);
+      final var pendingFlush = new CompletableFuture<Void>();
+      when(flusher.flushAsync(journal)).thenReturn(pendingFlush);
+
+      // when
+      final var flush = log.flush();
+
+      // then
+      assertThat(flush).isSameAs(pendingFlush);
+      assertThat(log.lastFlush()).isSameAs(pendingFlush);
     }
 
     @Test
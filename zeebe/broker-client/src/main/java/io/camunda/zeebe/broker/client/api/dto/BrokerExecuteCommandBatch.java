@@ -0,0 +1,260 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.api.dto;
+
+import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
+import io.camunda.zeebe.broker.client.api.RequestDispatchStrategy;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.encoding.AuthInfo;
+import io.camunda.zeebe.protocol.impl.encoding.AuthInfo.AuthDataFormat;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.CommandsEncoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderEncoder;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.transport.RequestType;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Sends multiple commands of the same value type and intent to a single partition with one request.
+ * The broker writes all commands of the batch in one append and replies with the response of each
+ * command, in the order of the commands.
+ *
+ * <p>The batch itself only fails if none of its commands could be written, e.g. if the broker is
+ * not the leader of the partition. A rejection of a single command is returned as the response of
+ * this command, and doesn't affect the other commands of the batch.
+ *
+ * @param <T> the response type of the batched commands
+ */
+public final class BrokerExecuteCommandBatch<T> extends BrokerRequest<List<BrokerResponse<T>>> {
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final ExecuteCommandBatchRequestEncoder requestEncoder =
+      new ExecuteCommandBatchRequestEncoder();
+  private final ExecuteCommandBatchResponseDecoder responseDecoder =
+      new ExecuteCommandBatchResponseDecoder();
+  private final AuthInfo authorization = new AuthInfo();
+  private final List<? extends BrokerExecuteCommand<T>> commands;
+  private final ValueType valueType;
+  private final Intent intent;
+  private final String type;
+  private int partitionId;
+
+  public BrokerExecuteCommandBatch(final List<? extends BrokerExecuteCommand<T>> commands) {
+    super(
+        ExecuteCommandBatchResponseDecoder.SCHEMA_ID,
+        ExecuteCommandBatchResponseDecoder.TEMPLATE_ID);
+    if (commands.isEmpty()) {
+      throw new IllegalArgumentException("Expected at least one command, but the batch is empty");
+    }
+
+    final var firstCommand = commands.getFirst();
+    valueType = firstCommand.getValueType();
+    intent = firstCommand.getIntent();
+    partitionId = firstCommand.getPartitionId();
+    for (final var command : commands) {
+      if (command.getValueType() != valueType
+          || command.getIntent() != intent
+          || command.getPartitionId() != partitionId) {
+        throw new IllegalArgumentException(
+            "Expected all commands of a batch to be %s#%s commands for partition %d, but got %s for partition %d"
+                .formatted(
+                    valueType, intent, partitionId, command.getType(), command.getPartitionId()));
+      }
+    }
+
+    this.commands = commands;
+    type = valueType.name() + "#" + intent.name() + "#BATCH";
+  }
+
+  /**
+   * Groups the given commands into batches by the partition they are addressed to. The commands
+   * keep their order within a batch, and the batches are ordered by the first command of each
+   * partition.
+   *
+   * @param commands the commands to group, which must all be of the same value type and intent
+   * @return one batch per partition
+   */
+  public static <T, C extends BrokerExecuteCommand<T>>
+      List<BrokerExecuteCommandBatch<T>> byPartition(final List<C> commands) {
+    final Map<Integer, List<C>> commandsByPartition = new LinkedHashMap<>();
+    for (final var command : commands) {
+      commandsByPartition
+          .computeIfAbsent(command.getPartitionId(), ignore -> new ArrayList<>())
+          .add(command);
+    }
+
+    return commandsByPartition.values().stream().map(BrokerExecuteCommandBatch::new).toList();
+  }
+
+  /**
+   * Groups the given commands into batches by partition, like {@link #byPartition(List)}, but first
+   * picks a partition for each command which doesn't address a specific partition yet, e.g. a
+   * command without a key. The partition is picked by the command's own dispatch strategy if it has
+   * one, e.g. by the hash of a message's correlation key, and by the given default strategy
+   * otherwise.
+   *
+   * @param commands the commands to group, which must all be of the same value type and intent
+   * @param topologyManager the topology to pick the partitions from
+   * @param defaultStrategy the strategy for commands without a dispatch strategy of their own
+   * @return one batch per partition
+   */
+  public static <T, C extends BrokerExecuteCommand<T>>
+      List<BrokerExecuteCommandBatch<T>> byPartition(
+          final List<C> commands,
+          final BrokerTopologyManager topologyManager,
+          final RequestDispatchStrategy defaultStrategy) {
+    for (final var command : commands) {
+      if (!command.addressesSpecificPartition()) {
+        final var strategy = command.requestDispatchStrategy().orElse(defaultStrategy);
+        final int partitionId = strategy.determinePartition(topologyManager);
+        // same fallback as for single requests, if the topology is not known yet
+        command.setPartitionId(
+            partitionId == BrokerClusterState.PARTITION_ID_NULL
+                ? Protocol.DEPLOYMENT_PARTITION
+                : partitionId);
+      }
+    }
+
+    return byPartition(commands);
+  }
+
+  public List<? extends BrokerExecuteCommand<T>> getCommands() {
+    return commands;
+  }
+
+  @Override
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  @Override
+  public void setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+  }
+
+  @Override
+  public void setAuthorization(final String authorizationToken) {
+    authorization.setFormatProp(AuthDataFormat.JWT).setAuthData(authorizationToken);
+  }
+
+  @Override
+  public boolean addressesSpecificPartition() {
+    return true;
+  }
+
+  @Override
+  public boolean requiresPartitionId() {
+    return true;
+  }
+
+  @Override
+  public BufferWriter getRequestWriter() {
+    // each command writes its own value, see serializeValue()
+    return null;
+  }
+
+  @Override
+  public void serializeValue() {
+    commands.forEach(BrokerRequest::serializeValue);
+  }
+
+  @Override
+  protected void setSerializedValue(final DirectBuffer buffer) {
+    throw new UnsupportedOperationException("The values are serialized by the batched commands");
+  }
+
+  @Override
+  protected void wrapResponse(final DirectBuffer buffer) {
+    responseDecoder.wrapAndApplyHeader(buffer, 0, headerDecoder);
+  }
+
+  @Override
+  protected BrokerResponse<List<BrokerResponse<T>>> readResponse() {
+    final var responses = responseDecoder.responses();
+    if (responses.count() != commands.size()) {
+      throw new IllegalStateException(
+          "Expected a response for each of the %d commands of the batch, but got %d responses"
+              .formatted(commands.size(), responses.count()));
+    }
+
+    final List<BrokerResponse<T>> commandResponses = new ArrayList<>(commands.size());
+    for (final var command : commands) {
+      responses.next();
+      final var response = new UnsafeBuffer(new byte[responses.responseLength()]);
+      responses.getResponse(response, 0, response.capacity());
+      commandResponses.add(command.getResponse(response));
+    }
+
+    return new BrokerResponse<>(commandResponses, responseDecoder.partitionId(), -1);
+  }
+
+  @Override
+  protected List<BrokerResponse<T>> toResponseDto(final DirectBuffer buffer) {
+    throw new UnsupportedOperationException("The responses are read by the batched commands");
+  }
+
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  @Override
+  public RequestType getRequestType() {
+    return RequestType.COMMAND;
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + ExecuteCommandBatchRequestEncoder.BLOCK_LENGTH
+            + CommandsEncoder.sbeHeaderSize()
+            + ExecuteCommandBatchRequestEncoder.authorizationHeaderLength()
+            + authorization.getLength();
+    for (final var command : commands) {
+      length +=
+          CommandsEncoder.sbeBlockLength()
+              + CommandsEncoder.valueHeaderLength()
+              + command.request.getValue().capacity();
+    }
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    requestEncoder
+        .wrapAndApplyHeader(buffer, offset, headerEncoder)
+        .partitionId(partitionId)
+        .valueType(valueType)
+        .intent(intent.value());
+
+    final var commandsEncoder = requestEncoder.commandsCount(commands.size());
+    for (final var command : commands) {
+      final var value = command.request.getValue();
+      commandsEncoder.next().key(command.getKey()).putValue(value, 0, value.capacity());
+    }
+
+    requestEncoder.putAuthorization(authorization.toDirectBuffer(), 0, authorization.getLength());
+  }
+
+  @Override
+  public String toString() {
+    return "BrokerExecuteCommandBatch{type=%s, partitionId=%d, commands=%d}"
+        .formatted(type, partitionId, commands.size());
+  }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.api.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import io.camunda.zeebe.broker.client.api.RequestDispatchStrategy;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderEncoder;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class BrokerExecuteCommandBatchTest {
+
+  @Test
+  void shouldGroupCommandsByPartition() {
+    // given
+    final var commands =
+        List.of(
+            new CompleteJobCommand(Protocol.encodePartitionId(1, 1)),
+            new CompleteJobCommand(Protocol.encodePartitionId(2, 1)),
+            new CompleteJobCommand(Protocol.encodePartitionId(1, 2)));
+
+    // when
+    final var batches = BrokerExecuteCommandBatch.byPartition(commands);
+
+    // then
+    assertThat(batches).extracting(BrokerExecuteCommandBatch::getPartitionId).containsExactly(1, 2);
+    assertThat(batches.getFirst().getCommands())
+        .extracting(BrokerExecuteCommand::getKey)
+        .containsExactly(Protocol.encodePartitionId(1, 1), Protocol.encodePartitionId(1, 2));
+  }
+
+  @Test
+  void shouldPickPartitionsOfCommandsWithoutPartition() {
+    // given
+    final var partitions = new AtomicInteger();
+    final RequestDispatchStrategy roundRobin = topology -> partitions.incrementAndGet() % 2 + 1;
+    final var commands =
+        List.of(
+            new PublishMessageCommand(null),
+            new PublishMessageCommand(null),
+            new PublishMessageCommand(null),
+            new PublishMessageCommand(topology -> 3));
+
+    // when
+    final var batches = BrokerExecuteCommandBatch.byPartition(commands, null, roundRobin);
+
+    // then
+    assertThat(batches)
+        .extracting(BrokerExecuteCommandBatch::getPartitionId)
+        .containsExactly(2, 1, 3);
+    assertThat(batches).extracting(batch -> batch.getCommands().size()).containsExactly(2, 1, 1);
+  }
+
+  @Test
+  void shouldPickDeploymentPartitionIfTopologyIsUnknown() {
+    // given
+    final var commands = List.of(new PublishMessageCommand(null));
+
+    // when
+    final var batches =
+        BrokerExecuteCommandBatch.byPartition(
+            commands, null, topology -> BrokerClusterState.PARTITION_ID_NULL);
+
+    // then
+    assertThat(batches)
+        .extracting(BrokerExecuteCommandBatch::getPartitionId)
+        .containsExactly(Protocol.DEPLOYMENT_PARTITION);
+  }
+
+  @Test
+  void shouldRejectCommandsOfDifferentPartitions() {
+    // given
+    final var commands =
+        List.of(
+            new CompleteJobCommand(Protocol.encodePartitionId(1, 1)),
+            new CompleteJobCommand(Protocol.encodePartitionId(2, 1)));
+
+    // when - then
+    assertThatThrownBy(() -> new BrokerExecuteCommandBatch<>(commands))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldWriteAllCommands() {
+    // given
+    final var batch =
+        new BrokerExecuteCommandBatch<>(
+            List.of(
+                new CompleteJobCommand(Protocol.encodePartitionId(1, 1)),
+                new CompleteJobCommand(Protocol.encodePartitionId(1, 2))));
+    batch.serializeValue();
+
+    // when
+    final var buffer = new UnsafeBuffer(new byte[batch.getLength()]);
+    batch.write(buffer, 0);
+
+    // then
+    final var decoder =
+        new ExecuteCommandBatchRequestDecoder()
+            .wrapAndApplyHeader(buffer, 0, new MessageHeaderDecoder());
+    assertThat(decoder.partitionId()).isOne();
+    assertThat(decoder.valueType()).isEqualTo(ValueType.JOB);
+    assertThat(decoder.intent()).isEqualTo(JobIntent.COMPLETE.value());
+    final var keys = new ArrayList<Long>();
+    for (final var command : decoder.commands()) {
+      keys.add(command.key());
+      command.skipValue();
+    }
+    assertThat(keys)
+        .containsExactly(Protocol.encodePartitionId(1, 1), Protocol.encodePartitionId(1, 2));
+  }
+
+  @Test
+  void shouldReadResponseOfEachCommand() {
+    // given
+    final long completedJob = Protocol.encodePartitionId(1, 1);
+    final long rejectedJob = Protocol.encodePartitionId(1, 2);
+    final var batch =
+        new BrokerExecuteCommandBatch<>(
+            List.of(new CompleteJobCommand(completedJob), new CompleteJobCommand(rejectedJob)));
+
+    final var completed =
+        new ExecuteCommandResponse()
+            .setPartitionId(1)
+            .setKey(completedJob)
+            .setRecordType(RecordType.EVENT)
+            .setValueType(ValueType.JOB)
+            .setIntent(JobIntent.COMPLETED);
+    final var jobRecord = BufferUtil.createCopy(new JobRecord());
+    completed.setValue(jobRecord, 0, jobRecord.capacity());
+    final var rejected =
+        new ExecuteCommandResponse()
+            .setPartitionId(1)
+            .setKey(rejectedJob)
+            .setRecordType(RecordType.COMMAND_REJECTION)
+            .setValueType(ValueType.JOB)
+            .setIntent(JobIntent.COMPLETE)
+            .setRejectionType(RejectionType.NOT_FOUND);
+    final var rejectionReason = BufferUtil.wrapString("no such job");
+    rejected.setRejectionReason(rejectionReason, 0, rejectionReason.capacity());
+
+    // when
+    final var response = batch.getResponse(batchResponse(completed, rejected));
+
+    // then
+    assertThat(response.isResponse()).isTrue();
+    final var commandResponses = response.getResponse();
+    assertThat(commandResponses).hasSize(2);
+    assertThat(commandResponses.get(0).isResponse()).isTrue();
+    assertThat(commandResponses.get(0).getKey()).isEqualTo(completedJob);
+    assertThat(commandResponses.get(1).isRejection()).isTrue();
+    assertThat(commandResponses.get(1).getRejection().type()).isEqualTo(RejectionType.NOT_FOUND);
+    assertThat(commandResponses.get(1).getRejection().key()).isEqualTo(rejectedJob);
+  }
+
+  private DirectBuffer batchResponse(final ExecuteCommandResponse... responses) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var encoder =
+        new ExecuteCommandBatchResponseEncoder()
+            .wrapAndApplyHeader(buffer, 0, new MessageHeaderEncoder())
+            .partitionId(1);
+    final var responsesEncoder = encoder.responsesCount(responses.length);
+    for (final var response : responses) {
+      final var responseBuffer = new UnsafeBuffer(new byte[response.getLength()]);
+      response.write(responseBuffer, 0);
+      responsesEncoder.next().putResponse(responseBuffer, 0, responseBuffer.capacity());
+    }
+
+    return new UnsafeBuffer(
+        buffer, 0, MessageHeaderEncoder.ENCODED_LENGTH + encoder.encodedLength());
+  }
+
+  private static final class PublishMessageCommand extends BrokerExecuteCommand<MessageRecord> {
+    private final MessageRecord record = new MessageRecord();
+    private final RequestDispatchStrategy dispatchStrategy;
+
+    private PublishMessageCommand(final RequestDispatchStrategy dispatchStrategy) {
+      super(ValueType.MESSAGE, MessageIntent.PUBLISH);
+      this.dispatchStrategy = dispatchStrategy;
+    }
+
+    @Override
+    public MessageRecord getRequestWriter() {
+      return record;
+    }
+
+    @Override
+    protected MessageRecord toResponseDto(final DirectBuffer buffer) {
+      final var response = new MessageRecord();
+      response.wrap(buffer);
+      return response;
+    }
+
+    @Override
+    public Optional<RequestDispatchStrategy> requestDispatchStrategy() {
+      return Optional.ofNullable(dispatchStrategy);
+    }
+  }
+
+  private static final class CompleteJobCommand extends BrokerExecuteCommand<JobRecord> {
+    private final JobRecord record = new JobRecord();
+
+    private CompleteJobCommand(final long key) {
+      super(ValueType.JOB, JobIntent.COMPLETE);
+      request.setKey(key);
+    }
+
+    @Override
+    public JobRecord getRequestWriter() {
+      return record;
+    }
+
+    @Override
+    protected JobRecord toResponseDto(final DirectBuffer buffer) {
+      final var response = new JobRecord();
+      response.wrap(buffer);
+      return response;
+    }
+  }
+}
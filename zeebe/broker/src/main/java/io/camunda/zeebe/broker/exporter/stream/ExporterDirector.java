@@ -39,6 +39,7 @@ import java.time.Duration;
 import java.time.InstantSource;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +58,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
+  private static final Duration PROGRESS_INTERVAL = Duration.ofMillis(100);
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
@@ -93,6 +95,16 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   // The actor is still running, but it is not actively doing any work.
   private boolean idle;
   private final InstantSource clock;
+  // When exporting in parallel, every exporter is driven by its own lane and the director only
+  // coordinates them. Lanes are only used in ACTIVE mode.
+  private final boolean parallelExporting;
+  private final Map<String, ExporterLane> lanes = new HashMap<>();
+  private ActorSchedulingService actorSchedulingService;
+  private ScheduledTimer progressTimer;
+  // When exporting sequentially, the director's reader is positioned at the next record to export,
+  // so the end of the log is looked up with a separate reader to compute the lag of the exporters
+  private LogStreamReader logEndReader;
+  private long lastProcessedPosition = -1;
 
   public ExporterDirector(
       final ExporterDirectorContext context, final ExporterPhase exporterPhase) {
@@ -124,12 +136,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
     positionsToSkipFilter = context.getPositionsToSkipFilter();
+    parallelExporting = context.isParallelExporting() && exporterMode == ExporterMode.ACTIVE;
 
     // needs name to be initialized
     healthReport = HealthReport.healthy(this);
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -151,11 +165,12 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
+    return callAndForwardToLanes(
         () -> {
           metrics.setExporterPaused();
           exporterPhase = ExporterPhase.PAUSED;
-        });
+        },
+        ExporterLane::pauseExporting);
   }
 
   /**
@@ -173,12 +188,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
+    return callAndForwardToLanes(
         () -> {
-          containers.stream().forEach(ExporterContainer::softPauseExporter);
+          if (!parallelExporting) {
+            containers.stream().forEach(ExporterContainer::softPauseExporter);
+          }
           exporterPhase = ExporterPhase.SOFT_PAUSED;
           metrics.setExporterSoftPaused();
-        });
+        },
+        ExporterLane::softPauseExporting);
   }
 
   /**
@@ -194,17 +212,47 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(
+    return callAndForwardToLanes(
         () -> {
-          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
+          if (exporterPhase == ExporterPhase.SOFT_PAUSED && !parallelExporting) {
             containers.stream().forEach(ExporterContainer::undoSoftPauseExporter);
           }
           exporterPhase = ExporterPhase.EXPORTING;
           metrics.setExporterActive();
-          if (exporterMode == ExporterMode.ACTIVE) {
+          if (exporterMode == ExporterMode.ACTIVE && !parallelExporting) {
             actor.submit(this::readNextEvent);
           }
+        },
+        ExporterLane::resumeExporting);
+  }
+
+  /**
+   * Runs the given operation on the director and, when exporting in parallel, afterwards applies
+   * the lane operation to every lane. The returned future completes once all lanes are done.
+   */
+  private ActorFuture<Void> callAndForwardToLanes(
+      final Runnable operation, final Function<ExporterLane, ActorFuture<Void>> laneOperation) {
+    if (!parallelExporting) {
+      return actor.call(operation);
+    }
+
+    final var result = new CompletableActorFuture<Void>();
+    actor.run(
+        () -> {
+          operation.run();
+          final List<ActorFuture<Void>> laneFutures =
+              lanes.values().stream().map(laneOperation).toList();
+          actor.runOnCompletion(
+              laneFutures,
+              error -> {
+                if (error == null) {
+                  result.complete(null);
+                } else {
+                  result.completeExceptionally(error);
+                }
+              });
         });
+    return result;
   }
 
   /**
@@ -219,9 +267,41 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
+    if (parallelExporting) {
+      final var removed = new CompletableActorFuture<Void>();
+      actor.run(() -> removeExporterLane(exporterId, removed));
+      return removed;
+    }
+
     return actor.call(() -> removeExporter(exporterId));
   }
 
+  private void removeExporterLane(
+      final String exporterId, final CompletableActorFuture<Void> removed) {
+    final var lane = lanes.remove(exporterId);
+    if (lane == null) {
+      LOG.debug("Exporter '{}' is not found. It may be already removed.", exporterId);
+      removed.complete(null);
+      return;
+    }
+
+    containers.removeIf(container -> container.getId().equals(exporterId));
+    // the lane may still update the position of its exporter until it is closed, so only remove
+    // the state afterwards
+    actor.runOnCompletion(
+        lane.closeAsync(),
+        (ok, error) -> {
+          state.removeExporterState(exporterId);
+          metrics.removeExporterLag(exporterId);
+          LOG.debug("Exporter '{}' is removed.", exporterId);
+          removed.complete(null);
+        });
+
+    if (containers.isEmpty()) {
+      becomeIdle();
+    }
+  }
+
   private void removeExporter(final String exporterId) {
     containers.stream()
         .filter(c -> c.getId().equals(exporterId))
@@ -235,6 +315,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     container.close();
     containers.remove(container);
     state.removeExporterState(exporterId);
+    metrics.removeExporterLag(exporterId);
     // After removing this exporter, the exporter index has changed. Reset it so that we don't
     // miss to export the record to any of the exporters whose index has changed.
     recordExporter.resetExporterIndex();
@@ -323,7 +404,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
     // initializes metadata and position in the runtime state
     container.initMetadata();
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (parallelExporting) {
+      startLane(container);
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       container.openExporter();
     }
     containers.add(container);
@@ -395,6 +478,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     if (logStreamReader != null) {
       logStreamReader.close();
     }
+    if (logEndReader != null) {
+      logEndReader.close();
+    }
     logStream.removeRecordAvailableListener(this);
   }
 
@@ -407,13 +493,26 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (parallelExporting) {
+      // wait for the lanes to be closed, as they still use the state until then
+      for (final ExporterLane lane : lanes.values()) {
+        actor.runOnCompletionBlockingCurrentPhase(lane.closeAsync(), (ok, error) -> {});
+      }
+      lanes.clear();
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       containers.forEach(ExporterContainer::close);
     } else {
       exporterDistributionService.close();
     }
   }
 
+  @Override
+  public void onActorFailed() {
+    // close hooks are not invoked for a failed actor, so the lanes have to be stopped here
+    lanes.values().forEach(ExporterLane::closeAsync);
+    lanes.clear();
+  }
+
   @Override
   protected void handleFailure(final Throwable failure) {
     LOG.error(
@@ -466,7 +565,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         snapshotPosition);
   }
 
-  private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
+  static ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
 
     final List<Context.RecordFilter> recordFilters =
         containers.stream().map(c -> c.getContext().getFilter()).collect(Collectors.toList());
@@ -503,6 +602,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       exporterDistributionTimer.cancel();
       exporterDistributionTimer = null;
     }
+    if (progressTimer != null) {
+      progressTimer.cancel();
+      progressTimer = null;
+    }
+    if (logEndReader != null) {
+      logEndReader.close();
+      logEndReader = null;
+    }
     if (logStreamReader != null) {
       // We have to close it, otherwise it will prevent journal segment deletion
       logStreamReader.close();
@@ -521,6 +628,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void startActiveExportingMode() {
+    if (parallelExporting) {
+      startParallelExportingMode();
+      return;
+    }
+
     final var containerOpenFutures = new ArrayList<ActorFuture<Boolean>>();
     for (final ExporterContainer container : containers) {
       container.initMetadata();
@@ -557,15 +669,88 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   private void restartActiveExportingMode() {
     logStreamReader = logStream.newLogStreamReader();
+    if (parallelExporting) {
+      // the lanes of the new exporters are already started, only the director's duties remain
+      startCoordinatingLanes();
+      return;
+    }
     startActiveExportingFrom(-1);
   }
 
+  private void startParallelExportingMode() {
+    if (!state.hasExporters()) {
+      becomeIdle();
+      return;
+    }
+
+    for (final ExporterContainer container : containers) {
+      container.initMetadata();
+      startLane(container);
+    }
+    startCoordinatingLanes();
+  }
+
+  private void startLane(final ExporterContainer container) {
+    final var lane =
+        new ExporterLane(
+            name,
+            container,
+            logStream,
+            zeebeDb,
+            metrics,
+            positionsToSkipFilter,
+            exporterPhase,
+            clock,
+            failure -> actor.run(() -> onLaneFailure(container.getId(), failure)));
+    lanes.put(container.getId(), lane);
+    actorSchedulingService.submitActor(lane, SchedulingHints.ioBound());
+  }
+
+  private void onLaneFailure(final String exporterId, final Throwable failure) {
+    if (lanes.containsKey(exporterId)) {
+      LOG.error("Exporter lane of exporter '{}' failed, closing exporter director.", exporterId);
+      handleFailure(failure);
+    }
+  }
+
+  private void startCoordinatingLanes() {
+    // the director does not read the log in parallel mode itself, it only uses its reader to find
+    // the end of the log when computing the lag of the exporters
+    progressTimer = actor.runAtFixedRate(PROGRESS_INTERVAL, this::updateLanesProgress);
+    exporterDistributionTimer =
+        actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+  }
+
+  /**
+   * Reports the lowest position processed by all lanes to the flow control and updates the lag of
+   * each exporter. Log compaction is not affected by this, as it uses the lowest position persisted
+   * in the {@link ExportersState}.
+   */
+  private void updateLanesProgress() {
+    if (lanes.isEmpty()) {
+      return;
+    }
+
+    final long lastPosition = logStreamReader.seekToEnd();
+    long lowestPosition = Long.MAX_VALUE;
+    for (final ExporterLane lane : lanes.values()) {
+      final long processedPosition = lane.getProcessedPosition();
+      lowestPosition = Math.min(lowestPosition, processedPosition);
+      metrics.setExporterLag(lane.getExporterId(), Math.max(0, lastPosition - processedPosition));
+    }
+
+    if (lowestPosition > 0) {
+      logStream.getFlowControl().onExported(lowestPosition);
+    }
+  }
+
   private void startActiveExportingFrom(final long snapshotPosition) {
     final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
     if (failedToRecoverReader) {
       throw new IllegalStateException(
           String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, -1, getName()));
     }
+    lastProcessedPosition = snapshotPosition;
     logStream.registerRecordAvailableListener(this);
     if (!exporterPhase.equals(ExporterPhase.PAUSED)) {
       actor.submit(this::readNextEvent);
@@ -573,6 +758,23 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
     exporterDistributionTimer =
         actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+    logEndReader = logStream.newLogStreamReader();
+    progressTimer = actor.runAtFixedRate(PROGRESS_INTERVAL, this::updateExportersLag);
+  }
+
+  /**
+   * Updates the lag of each exporter when exporting sequentially. All exporters are driven by the
+   * director, so they share the position of the last record it passed to them or skipped.
+   */
+  private void updateExportersLag() {
+    if (lastProcessedPosition < 0) {
+      return;
+    }
+
+    final long lag = Math.max(0, logEndReader.seekToEnd() - lastProcessedPosition);
+    for (final ExporterContainer container : containers) {
+      metrics.setExporterLag(container.getId(), lag);
+    }
   }
 
   private void startPassiveExportingMode() {
@@ -613,6 +815,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     for (final ExporterContainer container : containers) {
       container.updatePositionOnSkipIfUpToDate(eventPosition);
     }
+    lastProcessedPosition = eventPosition;
 
     actor.submit(this::readNextEvent);
   }
@@ -665,6 +868,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
                       .getFlowControl()
                       .onExported(recordExporter.getTypedEvent().getPosition());
                   metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+                  lastProcessedPosition = event.getPosition();
                   inExportingPhase = false;
                   actor.submit(this::readNextEvent);
                 }
@@ -33,6 +33,7 @@ public final class ExporterDirectorContext {
   private EventFilter positionsToSkipFilter;
   private MeterRegistry meterRegistry;
   private InstantSource clock;
+  private boolean parallelExporting;
 
   public int getId() {
     return id;
@@ -78,6 +79,10 @@ public final class ExporterDirectorContext {
     return clock;
   }
 
+  public boolean isParallelExporting() {
+    return parallelExporting;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -135,6 +140,16 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * When enabled, each exporter is driven by its own {@link ExporterLane} in {@link
+   * ExporterMode#ACTIVE} mode, so a slow exporter does not delay the others. Has no effect in
+   * {@link ExporterMode#PASSIVE} mode.
+   */
+  public ExporterDirectorContext parallelExporting(final boolean parallelExporting) {
+    this.parallelExporting = parallelExporting;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
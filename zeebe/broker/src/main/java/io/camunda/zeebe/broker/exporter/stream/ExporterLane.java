@@ -0,0 +1,298 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.RetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+
+/**
+ * Reads the log and exports it to a single exporter on its own actor. Used by the {@link
+ * ExporterDirector} when parallel exporting is enabled, such that a slow exporter does not delay
+ * the other exporters of the same partition.
+ *
+ * <p>A lane reads the log with its own reader and persists the position of its exporter via its own
+ * transaction context, so lanes never share mutable state with each other. The director stays
+ * responsible for the lifecycle of the lanes, for distributing the exporter state and for reporting
+ * the lowest exported position over all lanes to the flow control of the log stream.
+ */
+final class ExporterLane extends Actor implements LogRecordAwaiter {
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export record '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_RECOVER_FAILED =
+      "Expected to find event with the position %d of exporter '%s' in log stream, but nothing was found.";
+
+  private final AtomicBoolean isOpened = new AtomicBoolean(false);
+  private final String name;
+  private final int partitionId;
+  private final ExporterContainer container;
+  private final LogStream logStream;
+  private final ZeebeDb zeebeDb;
+  private final ExporterMetrics metrics;
+  private final EventFilter positionsToSkipFilter;
+  private final RecordExporter recordExporter;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RetryStrategy recordWrapStrategy;
+  private final Consumer<Throwable> failureListener;
+  private LogStreamReader logStreamReader;
+  private EventFilter eventFilter;
+  private ExporterPhase exporterPhase;
+  private boolean inExportingPhase;
+
+  // the position of the last record which was exported or skipped by this lane; read by the
+  // director to compute the lowest exported position and the lag of the exporter
+  private volatile long processedPosition;
+
+  ExporterLane(
+      final String directorName,
+      final ExporterContainer container,
+      final LogStream logStream,
+      final ZeebeDb zeebeDb,
+      final ExporterMetrics metrics,
+      final EventFilter positionsToSkipFilter,
+      final ExporterPhase exporterPhase,
+      final InstantSource clock,
+      final Consumer<Throwable> failureListener) {
+    name = directorName + "-" + container.getId();
+    partitionId = logStream.getPartitionId();
+    this.container = container;
+    this.logStream = logStream;
+    this.zeebeDb = zeebeDb;
+    this.metrics = metrics;
+    this.positionsToSkipFilter = positionsToSkipFilter;
+    this.exporterPhase = exporterPhase;
+    this.failureListener = failureListener;
+    recordExporter = new RecordExporter(metrics, List.of(container), partitionId, clock);
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+    processedPosition = container.getPosition();
+  }
+
+  String getExporterId() {
+    return container.getId();
+  }
+
+  /**
+   * @return the position of the last record which was exported to, or skipped for, the exporter
+   */
+  long getProcessedPosition() {
+    return processedPosition;
+  }
+
+  ActorFuture<Void> pauseExporting() {
+    if (actor.isClosed()) {
+      return CompletableActorFuture.completed(null);
+    }
+    return actor.call(
+        () -> {
+          exporterPhase = ExporterPhase.PAUSED;
+        });
+  }
+
+  ActorFuture<Void> softPauseExporting() {
+    if (actor.isClosed()) {
+      return CompletableActorFuture.completed(null);
+    }
+    return actor.call(
+        () -> {
+          container.softPauseExporter();
+          exporterPhase = ExporterPhase.SOFT_PAUSED;
+        });
+  }
+
+  ActorFuture<Void> resumeExporting() {
+    if (actor.isClosed()) {
+      return CompletableActorFuture.completed(null);
+    }
+    return actor.call(
+        () -> {
+          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
+            container.undoSoftPauseExporter();
+          }
+          exporterPhase = ExporterPhase.EXPORTING;
+          actor.submit(this::readNextEvent);
+        });
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    logStreamReader = logStream.newLogStreamReader();
+    // from now on the exporter is driven by this lane, so position updates and scheduled tasks of
+    // the exporter must run on this actor and use a transaction context owned by it
+    container.initContainer(
+        actor, metrics, new ExportersState(zeebeDb, zeebeDb.createContext()), exporterPhase);
+    eventFilter = positionsToSkipFilter.and(ExporterDirector.createEventFilter(List.of(container)));
+  }
+
+  @Override
+  protected void onActorStarted() {
+    isOpened.set(true);
+    final var openFuture =
+        new BackOffRetryStrategy(actor, Duration.ofSeconds(10))
+            .runWithRetry(
+                () -> {
+                  try {
+                    container.openExporter();
+                    return true;
+                  } catch (final Exception e) {
+                    LOG.error("Failed to open exporter '{}'. Retrying...", container.getId(), e);
+                    return false;
+                  }
+                },
+                this::isClosed);
+
+    // Don't need to handle error as any are caught within the runWithRetry try catch
+    actor.runOnCompletion(openFuture, (opened, error) -> startExporting());
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    isOpened.set(false);
+    container.close();
+  }
+
+  @Override
+  protected void onActorClosing() {
+    if (logStreamReader != null) {
+      logStreamReader.close();
+    }
+    logStream.removeRecordAvailableListener(this);
+  }
+
+  @Override
+  protected void handleFailure(final Throwable failure) {
+    LOG.error(
+        "Actor '{}' failed in phase {} with: {} .",
+        name,
+        actor.getLifecyclePhase(),
+        failure,
+        failure);
+    actor.fail(failure);
+    failureListener.accept(failure);
+  }
+
+  @Override
+  public void onRecordAvailable() {
+    actor.run(this::readNextEvent);
+  }
+
+  private void startExporting() {
+    final long position = container.getPosition();
+    if (!logStreamReader.seekToNextEvent(position)) {
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_RECOVER_FAILED, position, container.getId()));
+    }
+
+    logStream.registerRecordAvailableListener(this);
+    if (exporterPhase != ExporterPhase.PAUSED) {
+      actor.submit(this::readNextEvent);
+    }
+  }
+
+  private void readNextEvent() {
+    if (shouldExport()) {
+      final LoggedEvent currentEvent = logStreamReader.next();
+      if (eventFilter.applies(currentEvent)) {
+        inExportingPhase = true;
+        exportEvent(currentEvent);
+      } else {
+        skipRecord(currentEvent);
+      }
+    }
+  }
+
+  private boolean shouldExport() {
+    return isOpened.get()
+        && logStreamReader.hasNext()
+        && !inExportingPhase
+        && exporterPhase != ExporterPhase.PAUSED;
+  }
+
+  private void skipRecord(final LoggedEvent currentEvent) {
+    final RecordMetadata metadata = new RecordMetadata();
+    final long eventPosition = currentEvent.getPosition();
+
+    currentEvent.readMetadata(metadata);
+    metrics.eventSkipped(metadata.getValueType());
+    container.updatePositionOnSkipIfUpToDate(eventPosition);
+    processedPosition = eventPosition;
+
+    actor.submit(this::readNextEvent);
+  }
+
+  private void exportEvent(final LoggedEvent event) {
+    final long eventPosition = event.getPosition();
+    final ActorFuture<Boolean> wrapRetryFuture =
+        recordWrapStrategy.runWithRetry(
+            () -> {
+              recordExporter.wrap(event);
+              return true;
+            },
+            this::isClosed);
+
+    actor.runOnCompletion(
+        wrapRetryFuture,
+        (b, t) -> {
+          assert t == null : "Throwable must be null";
+
+          final ActorFuture<Boolean> retryFuture =
+              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
+
+          actor.runOnCompletion(
+              retryFuture,
+              (bool, throwable) -> {
+                if (throwable != null) {
+                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+                  isOpened.set(false);
+                  failureListener.accept(throwable);
+                } else {
+                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+                  processedPosition = eventPosition;
+                  inExportingPhase = false;
+                  actor.submit(this::readNextEvent);
+                }
+              });
+        });
+  }
+
+  private boolean isClosed() {
+    return !isOpened.get();
+  }
+}
@@ -60,6 +60,16 @@ public final class ExporterMetrics {
           .labelNames(LABEL_NAME_EXPORTER, LABEL_NAME_PARTITION)
           .register();
 
+  private static final Gauge EXPORTER_LAG =
+      Gauge.build()
+          .namespace(NAMESPACE_ZEEBE)
+          .name("exporter_lag")
+          .help(
+              "The difference between the last written position and the last position the exporter"
+                  + " has processed.")
+          .labelNames(LABEL_NAME_EXPORTER, LABEL_NAME_PARTITION)
+          .register();
+
   private static final Gauge EXPORTER_PHASE =
       Gauge.build()
           .namespace(NAMESPACE_ZEEBE)
@@ -109,6 +119,14 @@ public final class ExporterMetrics {
     LAST_EXPORTED_POSITION.labels(exporter, partitionIdLabel).set(position);
   }
 
+  public void setExporterLag(final String exporter, final long lag) {
+    EXPORTER_LAG.labels(exporter, partitionIdLabel).set(lag);
+  }
+
+  public void removeExporterLag(final String exporter) {
+    EXPORTER_LAG.remove(exporter, partitionIdLabel);
+  }
+
   public void exportingLatency(
       final ValueType valueType, final long written, final long exporting) {
     EXPORTING_LATENCY
@@ -8,10 +8,12 @@
 package io.camunda.zeebe.broker.partitioning.startup;
 
 import io.atomix.primitive.partition.PartitionMetadata;
+import io.atomix.raft.metrics.RaftFlushMetrics;
 import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.raft.ZeebeEntryValidator;
@@ -73,7 +75,9 @@ public final class RaftPartitionFactory {
 
     storageConfig.setFlusherFactory(
         createFlusherFactory(
-            brokerCfg.getCluster().getRaft().getFlush(), brokerCfg.getExperimental()));
+            partitionMetadata,
+            brokerCfg.getCluster().getRaft().getFlush(),
+            brokerCfg.getExperimental()));
     storageConfig.setFreeDiskSpace(
         brokerCfg.getData().getDisk().getFreeSpace().getReplication().toBytes());
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
@@ -95,6 +99,8 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getSnapshotRequestTimeout());
     partitionConfig.setSnapshotChunkSize(
         (int) brokerCfg.getExperimental().getRaft().getSnapshotChunkSize().toBytes());
+    partitionConfig.setMaxSnapshotChunksInFlight(
+        brokerCfg.getExperimental().getRaft().getMaxSnapshotChunksInFlight());
     partitionConfig.setConfigurationChangeTimeout(
         brokerCfg.getExperimental().getRaft().getConfigurationChangeTimeout());
     partitionConfig.setMaxQuorumResponseTimeout(
@@ -108,17 +114,31 @@ public final class RaftPartitionFactory {
   }
 
   private RaftLogFlusher.Factory createFlusherFactory(
-      final FlushConfig config, final ExperimentalCfg experimental) {
+      final PartitionMetadata partitionMetadata,
+      final FlushConfig config,
+      final ExperimentalCfg experimental) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(
+          partitionMetadata, new FlushConfig(false, Duration.ZERO, false, Duration.ZERO));
     }
 
-    return createFlusherFactory(config);
+    return createFlusherFactory(partitionMetadata, config);
   }
 
-  private RaftLogFlusher.Factory createFlusherFactory(final FlushConfig config) {
+  private RaftLogFlusher.Factory createFlusherFactory(
+      final PartitionMetadata partitionMetadata, final FlushConfig config) {
     if (config.enabled()) {
+      if (config.adaptive()) {
+        // same name as the RaftPartition, such that the metrics share the partition labels
+        final var partitionName =
+            partitionMetadata.id().group() + "-partition-" + partitionMetadata.id().id();
+        final Duration maxWait = config.maxWait();
+        return threadFactory ->
+            new GroupCommitFlusher(
+                threadFactory.createContext(), maxWait, new RaftFlushMetrics(partitionName));
+      }
+
       final Duration delayTime = config.delayTime();
       if (delayTime.isZero()) {
         return RaftLogFlusher.Factory::direct;
@@ -9,10 +9,15 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfg implements ConfigurationEntry {
@@ -28,6 +33,7 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private Map<String, Properties> dedicatedColumnFamilies = new HashMap<>();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -39,6 +45,32 @@ public final class RocksdbCfg implements ConfigurationEntry {
       // we must do some transformations on the entries of this properties object.
       columnFamilyOptions = initColumnFamilyOptions(columnFamilyOptions);
     }
+
+    final var unknownColumnFamilies =
+        dedicatedColumnFamilies.keySet().stream()
+            .filter(name -> !isKnownColumnFamily(name))
+            .sorted()
+            .toList();
+    if (!unknownColumnFamilies.isEmpty()) {
+      throw new IllegalArgumentException(
+          "Expected dedicatedColumnFamilies to only contain known column families, but got unknown %s; known column families are %s"
+              .formatted(
+                  unknownColumnFamilies,
+                  Arrays.stream(ZbColumnFamilies.values())
+                      .map(Enum::name)
+                      .collect(Collectors.joining(", ", "[", "]"))));
+    }
+
+    final var dedicatedColumnFamilyOptions = new HashMap<String, Properties>();
+    dedicatedColumnFamilies.forEach(
+        (name, options) ->
+            dedicatedColumnFamilyOptions.put(
+                name, options == null ? new Properties() : initColumnFamilyOptions(options)));
+    dedicatedColumnFamilies = dedicatedColumnFamilyOptions;
+  }
+
+  private static boolean isKnownColumnFamily(final String name) {
+    return Arrays.stream(ZbColumnFamilies.values()).anyMatch(cf -> cf.name().equals(name));
   }
 
   private static Properties initColumnFamilyOptions(final Properties original) {
@@ -121,6 +153,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public Map<String, Properties> getDedicatedColumnFamilies() {
+    return dedicatedColumnFamilies;
+  }
+
+  public void setDedicatedColumnFamilies(final Map<String, Properties> dedicatedColumnFamilies) {
+    this.dedicatedColumnFamilies = dedicatedColumnFamilies;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -139,7 +179,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setDedicatedColumnFamilies(dedicatedColumnFamilies);
   }
 
   @Override
@@ -165,6 +206,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", dedicatedColumnFamilies="
+        + dedicatedColumnFamilies
         + '}';
   }
 
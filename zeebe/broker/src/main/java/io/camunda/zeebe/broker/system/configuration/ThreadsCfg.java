@@ -10,6 +10,8 @@ package io.camunda.zeebe.broker.system.configuration;
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private boolean pinPartitionActors = false;
+  private boolean virtualIoThreads = false;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +29,22 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public boolean isPinPartitionActors() {
+    return pinPartitionActors;
+  }
+
+  public void setPinPartitionActors(final boolean pinPartitionActors) {
+    this.pinPartitionActors = pinPartitionActors;
+  }
+
+  public boolean isVirtualIoThreads() {
+    return virtualIoThreads;
+  }
+
+  public void setVirtualIoThreads(final boolean virtualIoThreads) {
+    this.virtualIoThreads = virtualIoThreads;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +52,10 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", pinPartitionActors="
+        + pinPartitionActors
+        + ", virtualIoThreads="
+        + virtualIoThreads
         + '}';
   }
 }
@@ -124,6 +124,9 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .descriptors(exporterDescriptors)
             .exporterMode(exporterMode)
             .positionsToSkipFilter(exporterFilter)
+            .parallelExporting(
+                context.getBrokerCfg() != null
+                    && context.getBrokerCfg().getExporting().isParallel())
             .meterRegistry(context.getPartitionMeterRegistry());
 
     final ExporterDirector director =
@@ -51,7 +51,8 @@ public class MigrationTransitionStep implements PartitionTransitionStep {
             InstantSource.system());
 
     final var dbMigrator =
-        new DbMigratorImpl(new ClusterContextImpl(context.getPartitionCount()), processingState);
+        new DbMigratorImpl(
+            new ClusterContextImpl(context.getPartitionCount()), processingState, zeebeDbContext);
     try {
       dbMigrator.runMigrations();
       zeebeDbContext.getCurrentTransaction().commit();
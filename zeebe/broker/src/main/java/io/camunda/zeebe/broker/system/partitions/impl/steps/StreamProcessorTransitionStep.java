@@ -16,6 +16,7 @@ import io.camunda.zeebe.engine.Engine;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.protocol.record.intent.MessageIntent;
 import io.camunda.zeebe.protocol.record.intent.TimerIntent;
+import io.camunda.zeebe.scheduler.ActorPlacement;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.RecordProcessor;
@@ -157,6 +158,13 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .nodeId(context.getNodeId())
         .commandResponseWriter(context.getCommandApiService().newCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
+        .maxCommandsInPipeline(context.getBrokerCfg().getProcessing().getMaxCommandsInPipeline())
+        .maxBatchesInReplayTransaction(
+            context.getBrokerCfg().getProcessing().getMaxBatchesInReplayTransaction())
+        .actorPlacement(
+            context.getBrokerCfg().getThreads().isPinPartitionActors()
+                ? ActorPlacement.pinned(context.getPartitionId())
+                : ActorPlacement.shared())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
         .setScheduledTaskCheckInterval(
@@ -181,6 +189,11 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
               public void onResumed() {
                 context.getCommandApiService().onResumed(context.getPartitionId());
               }
+
+              @Override
+              public void onFailed() {
+                context.getCommandApiService().onFailed(context.getPartitionId());
+              }
             })
         .streamProcessorMode(streamProcessorMode)
         .partitionCommandSender(context.getPartitionCommandSender())
@@ -16,13 +16,18 @@ import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ErrorCode;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
 import io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.util.Either;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.slf4j.Logger;
@@ -30,13 +35,26 @@ import org.slf4j.Logger;
 final class CommandApiRequestHandler
     extends AsyncApiRequestHandler<CommandApiRequestReader, CommandApiResponseWriter> {
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
+  private static final Duration BATCH_EVICTION_INTERVAL = Duration.ofSeconds(30);
 
   private final Int2ObjectHashMap<LogStreamWriter> leadingStreams = new Int2ObjectHashMap<>();
   private boolean isDiskSpaceAvailable = true;
   private final Map<Integer, Boolean> processingPaused = new HashMap<>();
+  private final CommandBatchResponses batchResponses;
 
   CommandApiRequestHandler() {
+    this(new CommandBatchResponses());
+  }
+
+  CommandApiRequestHandler(final CommandBatchResponses batchResponses) {
     super(CommandApiRequestReader::new, CommandApiResponseWriter::new);
+    this.batchResponses = batchResponses;
+  }
+
+  @Override
+  protected void onActorStarted() {
+    actor.runAtFixedRate(
+        BATCH_EVICTION_INTERVAL, () -> batchResponses.evictExpired(ActorClock.currentTimeMillis()));
   }
 
   @Override
@@ -62,12 +80,32 @@ final class CommandApiRequestHandler
     actor.run(() -> processingPaused.put(partitionId, false));
   }
 
+  public void onFailed(final int partitionId) {
+    // the commands of pending batches are not answered anymore by the failed stream processor
+    actor.run(() -> batchResponses.removePartition(partitionId));
+  }
+
   private Either<ErrorResponseWriter, CommandApiResponseWriter> handle(
       final int partitionId,
       final long requestId,
       final CommandApiRequestReader requestReader,
       final CommandApiResponseWriter responseWriter,
       final ErrorResponseWriter errorWriter) {
+    if (!isDiskSpaceAvailable) {
+      return Either.left(errorWriter.outOfDiskSpace(partitionId));
+    }
+
+    if (processingPaused.getOrDefault(partitionId, false)) {
+      return Either.left(
+          errorWriter.partitionUnavailable(
+              String.format("Processing paused for partition '%s'", partitionId)));
+    }
+
+    if (requestReader.isBatch()) {
+      return handleExecuteCommandBatchRequest(
+          partitionId, requestId, requestReader, responseWriter, errorWriter);
+    }
+
     return handleExecuteCommandRequest(
         partitionId, requestId, requestReader, responseWriter, errorWriter);
   }
@@ -79,16 +117,6 @@ final class CommandApiRequestHandler
       final CommandApiResponseWriter responseWriter,
       final ErrorResponseWriter errorWriter) {
 
-    if (!isDiskSpaceAvailable) {
-      return Either.left(errorWriter.outOfDiskSpace(partitionId));
-    }
-
-    if (processingPaused.getOrDefault(partitionId, false)) {
-      return Either.left(
-          errorWriter.partitionUnavailable(
-              String.format("Processing paused for partition '%s'", partitionId)));
-    }
-
     final var command = reader.getMessageDecoder();
     final var logStreamWriter = leadingStreams.get(partitionId);
 
@@ -129,6 +157,97 @@ final class CommandApiRequestHandler
     }
   }
 
+  private Either<ErrorResponseWriter, CommandApiResponseWriter> handleExecuteCommandBatchRequest(
+      final int partitionId,
+      final long requestId,
+      final CommandApiRequestReader reader,
+      final CommandApiResponseWriter responseWriter,
+      final ErrorResponseWriter errorWriter) {
+
+    final var batch = reader.batchDecoder();
+    final var logStreamWriter = leadingStreams.get(partitionId);
+
+    final var valueType = batch.valueType();
+    final var intent = Intent.fromProtocolValue(valueType, batch.intent());
+    final var commands = reader.batchedCommands();
+    final var metadata = reader.metadata();
+
+    // all commands are written with the id of the batch request, see CommandBatchResponses
+    metadata.requestId(requestId);
+    metadata.requestStreamId(partitionId);
+    metadata.recordType(RecordType.COMMAND);
+    metadata.intent(intent);
+    metadata.valueType(valueType);
+
+    if (logStreamWriter == null) {
+      errorWriter.partitionLeaderMismatch(partitionId);
+      return Either.left(errorWriter);
+    }
+
+    if (!CommandApiRequestReader.RECORDS_BY_TYPE.containsKey(valueType)) {
+      errorWriter.unsupportedMessage(
+          valueType.name(), CommandApiRequestReader.RECORDS_BY_TYPE.keySet().toArray());
+      return Either.left(errorWriter);
+    }
+
+    if (commands.isEmpty()) {
+      return Either.left(
+          errorWriter
+              .errorCode(ErrorCode.MALFORMED_REQUEST)
+              .errorMessage("Expected at least one command, but the command batch is empty."));
+    }
+
+    try {
+      batchResponses.register(
+          partitionId, requestId, commands.size(), ActorClock.currentTimeMillis());
+      final var result =
+          writeCommands(commands, metadata, logStreamWriter, errorWriter, partitionId);
+      if (result.isLeft()) {
+        batchResponses.unregister(partitionId, requestId);
+      }
+      return result.map(b -> responseWriter).mapLeft(failure -> errorWriter);
+
+    } catch (final Exception error) {
+      batchResponses.unregister(partitionId, requestId);
+      final String errorMessage =
+          "Failed to write client request to partition '%d', %s".formatted(partitionId, error);
+      LOG.error(errorMessage);
+      return Either.left(errorWriter.internalError(errorMessage));
+    }
+  }
+
+  private Either<ErrorResponseWriter, Boolean> writeCommands(
+      final List<CommandApiRequestReader.BatchedCommand> commands,
+      final RecordMetadata metadata,
+      final LogStreamWriter logStreamWriter,
+      final ErrorResponseWriter errorWriter,
+      final int partitionId) {
+    final List<LogAppendEntry> appendEntries = new ArrayList<>(commands.size());
+    int batchLength = 0;
+    for (final var command : commands) {
+      final LogAppendEntry appendEntry;
+      if (command.key() != ExecuteCommandBatchRequestDecoder.CommandsDecoder.keyNullValue()) {
+        appendEntry = LogAppendEntry.of(command.key(), metadata, command.value());
+      } else {
+        appendEntry = LogAppendEntry.of(metadata, command.value());
+      }
+      appendEntries.add(appendEntry);
+      batchLength += appendEntry.getLength();
+    }
+
+    if (logStreamWriter.canWriteEvents(appendEntries.size(), batchLength)) {
+      return logStreamWriter
+          .tryWrite(WriteContext.userCommand(metadata.getIntent()), appendEntries)
+          .map(ignore -> true)
+          .mapLeft(error -> errorWriter.mapWriteError(partitionId, error));
+    } else {
+      return Either.left(
+          errorWriter
+              .errorCode(ErrorCode.MALFORMED_REQUEST)
+              .errorMessage("Request size is above configured maxMessageSize."));
+    }
+  }
+
   private Either<ErrorResponseWriter, Boolean> writeCommand(
       final long key,
       final RecordMetadata metadata,
@@ -161,7 +280,11 @@ final class CommandApiRequestHandler
   }
 
   void removePartition(final int partitionId) {
-    actor.submit(() -> leadingStreams.remove(partitionId));
+    actor.submit(
+        () -> {
+          leadingStreams.remove(partitionId);
+          batchResponses.removePartition(partitionId);
+        });
   }
 
   void onDiskSpaceNotAvailable() {
@@ -41,10 +41,13 @@ import io.camunda.zeebe.protocol.impl.record.value.tenant.TenantRecord;
 import io.camunda.zeebe.protocol.impl.record.value.user.UserRecord;
 import io.camunda.zeebe.protocol.impl.record.value.usertask.UserTaskRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
 import io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder;
 import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
 import io.camunda.zeebe.protocol.record.ValueType;
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
@@ -90,6 +93,10 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
   private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
   private final ExecuteCommandRequestDecoder commandRequestDecoder =
       new ExecuteCommandRequestDecoder();
+  private final ExecuteCommandBatchRequestDecoder batchRequestDecoder =
+      new ExecuteCommandBatchRequestDecoder();
+  private final List<BatchedCommand> batchedCommands = new ArrayList<>();
+  private boolean isBatch;
 
   @Override
   public void reset() {
@@ -97,6 +104,8 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
       value.reset();
     }
     metadata.reset();
+    batchedCommands.clear();
+    isBatch = false;
   }
 
   @Override
@@ -109,6 +118,11 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
     messageHeaderDecoder.wrap(buffer, offset);
 
     final int templateId = messageHeaderDecoder.templateId();
+    if (ExecuteCommandBatchRequestDecoder.TEMPLATE_ID == templateId) {
+      wrapBatch(buffer, offset);
+      return;
+    }
+
     if (TEMPLATE_ID != templateId) {
       throw new RequestReaderException.InvalidTemplateException(
           messageHeaderDecoder.templateId(), templateId);
@@ -139,6 +153,56 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
     }
   }
 
+  private void wrapBatch(final DirectBuffer buffer, final int offset) {
+    isBatch = true;
+    batchRequestDecoder.wrap(
+        buffer,
+        offset + MessageHeaderDecoder.ENCODED_LENGTH,
+        messageHeaderDecoder.blockLength(),
+        messageHeaderDecoder.version());
+
+    metadata.protocolVersion(messageHeaderDecoder.version());
+    final var recordSupplier = RECORDS_BY_TYPE.get(batchRequestDecoder.valueType());
+    for (final var command : batchRequestDecoder.commands()) {
+      final var key = command.key();
+      final int valueOffset =
+          batchRequestDecoder.limit()
+              + ExecuteCommandBatchRequestDecoder.CommandsDecoder.valueHeaderLength();
+      final int valueLength = command.valueLength();
+      if (recordSupplier != null) {
+        final var value = recordSupplier.get();
+        value.wrap(buffer, valueOffset, valueLength);
+        batchedCommands.add(new BatchedCommand(key, value));
+      }
+      command.skipValue();
+    }
+
+    final int authOffset =
+        batchRequestDecoder.limit() + ExecuteCommandBatchRequestDecoder.authorizationHeaderLength();
+    authInfo.wrap(buffer, authOffset, batchRequestDecoder.authorizationLength());
+    metadata.authorization(authInfo);
+  }
+
+  /**
+   * @return true if the request is a batch of commands, see {@link #batchDecoder()} and {@link
+   *     #batchedCommands()}
+   */
+  public boolean isBatch() {
+    return isBatch;
+  }
+
+  public ExecuteCommandBatchRequestDecoder batchDecoder() {
+    return batchRequestDecoder;
+  }
+
+  /**
+   * @return the commands of a batch request, which is empty if the value type of the batch is not
+   *     supported
+   */
+  public List<BatchedCommand> batchedCommands() {
+    return batchedCommands;
+  }
+
   public UnifiedRecordValue value() {
     return value;
   }
@@ -146,4 +210,6 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
   public RecordMetadata metadata() {
     return metadata;
   }
+
+  public record BatchedCommand(long key, UnifiedRecordValue value) {}
 }
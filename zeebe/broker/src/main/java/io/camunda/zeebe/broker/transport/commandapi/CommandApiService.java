@@ -22,6 +22,8 @@ public interface CommandApiService {
 
   void onResumed(final int partitionId);
 
+  void onFailed(final int partitionId);
+
   ActorFuture<Void> registerHandlers(
       final int partitionId, final LogStream logStream, final QueryService queryService);
 
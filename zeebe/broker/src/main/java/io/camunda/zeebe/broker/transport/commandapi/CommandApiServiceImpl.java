@@ -26,6 +26,7 @@ public final class CommandApiServiceImpl extends Actor
 
   private final ServerTransport serverTransport;
   private final CommandApiRequestHandler commandHandler;
+  private final CommandBatchResponses batchResponses = new CommandBatchResponses();
   private final QueryApiRequestHandler queryHandler;
   private final IntHashSet leadPartitions = new IntHashSet();
   private final ActorSchedulingService scheduler;
@@ -36,7 +37,7 @@ public final class CommandApiServiceImpl extends Actor
       final QueryApiCfg queryApiCfg) {
     this.serverTransport = serverTransport;
     this.scheduler = scheduler;
-    commandHandler = new CommandApiRequestHandler();
+    commandHandler = new CommandApiRequestHandler(batchResponses);
     queryHandler = new QueryApiRequestHandler(queryApiCfg);
   }
 
@@ -75,7 +76,7 @@ public final class CommandApiServiceImpl extends Actor
 
   @Override
   public CommandResponseWriter newCommandResponseWriter() {
-    return new CommandResponseWriterImpl(serverTransport);
+    return new CommandResponseWriterImpl(serverTransport, batchResponses);
   }
 
   @Override
@@ -93,6 +94,11 @@ public final class CommandApiServiceImpl extends Actor
     commandHandler.onResumed(partitionId);
   }
 
+  @Override
+  public void onFailed(final int partitionId) {
+    commandHandler.onFailed(partitionId);
+  }
+
   @Override
   public ActorFuture<Void> registerHandlers(
       final int partitionId, final LogStream logStream, final QueryService queryService) {
@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.transport.commandapi;
+
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder.ResponsesEncoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderEncoder;
+import io.camunda.zeebe.transport.ServerOutput;
+import io.camunda.zeebe.transport.impl.ServerResponseImpl;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Collects the responses to the commands of a command batch. All commands of a batch are written
+ * with the request id of the batch request, such that the engine responds to each of them with this
+ * request id. Instead of sending the first of these responses as the response to the request, the
+ * responses are collected until every command of the batch was answered, and are then sent
+ * together.
+ *
+ * <p>Batches are registered by the command API request handler, while the responses are collected
+ * by the response writers of the stream processors. The responses to the commands of a batch are
+ * always written by the stream processor of the batch's partition, in the order of the commands.
+ *
+ * <p>If a command of a batch is never answered, e.g. because the stream processor failed, the batch
+ * is evicted after {@link #BATCH_TIMEOUT}, which is far longer than the request timeout of any
+ * client waiting for the batch's response. Responses to the remaining commands of an evicted batch
+ * are sent as is, and are dropped by the client, as it stopped waiting for the request already.
+ */
+final class CommandBatchResponses {
+
+  static final Duration BATCH_TIMEOUT = Duration.ofMinutes(5);
+
+  private final Map<BatchId, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+
+  /**
+   * Registers a batch before its commands are written, such that the responses to these commands
+   * are collected.
+   */
+  void register(
+      final int partitionId, final long requestId, final int commandCount, final long now) {
+    pendingBatches.put(
+        new BatchId(partitionId, requestId),
+        new PendingBatch(commandCount, now + BATCH_TIMEOUT.toMillis()));
+  }
+
+  /** Removes a batch whose commands could not be written, such that it is not answered twice. */
+  void unregister(final int partitionId, final long requestId) {
+    pendingBatches.remove(new BatchId(partitionId, requestId));
+  }
+
+  /**
+   * Removes all batches of a partition, e.g. when the broker is not the leader of the partition
+   * anymore. Responses to the commands of these batches are not sent anymore.
+   */
+  void removePartition(final int partitionId) {
+    pendingBatches.keySet().removeIf(batch -> batch.partitionId() == partitionId);
+  }
+
+  /** Removes all batches which were registered {@link #BATCH_TIMEOUT} or longer before now. */
+  void evictExpired(final long now) {
+    pendingBatches.values().removeIf(batch -> batch.deadline <= now);
+  }
+
+  /**
+   * Collects the response to a command, if the command is part of a batch. The batch's response is
+   * sent once the response to its last command is collected.
+   *
+   * @return true if the response was collected, false if the command is not part of a batch and the
+   *     response must be sent as is
+   */
+  boolean tryCollect(
+      final ServerOutput output,
+      final int partitionId,
+      final long requestId,
+      final BufferWriter response) {
+    if (pendingBatches.isEmpty()) {
+      return false;
+    }
+
+    final var batchId = new BatchId(partitionId, requestId);
+    final var batch = pendingBatches.get(batchId);
+    if (batch == null) {
+      return false;
+    }
+
+    final var responseBuffer = new UnsafeBuffer(new byte[response.getLength()]);
+    response.write(responseBuffer, 0);
+    batch.responses.add(responseBuffer);
+
+    if (batch.isComplete()) {
+      pendingBatches.remove(batchId);
+      output.sendResponse(
+          new ServerResponseImpl()
+              .setPartitionId(partitionId)
+              .setRequestId(requestId)
+              .writer(new BatchResponseWriter(partitionId, batch.responses)));
+    }
+    return true;
+  }
+
+  private record BatchId(int partitionId, long requestId) {}
+
+  private static final class PendingBatch {
+    private final int commandCount;
+    private final long deadline;
+    private final List<UnsafeBuffer> responses;
+
+    private PendingBatch(final int commandCount, final long deadline) {
+      this.commandCount = commandCount;
+      this.deadline = deadline;
+      responses = new ArrayList<>(commandCount);
+    }
+
+    private boolean isComplete() {
+      return responses.size() == commandCount;
+    }
+  }
+
+  private record BatchResponseWriter(int partitionId, List<UnsafeBuffer> responses)
+      implements BufferWriter {
+
+    @Override
+    public int getLength() {
+      int length =
+          MessageHeaderEncoder.ENCODED_LENGTH
+              + ExecuteCommandBatchResponseEncoder.BLOCK_LENGTH
+              + ResponsesEncoder.sbeHeaderSize();
+      for (final var response : responses) {
+        length +=
+            ResponsesEncoder.sbeBlockLength()
+                + ResponsesEncoder.responseHeaderLength()
+                + response.capacity();
+      }
+      return length;
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      final var encoder =
+          new ExecuteCommandBatchResponseEncoder()
+              .wrapAndApplyHeader(buffer, offset, new MessageHeaderEncoder())
+              .partitionId(partitionId);
+      final var responsesEncoder = encoder.responsesCount(responses.size());
+      for (final var response : responses) {
+        responsesEncoder.next().putResponse(response, 0, response.capacity());
+      }
+    }
+  }
+}
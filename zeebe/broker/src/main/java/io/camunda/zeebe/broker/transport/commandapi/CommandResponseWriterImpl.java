@@ -33,6 +33,7 @@ public final class CommandResponseWriterImpl implements CommandResponseWriter, B
   private final ExecuteCommandResponseEncoder responseEncoder = new ExecuteCommandResponseEncoder();
   private final ServerResponseImpl response = new ServerResponseImpl();
   private final ServerOutput output;
+  private final CommandBatchResponses batchResponses;
   private final UnsafeBuffer rejectionReason = new UnsafeBuffer(0, 0);
   private int partitionId = partitionIdNullValue();
   private long key = keyNullValue();
@@ -43,7 +44,12 @@ public final class CommandResponseWriterImpl implements CommandResponseWriter, B
   private RejectionType rejectionType = RejectionType.NULL_VAL;
 
   public CommandResponseWriterImpl(final ServerOutput output) {
+    this(output, new CommandBatchResponses());
+  }
+
+  CommandResponseWriterImpl(final ServerOutput output, final CommandBatchResponses batchResponses) {
     this.output = output;
+    this.batchResponses = batchResponses;
   }
 
   @Override
@@ -99,6 +105,11 @@ public final class CommandResponseWriterImpl implements CommandResponseWriter, B
     Objects.requireNonNull(valueWriter);
 
     try {
+      // the responses to the commands of a batch are sent together, once all are collected
+      if (batchResponses.tryCollect(output, remoteStreamId, requestId, this)) {
+        return;
+      }
+
       response.reset().setPartitionId(remoteStreamId).setRequestId(requestId).writer(this);
 
       output.sendResponse(response);
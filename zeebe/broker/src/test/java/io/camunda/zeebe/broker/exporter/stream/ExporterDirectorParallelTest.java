@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorParallelTest {
+
+  private static final String EXPORTER_ID_1 = "exporter-1";
+  private static final String EXPORTER_ID_2 = "exporter-2";
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter().withParallelExporting();
+  private final List<ControlledTestExporter> exporters = new ArrayList<>();
+  private final List<ExporterDescriptor> exporterDescriptors = new ArrayList<>();
+
+  @Before
+  public void init() {
+    createExporter(EXPORTER_ID_1);
+    createExporter(EXPORTER_ID_2);
+  }
+
+  @Test
+  public void shouldExportToAllExporters() {
+    // given
+    exporters.forEach(e -> e.shouldAutoUpdatePosition(true));
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    final long lastPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    final ExportersState state = rule.getExportersState();
+    Awaitility.await("all exporters have exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              assertThat(exporters).allSatisfy(e -> assertThat(e.getExportedRecords()).hasSize(2));
+              assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(lastPosition);
+              assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(lastPosition);
+            });
+  }
+
+  @Test
+  public void shouldNotBeDelayedBySlowExporter() throws InterruptedException {
+    // given
+    final var blockedExport = new CountDownLatch(1);
+    final ControlledTestExporter slowExporter = exporters.get(0);
+    final ControlledTestExporter fastExporter = exporters.get(1);
+    slowExporter.onExport(
+        record -> {
+          try {
+            blockedExport.await(10, TimeUnit.SECONDS);
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    Awaitility.await("fast exporter has exported all records while the slow one is blocked")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(fastExporter.getExportedRecords()).hasSize(3));
+    assertThat(slowExporter.getExportedRecords()).isEmpty();
+
+    blockedExport.countDown();
+    Awaitility.await("slow exporter has caught up")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(slowExporter.getExportedRecords()).hasSize(3));
+  }
+
+  @Test
+  public void shouldReturnLowestPositionOverAllExporters() {
+    // given
+    final ControlledTestExporter laggingExporter = exporters.get(0);
+    final ControlledTestExporter tailingExporter = exporters.get(1);
+    laggingExporter.shouldAutoUpdatePosition(false);
+    tailingExporter.shouldAutoUpdatePosition(true);
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    final long firstPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    final long lastPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    Awaitility.await("all exporters have received all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(exporters)
+                    .allSatisfy(e -> assertThat(e.getExportedRecords()).hasSize(2)));
+    laggingExporter.getController().updateLastExportedRecordPosition(firstPosition);
+
+    // then
+    final ExportersState state = rule.getExportersState();
+    Awaitility.await("lagging exporter has updated its position")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(firstPosition));
+    assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(lastPosition);
+    assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(firstPosition);
+  }
+
+  private void createExporter(final String exporterId) {
+    final ControlledTestExporter exporter = spy(new ControlledTestExporter());
+
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Collections.emptyMap()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+
+    exporters.add(exporter);
+    exporterDescriptors.add(descriptor);
+  }
+}
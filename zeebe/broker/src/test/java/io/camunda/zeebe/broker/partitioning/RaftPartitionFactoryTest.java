@@ -96,6 +96,19 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(chunkSize.toBytes());
   }
 
+  @Test
+  void shouldSetRaftMaxSnapshotChunksInFlight() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setMaxSnapshotChunksInFlight(4);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxSnapshotChunksInFlight()).isEqualTo(4);
+  }
+
   @Test
   void shouldSetRaftConfigurationChangeTimeout() {
     // given
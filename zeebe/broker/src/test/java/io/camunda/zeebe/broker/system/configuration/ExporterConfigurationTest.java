@@ -62,4 +62,26 @@ class ExporterConfigurationTest {
     // then
     assertThat(exportingCfg.getSkipRecords()).isEqualTo(Set.of(1L, 2L, 3L));
   }
+
+  @Test
+  void shouldSetParallelExportingFromEnvironment() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.parallel", "true");
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.isParallel()).isTrue();
+  }
+
+  @Test
+  void shouldNotExportInParallelByDefault() {
+    // given
+    final ExportingCfg exportingCfg = new ExportingCfg();
+
+    // then
+    assertThat(exportingCfg.isParallel()).isFalse();
+  }
 }
@@ -8,9 +8,11 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 import org.junit.Test;
 import org.springframework.util.unit.DataSize;
 
@@ -77,6 +79,7 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMinWriteBufferNumberToMerge()).isEqualTo(3);
     assertThat(rocksDbConfiguration.getIoRateBytesPerSecond()).isZero();
     assertThat(rocksDbConfiguration.isWalDisabled()).isTrue();
+    assertThat(rocksDbConfiguration.getDedicatedColumnFamilies()).isEmpty();
   }
 
   @Test
@@ -110,6 +113,33 @@ public final class RocksdbCfgTest {
         .containsEntry("write_buffer_size", "67108864");
   }
 
+  @Test
+  public void shouldSetDedicatedColumnFamiliesConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getDedicatedColumnFamilies())
+        .containsOnlyKeys("VARIABLES")
+        .extractingByKey("VARIABLES")
+        .satisfies(options -> assertThat(options).containsEntry("write_buffer_size", "33554432"));
+  }
+
+  @Test
+  public void shouldRejectUnknownDedicatedColumnFamilies() {
+    // given
+    final var rocksdb = new RocksdbCfg();
+    rocksdb.setDedicatedColumnFamilies(
+        Map.of("VARIABLES", new Properties(), "VARIABLE", new Properties()));
+
+    // when - then
+    assertThatCode(() -> rocksdb.init(new BrokerCfg(), "/tmp"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("but got unknown [VARIABLE]");
+  }
+
   @Test
   public void shouldEnableStatisticsViaConfig() {
     // when
@@ -115,4 +115,56 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldNotPinPartitionActorsByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final boolean pinPartitionActors = cfg.isPinPartitionActors();
+
+    // then
+    assertThat(pinPartitionActors).isFalse();
+  }
+
+  @Test
+  void shouldSetPinPartitionActorsFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.pinPartitionActors", "true");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final boolean pinPartitionActors = cfg.isPinPartitionActors();
+
+    // then
+    assertThat(pinPartitionActors).isTrue();
+  }
+
+  @Test
+  void shouldNotUseVirtualIoThreadsByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final boolean virtualIoThreads = cfg.isVirtualIoThreads();
+
+    // then
+    assertThat(virtualIoThreads).isFalse();
+  }
+
+  @Test
+  void shouldSetVirtualIoThreadsFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.virtualIoThreads", "true");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final boolean virtualIoThreads = cfg.isVirtualIoThreads();
+
+    // then
+    assertThat(virtualIoThreads).isTrue();
+  }
 }
@@ -10,10 +10,13 @@ package io.camunda.zeebe.broker.transport.commandapi;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommandBatch;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
@@ -23,14 +26,21 @@ import io.camunda.zeebe.protocol.impl.encoding.ErrorResponse;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandRequest;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteQueryRequest;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.protocol.record.ErrorCode;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
+import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
 import io.camunda.zeebe.scheduler.testing.ControlledActorSchedulerRule;
 import io.camunda.zeebe.transport.ServerOutput;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -40,7 +50,8 @@ import org.junit.Test;
 
 public class CommandApiRequestHandlerTest {
   @Rule public final ControlledActorSchedulerRule scheduler = new ControlledActorSchedulerRule();
-  final CommandApiRequestHandler handler = new CommandApiRequestHandler();
+  final CommandBatchResponses batchResponses = new CommandBatchResponses();
+  final CommandApiRequestHandler handler = new CommandApiRequestHandler(batchResponses);
   private LogStreamWriter logStreamWriter;
 
   @Before
@@ -251,6 +262,157 @@ public class CommandApiRequestHandlerTest {
             ErrorCode.MALFORMED_REQUEST, "Request size is above configured maxMessageSize.");
   }
 
+  @Test
+  public void shouldWriteCommandBatchInOneAppend() {
+    // given
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(1L));
+    handler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    final var request = publishMessageBatch(3);
+
+    // when
+    handleRequest(request);
+
+    // then
+    verify(logWriter)
+        .tryWrite(
+            any(WriteContext.class),
+            argThat(
+                (List<LogAppendEntry> entries) ->
+                    entries.size() == 3
+                        && entries.stream()
+                            .allMatch(entry -> entry.recordMetadata().getRequestId() == 0)));
+  }
+
+  @Test
+  public void shouldRespondToCommandBatchOnceAllCommandsAreAnswered() {
+    // given
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(1L));
+    handler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    final var responses = new ArrayList<byte[]>();
+    final ServerOutput serverOutput =
+        serverResponse -> {
+          final var bytes = new byte[serverResponse.getLength()];
+          serverResponse.write(new UnsafeBuffer(bytes), 0);
+          responses.add(bytes);
+        };
+    final var responseWriter = new CommandResponseWriterImpl(serverOutput, batchResponses);
+    handleRequest(publishMessageBatch(2));
+
+    // when
+    writeMessagePublishedResponse(responseWriter, 1);
+    final var responsesAfterFirstCommand = responses.size();
+    writeMessagePublishedResponse(responseWriter, 2);
+
+    // then
+    assertThat(responsesAfterFirstCommand).isZero();
+    assertThat(responses).hasSize(1);
+
+    final var decoder = new ExecuteCommandBatchResponseDecoder();
+    decoder.wrapAndApplyHeader(
+        new UnsafeBuffer(responses.getFirst()), 0, new MessageHeaderDecoder());
+    final var commandKeys = new ArrayList<Long>();
+    for (final var commandResponse : decoder.responses()) {
+      final var responseBuffer = new UnsafeBuffer(new byte[commandResponse.responseLength()]);
+      commandResponse.getResponse(responseBuffer, 0, responseBuffer.capacity());
+      final var response = new ExecuteCommandResponse();
+      response.wrap(responseBuffer, 0, responseBuffer.capacity());
+      commandKeys.add(response.getKey());
+    }
+    assertThat(commandKeys).containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldNotCollectResponsesOfFailedCommandBatch() {
+    // given
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList()))
+        .thenReturn(Either.left(WriteFailure.WRITE_LIMIT_EXHAUSTED));
+    handler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    // when
+    handleRequest(publishMessageBatch(2));
+
+    // then
+    assertThat(batchResponses.tryCollect(serverResponse -> {}, 0, 0, new MessageRecord()))
+        .isFalse();
+  }
+
+  @Test
+  public void shouldEvictCommandBatchWhichIsNotAnswered() {
+    // given
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(1L));
+    handler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+    handleRequest(publishMessageBatch(2));
+
+    // when
+    scheduler.getClock().addTime(CommandBatchResponses.BATCH_TIMEOUT);
+    scheduler.workUntilDone();
+
+    // then
+    assertThat(batchResponses.tryCollect(serverResponse -> {}, 0, 0, new MessageRecord()))
+        .isFalse();
+  }
+
+  @Test
+  public void shouldRemoveCommandBatchesWhenStreamProcessorFailed() {
+    // given
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(1L));
+    handler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+    handleRequest(publishMessageBatch(2));
+
+    // when
+    handler.onFailed(0);
+    scheduler.workUntilDone();
+
+    // then
+    assertThat(batchResponses.tryCollect(serverResponse -> {}, 0, 0, new MessageRecord()))
+        .isFalse();
+  }
+
+  private BrokerExecuteCommandBatch<MessageRecord> publishMessageBatch(final int size) {
+    final var commands = new ArrayList<BrokerPublishMessageRequest>();
+    for (int i = 0; i < size; i++) {
+      final var command =
+          new BrokerPublishMessageRequest("test", String.valueOf(i))
+              .setMessageId(String.valueOf(i))
+              .setTimeToLive(0);
+      command.setPartitionId(0);
+      commands.add(command);
+    }
+
+    final var batch = new BrokerExecuteCommandBatch<MessageRecord>(commands);
+    batch.serializeValue();
+    return batch;
+  }
+
+  private void writeMessagePublishedResponse(
+      final CommandResponseWriterImpl responseWriter, final long key) {
+    responseWriter
+        .partitionId(0)
+        .key(key)
+        .recordType(RecordType.EVENT)
+        .valueType(ValueType.MESSAGE)
+        .intent(MessageIntent.PUBLISHED)
+        .valueWriter(new MessageRecord().setName("test").setCorrelationKey("1").setTimeToLive(0))
+        .tryWriteResponse(0, 0);
+  }
+
   private CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>> handleRequest(
       final BufferWriter request) {
     final var future = new CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>>();
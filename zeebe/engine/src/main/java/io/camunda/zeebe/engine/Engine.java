@@ -164,6 +164,11 @@ public class Engine implements RecordProcessor {
     return processingResultBuilder.build();
   }
 
+  @Override
+  public void onRollback() {
+    processingState.getVariableState().clearCache();
+  }
+
   private boolean shouldProcessCommand(final TypedRecord<?> typedCommand) {
     // There is no ban check needed if the intent is not instance related
     // nor if the intent is to create new instances, which can't be banned yet
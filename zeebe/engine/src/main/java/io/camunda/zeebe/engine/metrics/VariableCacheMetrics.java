@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class VariableCacheMetrics {
+
+  private static final Counter CACHE_LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("variable_cache_lookups_total")
+          .help(
+              "Number of lookups in the variable cache, by the kind of the cached data and whether"
+                  + " it was a hit or a miss")
+          .labelNames("partition", "kind", "result")
+          .register();
+
+  private final Counter.Child variableHits;
+  private final Counter.Child variableMisses;
+  private final Counter.Child documentHits;
+  private final Counter.Child documentMisses;
+  private final Counter.Child scopeHits;
+  private final Counter.Child scopeMisses;
+
+  public VariableCacheMetrics(final int partitionId) {
+    final String partitionIdLabel = String.valueOf(partitionId);
+    variableHits = CACHE_LOOKUPS.labels(partitionIdLabel, "variable", "hit");
+    variableMisses = CACHE_LOOKUPS.labels(partitionIdLabel, "variable", "miss");
+    documentHits = CACHE_LOOKUPS.labels(partitionIdLabel, "document", "hit");
+    documentMisses = CACHE_LOOKUPS.labels(partitionIdLabel, "document", "miss");
+    scopeHits = CACHE_LOOKUPS.labels(partitionIdLabel, "scope", "hit");
+    scopeMisses = CACHE_LOOKUPS.labels(partitionIdLabel, "scope", "miss");
+  }
+
+  public void variableLookup(final boolean hit) {
+    (hit ? variableHits : variableMisses).inc();
+  }
+
+  public void documentLookup(final boolean hit) {
+    (hit ? documentHits : documentMisses).inc();
+  }
+
+  public void scopeLookup(final boolean hit) {
+    (hit ? scopeHits : scopeMisses).inc();
+  }
+}
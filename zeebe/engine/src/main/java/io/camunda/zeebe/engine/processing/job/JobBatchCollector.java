@@ -31,11 +31,12 @@ import java.util.Collection;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.MutableReference;
+import org.agrona.collections.Object2IntHashMap;
 import org.agrona.collections.ObjectHashSet;
 
 /**
@@ -50,6 +51,7 @@ final class JobBatchCollector {
   private final JobVariablesCollector jobVariablesCollector;
   private final AuthorizationCheckBehavior authCheckBehavior;
   private final Predicate<Integer> canWriteEventOfLength;
+  private final Object2IntHashMap<String> processCursors = new Object2IntHashMap<>(0);
 
   /**
    * @param canWriteEventOfLength a predicate which should return whether the resulting {@link
@@ -98,15 +100,8 @@ final class JobBatchCollector {
             new AuthorizationRequest(
                 record, AuthorizationResourceType.PROCESS_DEFINITION, PermissionType.UPDATE));
 
-    jobState.forEachActivatableJobs(
-        value.getTypeBuffer(),
-        tenantIds,
+    final BiFunction<Long, JobRecord, Boolean> jobCollector =
         (key, jobRecord) -> {
-          if (!isAuthorizedForJob(jobRecord, authorizedProcessIds)) {
-            // Skip Jobs the user is not authorized for
-            return true;
-          }
-
           // fill in the job record properties first in order to accurately estimate its size before
           // adding it to the batch
           final var deadline = record.getTimestamp() + value.getTimeout();
@@ -141,7 +136,28 @@ final class JobBatchCollector {
           }
 
           return activatedCount.value < maxActivatedCount;
-        });
+        };
+
+    if (authorizedProcessIds.contains(WILDCARD_PERMISSION)) {
+      jobState.forEachActivatableJobs(value.getTypeBuffer(), tenantIds, jobCollector);
+    } else if (!authorizedProcessIds.isEmpty()) {
+      // seek directly to the jobs of the authorized processes instead of skipping all other jobs of
+      // the type, and start with the next process on every activation to spread the workers over
+      // the jobs of all processes; the cursor is kept per job type, so that the activations of one
+      // type don't influence where the workers of another type start
+      final List<String> bpmnProcessIds = authorizedProcessIds.stream().sorted().toList();
+      final String type = value.getType();
+      final int processCursor = processCursors.getValue(type);
+      processCursors.put(type, processCursor + 1);
+      jobState.forEachActivatableJobs(
+          value.getTypeBuffer(), tenantIds, bpmnProcessIds, processCursor, jobCollector);
+
+      if (activatedCount.value < maxActivatedCount && !value.getTruncated()) {
+        // all activatable jobs of the type were collected, so there is nothing left to spread the
+        // workers over; drop the cursor, such that the map only holds types which still have jobs
+        processCursors.removeKey(type);
+      }
+    }
 
     if (unwritableJob.ref != null) {
       return Either.left(unwritableJob.ref);
@@ -150,12 +166,6 @@ final class JobBatchCollector {
     return Either.right(jobCountPerJobKind);
   }
 
-  private boolean isAuthorizedForJob(
-      final JobRecord jobRecord, final Set<String> authorizedProcessIds) {
-    return authorizedProcessIds.contains(WILDCARD_PERMISSION)
-        || authorizedProcessIds.contains(jobRecord.getBpmnProcessId());
-  }
-
   private void appendJobToBatch(
       final ValueArray<JobRecord> jobIterator,
       final ValueArray<LongValue> jobKeyIterator,
@@ -11,13 +11,10 @@ import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.state.immutable.UserTaskState;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.msgpack.spec.MsgPackDocumentMerger;
 import io.camunda.zeebe.msgpack.value.DocumentValue;
-import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
-import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.Collection;
-import java.util.Map;
-import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 
 public class JobVariablesCollector {
@@ -25,6 +22,7 @@ public class JobVariablesCollector {
   private final VariableState variableState;
   private final UserTaskState userTaskState;
   private final ElementInstanceState elementInstanceState;
+  private final MsgPackDocumentMerger documentMerger = new MsgPackDocumentMerger();
 
   public JobVariablesCollector(final ProcessingState processingState) {
     variableState = processingState.getVariableState();
@@ -48,41 +46,39 @@ public class JobVariablesCollector {
     final DirectBuffer jobVariables =
         switch (jobRecord.getJobKind()) {
           case BPMN_ELEMENT, EXECUTION_LISTENER -> processVariables;
-          case TASK_LISTENER -> {
-            final var taskVariablesMap = getTaskVariables(requestedVariables, elementInstanceKey);
-
-            // merge the two variables maps favoring the task variables over process variables
-            final Map<String, Object> taskListenersVariables =
-                MsgPackConverter.convertToMap(processVariables);
-            taskListenersVariables.putAll(taskVariablesMap);
-            yield BufferUtil.wrapArray(MsgPackConverter.convertToMsgPack(taskListenersVariables));
-          }
+          case TASK_LISTENER ->
+              mergeTaskVariables(requestedVariables, elementInstanceKey, processVariables);
         };
 
     jobRecord.setVariables(jobVariables);
   }
 
-  private Map<String, Object> getTaskVariables(
-      final Collection<DirectBuffer> requestedVariables, final long elementInstanceKey) {
+  private DirectBuffer mergeTaskVariables(
+      final Collection<DirectBuffer> requestedVariables,
+      final long elementInstanceKey,
+      final DirectBuffer processVariables) {
+    final DirectBuffer taskVariables = getTaskVariables(elementInstanceKey);
+    if (taskVariables.capacity() <= 0 || DocumentValue.EMPTY_DOCUMENT.equals(taskVariables)) {
+      return processVariables;
+    }
+
+    // merge the two documents favoring the task variables over process variables
+    if (requestedVariables.isEmpty()) {
+      return documentMerger.merge(processVariables, taskVariables);
+    }
+    return documentMerger.merge(processVariables, taskVariables, requestedVariables::contains);
+  }
+
+  private DirectBuffer getTaskVariables(final long elementInstanceKey) {
     final var elementInstance = elementInstanceState.getInstance(elementInstanceKey);
     if (elementInstance == null) {
-      return Map.of();
+      return DocumentValue.EMPTY_DOCUMENT;
     }
     final var userTaskIntermediateState =
         userTaskState.getIntermediateState(elementInstance.getUserTaskKey());
     if (userTaskIntermediateState == null) {
-      return Map.of();
-    }
-    final var taskVariables = userTaskIntermediateState.getRecord().getVariablesBuffer();
-    if (taskVariables.capacity() <= 0) {
-      return Map.of();
-    }
-    final Map<String, Object> taskVariablesMap = MsgPackConverter.convertToMap(taskVariables);
-    if (requestedVariables.isEmpty()) {
-      return taskVariablesMap;
+      return DocumentValue.EMPTY_DOCUMENT;
     }
-    return taskVariablesMap.entrySet().stream()
-        .filter(e -> requestedVariables.contains(BufferUtil.wrapString(e.getKey())))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    return userTaskIntermediateState.getRecord().getVariablesBuffer();
   }
 }
@@ -9,22 +9,49 @@ package io.camunda.zeebe.engine.state.deployment;
 
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProcessState;
+import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
 
 public final class DeployedProcess {
-  private final ExecutableProcess process;
   private final PersistedProcess persistedProcess;
+  private ExecutableProcess process;
+  private Supplier<ExecutableProcess> processTransformer;
 
   public DeployedProcess(final ExecutableProcess process, final PersistedProcess persistedProcess) {
     this.process = process;
     this.persistedProcess = persistedProcess;
   }
 
+  /**
+   * Creates a deployed process whose executable process is transformed only when it is accessed for
+   * the first time. Most lookups of a process only need its metadata, e.g. its key or version, so
+   * the transformation of the BPMN model can be skipped for them.
+   *
+   * <p>If the transformation fails, {@link #getProcess()} throws the exception to its caller and
+   * the transformation is tried again on the next access. This is safe, as the process is only
+   * accessed while processing a command or applying an event, just like the lookup which
+   * transformed the process eagerly before. The failure is therefore handled by the same error
+   * handling of the stream processor, and it is never cached as a transformed process.
+   *
+   * @param processTransformer transforms the executable process; it is called until it succeeds
+   * @param persistedProcess the persisted process
+   */
+  public DeployedProcess(
+      final Supplier<ExecutableProcess> processTransformer,
+      final PersistedProcess persistedProcess) {
+    this.processTransformer = processTransformer;
+    this.persistedProcess = persistedProcess;
+  }
+
   public DirectBuffer getResourceName() {
     return persistedProcess.getResourceName();
   }
 
   public ExecutableProcess getProcess() {
+    if (process == null) {
+      process = processTransformer.get();
+      processTransformer = null;
+    }
     return process;
   }
 
@@ -64,7 +91,7 @@ public final class DeployedProcess {
   public String toString() {
     return "DeployedProcess{"
         + "process="
-        + process
+        + (process != null ? process : "<not transformed>")
         + ", persistedProcess="
         + persistedProcess
         + '}';
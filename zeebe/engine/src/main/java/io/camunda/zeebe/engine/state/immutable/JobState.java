@@ -42,6 +42,33 @@ public interface JobState {
       final List<String> tenantIds,
       BiFunction<Long, JobRecord, Boolean> callback);
 
+  /**
+   * Loops over the activatable jobs of the given type which belong to one of the given processes,
+   * seeking directly to the jobs of each process and tenant instead of scanning all jobs of the
+   * type. The processes are visited in order, starting at {@code startIndex} and wrapping around,
+   * such that callers can spread subsequent activations over the jobs of all processes.
+   *
+   * @param type the type of the jobs
+   * @param tenantIds the tenants the jobs may belong to
+   * @param bpmnProcessIds the BPMN process ids the jobs may belong to
+   * @param startIndex the index of the process to start with; wraps around the process ids
+   * @param callback A callback method to be applied to each job. It must return a boolean that when
+   *     {@code true} allows the loop to continue, or when {@code false} stops iteration.
+   */
+  void forEachActivatableJobs(
+      DirectBuffer type,
+      List<String> tenantIds,
+      List<String> bpmnProcessIds,
+      int startIndex,
+      BiFunction<Long, JobRecord, Boolean> callback);
+
+  /**
+   * Returns whether there are activatable jobs which are not yet indexed by their process, i.e.
+   * jobs which were made activatable before the index existed. Only the first activatable job is
+   * checked, as it is indexed last when the existing jobs are indexed.
+   */
+  boolean isActivatableByProcessIndexMissing();
+
   JobRecord getJob(long key);
 
   JobRecord getJob(final long key, final Map<String, Object> authorizations);
@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.instance;
 
 import io.camunda.zeebe.auth.impl.Authorization;
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -30,7 +31,11 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.LongHashSet;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableInteger;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
@@ -61,6 +66,19 @@ public final class DbJobState implements JobState, MutableJobState {
           DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>, DbNil>
       activatableColumnFamily;
 
+  // [tenant_id, [[type, bpmn_process_id], key]] => nil
+  private final DbString bpmnProcessIdKey;
+  private final DbCompositeKey<DbString, DbString> typeProcessKey;
+  private final DbTenantAwareKey<DbCompositeKey<DbString, DbString>> tenantAwareTypeProcessKey;
+  private final DbTenantAwareKey<
+          DbCompositeKey<DbCompositeKey<DbString, DbString>, DbForeignKey<DbLong>>>
+      tenantAwareTypeProcessJobKey;
+  private final ColumnFamily<
+          DbTenantAwareKey<
+              DbCompositeKey<DbCompositeKey<DbString, DbString>, DbForeignKey<DbLong>>>,
+          DbNil>
+      activatableByProcessColumnFamily;
+
   // timeout => key
   private final DbLong deadlineKey;
   private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> deadlineJobKey;
@@ -73,6 +91,10 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily;
   private long nextBackOffDueDate;
 
+  // the activatable job to continue with when indexing the jobs by process in chunks
+  private final MutableDirectBuffer activatableIndexCursor = new ExpandableArrayBuffer();
+  private int activatableIndexCursorLength;
+
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
 
@@ -97,6 +119,20 @@ public final class DbJobState implements JobState, MutableJobState {
             tenantAwareTypeJobKey,
             DbNil.INSTANCE);
 
+    bpmnProcessIdKey = new DbString();
+    typeProcessKey = new DbCompositeKey<>(jobTypeKey, bpmnProcessIdKey);
+    tenantAwareTypeProcessKey =
+        new DbTenantAwareKey<>(tenantIdKey, typeProcessKey, PlacementType.PREFIX);
+    tenantAwareTypeProcessJobKey =
+        new DbTenantAwareKey<>(
+            tenantIdKey, new DbCompositeKey<>(typeProcessKey, fkJob), PlacementType.PREFIX);
+    activatableByProcessColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.JOB_ACTIVATABLE_BY_PROCESS,
+            transactionContext,
+            tenantAwareTypeProcessJobKey,
+            DbNil.INSTANCE);
+
     deadlineKey = new DbLong();
     deadlineJobKey = new DbCompositeKey<>(deadlineKey, fkJob);
     deadlinesColumnFamily =
@@ -112,14 +148,12 @@ public final class DbJobState implements JobState, MutableJobState {
 
   @Override
   public void create(final long key, final JobRecord record) {
-    final DirectBuffer type = record.getTypeBuffer();
-    createJob(key, record, type);
+    createJob(key, record);
   }
 
   @Override
   public void activate(final long key, final JobRecord record) {
     final DirectBuffer type = record.getTypeBuffer();
-    final String tenantId = record.getTenantId();
     final long deadline = record.getDeadline();
 
     validateParameters(type);
@@ -129,7 +163,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     updateJobState(State.ACTIVATED);
 
-    makeJobNotActivatable(type, tenantId);
+    makeJobNotActivatable(record);
 
     addJobDeadline(key, deadline);
   }
@@ -164,26 +198,23 @@ public final class DbJobState implements JobState, MutableJobState {
   @Override
   public void disable(final long key, final JobRecord record) {
     updateJob(key, record, State.FAILED);
-    makeJobNotActivatable(record.getTypeBuffer(), record.getTenantId());
+    makeJobNotActivatable(record);
   }
 
   @Override
   public void throwError(final long key, final JobRecord updatedValue) {
     updateJob(key, updatedValue, State.ERROR_THROWN);
-    makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+    makeJobNotActivatable(updatedValue);
   }
 
   @Override
   public void delete(final long key, final JobRecord record) {
-    final DirectBuffer type = record.getTypeBuffer();
-    final String tenantId = record.getTenantId();
-
     jobKey.wrapLong(key);
     jobsColumnFamily.deleteExisting(jobKey);
 
     statesJobColumnFamily.deleteExisting(fkJob);
 
-    makeJobNotActivatable(type, tenantId);
+    makeJobNotActivatable(record);
 
     removeJobDeadline(key, record.getDeadline());
     removeJobBackoff(key, record.getRecurringTime());
@@ -195,13 +226,13 @@ public final class DbJobState implements JobState, MutableJobState {
       if (updatedValue.getRetryBackoff() > 0) {
         addJobBackoff(key, updatedValue.getRecurringTime());
         updateJob(key, updatedValue, State.FAILED);
-        makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+        makeJobNotActivatable(updatedValue);
       } else {
         updateJob(key, updatedValue, State.ACTIVATABLE);
       }
     } else {
       updateJob(key, updatedValue, State.FAILED);
-      makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+      makeJobNotActivatable(updatedValue);
     }
   }
 
@@ -274,7 +305,67 @@ public final class DbJobState implements JobState, MutableJobState {
 
   @Override
   public void migrate(final long key, final JobRecord record) {
-    updateJobRecord(key, record);
+    if (isInState(key, State.ACTIVATABLE)) {
+      // the job may be migrated to another process, so its index entry has to move along
+      makeJobNotActivatable(getJob(key));
+      updateJobRecord(key, record);
+      makeJobActivatable(key, record);
+    } else {
+      updateJobRecord(key, record);
+    }
+  }
+
+  @Override
+  public boolean indexActivatableJobsByProcess(final int chunkSize) {
+    final var isFirstChunk = activatableIndexCursorLength == 0;
+    final var visitedJobs = new MutableInteger();
+    final var hasMoreJobs = new MutableBoolean();
+    final KeyValuePairVisitor<
+            DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>, DbNil>
+        indexJob =
+            (key, nil) -> {
+              if (visitedJobs.get() == chunkSize) {
+                // remember where to continue with the next chunk
+                key.write(activatableIndexCursor, 0);
+                activatableIndexCursorLength = key.getLength();
+                hasMoreJobs.set(true);
+                return false;
+              }
+
+              // the first job is indexed last, see isActivatableByProcessIndexMissing
+              if (!isFirstChunk || visitedJobs.get() > 0) {
+                indexActivatableJobByProcess();
+              }
+              visitedJobs.increment();
+              return true;
+            };
+
+    if (isFirstChunk) {
+      activatableColumnFamily.whileTrue(indexJob);
+    } else {
+      tenantAwareTypeJobKey.wrap(activatableIndexCursor, 0, activatableIndexCursorLength);
+      activatableColumnFamily.whileTrue(tenantAwareTypeJobKey, indexJob);
+    }
+
+    if (hasMoreJobs.get()) {
+      return true;
+    }
+
+    activatableIndexCursorLength = 0;
+    activatableColumnFamily.whileTrue(
+        (key, nil) -> {
+          indexActivatableJobByProcess();
+          return false;
+        });
+    return false;
+  }
+
+  private void indexActivatableJobByProcess() {
+    final var jobRecord = jobsColumnFamily.get(jobKey);
+    if (jobRecord != null) {
+      bpmnProcessIdKey.wrapBuffer(jobRecord.getRecord().getBpmnProcessIdBuffer());
+      activatableByProcessColumnFamily.upsert(tenantAwareTypeProcessJobKey, DbNil.INSTANCE);
+    }
   }
 
   @Override
@@ -310,10 +401,10 @@ public final class DbJobState implements JobState, MutableJobState {
         });
   }
 
-  private void createJob(final long key, final JobRecord record, final DirectBuffer type) {
+  private void createJob(final long key, final JobRecord record) {
     createJobRecord(key, record);
     initializeJobState();
-    makeJobActivatable(type, key, record.getTenantId());
+    makeJobActivatable(key, record);
   }
 
   private void updateJob(final long key, final JobRecord updatedValue, final State newState) {
@@ -326,7 +417,7 @@ public final class DbJobState implements JobState, MutableJobState {
     updateJobState(newState);
 
     if (newState == State.ACTIVATABLE) {
-      makeJobActivatable(type, key, updatedValue.getTenantId());
+      makeJobActivatable(key, updatedValue);
     }
 
     if (newState != State.ACTIVATED) {
@@ -423,6 +514,52 @@ public final class DbJobState implements JobState, MutableJobState {
         }));
   }
 
+  @Override
+  public void forEachActivatableJobs(
+      final DirectBuffer type,
+      final List<String> tenantIds,
+      final List<String> bpmnProcessIds,
+      final int startIndex,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    final int processCount = bpmnProcessIds.size();
+    final var continueIteration = new MutableBoolean(true);
+    for (int i = 0; i < processCount && continueIteration.get(); i++) {
+      final String bpmnProcessId = bpmnProcessIds.get(Math.floorMod(startIndex + i, processCount));
+      for (int t = 0; t < tenantIds.size() && continueIteration.get(); t++) {
+        jobTypeKey.wrapBuffer(type);
+        bpmnProcessIdKey.wrapString(bpmnProcessId);
+        tenantIdKey.wrapString(tenantIds.get(t));
+
+        activatableByProcessColumnFamily.whileEqualPrefix(
+            tenantAwareTypeProcessKey,
+            (key, nil) -> {
+              final long jobKey = key.wrappedKey().second().inner().getValue();
+              continueIteration.set(visitJob(jobKey, callback::apply));
+              return continueIteration.get();
+            });
+      }
+    }
+  }
+
+  @Override
+  public boolean isActivatableByProcessIndexMissing() {
+    final var isIndexMissing = new MutableBoolean();
+    activatableColumnFamily.whileTrue(
+        (key, nil) -> {
+          final var jobRecord = jobsColumnFamily.get(jobKey);
+          if (jobRecord == null) {
+            // we can't tell from a dangling entry whether the jobs were indexed
+            isIndexMissing.set(true);
+          } else {
+            bpmnProcessIdKey.wrapBuffer(jobRecord.getRecord().getBpmnProcessIdBuffer());
+            isIndexMissing.set(
+                !activatableByProcessColumnFamily.exists(tenantAwareTypeProcessJobKey));
+          }
+          return false;
+        });
+    return isIndexMissing.get();
+  }
+
   @Override
   public JobRecord getJob(final long key) {
     jobKey.wrapLong(key);
@@ -500,25 +637,33 @@ public final class DbJobState implements JobState, MutableJobState {
     statesJobColumnFamily.update(fkJob, jobState);
   }
 
-  private void makeJobActivatable(final DirectBuffer type, final long key, final String tenantId) {
+  private void makeJobActivatable(final long key, final JobRecord record) {
+    final DirectBuffer type = record.getTypeBuffer();
+    final String tenantId = record.getTenantId();
     EnsureUtil.ensureNotNullOrEmpty("type", type);
     EnsureUtil.ensureNotNullOrEmpty("tenantId", tenantId);
 
     jobTypeKey.wrapBuffer(type);
     jobKey.wrapLong(key);
     tenantIdKey.wrapString(tenantId);
+    bpmnProcessIdKey.wrapBuffer(record.getBpmnProcessIdBuffer());
     // Need to upsert here because jobs can be marked as failed (and thus made activatable)
     // without activating them first
     activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
+    activatableByProcessColumnFamily.upsert(tenantAwareTypeProcessJobKey, DbNil.INSTANCE);
   }
 
-  private void makeJobNotActivatable(final DirectBuffer type, final String tenantId) {
+  private void makeJobNotActivatable(final JobRecord record) {
+    final DirectBuffer type = record.getTypeBuffer();
+    final String tenantId = record.getTenantId();
     EnsureUtil.ensureNotNullOrEmpty("type", type);
     EnsureUtil.ensureNotNullOrEmpty("tenantid", tenantId);
 
     jobTypeKey.wrapBuffer(type);
     tenantIdKey.wrapString(tenantId);
+    bpmnProcessIdKey.wrapBuffer(record.getBpmnProcessIdBuffer());
     activatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
+    activatableByProcessColumnFamily.deleteIfExists(tenantAwareTypeProcessJobKey);
   }
 
   private void addJobDeadline(final long job, final long deadline) {
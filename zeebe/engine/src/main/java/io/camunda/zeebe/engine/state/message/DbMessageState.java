@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.EnsureUtil.ensureGreaterThan;
 import static io.camunda.zeebe.util.EnsureUtil.ensureNotNullOrEmpty;
 
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.CountedColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -66,22 +67,16 @@ public final class DbMessageState implements MutableMessageState {
    * <pre>deadline | key -> []
    *
    * find messages which are before a given timestamp
+   *
+   * <p>All message deadlines are counted under the {@link #DEADLINE_MESSAGE_COUNT_KEY} in the
+   * message stats column family.
    */
   private final DbLong deadline;
 
   private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> deadlineMessageKey;
-  private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
-      deadlineColumnFamily;
-
-  /**
-   * <pre>count | key -> value
-   *
-   * gets the count of message deadlines
-   */
-  private final DbLong messagesDeadlineCount;
-
   private final DbString messagesDeadlineCountKey;
-  private final ColumnFamily<DbString, DbLong> messagesDeadlineCountColumnFamily;
+  private final CountedColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil, DbString>
+      deadlineColumnFamily;
 
   /**
    * <pre>tenant aware message name | correlation key | message id -> []
@@ -128,8 +123,6 @@ public final class DbMessageState implements MutableMessageState {
 
   private final BufferedMessagesMetrics bufferedMessagesMetrics;
 
-  private Long localMessageDeadlineCount = 0L;
-
   public DbMessageState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
@@ -156,23 +149,16 @@ public final class DbMessageState implements MutableMessageState {
 
     deadline = new DbLong();
     deadlineMessageKey = new DbCompositeKey<>(deadline, fkMessage);
+    messagesDeadlineCountKey = new DbString();
+    messagesDeadlineCountKey.wrapString(DEADLINE_MESSAGE_COUNT_KEY);
     deadlineColumnFamily =
-        zeebeDb.createColumnFamily(
+        zeebeDb.createCountedColumnFamily(
             ZbColumnFamilies.MESSAGE_DEADLINES,
             transactionContext,
             deadlineMessageKey,
-            DbNil.INSTANCE);
-
-    messagesDeadlineCount = new DbLong();
-    messagesDeadlineCountKey = new DbString();
-    messagesDeadlineCountColumnFamily =
-        zeebeDb.createColumnFamily(
+            DbNil.INSTANCE,
             ZbColumnFamilies.MESSAGE_STATS,
-            transactionContext,
-            messagesDeadlineCountKey,
-            messagesDeadlineCount);
-
-    messagesDeadlineCountKey.wrapString(DEADLINE_MESSAGE_COUNT_KEY);
+            key -> messagesDeadlineCountKey);
 
     messageId = new DbString();
     nameCorrelationMessageIdKey = new DbCompositeKey<>(nameAndCorrelationKey, messageId);
@@ -213,12 +199,7 @@ public final class DbMessageState implements MutableMessageState {
 
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
-    if (!messagesDeadlineCountColumnFamily.isEmpty()) {
-      localMessageDeadlineCount =
-          messagesDeadlineCountColumnFamily.get(messagesDeadlineCountKey).getValue();
-    }
-
-    bufferedMessagesMetrics.setBufferedMessagesCounter(localMessageDeadlineCount);
+    updateBufferedMessagesMetrics();
   }
 
   @Override
@@ -234,11 +215,7 @@ public final class DbMessageState implements MutableMessageState {
 
     deadline.wrapLong(record.getDeadline());
     deadlineColumnFamily.insert(deadlineMessageKey, DbNil.INSTANCE);
-
-    localMessageDeadlineCount += 1L;
-    messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
-    messagesDeadlineCountColumnFamily.upsert(messagesDeadlineCountKey, messagesDeadlineCount);
-    bufferedMessagesMetrics.setBufferedMessagesCounter(localMessageDeadlineCount);
+    updateBufferedMessagesMetrics();
 
     final DirectBuffer messageId = record.getMessageIdBuffer();
     if (messageId.capacity() > 0) {
@@ -334,11 +311,7 @@ public final class DbMessageState implements MutableMessageState {
 
     deadline.wrapLong(storedMessage.getMessage().getDeadline());
     deadlineColumnFamily.deleteExisting(deadlineMessageKey);
-
-    localMessageDeadlineCount -= 1L;
-    messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
-    messagesDeadlineCountColumnFamily.upsert(messagesDeadlineCountKey, messagesDeadlineCount);
-    bufferedMessagesMetrics.setBufferedMessagesCounter(localMessageDeadlineCount);
+    updateBufferedMessagesMetrics();
 
     correlatedMessageColumnFamily.whileEqualPrefix(
         messageKey,
@@ -446,4 +419,9 @@ public final class DbMessageState implements MutableMessageState {
 
     return messageIdColumnFamily.exists(nameCorrelationMessageIdKey);
   }
+
+  private void updateBufferedMessagesMetrics() {
+    bufferedMessagesMetrics.setBufferedMessagesCounter(
+        deadlineColumnFamily.countPrefix(messagesDeadlineCountKey));
+  }
 }
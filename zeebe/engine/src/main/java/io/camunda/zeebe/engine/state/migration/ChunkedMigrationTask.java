@@ -0,0 +1,36 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.migration;
+
+/**
+ * A migration task which migrates the state in bounded chunks, so that a migration of a large state
+ * doesn't have to be done in a single transaction. The migrator commits the transaction after each
+ * chunk.
+ *
+ * <p>In addition to the contract of {@link MigrationTask}, implementations must expect that only
+ * some of the chunks were committed when the migration was interrupted, e.g. by a restart. {@code
+ * needsToRun(...)} must then still return {@code true}, and the migration must be able to continue
+ * from such a partially migrated state.
+ */
+public interface ChunkedMigrationTask extends MigrationTask {
+
+  /**
+   * Migrates the next chunk of the state.
+   *
+   * @return true if there are more chunks to migrate, false if the migration is done
+   */
+  boolean runMigrationChunk(final MutableMigrationTaskContext context);
+
+  /** Migrates all chunks without committing in between. */
+  @Override
+  default void runMigration(final MutableMigrationTaskContext context) {
+    while (runMigrationChunk(context)) {
+      // migrate the next chunk
+    }
+  }
+}
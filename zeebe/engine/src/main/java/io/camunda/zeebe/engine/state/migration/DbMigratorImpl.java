@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.state.migration;
 
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.engine.state.migration.VersionCompatibilityCheck.CheckResult;
 import io.camunda.zeebe.engine.state.migration.VersionCompatibilityCheck.CheckResult.Compatible;
 import io.camunda.zeebe.engine.state.migration.VersionCompatibilityCheck.CheckResult.Incompatible;
@@ -25,6 +26,7 @@ import io.camunda.zeebe.engine.state.migration.to_8_4.MultiTenancySignalSubscrip
 import io.camunda.zeebe.engine.state.migration.to_8_5.ColumnFamilyPrefixCorrectionMigration;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.stream.api.ClusterContext;
+import io.camunda.zeebe.util.CheckedRunnable;
 import io.camunda.zeebe.util.VersionUtil;
 import java.util.ArrayList;
 import java.util.List;
@@ -58,23 +60,43 @@ public class DbMigratorImpl implements DbMigrator {
           new ColumnFamilyPrefixCorrectionMigration(),
           new MultiTenancySignalSubscriptionStateMigration(),
           new JobBackoffRestoreMigration(),
-          new RoutingInfoMigration());
+          new RoutingInfoMigration(),
+          new JobActivatableByProcessMigration());
   // Be mindful of https://github.com/camunda/camunda/issues/7248. In particular, that issue
-  // should be solved first, before adding any migration that can take a long time
+  // should be solved first, before adding any migration that can take a long time. Migrations of
+  // potentially large state should at least be a ChunkedMigrationTask, so they are not done in a
+  // single transaction
 
   private final MutableMigrationTaskContext migrationTaskContext;
   private final List<MigrationTask> migrationTasks;
+  private final CheckedRunnable commitChunk;
 
   public DbMigratorImpl(
-      final ClusterContext clusterContext, final MutableProcessingState processingState) {
-    this(new MigrationTaskContextImpl(clusterContext, processingState), MIGRATION_TASKS);
+      final ClusterContext clusterContext,
+      final MutableProcessingState processingState,
+      final TransactionContext transactionContext) {
+    this(
+        new MigrationTaskContextImpl(clusterContext, processingState),
+        MIGRATION_TASKS,
+        () -> transactionContext.getCurrentTransaction().commit());
   }
 
   public DbMigratorImpl(
       final MutableMigrationTaskContext migrationTaskContext,
       final List<MigrationTask> migrationTasks) {
+    this(migrationTaskContext, migrationTasks, () -> {});
+  }
+
+  /**
+   * @param commitChunk commits the transaction after each chunk of a {@link ChunkedMigrationTask}
+   */
+  public DbMigratorImpl(
+      final MutableMigrationTaskContext migrationTaskContext,
+      final List<MigrationTask> migrationTasks,
+      final CheckedRunnable commitChunk) {
     this.migrationTaskContext = migrationTaskContext;
     this.migrationTasks = migrationTasks;
+    this.commitChunk = commitChunk;
   }
 
   @Override
@@ -178,10 +200,33 @@ public class DbMigratorImpl implements DbMigrator {
   private void runMigration(final MigrationTask migrationTask, final int index, final int total) {
     LOGGER.info("Starting {} migration ({}/{})", migrationTask.getIdentifier(), index, total);
     final var startTime = System.currentTimeMillis();
-    migrationTask.runMigration(migrationTaskContext);
+    if (migrationTask instanceof final ChunkedMigrationTask chunkedMigrationTask) {
+      runChunkedMigration(chunkedMigrationTask);
+    } else {
+      migrationTask.runMigration(migrationTaskContext);
+    }
     final var duration = System.currentTimeMillis() - startTime;
 
     LOGGER.debug("{} migration completed in {} ms.", migrationTask.getIdentifier(), duration);
     LOGGER.info("Finished {} migration ({}/{})", migrationTask.getIdentifier(), index, total);
   }
+
+  private void runChunkedMigration(final ChunkedMigrationTask migrationTask) {
+    var chunks = 0;
+    boolean hasMoreChunks;
+    do {
+      hasMoreChunks = migrationTask.runMigrationChunk(migrationTaskContext);
+      try {
+        commitChunk.run();
+      } catch (final Exception e) {
+        throw new IllegalStateException(
+            "Failed to commit chunk %d of %s migration"
+                .formatted(chunks + 1, migrationTask.getIdentifier()),
+            e);
+      }
+      chunks++;
+    } while (hasMoreChunks);
+
+    LOGGER.debug("{} migration committed {} chunks.", migrationTask.getIdentifier(), chunks);
+  }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.migration;
+
+/**
+ * Indexes the activatable jobs by their tenant, type and process. Jobs which were made activatable
+ * before the index was introduced are only contained in the {@code JOB_ACTIVATABLE} column family.
+ * As there can be many activatable jobs, they are indexed in chunks.
+ */
+public class JobActivatableByProcessMigration implements ChunkedMigrationTask {
+
+  private static final int DEFAULT_CHUNK_SIZE = 10_000;
+
+  private final int chunkSize;
+
+  public JobActivatableByProcessMigration() {
+    this(DEFAULT_CHUNK_SIZE);
+  }
+
+  public JobActivatableByProcessMigration(final int chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public String getIdentifier() {
+    return getClass().getSimpleName();
+  }
+
+  @Override
+  public boolean needsToRun(final MigrationTaskContext context) {
+    return context.processingState().getJobState().isActivatableByProcessIndexMissing();
+  }
+
+  @Override
+  public boolean runMigrationChunk(final MutableMigrationTaskContext context) {
+    return context.processingState().getJobState().indexActivatableJobsByProcess(chunkSize);
+  }
+}
@@ -24,7 +24,8 @@ package io.camunda.zeebe.engine.state.migration;
  *   <li>Migrations that are expected to potentially take a long time, should only be implemented
  *       after https://github.com/camunda/camunda/issues/7248 has been solved
  *   <li>None of the methods must commit or roll back the transaction. The transaction is handled
- *       outside
+ *       outside. Migrations of potentially large state can implement {@link ChunkedMigrationTask}
+ *       to be committed in chunks
  *   <li>Methods may throw exceptions to indicate a critical error during migration
  *       <ul>
  *         <li>Any exception thrown will cancel all subsequent migrations and will prevent the
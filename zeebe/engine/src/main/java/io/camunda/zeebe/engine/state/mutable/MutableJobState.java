@@ -47,4 +47,15 @@ public interface MutableJobState extends JobState {
   void migrate(long key, JobRecord record);
 
   void restoreBackoff();
+
+  /**
+   * Indexes the next chunk of at most {@code chunkSize} activatable jobs by their process,
+   * continuing after the jobs indexed by the previous call. The first activatable job is indexed
+   * last, such that an interrupted indexing is still detected by {@link
+   * #isActivatableByProcessIndexMissing()}.
+   *
+   * @param chunkSize the maximum number of jobs to index
+   * @return true if there are more jobs to index, false if all activatable jobs are indexed
+   */
+  boolean indexActivatableJobsByProcess(int chunkSize);
 }
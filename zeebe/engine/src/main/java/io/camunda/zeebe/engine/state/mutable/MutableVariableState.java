@@ -61,4 +61,10 @@ public interface MutableVariableState extends VariableState {
   void removeScope(long scopeKey);
 
   void removeAllVariables(long scopeKey);
+
+  /**
+   * Clears the cache of the variables and scopes. Must be called whenever the transaction is rolled
+   * back, as the cache would otherwise still contain the rolled back changes.
+   */
+  void clearCache();
 }
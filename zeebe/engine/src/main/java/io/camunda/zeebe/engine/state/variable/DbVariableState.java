@@ -13,6 +13,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.metrics.VariableCacheMetrics;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
@@ -56,8 +57,13 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  private final VariableCache cache = new VariableCache();
+  private final VariableCacheMetrics cacheMetrics;
+
   public DbVariableState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId) {
     childKey = new DbLong();
     childParentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -75,6 +81,8 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    cacheMetrics = new VariableCacheMetrics(partitionId);
   }
 
   @Override
@@ -109,6 +117,7 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    cache.updateVariable(scopeKey, variableNameView, newVariable);
   }
 
   @Override
@@ -117,6 +126,7 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    cache.createScope(childKey, parentKey);
   }
 
   @Override
@@ -128,6 +138,7 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    cache.removeScope(scopeKey);
   }
 
   @Override
@@ -137,6 +148,7 @@ public class DbVariableState implements MutableVariableState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
         () -> false);
+    cache.removeVariables(scopeKey);
   }
 
   @Override
@@ -194,6 +206,12 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
+    final DirectBuffer cachedDocument = cache.getDocument(scopeKey);
+    cacheMetrics.documentLookup(cachedDocument != null);
+    if (cachedDocument != null) {
+      resultView.wrap(cachedDocument);
+      return resultView;
+    }
 
     collectedVariables.clear();
     writer.wrap(documentResultBuffer, 0);
@@ -218,6 +236,7 @@ public class DbVariableState implements MutableVariableState {
     writer.writeReservedMapHeader(0, collectedVariables.size());
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
+    cache.putDocument(scopeKey, resultView);
     return resultView;
   }
 
@@ -301,19 +320,41 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public long getParentScopeKey(final long childScopeKey) {
+    final long cachedParentScopeKey = cache.getParentScopeKey(childScopeKey);
+    cacheMetrics.scopeLookup(cachedParentScopeKey != VariableCache.UNKNOWN_SCOPE);
+    if (cachedParentScopeKey != VariableCache.UNKNOWN_SCOPE) {
+      return cachedParentScopeKey;
+    }
+
     childKey.wrapLong(childScopeKey);
 
     final ParentScopeKey parentScopeKey = childParentColumnFamily.get(childKey);
-    return parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    final long parentScopeKeyValue = parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    cache.putParentScopeKey(childScopeKey, parentScopeKeyValue);
+    return parentScopeKeyValue;
+  }
+
+  @Override
+  public void clearCache() {
+    cache.clear();
   }
 
   private VariableInstance getVariableLocal(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
-    this.scopeKey.wrapLong(scopeKey);
     variableNameView.wrap(name, nameOffset, nameLength);
+
+    final VariableInstance cachedVariable = cache.getVariable(scopeKey, variableNameView);
+    cacheMetrics.variableLookup(cachedVariable != null);
+    if (cachedVariable != null) {
+      return cachedVariable != VariableCache.ABSENT ? cachedVariable : null;
+    }
+
+    this.scopeKey.wrapLong(scopeKey);
     variableName.wrapBuffer(variableNameView);
 
-    return variablesColumnFamily.get(scopeKeyVariableNameKey);
+    final VariableInstance variable = variablesColumnFamily.get(scopeKeyVariableNameKey);
+    cache.putVariable(scopeKey, variableNameView, variable);
+    return variable;
   }
 
   /**
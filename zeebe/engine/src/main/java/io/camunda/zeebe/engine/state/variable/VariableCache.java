@@ -0,0 +1,157 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2ObjectHashMap;
+
+/**
+ * Caches the variables, the variable documents and the scope hierarchy read by {@link
+ * DbVariableState}, so that repeated lookups of the same scopes, e.g. by the expression evaluation,
+ * the output mappings and the job activation of one processing batch, don't hit the database again.
+ *
+ * <p>The cache is write-through: the state applies every change to the database and to the cache.
+ * It knows the variables which don't exist in a scope too, so a lookup which walks up the scope
+ * hierarchy is served completely from the cache once all scopes were visited.
+ *
+ * <p>The changes of a rolled back transaction are not undone in the cache, so it must be cleared
+ * whenever the transaction is rolled back. The cache is bounded; it is cleared completely if it
+ * reaches its capacity.
+ */
+final class VariableCache {
+
+  /** Returned by {@link #getVariable(long, DirectBuffer)} if the variable doesn't exist. */
+  static final VariableInstance ABSENT = new VariableInstance();
+
+  /** Returned by {@link #getParentScopeKey(long)} if the scope is not cached. */
+  static final long UNKNOWN_SCOPE = Long.MIN_VALUE;
+
+  private static final int MAX_CACHED_VARIABLES = 10_000;
+  private static final int MAX_CACHED_SCOPES = 10_000;
+  private static final int MAX_CACHED_DOCUMENT_BYTES = 16 * 1024 * 1024;
+
+  private final Long2LongHashMap parentScopeKeys = new Long2LongHashMap(UNKNOWN_SCOPE);
+  private final Long2ObjectHashMap<Object2ObjectHashMap<DirectBuffer, VariableInstance>>
+      variablesByScope = new Long2ObjectHashMap<>();
+  private final Long2ObjectHashMap<DirectBuffer> documentsByScope = new Long2ObjectHashMap<>();
+  private int cachedVariables;
+  private int cachedDocumentBytes;
+
+  long getParentScopeKey(final long childScopeKey) {
+    return parentScopeKeys.get(childScopeKey);
+  }
+
+  void putParentScopeKey(final long childScopeKey, final long parentScopeKey) {
+    if (parentScopeKeys.size() >= MAX_CACHED_SCOPES) {
+      parentScopeKeys.clear();
+    }
+    parentScopeKeys.put(childScopeKey, parentScopeKey);
+  }
+
+  /**
+   * @return the cached variable, {@link #ABSENT} if the variable is known to not exist, or {@code
+   *     null} if the variable is not cached
+   */
+  VariableInstance getVariable(final long scopeKey, final DirectBuffer name) {
+    final var variables = variablesByScope.get(scopeKey);
+    return variables != null ? variables.get(name) : null;
+  }
+
+  /**
+   * Caches a variable which was read from the database.
+   *
+   * @param variable the variable, or {@code null} if it doesn't exist
+   */
+  void putVariable(final long scopeKey, final DirectBuffer name, final VariableInstance variable) {
+    if (cachedVariables >= MAX_CACHED_VARIABLES) {
+      variablesByScope.clear();
+      cachedVariables = 0;
+    }
+
+    final var copy = variable != null ? copyOf(variable) : ABSENT;
+    final var previous =
+        variablesByScope
+            .computeIfAbsent(scopeKey, key -> new Object2ObjectHashMap<>())
+            .put(BufferUtil.cloneBuffer(name), copy);
+    if (previous == null) {
+      cachedVariables++;
+    }
+  }
+
+  /** Applies a change of a variable to the cache. */
+  void updateVariable(
+      final long scopeKey, final DirectBuffer name, final VariableInstance variable) {
+    clearDocuments();
+    putVariable(scopeKey, name, variable);
+  }
+
+  /** Applies the removal of all variables of the given scope to the cache. */
+  void removeVariables(final long scopeKey) {
+    clearDocuments();
+    final var variables = variablesByScope.remove(scopeKey);
+    if (variables != null) {
+      cachedVariables -= variables.size();
+    }
+  }
+
+  /** Applies the creation of a scope to the cache. */
+  void createScope(final long childScopeKey, final long parentScopeKey) {
+    clearDocuments();
+    putParentScopeKey(childScopeKey, parentScopeKey);
+  }
+
+  /** Applies the removal of a scope, including its variables, to the cache. */
+  void removeScope(final long scopeKey) {
+    removeVariables(scopeKey);
+    parentScopeKeys.remove(scopeKey);
+  }
+
+  /**
+   * @return the cached document of all variables visible in the given scope, or {@code null} if it
+   *     is not cached
+   */
+  DirectBuffer getDocument(final long scopeKey) {
+    return documentsByScope.get(scopeKey);
+  }
+
+  void putDocument(final long scopeKey, final DirectBuffer document) {
+    final int length = document.capacity();
+    if (length > MAX_CACHED_DOCUMENT_BYTES) {
+      return;
+    }
+    if (cachedDocumentBytes + length > MAX_CACHED_DOCUMENT_BYTES) {
+      clearDocuments();
+    }
+
+    final var previous = documentsByScope.put(scopeKey, BufferUtil.cloneBuffer(document));
+    cachedDocumentBytes += length - (previous != null ? previous.capacity() : 0);
+  }
+
+  void clear() {
+    parentScopeKeys.clear();
+    variablesByScope.clear();
+    cachedVariables = 0;
+    clearDocuments();
+  }
+
+  private void clearDocuments() {
+    // a document contains the variables of all parent scopes, so any change may affect it
+    if (!documentsByScope.isEmpty()) {
+      documentsByScope.clear();
+    }
+    cachedDocumentBytes = 0;
+  }
+
+  private static VariableInstance copyOf(final VariableInstance variable) {
+    final DirectBuffer value = BufferUtil.cloneBuffer(variable.getValue());
+    return new VariableInstance().setKey(variable.getKey()).setValue(value, 0, value.capacity());
+  }
+}
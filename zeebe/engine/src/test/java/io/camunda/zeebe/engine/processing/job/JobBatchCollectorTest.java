@@ -8,6 +8,9 @@
 package io.camunda.zeebe.engine.processing.job;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior;
@@ -37,6 +40,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
@@ -343,6 +347,36 @@ final class JobBatchCollectorTest {
             });
   }
 
+  @Test
+  void shouldStartWithFirstProcessAgainOnceAllJobsOfTheTypeWereCollected() {
+    // given
+    final var authorizationCheckBehavior = mock(AuthorizationCheckBehavior.class);
+    when(authorizationCheckBehavior.getAuthorizedResourceIdentifiers(any()))
+        .thenReturn(Set.of("a", "b"));
+    final var restrictedCollector =
+        new JobBatchCollector(state, lengthEvaluator, authorizationCheckBehavior);
+    final long variableScopeKey = state.getKeyGenerator().nextKey();
+    final var jobOfA = createJob(variableScopeKey, TenantOwned.DEFAULT_TENANT_IDENTIFIER, "a");
+    final var jobOfB = createJob(variableScopeKey, TenantOwned.DEFAULT_TENANT_IDENTIFIER, "b");
+
+    // when - the first activations rotate over the processes, the third one collects all jobs
+    final var first = createRecord();
+    first.getValue().setMaxJobsToActivate(1);
+    restrictedCollector.collectJobs(first);
+    final var second = createRecord();
+    second.getValue().setMaxJobsToActivate(1);
+    restrictedCollector.collectJobs(second);
+    restrictedCollector.collectJobs(createRecord());
+    final var fourth = createRecord();
+    fourth.getValue().setMaxJobsToActivate(1);
+    restrictedCollector.collectJobs(fourth);
+
+    // then
+    JobBatchRecordValueAssert.assertThat(first.getValue()).hasOnlyJobKeys(jobOfA.key);
+    JobBatchRecordValueAssert.assertThat(second.getValue()).hasOnlyJobKeys(jobOfB.key);
+    JobBatchRecordValueAssert.assertThat(fourth.getValue()).hasOnlyJobKeys(jobOfA.key);
+  }
+
   private TypedRecord<JobBatchRecord> createRecord(final String... tenantIds) {
     final RecordMetadata metadata =
         new RecordMetadata()
@@ -368,9 +402,14 @@ final class JobBatchCollectorTest {
   }
 
   private Job createJob(final long variableScopeKey, final String tenantId) {
+    return createJob(variableScopeKey, tenantId, "process");
+  }
+
+  private Job createJob(
+      final long variableScopeKey, final String tenantId, final String processId) {
     final var jobRecord =
         new JobRecord()
-            .setBpmnProcessId("process")
+            .setBpmnProcessId(processId)
             .setElementId("element")
             .setElementInstanceKey(variableScopeKey)
             .setType(JOB_TYPE)
@@ -24,6 +24,7 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
 import io.camunda.zeebe.test.util.Strings;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.NoSuchElementException;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Rule;
@@ -239,6 +240,47 @@ public final class ProcessStateTest {
     assertThat(processState.getNextProcessVersion("process1", TENANT_ID)).isEqualTo(2);
   }
 
+  @Test
+  public void shouldTransformProcessOnceWhenAccessedAfterReload() {
+    // given
+    final var processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.clearCache();
+
+    // when
+    final var deployedProcess =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), processRecord.getTenantId());
+    final var executableProcess = deployedProcess.getProcess();
+
+    // then
+    assertThat(executableProcess.getId()).isEqualTo(wrapString("processId"));
+    assertThat(
+            processState
+                .getProcessByKeyAndTenant(processRecord.getKey(), processRecord.getTenantId())
+                .getProcess())
+        .isSameAs(executableProcess);
+  }
+
+  @Test
+  public void shouldFailOnEveryAccessIfProcessCannotBeTransformedAfterReload() {
+    // given -- a process whose id doesn't match the process of its resource
+    final var processRecord =
+        creatingProcessRecord(processingState).setBpmnProcessId(wrapString("otherProcessId"));
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.clearCache();
+
+    // when
+    final var deployedProcess =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), processRecord.getTenantId());
+
+    // then
+    assertThat(deployedProcess.getBpmnProcessId()).isEqualTo(wrapString("otherProcessId"));
+    Assertions.assertThatThrownBy(deployedProcess::getProcess)
+        .isInstanceOf(NoSuchElementException.class);
+    Assertions.assertThatThrownBy(deployedProcess::getProcess)
+        .isInstanceOf(NoSuchElementException.class);
+  }
+
   @Test
   public void shouldReturnNullOnGetLatest() {
     // given
@@ -656,6 +656,60 @@ public final class JobStateTest {
     assertThat(jobKeys).isEmpty();
   }
 
+  @Test
+  public void shouldListActivatableJobsOfProcessesStartingAtIndex() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1, newJobRecord().setBpmnProcessId("a"));
+    jobState.create(2, newJobRecord().setBpmnProcessId("b"));
+    jobState.create(3, newJobRecord().setBpmnProcessId("c"));
+    jobState.create(4, newJobRecord().setBpmnProcessId("a"));
+    createAndActivateJobRecord(5, newJobRecord().setBpmnProcessId("b"));
+    jobState.create(6, newJobRecord("otherTenant").setBpmnProcessId("b"));
+    jobState.create(7, newJobRecord().setType("other").setBpmnProcessId("b"));
+
+    // when
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        List.of("a", "b"),
+        1,
+        (key, job) -> jobKeys.add(key));
+
+    // then
+    assertThat(jobKeys).containsExactly(2L, 1L, 4L);
+  }
+
+  @Test
+  public void shouldListMigratedJobAsActivatableOfNewProcess() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final JobRecord record = newJobRecord().setBpmnProcessId("a");
+    jobState.create(1, record);
+
+    // when
+    jobState.migrate(1, record.setBpmnProcessId("b"));
+
+    // then
+    final List<Long> jobKeysOfOldProcess = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        List.of("a"),
+        0,
+        (key, job) -> jobKeysOfOldProcess.add(key));
+    final List<Long> jobKeysOfNewProcess = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        List.of("b"),
+        0,
+        (key, job) -> jobKeysOfNewProcess.add(key));
+    assertThat(jobKeysOfOldProcess).isEmpty();
+    assertThat(jobKeysOfNewProcess).containsExactly(1L);
+  }
+
   @Test
   public void shouldReturnNullIfJobDoesNotExist() {
     // given
@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.state.migration;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -18,6 +19,7 @@ import static org.mockito.Mockito.when;
 import io.camunda.zeebe.engine.state.mutable.MutableMigrationState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.stream.impl.ClusterContextImpl;
+import io.camunda.zeebe.util.CheckedRunnable;
 import io.camunda.zeebe.util.VersionUtil;
 import java.util.Collections;
 import java.util.List;
@@ -66,6 +68,34 @@ public class DbMigratorImplTest {
     verify(mockMigration, never()).runMigration(context);
   }
 
+  @Test
+  void shouldCommitAfterEachChunkOfChunkedMigration() throws Exception {
+    // given
+    final var mockProcessingState = mock(MutableProcessingState.class);
+    final var mockMigrationState = mock(MutableMigrationState.class);
+    when(mockProcessingState.getMigrationState()).thenReturn(mockMigrationState);
+    final var mockMigration = mock(ChunkedMigrationTask.class);
+    final var context =
+        new MigrationTaskContextImpl(new ClusterContextImpl(1), mockProcessingState);
+    when(mockMigration.needsToRun(context)).thenReturn(true);
+    when(mockMigration.runMigrationChunk(context)).thenReturn(true, true, false);
+    final var commitChunk = mock(CheckedRunnable.class);
+
+    final var sut =
+        new DbMigratorImpl(context, Collections.singletonList(mockMigration), commitChunk);
+
+    // when
+    sut.runMigrations();
+
+    // then
+    final var inOrder = inOrder(mockMigration, commitChunk);
+    for (int chunk = 0; chunk < 3; chunk++) {
+      inOrder.verify(mockMigration).runMigrationChunk(context);
+      inOrder.verify(commitChunk).run();
+    }
+    verify(mockMigration, never()).runMigration(context);
+  }
+
   @Test
   void shouldRunMigrationsInOrder() {
     // given
@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.migration;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.state.mutable.MutableJobState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.stream.impl.ClusterContextImpl;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+public class JobActivatableByProcessMigrationTest {
+
+  private final JobActivatableByProcessMigration migration = new JobActivatableByProcessMigration();
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private MutableProcessingState processingState;
+  private TransactionContext transactionContext;
+  private ColumnFamily<
+          DbTenantAwareKey<
+              DbCompositeKey<DbCompositeKey<DbString, DbString>, DbForeignKey<DbLong>>>,
+          DbNil>
+      activatableByProcessColumnFamily;
+
+  @BeforeEach
+  public void setup() {
+    final var fkJob = new DbForeignKey<>(new DbLong(), ZbColumnFamilies.JOBS);
+    final var typeProcessJobKey =
+        new DbCompositeKey<>(new DbCompositeKey<>(new DbString(), new DbString()), fkJob);
+    activatableByProcessColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.JOB_ACTIVATABLE_BY_PROCESS,
+            transactionContext,
+            new DbTenantAwareKey<>(new DbString(), typeProcessJobKey, PlacementType.PREFIX),
+            DbNil.INSTANCE);
+  }
+
+  @Test
+  public void shouldIndexActivatableJobsByProcess() {
+    // given
+    final MutableJobState jobState = processingState.getJobState();
+    jobState.create(1, createJobRecord("process"));
+    jobState.create(2, createJobRecord("otherProcess"));
+    jobState.create(3, createJobRecord("process"));
+    activatableByProcessColumnFamily.forEach(
+        (key, nil) -> activatableByProcessColumnFamily.deleteExisting(key));
+
+    // when
+    final var context = new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState);
+    assertThat(migration.needsToRun(context)).isTrue();
+    migration.runMigration(context);
+
+    // then
+    assertThat(migration.needsToRun(context)).isFalse();
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        wrapString("test"),
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        List.of("process"),
+        0,
+        (key, job) -> jobKeys.add(key));
+    assertThat(jobKeys).containsExactly(1L, 3L);
+  }
+
+  @Test
+  public void shouldIndexActivatableJobsInChunks() {
+    // given
+    final var chunkedMigration = new JobActivatableByProcessMigration(2);
+    final MutableJobState jobState = processingState.getJobState();
+    for (long jobKey = 1; jobKey <= 5; jobKey++) {
+      jobState.create(jobKey, createJobRecord("process"));
+    }
+    activatableByProcessColumnFamily.forEach(
+        (key, nil) -> activatableByProcessColumnFamily.deleteExisting(key));
+    final var context = new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState);
+
+    // when
+    final List<Boolean> hasMoreChunks = new ArrayList<>();
+    do {
+      hasMoreChunks.add(chunkedMigration.runMigrationChunk(context));
+    } while (hasMoreChunks.get(hasMoreChunks.size() - 1));
+
+    // then
+    assertThat(hasMoreChunks).containsExactly(true, true, false);
+    assertThat(chunkedMigration.needsToRun(context)).isFalse();
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        wrapString("test"),
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        List.of("process"),
+        0,
+        (key, job) -> jobKeys.add(key));
+    assertThat(jobKeys).containsExactly(1L, 2L, 3L, 4L, 5L);
+  }
+
+  @Test
+  public void shouldStillNeedToRunIfOnlySomeChunksAreIndexed() {
+    // given
+    final var chunkedMigration = new JobActivatableByProcessMigration(2);
+    final MutableJobState jobState = processingState.getJobState();
+    for (long jobKey = 1; jobKey <= 5; jobKey++) {
+      jobState.create(jobKey, createJobRecord("process"));
+    }
+    activatableByProcessColumnFamily.forEach(
+        (key, nil) -> activatableByProcessColumnFamily.deleteExisting(key));
+    final var context = new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState);
+
+    // when
+    chunkedMigration.runMigrationChunk(context);
+    chunkedMigration.runMigrationChunk(context);
+
+    // then
+    assertThat(chunkedMigration.needsToRun(context)).isTrue();
+  }
+
+  @Test
+  public void shouldNotRunIfJobsAreIndexed() {
+    // given
+    processingState.getJobState().create(1, createJobRecord("process"));
+
+    // when
+    final var context = new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState);
+
+    // then
+    assertThat(migration.needsToRun(context)).isFalse();
+  }
+
+  private static JobRecord createJobRecord(final String bpmnProcessId) {
+    return new JobRecord()
+        .setType("test")
+        .setRetries(3)
+        .setBpmnProcessId(bpmnProcessId)
+        .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  }
+}
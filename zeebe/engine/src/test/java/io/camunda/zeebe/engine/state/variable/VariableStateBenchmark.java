@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the variable lookups of the multi-instance children of a deeply nested subprocess, as
+ * done by the expression evaluation, the output mappings and the job activation. Each invocation
+ * looks up a variable of the root scope and the variables document of every child. With {@code
+ * cold} caching, the cache is cleared before every invocation, as after a rollback. Run it via
+ * {@link #main(String[])}.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class VariableStateBenchmark {
+
+  private static final long ROOT_SCOPE_KEY = 1;
+  private static final int VARIABLES_PER_SCOPE = 10;
+  private static final DirectBuffer ROOT_VARIABLE = wrapString("var-0-0");
+
+  @Param({"1", "5", "20"})
+  public int depth;
+
+  @Param({"10"})
+  public int multiInstanceChildren;
+
+  @Param({"cold", "warm"})
+  public String caching;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private DbVariableState variableState;
+  private long firstChildScopeKey;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("variable-state-benchmark");
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(directory.toFile());
+    final TransactionContext transactionContext = zeebeDb.createContext();
+    variableState = new DbVariableState(zeebeDb, transactionContext, 1);
+
+    long key = 1_000_000;
+    long scopeKey = ROOT_SCOPE_KEY;
+    for (int level = 0; level < depth; level++) {
+      setVariables(key, scopeKey, level);
+      key += VARIABLES_PER_SCOPE;
+
+      if (level < depth - 1) {
+        variableState.createScope(scopeKey + 1, scopeKey);
+        scopeKey++;
+      }
+    }
+
+    firstChildScopeKey = scopeKey + 1;
+    for (int i = 0; i < multiInstanceChildren; i++) {
+      final long childScopeKey = firstChildScopeKey + i;
+      variableState.createScope(childScopeKey, scopeKey);
+      variableState.setVariableLocal(
+          key++, childScopeKey, 1, wrapString("inputElement"), asMsgPack("index", i));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public int lookupVariables() {
+    if ("cold".equals(caching)) {
+      variableState.clearCache();
+    }
+
+    int size = 0;
+    for (int i = 0; i < multiInstanceChildren; i++) {
+      final long childScopeKey = firstChildScopeKey + i;
+      size += variableState.getVariable(childScopeKey, ROOT_VARIABLE).capacity();
+      size += variableState.getVariablesAsDocument(childScopeKey).capacity();
+    }
+    return size;
+  }
+
+  private void setVariables(final long firstKey, final long scopeKey, final int level) {
+    for (int i = 0; i < VARIABLES_PER_SCOPE; i++) {
+      variableState.setVariableLocal(
+          firstKey + i,
+          scopeKey,
+          1,
+          wrapString("var-" + level + "-" + i),
+          asMsgPack("value", "level " + level));
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(VariableStateBenchmark.class.getName()).build()).run();
+  }
+}
@@ -462,6 +462,63 @@ public final class VariableStateTest {
             tuple(keyVariableC, child, wrapString("c"), wrapString("3")));
   }
 
+  @Test
+  public void shouldCollectVariablesAsDocumentAfterVariableOfParentScopeIsSet() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(child, wrapString("a"), asMsgPack("1"));
+    assertEquality(variableState.getVariablesAsDocument(child), "{'a': 1}");
+
+    // when
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(child), "{'a': 1, 'b': 2}");
+  }
+
+  @Test
+  public void shouldGetVariableAfterPreviousLookupFoundNone() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    assertThat(variableState.getVariable(child, wrapString("a"))).isNull();
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+
+    // then
+    assertThat(variableState.getVariable(child, wrapString("a"))).isEqualTo(asMsgPack("1"));
+  }
+
+  @Test
+  public void shouldGetParentScopeKeyAfterPreviousLookupFoundNone() {
+    // given
+    declareScope(parent);
+    assertThat(variableState.getParentScopeKey(child)).isEqualTo(VariableState.NO_PARENT);
+
+    // when
+    declareScope(parent, child);
+
+    // then
+    assertThat(variableState.getParentScopeKey(child)).isEqualTo(parent);
+  }
+
+  @Test
+  public void shouldNotGetVariableOfRemovedScope() {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    assertThat(variableState.getVariableLocal(parent, wrapString("a"))).isNotNull();
+
+    // when
+    elementInstanceState.removeInstance(parent);
+
+    // then
+    assertThat(variableState.getVariableLocal(parent, wrapString("a"))).isNull();
+    assertEquality(variableState.getVariablesAsDocument(parent), "{}");
+  }
+
   private void declareScope(final long key) {
     declareScope(-1, key);
   }
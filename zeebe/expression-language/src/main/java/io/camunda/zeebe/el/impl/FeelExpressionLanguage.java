@@ -9,6 +9,8 @@ package io.camunda.zeebe.el.impl;
 
 import static io.camunda.zeebe.util.EnsureUtil.ensureNotNull;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.camunda.zeebe.el.EvaluationContext;
 import io.camunda.zeebe.el.EvaluationResult;
 import io.camunda.zeebe.el.EvaluationWarning;
@@ -38,6 +40,18 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   private static final Pattern EXPRESSION_PATTERN = Pattern.compile("\\=(.+)", Pattern.DOTALL);
 
+  private static final int PARSED_EXPRESSIONS_CACHE_SIZE = 10_000;
+
+  /**
+   * The parsed expressions, keyed by their text. The cache is shared by all instances, i.e. by all
+   * partitions of a broker, so that the same expressions of different process versions, or of
+   * processes which are transformed again after a restart, are parsed only once. All instances
+   * configure the engine in the same way, and the only difference, the clock, is not used by the
+   * parser, so the text of an expression is sufficient as key.
+   */
+  private static final Cache<String, Expression> PARSED_EXPRESSIONS =
+      Caffeine.newBuilder().maximumSize(PARSED_EXPRESSIONS_CACHE_SIZE).build();
+
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
 
@@ -60,7 +74,7 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     if (expressionMatcher.matches()) {
       final var unpackedExpression = expressionMatcher.group(1);
-      return parseFeelExpression(unpackedExpression);
+      return PARSED_EXPRESSIONS.get(unpackedExpression, this::parseFeelExpression);
     } else {
       return new StaticExpression(expression);
     }
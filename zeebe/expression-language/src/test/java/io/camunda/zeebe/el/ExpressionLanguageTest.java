@@ -234,4 +234,21 @@ public class ExpressionLanguageTest {
     assertThat(evaluationResult).isNotNull();
     assertThat(evaluationResult.getString()).isEqualTo("Hello \"Zee\"!");
   }
+
+  @Test
+  public void shouldReuseParsedExpressionOfOtherInstance() {
+    // given
+    final var otherExpressionLanguage =
+        ExpressionLanguageFactory.createExpressionLanguage(new TestFeelEngineClock());
+    final var parsedExpression = otherExpressionLanguage.parseExpression("=x + 1");
+
+    // when
+    final var expression = expressionLanguage.parseExpression("=x + 1");
+    final var evaluationResult =
+        expressionLanguage.evaluateExpression(expression, name -> asMsgPack("2"));
+
+    // then
+    assertThat(expression).isSameAs(parsedExpression);
+    assertThat(evaluationResult.getNumber()).isEqualTo(3L);
+  }
 }
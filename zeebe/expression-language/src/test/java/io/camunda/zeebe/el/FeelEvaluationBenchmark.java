@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+
+import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the evaluation of expressions which access a single entry of a wide variable, i.e. a
+ * context with many entries, as it is common for the payload of messages or service responses. Run
+ * it via {@link #main(String[])}.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FeelEvaluationBenchmark {
+
+  @Param({"10", "1000", "5000"})
+  public int entries;
+
+  private ExpressionLanguage expressionLanguage;
+  private EvaluationContext context;
+  private Expression entryAccess;
+  private Expression nestedEntryAccess;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    expressionLanguage = new FeelExpressionLanguage(new TestFeelEngineClock());
+
+    final Map<String, Object> document =
+        IntStream.range(0, entries)
+            .boxed()
+            .collect(
+                Collectors.toMap(
+                    i -> "key" + i, i -> Map.of("id", i, "name", "entry " + i, "active", true)));
+    final DirectBuffer variable = asMsgPack(document);
+    context = name -> "x".equals(name) ? variable : null;
+
+    entryAccess = expressionLanguage.parseExpression("=x.key" + (entries - 1));
+    nestedEntryAccess =
+        expressionLanguage.parseExpression("=x.key" + (entries / 2) + ".name + \" updated\"");
+  }
+
+  @Benchmark
+  public EvaluationResult evaluateEntryAccess() {
+    return expressionLanguage.evaluateExpression(entryAccess, context);
+  }
+
+  @Benchmark
+  public EvaluationResult evaluateNestedEntryAccess() {
+    return expressionLanguage.evaluateExpression(nestedEntryAccess, context);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(FeelEvaluationBenchmark.class.getName()).build()).run();
+  }
+}
@@ -16,6 +16,11 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
 
 public class FeelExpressionTest {
@@ -75,6 +80,49 @@ public class FeelExpressionTest {
     assertThat(evaluationResult.getString()).isEqualTo("z");
   }
 
+  @Test
+  public void pathExpressionOnWideContext() {
+    final var entries =
+        IntStream.range(0, 1_000)
+            .boxed()
+            .collect(
+                Collectors.<Integer, String, Object>toMap(i -> "key" + i, i -> Map.of("value", i)));
+    final var context = Map.of("x", asMsgPack(entries));
+    final var evaluationResult = evaluateExpression("x.key999.value", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.getNumber()).isEqualTo(999L);
+  }
+
+  @Test
+  public void pathExpressionWithNonAsciiKeys() {
+    final var context =
+        Map.of("x", asMsgPack(Map.of("größe", "a", "名前", "b", "emoji\uD83D\uDE00", "c")));
+
+    assertThat(evaluateExpression("x.größe", context::get).getString()).isEqualTo("a");
+    assertThat(evaluateExpression("x.名前", context::get).getString()).isEqualTo("b");
+    assertThat(evaluateExpression("get value(x, \"emoji\uD83D\uDE00\")", context::get).getString())
+        .isEqualTo("c");
+  }
+
+  @Test
+  public void contextOfReusedVariableBuffer() {
+    // the variables are returned in the same buffer which is overwritten on every lookup
+    final var variableBuffer = new ExpandableArrayBuffer();
+    final var variables = Map.of("x", asMsgPack("a", "1"), "y", asMsgPack("a", "2"));
+    final EvaluationContext context =
+        name -> {
+          final DirectBuffer variable = variables.get(name);
+          variableBuffer.putBytes(0, variable, 0, variable.capacity());
+          return new UnsafeBuffer(variableBuffer, 0, variable.capacity());
+        };
+
+    final var evaluationResult = evaluateExpression("[x, y][1].a", context);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.STRING);
+    assertThat(evaluationResult.getString()).isEqualTo("1");
+  }
+
   @Test
   public void comparison() {
     final var context = Map.of("x", asMsgPack("2"));
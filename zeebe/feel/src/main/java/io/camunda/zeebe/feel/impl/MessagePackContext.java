@@ -7,11 +7,12 @@
  */
 package io.camunda.zeebe.feel.impl;
 
-import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.camunda.feel.context.CustomContext;
 import org.camunda.feel.context.VariableProvider;
@@ -20,16 +21,40 @@ import scala.Tuple2;
 import scala.collection.Iterable;
 import scala.collection.immutable.Map;
 
+/**
+ * A FEEL context which is backed by a MessagePack map. The entries are not read upfront; a variable
+ * is resolved on demand by scanning the keys of the map and comparing them byte-wise with the name
+ * of the variable. Only if all entries are requested, e.g. to iterate over the context, the keys
+ * are read as strings.
+ *
+ * <p>The map is copied once if it is read from a buffer which may be reused by the caller. Nested
+ * maps are views on the copy of their enclosing map and are not copied again.
+ */
 public class MessagePackContext extends CustomContext {
 
   public final DirectBuffer messagePackMap;
   private final VariableProvider variableProvider;
 
-  public MessagePackContext(final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var valueSpans = readValueSpans(reader, bufferOffset, size);
+  /**
+   * Creates a context of the map which starts at the given offset. The map header must be read
+   * already. Afterward, the reader is positioned behind the map.
+   *
+   * @param copyBuffer whether the map must be copied, because the buffer of the reader may be
+   *     reused after the context is created
+   */
+  public MessagePackContext(
+      final MsgPackReader reader,
+      final int bufferOffset,
+      final int size,
+      final boolean copyBuffer) {
+    reader.skipValues(2L * size);
+    final var buffer = reader.getBuffer();
+    final var length = reader.getOffset() - bufferOffset;
     messagePackMap =
-        cloneBuffer(reader.getBuffer(), bufferOffset, reader.getOffset() - bufferOffset);
-    variableProvider = new MessagePackMapVariableProvider(messagePackMap, valueSpans);
+        copyBuffer
+            ? cloneBuffer(buffer, bufferOffset, length)
+            : new UnsafeBuffer(buffer, bufferOffset, length);
+    variableProvider = new MessagePackMapVariableProvider(messagePackMap);
   }
 
   @Override
@@ -37,62 +62,126 @@ public class MessagePackContext extends CustomContext {
     return variableProvider;
   }
 
-  private Map<String, Span> readValueSpans(
-      final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var spans = Map.<String, Span>newBuilder();
-    spans.sizeHint(size);
-
-    for (int i = 0; i < size; i++) {
-      final var keyToken = reader.readToken();
-      final var keyBuffer = keyToken.getValueBuffer();
-      final var key = bufferAsString(keyBuffer);
-
-      final var valueOffset = reader.getOffset();
-      reader.skipValue();
-      final var valueLength = reader.getOffset() - valueOffset;
-      spans.addOne(new Tuple2<>(key, new Span(valueOffset - bufferOffset, valueLength)));
+  /**
+   * A view on the value of an entry of a context. The underlying buffer is owned by the context and
+   * is never modified, so it can be read without copying it.
+   */
+  static final class EntryView extends UnsafeBuffer {
+    private EntryView() {
+      super(0, 0);
     }
-    return spans.result();
   }
 
-  record Span(int offset, int length) {}
-
   private static final class MessagePackMapVariableProvider implements VariableProvider {
     private final DirectBuffer entries;
-    private final DirectBuffer resultView = new UnsafeBuffer();
-    private final Map<String, Span> valueSpans;
+    private final MsgPackReader reader = new MsgPackReader();
+    private final EntryView resultView = new EntryView();
+    private final MutableDirectBuffer nameBuffer = new ExpandableArrayBuffer();
+    private Map<String, Object> variables;
 
-    private MessagePackMapVariableProvider(
-        final DirectBuffer entries, final Map<String, Span> valueSpans) {
+    private MessagePackMapVariableProvider(final DirectBuffer entries) {
       this.entries = entries;
-      this.valueSpans = valueSpans;
     }
 
     @Override
     public Option<Object> getVariable(final String name) {
-      return valueSpans
-          .get(name)
-          .map(
-              span -> {
-                resultView.wrap(entries, span.offset(), span.length());
-                return resultView;
-              });
+      final int nameLength = encodeName(name);
+
+      reader.wrap(entries, 0, entries.capacity());
+      final int size = reader.readMapHeader();
+      for (int i = 0; i < size; i++) {
+        final int keyLength = reader.readStringLength();
+        final int keyOffset = reader.getOffset();
+        reader.skipBytes(keyLength);
+
+        if (equalsKey(keyOffset, keyLength, nameLength)) {
+          final int valueOffset = reader.getOffset();
+          reader.skipValue();
+          resultView.wrap(entries, valueOffset, reader.getOffset() - valueOffset);
+          return Option.apply(resultView);
+        }
+        reader.skipValue();
+      }
+      return Option.empty();
     }
 
     @Override
     public Iterable<String> keys() {
-      return valueSpans.keySet();
+      return getVariables().keys();
     }
 
     @Override
     public Map<String, Object> getVariables() {
+      if (variables == null) {
+        variables = readVariables();
+      }
+      return variables;
+    }
+
+    private Map<String, Object> readVariables() {
+      reader.wrap(entries, 0, entries.capacity());
+      final int size = reader.readMapHeader();
       final var clonedMap = Map.<String, Object>newBuilder();
-      valueSpans.foreach(
-          entry ->
-              clonedMap.addOne(
-                  new Tuple2<>(
-                      entry._1(), cloneBuffer(entries, entry._2().offset(), entry._2().length()))));
+      clonedMap.sizeHint(size);
+
+      for (int i = 0; i < size; i++) {
+        final int keyLength = reader.readStringLength();
+        final String key = entries.getStringWithoutLengthUtf8(reader.getOffset(), keyLength);
+        reader.skipBytes(keyLength);
+
+        final int valueOffset = reader.getOffset();
+        reader.skipValue();
+        final var value = cloneBuffer(entries, valueOffset, reader.getOffset() - valueOffset);
+        clonedMap.addOne(new Tuple2<>(key, value));
+      }
       return clonedMap.result();
     }
+
+    /**
+     * Writes the name as UTF-8 into the reused name buffer, as {@link String#getBytes} would
+     * allocate a new array on every lookup. Like {@link String#getBytes}, an unpaired surrogate is
+     * replaced by {@code '?'}.
+     *
+     * @return the length of the encoded name
+     */
+    private int encodeName(final String name) {
+      int length = 0;
+      for (int i = 0; i < name.length(); i++) {
+        final char c = name.charAt(i);
+        if (c < 0x80) {
+          nameBuffer.putByte(length++, (byte) c);
+        } else if (c < 0x800) {
+          nameBuffer.putByte(length++, (byte) (0xC0 | (c >> 6)));
+          nameBuffer.putByte(length++, (byte) (0x80 | (c & 0x3F)));
+        } else if (!Character.isSurrogate(c)) {
+          nameBuffer.putByte(length++, (byte) (0xE0 | (c >> 12)));
+          nameBuffer.putByte(length++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+          nameBuffer.putByte(length++, (byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c)
+            && i + 1 < name.length()
+            && Character.isLowSurrogate(name.charAt(i + 1))) {
+          final int codePoint = Character.toCodePoint(c, name.charAt(++i));
+          nameBuffer.putByte(length++, (byte) (0xF0 | (codePoint >> 18)));
+          nameBuffer.putByte(length++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+          nameBuffer.putByte(length++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+          nameBuffer.putByte(length++, (byte) (0x80 | (codePoint & 0x3F)));
+        } else {
+          nameBuffer.putByte(length++, (byte) '?');
+        }
+      }
+      return length;
+    }
+
+    private boolean equalsKey(final int keyOffset, final int keyLength, final int nameLength) {
+      if (keyLength != nameLength) {
+        return false;
+      }
+      for (int i = 0; i < keyLength; i++) {
+        if (entries.getByte(keyOffset + i) != nameBuffer.getByte(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
   }
 }
@@ -29,6 +29,7 @@ import scala.jdk.javaapi.CollectionConverters;
 
 public final class MessagePackValueMapper extends JavaValueMapper {
   private final MsgPackReader msgPackReader = new MsgPackReader();
+  private boolean copyContexts;
 
   private Val readNext() {
     final var offset = msgPackReader.getOffset();
@@ -52,7 +53,9 @@ public final class MessagePackValueMapper extends JavaValueMapper {
         }
         yield new ValList(CollectionConverters.asScala(items).toList());
       }
-      case MAP -> new ValContext(new MessagePackContext(msgPackReader, offset, token.getSize()));
+      case MAP ->
+          new ValContext(
+              new MessagePackContext(msgPackReader, offset, token.getSize(), copyContexts));
       case STRING -> new ValString(bufferAsString(token.getValueBuffer()));
       default -> {
         LOGGER.warn(
@@ -72,6 +75,8 @@ public final class MessagePackValueMapper extends JavaValueMapper {
   @Override
   public Option<Val> toVal(final Object x, final Function1<Object, Val> innerValueMapper) {
     if (x instanceof final DirectBuffer buffer) {
+      // the entries of a context are immutable, other buffers may be reused by the caller
+      copyContexts = !(buffer instanceof MessagePackContext.EntryView);
       msgPackReader.wrap(buffer, 0, buffer.capacity());
       return Option.apply(readNext());
     } else {
@@ -12,9 +12,16 @@ import io.camunda.zeebe.auth.api.JwtAuthorizationBuilder;
 import io.camunda.zeebe.auth.impl.Authorization;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import io.camunda.zeebe.broker.client.api.BrokerErrorException;
+import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
+import io.camunda.zeebe.broker.client.api.RequestDispatchStrategy;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommandBatch;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
+import io.camunda.zeebe.gateway.grpc.GrpcErrorMapper;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
@@ -33,10 +40,15 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployProcessRequest;
@@ -47,6 +59,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCommandResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceRequest;
@@ -56,6 +71,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBr
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -68,15 +86,25 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutResponse;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.util.VersionUtil;
 import io.grpc.Context;
+import io.grpc.Status;
 import io.grpc.stub.ServerCallStreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 public final class EndpointManager {
@@ -87,6 +115,9 @@ public final class EndpointManager {
   private final RequestRetryHandler requestRetryHandler;
   private final StreamJobsHandler streamJobsHandler;
   private final MultiTenancyCfg multiTenancy;
+  private final GrpcErrorMapper errorMapper = new GrpcErrorMapper();
+  private final RequestDispatchStrategy batchDispatchStrategy =
+      RequestDispatchStrategy.roundRobin();
 
   public EndpointManager(
       final BrokerClient brokerClient,
@@ -216,6 +247,16 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    sendJobCommandBatches(
+        request.getJobsList(),
+        RequestMapper::toCompleteJobRequest,
+        results -> CompleteJobsResponse.newBuilder().addAllResults(results).build(),
+        responseObserver);
+  }
+
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
       final ServerStreamObserver<CreateProcessInstanceResponse> responseObserver) {
@@ -226,6 +267,19 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void createProcessInstances(
+      final CreateProcessInstancesRequest request,
+      final ServerStreamObserver<CreateProcessInstancesResponse> responseObserver) {
+    sendCommandBatches(
+        request.getProcessInstancesList(),
+        "process instance",
+        RequestMapper::toCreateProcessInstanceRequest,
+        (command, response) -> toCreateProcessInstanceResult(response.getKey(), response),
+        (command, status) -> toCreateProcessInstanceResult(status),
+        results -> CreateProcessInstancesResponse.newBuilder().addAllResults(results).build(),
+        responseObserver);
+  }
+
   public void createProcessInstanceWithResult(
       final CreateProcessInstanceWithResultRequest request,
       final ServerStreamObserver<CreateProcessInstanceWithResultResponse> responseObserver) {
@@ -286,6 +340,16 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void failJobs(
+      final FailJobsRequest request,
+      final ServerStreamObserver<FailJobsResponse> responseObserver) {
+    sendJobCommandBatches(
+        request.getJobsList(),
+        RequestMapper::toFailJobRequest,
+        results -> FailJobsResponse.newBuilder().addAllResults(results).build(),
+        responseObserver);
+  }
+
   public void throwError(
       final ThrowErrorRequest request,
       final ServerStreamObserver<ThrowErrorResponse> responseObserver) {
@@ -307,6 +371,19 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final ServerStreamObserver<PublishMessagesResponse> responseObserver) {
+    sendCommandBatches(
+        request.getMessagesList(),
+        "message",
+        RequestMapper::toPublishMessageRequest,
+        (command, response) -> toPublishMessageResult(response.getKey(), response),
+        (command, status) -> toPublishMessageResult(status),
+        results -> PublishMessagesResponse.newBuilder().addAllResults(results).build(),
+        responseObserver);
+  }
+
   public void resolveIncident(
       final ResolveIncidentRequest request,
       final ServerStreamObserver<ResolveIncidentResponse> responseObserver) {
@@ -484,27 +561,187 @@ public final class EndpointManager {
         timeout);
   }
 
+  /**
+   * Sends the job commands of the given requests with one command batch per partition, and responds
+   * with the result of each job once all batches are answered. A batch that fails as a whole, e.g.
+   * because its partition has no leader, fails only the jobs of this batch.
+   */
+  private <GrpcRequestT, GrpcResponseT> void sendJobCommandBatches(
+      final List<GrpcRequestT> grpcRequests,
+      final Function<GrpcRequestT, BrokerExecuteCommand<JobRecord>> requestMapper,
+      final Function<List<JobCommandResult>, GrpcResponseT> responseMapper,
+      final ServerStreamObserver<GrpcResponseT> streamObserver) {
+    sendCommandBatches(
+        grpcRequests,
+        "job",
+        requestMapper,
+        (command, response) -> toJobCommandResult(command.getKey(), Status.OK),
+        (command, status) -> toJobCommandResult(command.getKey(), status),
+        responseMapper,
+        streamObserver);
+  }
+
+  /**
+   * Sends the commands of the given requests with one command batch per partition, and responds
+   * with the result of each command once all batches are answered. Commands which don't address a
+   * specific partition are spread over the partitions, either by their own dispatch strategy or
+   * round-robin. A batch that fails as a whole, e.g. because its partition has no leader, fails
+   * only the commands of this batch.
+   */
+  private <GrpcRequestT, BrokerResponseT, ResultT, GrpcResponseT> void sendCommandBatches(
+      final List<GrpcRequestT> grpcRequests,
+      final String itemName,
+      final Function<GrpcRequestT, ? extends BrokerExecuteCommand<BrokerResponseT>> requestMapper,
+      final BiFunction<
+              BrokerExecuteCommand<BrokerResponseT>, BrokerResponse<BrokerResponseT>, ResultT>
+          successMapper,
+      final BiFunction<BrokerExecuteCommand<BrokerResponseT>, Status, ResultT> failureMapper,
+      final Function<List<ResultT>, GrpcResponseT> responseMapper,
+      final ServerStreamObserver<GrpcResponseT> streamObserver) {
+
+    final List<BrokerExecuteCommand<BrokerResponseT>> commands;
+    final List<BrokerExecuteCommandBatch<BrokerResponseT>> batches;
+    try {
+      if (grpcRequests.isEmpty()) {
+        throw new IllegalArgumentException(
+            "Expected at least one %s, but none was given".formatted(itemName));
+      }
+
+      commands =
+          grpcRequests.stream().<BrokerExecuteCommand<BrokerResponseT>>map(requestMapper).toList();
+      batches =
+          BrokerExecuteCommandBatch.byPartition(commands, topologyManager, batchDispatchStrategy);
+      final String authorizationToken = getAuthorizationToken();
+      batches.forEach(batch -> batch.setAuthorization(authorizationToken));
+    } catch (final Exception e) {
+      streamObserver.onError(e);
+      return;
+    }
+
+    final Map<BrokerExecuteCommand<BrokerResponseT>, Integer> positions = new IdentityHashMap<>();
+    for (int i = 0; i < commands.size(); i++) {
+      positions.put(commands.get(i), i);
+    }
+
+    final List<ResultT> results = Arrays.asList(newResultArray(commands.size()));
+    final var pendingBatches = new AtomicInteger(batches.size());
+    for (final var batch : batches) {
+      brokerClient.sendRequestWithRetry(
+          batch,
+          (key, responses) -> {
+            final var batchCommands = batch.getCommands();
+            for (int i = 0; i < batchCommands.size(); i++) {
+              final BrokerExecuteCommand<BrokerResponseT> command = batchCommands.get(i);
+              final var response = responses.get(i);
+              final ResultT result;
+              if (response.isRejection()) {
+                result =
+                    failureMapper.apply(
+                        command,
+                        errorMapper
+                            .mapError(new BrokerRejectionException(response.getRejection()))
+                            .getStatus());
+              } else if (response.isError()) {
+                result =
+                    failureMapper.apply(
+                        command,
+                        errorMapper
+                            .mapError(new BrokerErrorException(response.getError()))
+                            .getStatus());
+              } else {
+                result = successMapper.apply(command, response);
+              }
+              results.set(positions.get(command), result);
+            }
+            completeCommandBatch(pendingBatches, results, responseMapper, streamObserver);
+          },
+          error -> {
+            final var status = errorMapper.mapError(error).getStatus();
+            for (final BrokerExecuteCommand<BrokerResponseT> command : batch.getCommands()) {
+              results.set(positions.get(command), failureMapper.apply(command, status));
+            }
+            completeCommandBatch(pendingBatches, results, responseMapper, streamObserver);
+          });
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <ResultT> ResultT[] newResultArray(final int size) {
+    return (ResultT[]) new Object[size];
+  }
+
+  private <ResultT, GrpcResponseT> void completeCommandBatch(
+      final AtomicInteger pendingBatches,
+      final List<ResultT> results,
+      final Function<List<ResultT>, GrpcResponseT> responseMapper,
+      final ServerStreamObserver<GrpcResponseT> streamObserver) {
+    if (pendingBatches.decrementAndGet() == 0) {
+      streamObserver.onNext(responseMapper.apply(results));
+      streamObserver.onCompleted();
+    }
+  }
+
+  private JobCommandResult toJobCommandResult(final long jobKey, final Status status) {
+    return JobCommandResult.newBuilder()
+        .setJobKey(jobKey)
+        .setCode(status.getCode().value())
+        .setMessage(Objects.requireNonNullElse(status.getDescription(), ""))
+        .build();
+  }
+
+  private PublishMessageResult toPublishMessageResult(
+      final long key, final BrokerResponse<MessageRecord> response) {
+    return PublishMessageResult.newBuilder()
+        .setCode(Status.Code.OK.value())
+        .setPublishedMessage(ResponseMapper.toPublishMessageResponse(key, response.getResponse()))
+        .build();
+  }
+
+  private PublishMessageResult toPublishMessageResult(final Status status) {
+    return PublishMessageResult.newBuilder()
+        .setCode(status.getCode().value())
+        .setMessage(Objects.requireNonNullElse(status.getDescription(), ""))
+        .build();
+  }
+
+  private CreateProcessInstanceResult toCreateProcessInstanceResult(
+      final long key, final BrokerResponse<ProcessInstanceCreationRecord> response) {
+    return CreateProcessInstanceResult.newBuilder()
+        .setCode(Status.Code.OK.value())
+        .setProcessInstance(
+            ResponseMapper.toCreateProcessInstanceResponse(key, response.getResponse()))
+        .build();
+  }
+
+  private CreateProcessInstanceResult toCreateProcessInstanceResult(final Status status) {
+    return CreateProcessInstanceResult.newBuilder()
+        .setCode(status.getCode().value())
+        .setMessage(Objects.requireNonNullElse(status.getDescription(), ""))
+        .build();
+  }
+
   private <GrpcRequestT, BrokerResponseT> BrokerRequest<BrokerResponseT> mapToBrokerRequest(
       final GrpcRequestT grpcRequest,
       final Function<GrpcRequestT, BrokerRequest<BrokerResponseT>> requestMapper)
       throws Exception {
 
     final BrokerRequest<BrokerResponseT> brokerRequest = requestMapper.apply(grpcRequest);
+    brokerRequest.setAuthorization(getAuthorizationToken());
 
+    return brokerRequest;
+  }
+
+  private String getAuthorizationToken() throws Exception {
     final List<String> authorizedTenants =
         multiTenancy.isEnabled()
             ? Context.current().call(InterceptorUtil.getAuthorizedTenantsKey()::get)
             : List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
-    final String authorizationToken =
-        Authorization.jwtEncoder()
-            .withIssuer(JwtAuthorizationBuilder.DEFAULT_ISSUER)
-            .withAudience(JwtAuthorizationBuilder.DEFAULT_AUDIENCE)
-            .withSubject(JwtAuthorizationBuilder.DEFAULT_SUBJECT)
-            .withClaim(Authorization.AUTHORIZED_TENANTS, authorizedTenants)
-            .encode();
-    brokerRequest.setAuthorization(authorizationToken);
-
-    return brokerRequest;
+    return Authorization.jwtEncoder()
+        .withIssuer(JwtAuthorizationBuilder.DEFAULT_ISSUER)
+        .withAudience(JwtAuthorizationBuilder.DEFAULT_AUDIENCE)
+        .withSubject(JwtAuthorizationBuilder.DEFAULT_SUBJECT)
+        .withClaim(Authorization.AUTHORIZED_TENANTS, authorizedTenants)
+        .encode();
   }
 
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommandBatch;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejectionResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCommandResult;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.grpc.Status.Code;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  private static final long REJECTED_JOB = Protocol.encodePartitionId(1, 2);
+
+  @Test
+  public void shouldCompleteJobsWithOneBatchPerPartition() {
+    // given
+    final List<BrokerExecuteCommandBatch<JobRecord>> batches = new ArrayList<>();
+    brokerClient.registerHandler(
+        BrokerExecuteCommandBatch.class,
+        (RequestHandler<BrokerExecuteCommandBatch<JobRecord>, BrokerResponse<?>>)
+            batch -> {
+              batches.add(batch);
+              return respondToEachCommand(batch);
+            });
+
+    final var request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(completeJob(Protocol.encodePartitionId(1, 1)))
+            .addJobs(completeJob(Protocol.encodePartitionId(2, 1)))
+            .addJobs(completeJob(REJECTED_JOB))
+            .build();
+
+    // when
+    final var response = client.completeJobs(request);
+
+    // then
+    assertThat(batches).hasSize(2);
+    assertThat(batches.get(0).getPartitionId()).isEqualTo(1);
+    assertThat(batches.get(0).getCommands()).hasSize(2);
+    assertThat(batches.get(1).getPartitionId()).isEqualTo(2);
+    assertThat(batches.get(1).getCommands()).hasSize(1);
+
+    assertThat(response.getResultsList())
+        .extracting(JobCommandResult::getJobKey, JobCommandResult::getCode)
+        .containsExactly(
+            tuple(Protocol.encodePartitionId(1, 1), Code.OK.value()),
+            tuple(Protocol.encodePartitionId(2, 1), Code.OK.value()),
+            tuple(REJECTED_JOB, Code.NOT_FOUND.value()));
+    assertThat(response.getResults(2).getMessage()).contains("no such job");
+  }
+
+  private static BrokerResponse<List<BrokerResponse<JobRecord>>> respondToEachCommand(
+      final BrokerExecuteCommandBatch<JobRecord> batch) {
+    final List<BrokerResponse<JobRecord>> responses = new ArrayList<>();
+    for (final var command : batch.getCommands()) {
+      if (command.getKey() == REJECTED_JOB) {
+        responses.add(
+            new BrokerRejectionResponse<>(
+                new BrokerRejection(
+                    JobIntent.COMPLETE, command.getKey(), RejectionType.NOT_FOUND, "no such job")));
+      } else {
+        responses.add(
+            new BrokerResponse<>(new JobRecord(), batch.getPartitionId(), command.getKey()));
+      }
+    }
+    return new BrokerResponse<>(responses, batch.getPartitionId(), -1);
+  }
+
+  private static CompleteJobRequest completeJob(final long jobKey) {
+    return CompleteJobRequest.newBuilder().setJobKey(jobKey).build();
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommandBatch;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.grpc.Status.Code;
+import io.grpc.StatusRuntimeException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class CreateProcessInstancesTest extends GatewayTest {
+
+  @Test
+  public void shouldSpreadProcessInstancesOverPartitions() {
+    // given
+    final List<BrokerExecuteCommandBatch<ProcessInstanceCreationRecord>> batches =
+        new ArrayList<>();
+    brokerClient.registerHandler(
+        BrokerExecuteCommandBatch.class,
+        (RequestHandler<
+                BrokerExecuteCommandBatch<ProcessInstanceCreationRecord>, BrokerResponse<?>>)
+            batch -> {
+              batches.add(batch);
+              return respondToEachCommand(batch);
+            });
+
+    final var request = CreateProcessInstancesRequest.newBuilder();
+    for (int i = 0; i < 3; i++) {
+      request.addProcessInstances(
+          CreateProcessInstanceRequest.newBuilder().setBpmnProcessId("process").setVersion(-1));
+    }
+
+    // when
+    final var response = client.createProcessInstances(request.build());
+
+    // then
+    assertThat(batches).hasSize(3);
+    assertThat(batches)
+        .extracting(BrokerExecuteCommandBatch::getPartitionId)
+        .doesNotHaveDuplicates();
+    assertThat(response.getResultsList())
+        .extracting(CreateProcessInstanceResult::getCode)
+        .containsOnly(Code.OK.value());
+    assertThat(response.getResultsList())
+        .extracting(
+            result ->
+                Protocol.decodePartitionId(result.getProcessInstance().getProcessInstanceKey()))
+        .containsExactlyElementsOf(
+            batches.stream().map(BrokerExecuteCommandBatch::getPartitionId).toList());
+  }
+
+  @Test
+  public void shouldRejectEmptyRequest() {
+    // when - then
+    assertThatThrownBy(
+            () -> client.createProcessInstances(CreateProcessInstancesRequest.getDefaultInstance()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .hasMessage("INVALID_ARGUMENT: Expected at least one process instance, but none was given");
+  }
+
+  private static BrokerResponse<List<BrokerResponse<ProcessInstanceCreationRecord>>>
+      respondToEachCommand(final BrokerExecuteCommandBatch<ProcessInstanceCreationRecord> batch) {
+    final List<BrokerResponse<ProcessInstanceCreationRecord>> responses = new ArrayList<>();
+    for (int i = 0; i < batch.getCommands().size(); i++) {
+      final var processInstanceKey = Protocol.encodePartitionId(batch.getPartitionId(), i + 1);
+      responses.add(
+          new BrokerResponse<>(
+              new ProcessInstanceCreationRecord()
+                  .setBpmnProcessId("process")
+                  .setProcessInstanceKey(processInstanceKey),
+              batch.getPartitionId(),
+              processInstanceKey));
+    }
+    return new BrokerResponse<>(responses, batch.getPartitionId(), -1);
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static io.camunda.zeebe.protocol.impl.SubscriptionUtil.getSubscriptionPartitionId;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommandBatch;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejectionResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.grpc.Status.Code;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class PublishMessagesTest extends GatewayTest {
+
+  private static final int PARTITION_COUNT = 8;
+  private static final String DUPLICATE_MESSAGE_ID = "duplicate";
+
+  @Test
+  public void shouldPublishMessagesWithOneBatchPerPartition() {
+    // given
+    final List<BrokerExecuteCommandBatch<MessageRecord>> batches = new ArrayList<>();
+    brokerClient.registerHandler(
+        BrokerExecuteCommandBatch.class,
+        (RequestHandler<BrokerExecuteCommandBatch<MessageRecord>, BrokerResponse<?>>)
+            batch -> {
+              batches.add(batch);
+              return respondToEachCommand(batch);
+            });
+
+    final var request =
+        PublishMessagesRequest.newBuilder()
+            .addMessages(publishMessage("order-1", "first"))
+            .addMessages(publishMessage("order-2", "second"))
+            .addMessages(publishMessage("order-1", DUPLICATE_MESSAGE_ID))
+            .build();
+
+    // when
+    final var response = client.publishMessages(request);
+
+    // then
+    for (final var batch : batches) {
+      assertThat(batch.getCommands())
+          .allSatisfy(
+              command ->
+                  assertThat(
+                          getSubscriptionPartitionId(
+                              ((BrokerPublishMessageRequest) command).getCorrelationKey(),
+                              PARTITION_COUNT))
+                      .isEqualTo(batch.getPartitionId()));
+    }
+    assertThat(batches).flatExtracting(BrokerExecuteCommandBatch::getCommands).hasSize(3);
+    assertThat(batches)
+        .extracting(BrokerExecuteCommandBatch::getPartitionId)
+        .doesNotHaveDuplicates()
+        .contains(getSubscriptionPartitionId(wrapString("order-1"), PARTITION_COUNT));
+
+    assertThat(response.getResultsList())
+        .extracting(PublishMessageResult::getCode, result -> result.getPublishedMessage().getKey())
+        .containsExactly(
+            tuple(Code.OK.value(), Protocol.encodePartitionId(partitionOf("order-1"), 1)),
+            tuple(Code.OK.value(), Protocol.encodePartitionId(partitionOf("order-2"), 1)),
+            tuple(Code.ALREADY_EXISTS.value(), 0L));
+    assertThat(response.getResults(2).getMessage()).contains("already published");
+  }
+
+  private static int partitionOf(final String correlationKey) {
+    return getSubscriptionPartitionId(wrapString(correlationKey), PARTITION_COUNT);
+  }
+
+  private static BrokerResponse<List<BrokerResponse<MessageRecord>>> respondToEachCommand(
+      final BrokerExecuteCommandBatch<MessageRecord> batch) {
+    final List<BrokerResponse<MessageRecord>> responses = new ArrayList<>();
+    for (final var command : batch.getCommands()) {
+      final MessageRecord message = (MessageRecord) command.getRequestWriter();
+      if (message.getMessageId().equals(DUPLICATE_MESSAGE_ID)) {
+        responses.add(
+            new BrokerRejectionResponse<>(
+                new BrokerRejection(
+                    MessageIntent.PUBLISH, -1, RejectionType.ALREADY_EXISTS, "already published")));
+      } else {
+        responses.add(
+            new BrokerResponse<>(
+                message,
+                batch.getPartitionId(),
+                Protocol.encodePartitionId(batch.getPartitionId(), 1)));
+      }
+    }
+    return new BrokerResponse<>(responses, batch.getPartitionId(), -1);
+  }
+
+  private static PublishMessageRequest publishMessage(
+      final String correlationKey, final String messageId) {
+    return PublishMessageRequest.newBuilder()
+        .setName("message")
+        .setCorrelationKey(correlationKey)
+        .setMessageId(messageId)
+        .build();
+  }
+}
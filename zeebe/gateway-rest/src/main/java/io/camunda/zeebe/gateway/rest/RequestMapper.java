@@ -15,8 +15,10 @@ import static io.camunda.zeebe.gateway.rest.validator.DocumentValidator.validate
 import static io.camunda.zeebe.gateway.rest.validator.ElementRequestValidator.validateVariableRequest;
 import static io.camunda.zeebe.gateway.rest.validator.EvaluateDecisionRequestValidator.validateEvaluateDecisionRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobActivationRequest;
+import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobBatchRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobErrorRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobUpdateRequest;
+import static io.camunda.zeebe.gateway.rest.validator.MessageRequestValidator.validateMessageBatchPublicationRequest;
 import static io.camunda.zeebe.gateway.rest.validator.MessageRequestValidator.validateMessageCorrelationRequest;
 import static io.camunda.zeebe.gateway.rest.validator.MessageRequestValidator.validateMessagePublicationRequest;
 import static io.camunda.zeebe.gateway.rest.validator.MultiTenancyValidator.validateAuthorization;
@@ -25,6 +27,7 @@ import static io.camunda.zeebe.gateway.rest.validator.ProcessInstanceRequestVali
 import static io.camunda.zeebe.gateway.rest.validator.ProcessInstanceRequestValidator.validateCreateProcessInstanceRequest;
 import static io.camunda.zeebe.gateway.rest.validator.ProcessInstanceRequestValidator.validateMigrateProcessInstanceRequest;
 import static io.camunda.zeebe.gateway.rest.validator.ProcessInstanceRequestValidator.validateModifyProcessInstanceRequest;
+import static io.camunda.zeebe.gateway.rest.validator.ProcessInstanceRequestValidator.validateProcessInstanceBatchCreationRequest;
 import static io.camunda.zeebe.gateway.rest.validator.ResourceRequestValidator.validateResourceDeletion;
 import static io.camunda.zeebe.gateway.rest.validator.SignalRequestValidator.validateSignalBroadcastRequest;
 import static io.camunda.zeebe.gateway.rest.validator.UserTaskRequestValidator.validateAssignmentRequest;
@@ -40,6 +43,8 @@ import io.camunda.service.DocumentServices.DocumentCreateRequest;
 import io.camunda.service.DocumentServices.DocumentLinkParams;
 import io.camunda.service.ElementInstanceServices.SetVariablesRequest;
 import io.camunda.service.JobServices.ActivateJobsRequest;
+import io.camunda.service.JobServices.JobCompletion;
+import io.camunda.service.JobServices.JobFailure;
 import io.camunda.service.JobServices.UpdateJobChangeset;
 import io.camunda.service.MessageServices.CorrelateMessageRequest;
 import io.camunda.service.MessageServices.PublicationMessageRequest;
@@ -62,15 +67,21 @@ import io.camunda.zeebe.gateway.protocol.rest.DocumentLinkRequest;
 import io.camunda.zeebe.gateway.protocol.rest.DocumentMetadata;
 import io.camunda.zeebe.gateway.protocol.rest.EvaluateDecisionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionItem;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchFailItem;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchFailRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobFailRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobUpdateRequest;
+import io.camunda.zeebe.gateway.protocol.rest.MessageBatchPublicationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.MessageCorrelationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.MessagePublicationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.MigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.rest.ModifyProcessInstanceActivateInstruction;
 import io.camunda.zeebe.gateway.protocol.rest.ModifyProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.rest.ProcessInstanceBatchCreationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.RoleCreateRequest;
 import io.camunda.zeebe.gateway.protocol.rest.RoleUpdateRequest;
 import io.camunda.zeebe.gateway.protocol.rest.SetVariableRequest;
@@ -235,6 +246,40 @@ public class RequestMapper {
         getJobResultOrDefault(completionRequest));
   }
 
+  public static Either<ProblemDetail, List<JobCompletion>> toJobBatchCompletionRequest(
+      final JobBatchCompletionRequest completionRequest) {
+    final var jobs = completionRequest.getJobs();
+    return getResult(
+        validateJobBatchRequest(jobs, JobBatchCompletionItem::getJobKey),
+        () ->
+            jobs.stream()
+                .map(
+                    job ->
+                        new JobCompletion(
+                            job.getJobKey(),
+                            getMapOrEmpty(job, JobBatchCompletionItem::getVariables),
+                            getJobResultOrDefault(job)))
+                .toList());
+  }
+
+  public static Either<ProblemDetail, List<JobFailure>> toJobBatchFailRequest(
+      final JobBatchFailRequest failRequest) {
+    final var jobs = failRequest.getJobs();
+    return getResult(
+        validateJobBatchRequest(jobs, JobBatchFailItem::getJobKey),
+        () ->
+            jobs.stream()
+                .map(
+                    job ->
+                        new JobFailure(
+                            job.getJobKey(),
+                            getIntOrZero(job, JobBatchFailItem::getRetries),
+                            getStringOrEmpty(job, JobBatchFailItem::getErrorMessage),
+                            getLongOrZero(job, JobBatchFailItem::getRetryBackOff),
+                            getMapOrEmpty(job, JobBatchFailItem::getVariables)))
+                .toList());
+  }
+
   public static Either<ProblemDetail, UpdateJobRequest> toJobUpdateRequest(
       final JobUpdateRequest updateRequest, final long jobKey) {
     final var validationJobUpdateResponse = validateJobUpdateRequest(updateRequest);
@@ -402,6 +447,18 @@ public class RequestMapper {
                 tenantId));
   }
 
+  public static Either<ProblemDetail, List<PublicationMessageRequest>>
+      toMessageBatchPublicationRequest(
+          final MessageBatchPublicationRequest batchRequest, final boolean multiTenancyEnabled) {
+    return validateMessageBatchPublicationRequest(batchRequest)
+        .map(Either::<ProblemDetail, List<PublicationMessageRequest>>left)
+        .orElseGet(
+            () ->
+                batchRequest.getMessages().stream()
+                    .map(message -> toMessagePublicationRequest(message, multiTenancyEnabled))
+                    .collect(Either.collectorFoldingLeft()));
+  }
+
   public static Either<ProblemDetail, ResourceDeletionRequest> toResourceDeletion(
       final long resourceKey, final DeleteResourceRequest deleteRequest) {
     final Long operationReference =
@@ -571,6 +628,19 @@ public class RequestMapper {
                 request.getFetchVariables()));
   }
 
+  public static Either<ProblemDetail, List<ProcessInstanceCreateRequest>>
+      toProcessInstanceBatchCreation(
+          final ProcessInstanceBatchCreationRequest batchRequest,
+          final boolean multiTenancyEnabled) {
+    return validateProcessInstanceBatchCreationRequest(batchRequest)
+        .map(Either::<ProblemDetail, List<ProcessInstanceCreateRequest>>left)
+        .orElseGet(
+            () ->
+                batchRequest.getProcessInstances().stream()
+                    .map(request -> toCreateProcessInstance(request, multiTenancyEnabled))
+                    .collect(Either.collectorFoldingLeft()));
+  }
+
   public static Either<ProblemDetail, ProcessInstanceCancelRequest> toCancelProcessInstance(
       final long processInstanceKey, final CancelProcessInstanceRequest request) {
     final Long operationReference = request != null ? request.getOperationReference() : null;
@@ -677,6 +747,14 @@ public class RequestMapper {
         .setDenied(getBooleanOrDefault(request, r -> r.getResult().getDenied(), false));
   }
 
+  private static JobResult getJobResultOrDefault(final JobBatchCompletionItem job) {
+    if (job.getResult() == null) {
+      return new JobResult();
+    }
+    return new JobResult()
+        .setDenied(getBooleanOrDefault(job, r -> r.getResult().getDenied(), false));
+  }
+
   private static <R> boolean getBooleanOrDefault(
       final R request, final Function<R, Boolean> valueExtractor, final boolean defaultValue) {
     final Boolean value = request == null ? null : valueExtractor.apply(request);
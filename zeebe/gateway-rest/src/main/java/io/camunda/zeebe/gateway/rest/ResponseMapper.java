@@ -15,6 +15,8 @@ import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
 
 import io.camunda.document.api.DocumentLink;
 import io.camunda.service.DocumentServices.DocumentReferenceResponse;
+import io.camunda.service.JobServices.JobCommandResult;
+import io.camunda.service.exception.CamundaBrokerException;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResult;
 import io.camunda.zeebe.gateway.protocol.rest.ActivatedJob;
@@ -33,9 +35,15 @@ import io.camunda.zeebe.gateway.protocol.rest.EvaluatedDecisionInputItem;
 import io.camunda.zeebe.gateway.protocol.rest.EvaluatedDecisionItem;
 import io.camunda.zeebe.gateway.protocol.rest.EvaluatedDecisionOutputItem;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchResponse;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchResult;
 import io.camunda.zeebe.gateway.protocol.rest.MatchedDecisionRuleItem;
+import io.camunda.zeebe.gateway.protocol.rest.MessageBatchPublicationResponse;
+import io.camunda.zeebe.gateway.protocol.rest.MessageBatchPublicationResult;
 import io.camunda.zeebe.gateway.protocol.rest.MessageCorrelationResponse;
 import io.camunda.zeebe.gateway.protocol.rest.MessagePublicationResponse;
+import io.camunda.zeebe.gateway.protocol.rest.ProcessInstanceBatchCreationResponse;
+import io.camunda.zeebe.gateway.protocol.rest.ProcessInstanceBatchCreationResult;
 import io.camunda.zeebe.gateway.protocol.rest.RoleCreateResponse;
 import io.camunda.zeebe.gateway.protocol.rest.SignalBroadcastResponse;
 import io.camunda.zeebe.gateway.protocol.rest.UserCreateResponse;
@@ -58,6 +66,7 @@ import io.camunda.zeebe.protocol.record.value.EvaluatedInputValue;
 import io.camunda.zeebe.protocol.record.value.EvaluatedOutputValue;
 import io.camunda.zeebe.protocol.record.value.MatchedRuleValue;
 import io.camunda.zeebe.protocol.record.value.deployment.ProcessMetadataValue;
+import io.camunda.zeebe.util.Either;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -67,6 +76,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 
 public final class ResponseMapper {
@@ -139,6 +149,27 @@ public final class ResponseMapper {
         .tenantId(job.getTenantId());
   }
 
+  public static ResponseEntity<Object> toJobBatchResponse(final List<JobCommandResult> results) {
+    final var response =
+        new JobBatchResponse()
+            .results(results.stream().map(ResponseMapper::toJobBatchResult).toList());
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
+  private static JobBatchResult toJobBatchResult(final JobCommandResult result) {
+    final var jobResult = new JobBatchResult().jobKey(result.jobKey());
+    if (result.error() == null) {
+      return jobResult.status(HttpStatus.NO_CONTENT.value());
+    }
+
+    final var problem = mapBatchErrorToProblem(result.error());
+    return jobResult.status(problem.getStatus()).detail(problem.getDetail());
+  }
+
+  private static ProblemDetail mapBatchErrorToProblem(final Throwable error) {
+    return RestErrorMapper.mapErrorToProblem(error, RestErrorMapper.DEFAULT_REJECTION_MAPPER);
+  }
+
   public static ResponseEntity<Object> toMessageCorrelationResponse(
       final MessageCorrelationRecord brokerResponse) {
     final var response =
@@ -194,14 +225,39 @@ public final class ResponseMapper {
 
   public static ResponseEntity<Object> toMessagePublicationResponse(
       final BrokerResponse<MessageRecord> brokerResponse) {
+    return new ResponseEntity<>(buildMessagePublicationResponse(brokerResponse), HttpStatus.OK);
+  }
 
+  public static ResponseEntity<Object> toMessageBatchPublicationResponse(
+      final List<Either<CamundaBrokerException, BrokerResponse<MessageRecord>>> results) {
     final var response =
-        new MessagePublicationResponse()
-            .messageKey(brokerResponse.getKey())
-            .tenantId(brokerResponse.getResponse().getTenantId());
+        new MessageBatchPublicationResponse()
+            .results(
+                results.stream()
+                    .map(
+                        result ->
+                            result.fold(
+                                error -> {
+                                  final var problem = mapBatchErrorToProblem(error);
+                                  return new MessageBatchPublicationResult()
+                                      .status(problem.getStatus())
+                                      .detail(problem.getDetail());
+                                },
+                                brokerResponse ->
+                                    new MessageBatchPublicationResult()
+                                        .status(HttpStatus.OK.value())
+                                        .message(buildMessagePublicationResponse(brokerResponse))))
+                    .toList());
     return new ResponseEntity<>(response, HttpStatus.OK);
   }
 
+  private static MessagePublicationResponse buildMessagePublicationResponse(
+      final BrokerResponse<MessageRecord> brokerResponse) {
+    return new MessagePublicationResponse()
+        .messageKey(brokerResponse.getKey())
+        .tenantId(brokerResponse.getResponse().getTenantId());
+  }
+
   private static void addDeployedForm(
       final DeploymentResponse response, final ValueArray<FormMetadataRecord> formMetadataRecords) {
     formMetadataRecords.stream()
@@ -270,27 +326,60 @@ public final class ResponseMapper {
 
   public static ResponseEntity<Object> toCreateProcessInstanceResponse(
       final ProcessInstanceCreationRecord brokerResponse) {
-    return buildCreateProcessInstanceResponse(
-        brokerResponse.getProcessDefinitionKey(),
-        brokerResponse.getBpmnProcessId(),
-        brokerResponse.getVersion(),
-        brokerResponse.getProcessInstanceKey(),
-        brokerResponse.getTenantId(),
-        null);
+    return new ResponseEntity<>(buildCreateProcessInstanceResponse(brokerResponse), HttpStatus.OK);
   }
 
   public static ResponseEntity<Object> toCreateProcessInstanceWithResultResponse(
       final ProcessInstanceResultRecord brokerResponse) {
+    final var response =
+        buildCreateProcessInstanceResponse(
+            brokerResponse.getProcessDefinitionKey(),
+            brokerResponse.getBpmnProcessId(),
+            brokerResponse.getVersion(),
+            brokerResponse.getProcessInstanceKey(),
+            brokerResponse.getTenantId(),
+            brokerResponse.getVariables());
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
+  public static ResponseEntity<Object> toProcessInstanceBatchCreationResponse(
+      final List<Either<CamundaBrokerException, BrokerResponse<ProcessInstanceCreationRecord>>>
+          results) {
+    final var response =
+        new ProcessInstanceBatchCreationResponse()
+            .results(
+                results.stream()
+                    .map(
+                        result ->
+                            result.fold(
+                                error -> {
+                                  final var problem = mapBatchErrorToProblem(error);
+                                  return new ProcessInstanceBatchCreationResult()
+                                      .status(problem.getStatus())
+                                      .detail(problem.getDetail());
+                                },
+                                brokerResponse ->
+                                    new ProcessInstanceBatchCreationResult()
+                                        .status(HttpStatus.OK.value())
+                                        .processInstance(
+                                            buildCreateProcessInstanceResponse(
+                                                brokerResponse.getResponse()))))
+                    .toList());
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
+  private static CreateProcessInstanceResponse buildCreateProcessInstanceResponse(
+      final ProcessInstanceCreationRecord brokerResponse) {
     return buildCreateProcessInstanceResponse(
         brokerResponse.getProcessDefinitionKey(),
         brokerResponse.getBpmnProcessId(),
         brokerResponse.getVersion(),
         brokerResponse.getProcessInstanceKey(),
         brokerResponse.getTenantId(),
-        brokerResponse.getVariables());
+        null);
   }
 
-  private static ResponseEntity<Object> buildCreateProcessInstanceResponse(
+  private static CreateProcessInstanceResponse buildCreateProcessInstanceResponse(
       final Long processDefinitionKey,
       final String bpmnProcessId,
       final Integer version,
@@ -307,8 +396,7 @@ public final class ResponseMapper {
     if (variables != null) {
       response.variables(variables);
     }
-
-    return new ResponseEntity<>(response, HttpStatus.OK);
+    return response;
   }
 
   public static ResponseEntity<Object> toSignalBroadcastResponse(
@@ -11,11 +11,13 @@ import io.camunda.service.MessageServices;
 import io.camunda.service.MessageServices.CorrelateMessageRequest;
 import io.camunda.service.MessageServices.PublicationMessageRequest;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
+import io.camunda.zeebe.gateway.protocol.rest.MessageBatchPublicationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.MessageCorrelationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.MessagePublicationRequest;
 import io.camunda.zeebe.gateway.rest.RequestMapper;
 import io.camunda.zeebe.gateway.rest.ResponseMapper;
 import io.camunda.zeebe.gateway.rest.RestErrorMapper;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -47,6 +49,17 @@ public class MessageController {
         .fold(RestErrorMapper::mapProblemToCompletedResponse, this::publishMessage);
   }
 
+  @PostMapping(
+      path = "/publication/batch",
+      produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE},
+      consumes = MediaType.APPLICATION_JSON_VALUE)
+  public CompletableFuture<ResponseEntity<Object>> publishMessages(
+      @RequestBody final MessageBatchPublicationRequest publicationRequest) {
+    return RequestMapper.toMessageBatchPublicationRequest(
+            publicationRequest, multiTenancyCfg.isEnabled())
+        .fold(RestErrorMapper::mapProblemToCompletedResponse, this::publishMessages);
+  }
+
   @PostMapping(
       path = "/correlation",
       produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE},
@@ -77,4 +90,14 @@ public class MessageController {
                 .publishMessage(request),
         ResponseMapper::toMessagePublicationResponse);
   }
+
+  private CompletableFuture<ResponseEntity<Object>> publishMessages(
+      final List<PublicationMessageRequest> requests) {
+    return RequestMapper.executeServiceMethod(
+        () ->
+            messageServices
+                .withAuthentication(RequestMapper.getAuthentication())
+                .publishMessages(requests),
+        ResponseMapper::toMessageBatchPublicationResponse);
+  }
 }
@@ -17,9 +17,11 @@ import io.camunda.zeebe.gateway.protocol.rest.CancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.rest.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.rest.MigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.rest.ModifyProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.rest.ProcessInstanceBatchCreationRequest;
 import io.camunda.zeebe.gateway.rest.RequestMapper;
 import io.camunda.zeebe.gateway.rest.ResponseMapper;
 import io.camunda.zeebe.gateway.rest.RestErrorMapper;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -51,6 +53,16 @@ public class ProcessInstanceController {
         .fold(RestErrorMapper::mapProblemToCompletedResponse, this::createProcessInstance);
   }
 
+  @PostMapping(
+      path = "/batch",
+      produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE},
+      consumes = MediaType.APPLICATION_JSON_VALUE)
+  public CompletableFuture<ResponseEntity<Object>> createProcessInstances(
+      @RequestBody final ProcessInstanceBatchCreationRequest request) {
+    return RequestMapper.toProcessInstanceBatchCreation(request, multiTenancyCfg.isEnabled())
+        .fold(RestErrorMapper::mapProblemToCompletedResponse, this::createProcessInstances);
+  }
+
   @PostMapping(
       path = "/{processInstanceKey}/cancellation",
       produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE},
@@ -102,6 +114,16 @@ public class ProcessInstanceController {
         ResponseMapper::toCreateProcessInstanceResponse);
   }
 
+  private CompletableFuture<ResponseEntity<Object>> createProcessInstances(
+      final List<ProcessInstanceCreateRequest> requests) {
+    return RequestMapper.executeServiceMethod(
+        () ->
+            processInstanceServices
+                .withAuthentication(RequestMapper.getAuthentication())
+                .createProcessInstances(requests),
+        ResponseMapper::toProcessInstanceBatchCreationResponse);
+  }
+
   private CompletableFuture<ResponseEntity<Object>> cancelProcessInstance(
       final ProcessInstanceCancelRequest request) {
     return RequestMapper.executeServiceMethodWithNoContentResult(
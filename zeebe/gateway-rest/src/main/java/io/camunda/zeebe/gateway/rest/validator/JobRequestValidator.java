@@ -9,6 +9,7 @@ package io.camunda.zeebe.gateway.rest.validator;
 
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_AT_LEAST_ONE_FIELD;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_EMPTY_ATTRIBUTE;
+import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_EMPTY_NESTED_ATTRIBUTE;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_INVALID_ATTRIBUTE_VALUE;
 import static io.camunda.zeebe.gateway.rest.validator.RequestValidator.validate;
 
@@ -18,6 +19,7 @@ import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobUpdateRequest;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import org.springframework.http.ProblemDetail;
 
 public final class JobRequestValidator {
@@ -57,6 +59,24 @@ public final class JobRequestValidator {
         });
   }
 
+  public static <T> Optional<ProblemDetail> validateJobBatchRequest(
+      final List<T> jobs, final Function<T, Long> jobKeyExtractor) {
+    return validate(
+        violations -> {
+          if (jobs == null || jobs.isEmpty()) {
+            violations.add(ERROR_MESSAGE_EMPTY_ATTRIBUTE.formatted("jobs"));
+            return;
+          }
+          for (int i = 0; i < jobs.size(); i++) {
+            if (jobKeyExtractor.apply(jobs.get(i)) == null) {
+              violations.add(
+                  ERROR_MESSAGE_EMPTY_NESTED_ATTRIBUTE.formatted(
+                      "jobKey", "jobs[%d]".formatted(i)));
+            }
+          }
+        });
+  }
+
   public static Optional<ProblemDetail> validateJobUpdateRequest(
       final JobUpdateRequest updateRequest) {
     return validate(
@@ -10,6 +10,7 @@ package io.camunda.zeebe.gateway.rest.validator;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_EMPTY_ATTRIBUTE;
 import static io.camunda.zeebe.gateway.rest.validator.RequestValidator.validate;
 
+import io.camunda.zeebe.gateway.protocol.rest.MessageBatchPublicationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.MessageCorrelationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.MessagePublicationRequest;
 import java.util.Optional;
@@ -36,4 +37,15 @@ public final class MessageRequestValidator {
           }
         });
   }
+
+  public static Optional<ProblemDetail> validateMessageBatchPublicationRequest(
+      final MessageBatchPublicationRequest publicationRequest) {
+    return validate(
+        violations -> {
+          if (publicationRequest.getMessages() == null
+              || publicationRequest.getMessages().isEmpty()) {
+            violations.add(ERROR_MESSAGE_EMPTY_ATTRIBUTE.formatted("messages"));
+          }
+        });
+  }
 }
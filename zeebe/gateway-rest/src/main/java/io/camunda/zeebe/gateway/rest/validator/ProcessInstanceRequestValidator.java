@@ -10,6 +10,7 @@ package io.camunda.zeebe.gateway.rest.validator;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_ALL_REQUIRED_FIELD;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_AT_LEAST_ONE_FIELD;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_EMPTY_ATTRIBUTE;
+import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_INVALID_ATTRIBUTE_VALUE;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_ONLY_ONE_FIELD;
 import static io.camunda.zeebe.gateway.rest.validator.RequestValidator.validate;
 import static io.camunda.zeebe.gateway.rest.validator.RequestValidator.validateOperationReference;
@@ -21,6 +22,7 @@ import io.camunda.zeebe.gateway.protocol.rest.MigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.rest.ModifyProcessInstanceActivateInstruction;
 import io.camunda.zeebe.gateway.protocol.rest.ModifyProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.rest.ModifyProcessInstanceTerminateInstruction;
+import io.camunda.zeebe.gateway.protocol.rest.ProcessInstanceBatchCreationRequest;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -48,6 +50,25 @@ public class ProcessInstanceRequestValidator {
         });
   }
 
+  public static Optional<ProblemDetail> validateProcessInstanceBatchCreationRequest(
+      final ProcessInstanceBatchCreationRequest request) {
+    return validate(
+        violations -> {
+          final List<CreateProcessInstanceRequest> processInstances = request.getProcessInstances();
+          if (processInstances == null || processInstances.isEmpty()) {
+            violations.add(ERROR_MESSAGE_EMPTY_ATTRIBUTE.formatted("processInstances"));
+            return;
+          }
+          for (int i = 0; i < processInstances.size(); i++) {
+            if (Boolean.TRUE.equals(processInstances.get(i).getAwaitCompletion())) {
+              violations.add(
+                  ERROR_MESSAGE_INVALID_ATTRIBUTE_VALUE.formatted(
+                      "processInstances[%d].awaitCompletion".formatted(i), true, "false"));
+            }
+          }
+        });
+  }
+
   public static Optional<ProblemDetail> validateCancelProcessInstanceRequest(
       final CancelProcessInstanceRequest request) {
     return validate(
@@ -16,11 +16,18 @@ import static org.mockito.Mockito.when;
 
 import io.camunda.security.auth.Authentication;
 import io.camunda.service.JobServices;
+import io.camunda.service.JobServices.JobCommandResult;
+import io.camunda.service.JobServices.JobCompletion;
 import io.camunda.service.JobServices.UpdateJobChangeset;
+import io.camunda.service.exception.CamundaBrokerException;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
 import io.camunda.zeebe.gateway.rest.RestControllerTest;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobResult;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Assertions;
@@ -591,4 +598,101 @@ public class JobControllerTest extends RestControllerTest {
         .expectBody()
         .json(expectedBody);
   }
+
+  @Test
+  void shouldCompleteJobs() {
+    // given
+    final var rejection =
+        new BrokerRejection(JobIntent.COMPLETE, 2L, RejectionType.NOT_FOUND, "no such job");
+    when(jobServices.completeJobs(any()))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                List.of(
+                    new JobCommandResult(1L, null),
+                    new JobCommandResult(2L, new CamundaBrokerException(rejection)))));
+
+    final var request =
+        """
+            {
+              "jobs": [
+                {
+                  "jobKey": 1,
+                  "variables": {
+                    "foo": "bar"
+                  }
+                },
+                {
+                  "jobKey": 2
+                }
+              ]
+            }""";
+    final var expectedBody =
+        """
+            {
+              "results": [
+                {
+                  "jobKey": 1,
+                  "status": 204
+                },
+                {
+                  "jobKey": 2,
+                  "status": 404
+                }
+              ]
+            }""";
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_BASE_URL + "/completion")
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json(expectedBody);
+
+    final ArgumentCaptor<List<JobCompletion>> jobsCaptor = ArgumentCaptor.forClass(List.class);
+    Mockito.verify(jobServices).completeJobs(jobsCaptor.capture());
+    Assertions.assertEquals(
+        List.of(1L, 2L), jobsCaptor.getValue().stream().map(JobCompletion::jobKey).toList());
+    Assertions.assertEquals(Map.of("foo", "bar"), jobsCaptor.getValue().getFirst().variables());
+  }
+
+  @Test
+  void shouldRejectEmptyJobBatch() {
+    // given
+    final var request =
+        """
+            {
+              "jobs": []
+            }""";
+    final var expectedBody =
+        """
+            {
+              "type": "about:blank",
+              "status": 400,
+              "title": "INVALID_ARGUMENT",
+              "detail": "No jobs provided.",
+              "instance": "%s"
+            }"""
+            .formatted(JOBS_BASE_URL + "/failure");
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_BASE_URL + "/failure")
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectHeader()
+        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .expectBody()
+        .json(expectedBody);
+  }
 }
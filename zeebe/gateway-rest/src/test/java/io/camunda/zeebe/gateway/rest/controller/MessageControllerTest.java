@@ -8,6 +8,7 @@
 package io.camunda.zeebe.gateway.rest.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -16,12 +17,18 @@ import io.camunda.security.auth.Authentication;
 import io.camunda.service.MessageServices;
 import io.camunda.service.MessageServices.CorrelateMessageRequest;
 import io.camunda.service.MessageServices.PublicationMessageRequest;
+import io.camunda.service.exception.CamundaBrokerException;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
 import io.camunda.zeebe.gateway.rest.RestControllerTest;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageCorrelationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.util.Either;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +47,7 @@ public class MessageControllerTest extends RestControllerTest {
   private static final String MESSAGE_BASE_URL = "/v2/messages";
   private static final String CORRELATION_ENDPOINT = MESSAGE_BASE_URL + "/correlation";
   private static final String PUBLICATION_ENDPOINT = MESSAGE_BASE_URL + "/publication";
+  private static final String BATCH_PUBLICATION_ENDPOINT = PUBLICATION_ENDPOINT + "/batch";
   private static final String EXPECTED_PUBLICATION_RESPONSE =
       """
           {
@@ -50,6 +58,7 @@ public class MessageControllerTest extends RestControllerTest {
   @MockBean MultiTenancyCfg multiTenancyCfg;
   @Captor ArgumentCaptor<CorrelateMessageRequest> correlationRequestCaptor;
   @Captor ArgumentCaptor<PublicationMessageRequest> publicationRequestCaptor;
+  @Captor ArgumentCaptor<List<PublicationMessageRequest>> batchPublicationRequestCaptor;
 
   @BeforeEach
   void setup() {
@@ -582,6 +591,105 @@ public class MessageControllerTest extends RestControllerTest {
         .json(expectedBody);
   }
 
+  @Test
+  void shouldPublishMessages() {
+    // given
+    final var rejection =
+        new BrokerRejection(
+            MessageIntent.PUBLISH, -1L, RejectionType.ALREADY_EXISTS, "already published");
+    when(messageServices.publishMessages(any()))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                List.of(
+                    Either.right(buildPublishResponse().join()),
+                    Either.left(new CamundaBrokerException(rejection)))));
+
+    final var request =
+        """
+            {
+              "messages": [
+                {
+                  "name": "messageName",
+                  "correlationKey": "correlationKey",
+                  "messageId": "first"
+                },
+                {
+                  "name": "messageName",
+                  "correlationKey": "otherCorrelationKey",
+                  "messageId": "second"
+                }
+              ]
+            }""";
+    final var expectedBody =
+        """
+            {
+              "results": [
+                {
+                  "status": 200,
+                  "message": {
+                    "messageKey": 123,
+                    "tenantId": "<default>"
+                  }
+                },
+                {
+                  "status": 409,
+                  "detail": "Command 'PUBLISH' rejected with code 'ALREADY_EXISTS': already published"
+                }
+              ]
+            }""";
+
+    // when then
+    webClient
+        .post()
+        .uri(BATCH_PUBLICATION_ENDPOINT)
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json(expectedBody);
+
+    Mockito.verify(messageServices).publishMessages(batchPublicationRequestCaptor.capture());
+    assertThat(batchPublicationRequestCaptor.getValue())
+        .extracting(PublicationMessageRequest::correlationKey, PublicationMessageRequest::messageId)
+        .containsExactly(tuple("correlationKey", "first"), tuple("otherCorrelationKey", "second"));
+  }
+
+  @Test
+  void shouldRejectPublishMessagesWithoutMessages() {
+    // given
+    final var request =
+        """
+            {
+              "messages": []
+            }""";
+    final var expectedBody =
+        """
+            {
+                "type":"about:blank",
+                "title":"INVALID_ARGUMENT",
+                "status":400,
+                "detail":"No messages provided.",
+                "instance":"/v2/messages/publication/batch"
+             }""";
+
+    // when then
+    webClient
+        .post()
+        .uri(BATCH_PUBLICATION_ENDPOINT)
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .json(expectedBody);
+    verifyNoInteractions(messageServices);
+  }
+
   private CompletableFuture<BrokerResponse<MessageRecord>> buildPublishResponse() {
     final var record =
         new MessageRecord()
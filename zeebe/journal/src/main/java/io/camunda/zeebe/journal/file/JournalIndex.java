@@ -31,6 +31,16 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Indexes the given record index, asqn and position. Same as {@link #index(JournalRecord, int)},
+   * but without requiring a record, e.g. when restoring the index from a persisted copy.
+   *
+   * @param index the index of the record
+   * @param asqn the asqn of the record
+   * @param position the position of the record within its segment
+   */
+  void index(long index, long asqn, int position);
+
   /**
    * Looks up the position of the given index.
    *
@@ -89,4 +99,19 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  /**
+   * Visits all indexed entries between the given indexes, both inclusive, in ascending order. If an
+   * entry has no asqn, {@link SegmentedJournal#ASQN_IGNORE} is passed instead.
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param visitor called for every visited entry
+   */
+  void forEach(long fromIndex, long toIndex, EntryVisitor visitor);
+
+  @FunctionalInterface
+  interface EntryVisitor {
+    void visit(long index, long asqn, int position);
+  }
 }
@@ -112,6 +112,17 @@ final class JournalMetrics {
           .buckets(0.0001, 0.001, .005, .01, .025, .05, .075, .1, .25, .5, .75, 1, 2.5, 5)
           .register();
 
+  private static final Histogram SEGMENT_LOAD_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("segment_load_time")
+          .help(
+              "Time spent to load an existing segment on startup, by whether its index was restored"
+                  + " from an index file or not, in which case a sealed segment is indexed lazily on"
+                  + " the first seek into it")
+          .labelNames(PARTITION_LABEL, "index")
+          .register();
+
   private final Histogram.Child segmentCreationTime;
   private final Histogram.Child segmentTruncateTime;
   private final Histogram.Child segmentFlushTime;
@@ -123,6 +134,8 @@ final class JournalMetrics {
   private final Counter.Child appendRate;
   private final Counter.Child appendDataRate;
   private final Child seekLatency;
+  private final Histogram.Child segmentLoadTimeFromIndexFile;
+  private final Histogram.Child segmentLoadTimeWithoutIndexFile;
 
   JournalMetrics(final String partitionId) {
     segmentCreationTime = SEGMENT_CREATION_TIME.labels(partitionId);
@@ -136,6 +149,8 @@ final class JournalMetrics {
     appendRate = APPEND_RATE.labels(partitionId);
     appendDataRate = APPEND_DATA_RATE.labels(partitionId);
     seekLatency = SEEK_LATENCY.labels(partitionId);
+    segmentLoadTimeFromIndexFile = SEGMENT_LOAD_TIME.labels(partitionId, "indexFile");
+    segmentLoadTimeWithoutIndexFile = SEGMENT_LOAD_TIME.labels(partitionId, "withoutIndexFile");
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -182,4 +197,13 @@ final class JournalMetrics {
   Histogram.Timer observeSeekLatency() {
     return seekLatency.startTimer();
   }
+
+  void observeSegmentLoad(final long startNanos, final boolean loadedFromIndexFile) {
+    final double seconds = (System.nanoTime() - startNanos) / 1e9;
+    if (loadedFromIndexFile) {
+      segmentLoadTimeFromIndexFile.observe(seconds);
+    } else {
+      segmentLoadTimeWithoutIndexFile.observe(seconds);
+    }
+  }
 }
@@ -237,6 +237,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   /** Deletes the segment. */
   void delete() {
     open = false;
+    deleteIndexFile();
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
@@ -267,6 +268,18 @@ final class Segment implements AutoCloseable, FlushableSegment {
     return toStringHelper(this).add("id", id()).add("index", index()).toString();
   }
 
+  private void deleteIndexFile() {
+    try {
+      Files.deleteIfExists(file.getIndexFile());
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete index file {} of segment {}. It will be ignored on restart.",
+          file.getIndexFile(),
+          this,
+          e);
+    }
+  }
+
   private void markForDeletion() {
     if (markedForDeletion) {
       return;
@@ -288,6 +301,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
   }
 
   void resetLastEntryInDescriptor() {
+    // the persisted index, if any, would not match the truncated segment anymore
+    deleteIndexFile();
     descriptor = descriptor.reset();
     descriptorSerializer.writeTo(descriptor, buffer);
     // flush immediately to prevent inconsistencies between descriptor and actual last written entry
@@ -0,0 +1,182 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the {@link JournalIndex} entries of a sealed segment next to the segment file, such that
+ * they can be restored when the journal is reopened, instead of having readers rebuild them by
+ * scanning the segment.
+ *
+ * <p>The file is written once, when the journal rolls over to the next segment, and is only ever
+ * used if it still matches the segment: the segment id and first index must match its {@link
+ * SegmentDescriptor}, and the last index, position and checksum must match the segment's last
+ * record. The content itself is protected by a checksum, so partially written files are ignored as
+ * well. As the file is only an optimization, it is not flushed, and any mismatch simply means the
+ * segment is indexed lazily again.
+ *
+ * <p>Layout (little endian): version (byte), segment id (long), first index (long), last index
+ * (long), last position (int), last record checksum (long), entry count (int), followed by the
+ * entries as index (long), asqn (long) and position (int), and finally a CRC32C checksum (long) of
+ * everything before it.
+ */
+final class SegmentIndexFile {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+
+  private static final byte VERSION = 1;
+  private static final int VERSION_OFFSET = 0;
+  private static final int SEGMENT_ID_OFFSET = VERSION_OFFSET + Byte.BYTES;
+  private static final int FIRST_INDEX_OFFSET = SEGMENT_ID_OFFSET + Long.BYTES;
+  private static final int LAST_INDEX_OFFSET = FIRST_INDEX_OFFSET + Long.BYTES;
+  private static final int LAST_POSITION_OFFSET = LAST_INDEX_OFFSET + Long.BYTES;
+  private static final int LAST_CHECKSUM_OFFSET = LAST_POSITION_OFFSET + Integer.BYTES;
+  private static final int ENTRY_COUNT_OFFSET = LAST_CHECKSUM_OFFSET + Long.BYTES;
+  private static final int HEADER_LENGTH = ENTRY_COUNT_OFFSET + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Long.BYTES + Integer.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+  private final ExpandableArrayBuffer writeBuffer = new ExpandableArrayBuffer();
+
+  /**
+   * Writes the index entries of the given, sealed segment. Failures are logged but not propagated,
+   * as the segment can always be indexed lazily instead.
+   */
+  void write(final Segment segment, final JournalIndex index) {
+    final var lastEntry = segment.writer().getLastEntry();
+    if (lastEntry == null) {
+      return;
+    }
+
+    final var descriptor = segment.descriptor();
+    writeBuffer.putByte(VERSION_OFFSET, VERSION);
+    writeBuffer.putLong(SEGMENT_ID_OFFSET, descriptor.id(), ENDIANNESS);
+    writeBuffer.putLong(FIRST_INDEX_OFFSET, descriptor.index(), ENDIANNESS);
+    writeBuffer.putLong(LAST_INDEX_OFFSET, lastEntry.index(), ENDIANNESS);
+    writeBuffer.putInt(LAST_POSITION_OFFSET, segment.writer().getLastEntryPosition(), ENDIANNESS);
+    writeBuffer.putLong(LAST_CHECKSUM_OFFSET, lastEntry.checksum(), ENDIANNESS);
+
+    final var entryCount = new int[1];
+    index.forEach(
+        descriptor.index(),
+        lastEntry.index(),
+        (entryIndex, asqn, position) -> {
+          final int offset = HEADER_LENGTH + entryCount[0]++ * ENTRY_LENGTH;
+          writeBuffer.putLong(offset, entryIndex, ENDIANNESS);
+          writeBuffer.putLong(offset + Long.BYTES, asqn, ENDIANNESS);
+          writeBuffer.putInt(offset + 2 * Long.BYTES, position, ENDIANNESS);
+        });
+    writeBuffer.putInt(ENTRY_COUNT_OFFSET, entryCount[0], ENDIANNESS);
+
+    final int checksumOffset = HEADER_LENGTH + entryCount[0] * ENTRY_LENGTH;
+    final long checksum = checksumGenerator.compute(writeBuffer, 0, checksumOffset);
+    writeBuffer.putLong(checksumOffset, checksum, ENDIANNESS);
+
+    final var indexFile = segment.file().getIndexFile();
+    try (final var channel =
+        FileChannel.open(
+            indexFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      final var content =
+          ByteBuffer.wrap(writeBuffer.byteArray(), 0, checksumOffset + CHECKSUM_LENGTH);
+      while (content.hasRemaining()) {
+        channel.write(content);
+      }
+    } catch (final IOException e) {
+      LOGGER.warn(
+          "Failed to write index file {} of segment {}, it will be indexed lazily on restart",
+          indexFile,
+          segment,
+          e);
+    }
+  }
+
+  /**
+   * Restores the index entries of the given segment from its index file, if there is one and it
+   * still matches the segment.
+   *
+   * @return true if the entries were restored, false otherwise
+   */
+  boolean load(final Segment segment, final JournalIndex index) {
+    final var indexFile = segment.file().getIndexFile();
+    final UnsafeBuffer buffer;
+    try {
+      buffer = new UnsafeBuffer(Files.readAllBytes(indexFile));
+    } catch (final NoSuchFileException e) {
+      return false;
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to read index file {} of segment {}", indexFile, segment, e);
+      return false;
+    }
+
+    if (!isValid(buffer, segment)) {
+      LOGGER.debug("Ignoring index file {}, as it does not match segment {}", indexFile, segment);
+      return false;
+    }
+
+    final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET, ENDIANNESS);
+    for (int i = 0; i < entryCount; i++) {
+      final int offset = HEADER_LENGTH + i * ENTRY_LENGTH;
+      index.index(
+          buffer.getLong(offset, ENDIANNESS),
+          buffer.getLong(offset + Long.BYTES, ENDIANNESS),
+          buffer.getInt(offset + 2 * Long.BYTES, ENDIANNESS));
+    }
+
+    return true;
+  }
+
+  private boolean isValid(final DirectBuffer buffer, final Segment segment) {
+    if (buffer.capacity() < HEADER_LENGTH + CHECKSUM_LENGTH
+        || buffer.getByte(VERSION_OFFSET) != VERSION) {
+      return false;
+    }
+
+    final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET, ENDIANNESS);
+    final int checksumOffset = buffer.capacity() - CHECKSUM_LENGTH;
+    if (entryCount < 0 || checksumOffset - HEADER_LENGTH != entryCount * (long) ENTRY_LENGTH) {
+      return false;
+    }
+
+    if (buffer.getLong(checksumOffset, ENDIANNESS)
+        != checksumGenerator.compute(buffer, 0, checksumOffset)) {
+      return false;
+    }
+
+    return matchesSegment(buffer, segment);
+  }
+
+  private boolean matchesSegment(final DirectBuffer buffer, final Segment segment) {
+    final var descriptor = segment.descriptor();
+    final var writer = segment.writer();
+    final var lastEntry = writer.getLastEntry();
+
+    return lastEntry != null
+        && buffer.getLong(SEGMENT_ID_OFFSET, ENDIANNESS) == descriptor.id()
+        && buffer.getLong(FIRST_INDEX_OFFSET, ENDIANNESS) == descriptor.index()
+        && buffer.getLong(LAST_INDEX_OFFSET, ENDIANNESS) == lastEntry.index()
+        && buffer.getInt(LAST_POSITION_OFFSET, ENDIANNESS) == writer.getLastEntryPosition()
+        && buffer.getLong(LAST_CHECKSUM_OFFSET, ENDIANNESS) == lastEntry.checksum();
+  }
+}
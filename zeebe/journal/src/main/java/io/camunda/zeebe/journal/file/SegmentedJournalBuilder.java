@@ -32,6 +32,8 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_SORTED_ARRAY_INDEX = false;
+  private static final boolean DEFAULT_PERSISTED_SEGMENT_INDEX = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -43,6 +45,8 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean sortedArrayIndex = DEFAULT_SORTED_ARRAY_INDEX;
+  private boolean persistedSegmentIndex = DEFAULT_PERSISTED_SEGMENT_INDEX;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -127,6 +131,37 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the journal index is backed by sorted primitive arrays instead of skip list maps.
+   * The array based index does not box its entries nor allocate a node per entry, which reduces the
+   * heap footprint and GC pressure for journals with a long retention.
+   *
+   * <p>By default, the skip list based index is used.
+   *
+   * @param sortedArrayIndex true to use the sorted array index, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSortedArrayIndex(final boolean sortedArrayIndex) {
+    this.sortedArrayIndex = sortedArrayIndex;
+    return this;
+  }
+
+  /**
+   * Sets whether the journal index entries of a segment are persisted in an index file next to the
+   * segment when the journal rolls over to a new segment. When the journal is reopened, the entries
+   * are restored from these files, so that readers do not have to scan the sealed segments to
+   * rebuild the index. Index files which do not match their segment anymore are ignored.
+   *
+   * <p>By default, no index files are written.
+   *
+   * @param persistedSegmentIndex true to persist the index of sealed segments, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPersistedSegmentIndex(final boolean persistedSegmentIndex) {
+    this.persistedSegmentIndex = persistedSegmentIndex;
+    return this;
+  }
+
   /**
    * Sets whether segment files are pre-allocated at creation. If true, segment files are
    * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -163,7 +198,10 @@ public class SegmentedJournalBuilder {
   }
 
   public SegmentedJournal build() {
-    final var journalIndex = new SparseJournalIndex(journalIndexDensity);
+    final JournalIndex journalIndex =
+        sortedArrayIndex
+            ? new SortedArrayJournalIndex(journalIndexDensity)
+            : new SparseJournalIndex(journalIndexDensity);
     final var journalMetrics = new JournalMetrics(String.valueOf(partitionId));
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
@@ -176,7 +214,8 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
+            journalMetaStore,
+            persistedSegmentIndex);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
@@ -55,6 +55,7 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final SegmentIndexFile indexFile;
 
   private volatile Segment currentSegment;
 
@@ -66,6 +67,26 @@ final class SegmentsManager implements AutoCloseable {
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
       final JournalMetaStore metaStore) {
+    this(
+        journalIndex,
+        maxSegmentSize,
+        directory,
+        name,
+        segmentLoader,
+        journalMetrics,
+        metaStore,
+        false);
+  }
+
+  SegmentsManager(
+      final JournalIndex journalIndex,
+      final int maxSegmentSize,
+      final File directory,
+      final String name,
+      final SegmentLoader segmentLoader,
+      final JournalMetrics journalMetrics,
+      final JournalMetaStore metaStore,
+      final boolean persistedSegmentIndex) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,6 +94,7 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    indexFile = persistedSegmentIndex ? new SegmentIndexFile() : null;
   }
 
   @Override
@@ -119,6 +141,10 @@ final class SegmentsManager implements AutoCloseable {
    * @throws IllegalStateException if the segment manager is not open
    */
   Segment getNextSegment() {
+    // the current segment is sealed from here on, so its index entries will not change anymore
+    if (indexFile != null) {
+      indexFile.write(currentSegment, journalIndex);
+    }
 
     final Segment lastSegment = getLastSegment();
     final var lastWrittenAsqn = lastSegment != null ? lastSegment.lastAsqn() : INITIAL_ASQN;
@@ -366,11 +392,16 @@ final class SegmentsManager implements AutoCloseable {
 
       try {
         LOG.debug("Found segment file: {}", file.getName());
+        final long loadStartNanos = System.nanoTime();
         final Segment segment =
             segmentLoader.loadExistingSegment(
                 file.toPath(),
                 previousSegment != null ? previousSegment.lastAsqn() : INITIAL_ASQN,
                 journalIndex);
+        // the last segment is the active one, and is fully scanned when loaded anyway
+        final boolean loadedIndex =
+            indexFile != null && i < files.size() - 1 && indexFile.load(segment, journalIndex);
+        journalMetrics.observeSegmentLoad(loadStartNanos, loadedIndex);
 
         if (i > 0) {
           // throws CorruptedJournalException if there is gap
@@ -0,0 +1,358 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A {@link JournalIndex} which keeps its mappings in sorted primitive arrays instead of skip list
+ * maps. This avoids boxing every key and value, as well as allocating a node per indexed entry, and
+ * lookups are a binary search over a contiguous block of memory.
+ *
+ * <p>Records are expected to be indexed in ascending order, in which case indexing is a simple
+ * append. Compacting via {@link #deleteUntil(long)} only moves the head of the array; the freed
+ * slots are reclaimed the next time the array would need to grow, which amortizes the cost of
+ * truncation.
+ *
+ * <p>The index is written by the journal writer, but also by readers which index segments while
+ * seeking. Writes are therefore guarded by a {@link StampedLock}, while lookups are optimistic and
+ * only fall back to a read lock if they raced with a write. To keep optimistic reads safe, the
+ * backing arrays never shrink.
+ */
+final class SortedArrayJournalIndex implements JournalIndex {
+
+  private final int density;
+  private final StampedLock lock = new StampedLock();
+  private final SortedEntries indexToPosition = new SortedEntries();
+
+  // the asqn grows monotonically with the index, so these entries are sorted by both key and value
+  private final SortedEntries indexToAsqn = new SortedEntries();
+
+  // mirrors the behavior of the SparseJournalIndex, which keeps the asqn entry right before the
+  // compaction bound for lookups by asqn, but not for lookups bounded by index
+  private long asqnCompactionBound = Long.MIN_VALUE;
+
+  SortedArrayJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public void index(final JournalRecord indexedEntry, final int position) {
+    index(indexedEntry.index(), indexedEntry.asqn(), position);
+  }
+
+  @Override
+  public void index(final long index, final long asqn, final int position) {
+    if (index % density != 0) {
+      return;
+    }
+
+    final long stamp = lock.writeLock();
+    try {
+      indexToPosition.put(index, position);
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        indexToAsqn.put(index, asqn);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public IndexInfo lookup(final long index) {
+    final long stamp = lock.tryOptimisticRead();
+    IndexInfo indexInfo = lookupUnsafe(index);
+
+    if (!lock.validate(stamp)) {
+      final long readStamp = lock.readLock();
+      try {
+        indexInfo = lookupUnsafe(index);
+      } finally {
+        lock.unlockRead(readStamp);
+      }
+    }
+
+    return indexInfo;
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    final long stamp = lock.tryOptimisticRead();
+    Long index = lookupAsqnUnsafe(asqn, indexUpperBound);
+
+    if (!lock.validate(stamp)) {
+      final long readStamp = lock.readLock();
+      try {
+        index = lookupAsqnUnsafe(asqn, indexUpperBound);
+      } finally {
+        lock.unlockRead(readStamp);
+      }
+    }
+
+    return index;
+  }
+
+  @Override
+  public void deleteAfter(final long indexExclusive) {
+    final long stamp = lock.writeLock();
+    try {
+      indexToPosition.removeAfter(indexExclusive);
+      indexToAsqn.removeAfter(indexExclusive);
+      asqnCompactionBound = Math.min(asqnCompactionBound, indexExclusive + 1);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void deleteUntil(final long indexExclusive) {
+    final long stamp = lock.writeLock();
+    try {
+      indexToPosition.removeBefore(indexExclusive);
+
+      final int asqnSlot = indexToAsqn.floorSlot(indexExclusive);
+      if (asqnSlot >= 0) {
+        indexToAsqn.removeBefore(indexToAsqn.keyAt(asqnSlot));
+        asqnCompactionBound = Math.max(asqnCompactionBound, indexExclusive);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void clear() {
+    final long stamp = lock.writeLock();
+    try {
+      indexToPosition.clear();
+      indexToAsqn.clear();
+      asqnCompactionBound = Long.MIN_VALUE;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean hasIndexed(final long index) {
+    final long stamp = lock.tryOptimisticRead();
+    boolean hasIndexed = hasIndexedUnsafe(index);
+
+    if (!lock.validate(stamp)) {
+      final long readStamp = lock.readLock();
+      try {
+        hasIndexed = hasIndexedUnsafe(index);
+      } finally {
+        lock.unlockRead(readStamp);
+      }
+    }
+
+    return hasIndexed;
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final EntryVisitor visitor) {
+    final long stamp = lock.readLock();
+    try {
+      final int lastSlot = indexToPosition.floorSlot(toIndex);
+      for (int slot = indexToPosition.ceilingSlot(fromIndex);
+          slot >= 0 && slot <= lastSlot;
+          slot++) {
+        final long index = indexToPosition.keyAt(slot);
+        final int asqnSlot = indexToAsqn.floorSlot(index);
+        final long asqn =
+            asqnSlot >= 0 && indexToAsqn.keyAt(asqnSlot) == index
+                ? indexToAsqn.valueAt(asqnSlot)
+                : SegmentedJournal.ASQN_IGNORE;
+        visitor.visit(index, asqn, (int) indexToPosition.valueAt(slot));
+      }
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private IndexInfo lookupUnsafe(final long index) {
+    final int slot = indexToPosition.floorSlot(index);
+    if (slot < 0) {
+      return null;
+    }
+
+    return new IndexInfo(indexToPosition.keyAt(slot), (int) indexToPosition.valueAt(slot));
+  }
+
+  private Long lookupAsqnUnsafe(final long asqn, final long indexUpperBound) {
+    final int slot = indexToAsqn.floorSlotByValue(asqn);
+    if (slot < 0) {
+      return null;
+    }
+
+    final long index = indexToAsqn.keyAt(slot);
+    if (index <= indexUpperBound) {
+      return index;
+    }
+
+    final int boundedSlot = indexToAsqn.floorSlot(indexUpperBound);
+    if (boundedSlot < 0) {
+      return null;
+    }
+
+    final long boundedIndex = indexToAsqn.keyAt(boundedSlot);
+    return boundedIndex >= asqnCompactionBound ? boundedIndex : null;
+  }
+
+  private boolean hasIndexedUnsafe(final long index) {
+    final int slot = indexToPosition.floorSlot(index);
+    return slot >= 0 && indexToPosition.keyAt(slot) > index - density;
+  }
+
+  /**
+   * Sorted key-value pairs, stored interleaved in a single array so that a key and its value share
+   * a cache line. Only the slots in {@code [head, tail)} are valid.
+   *
+   * <p>The search methods may be called without holding a lock, in which case the caller must
+   * validate the result afterwards. They never throw on inconsistent state, since the backing array
+   * never shrinks and the upper bound of the search is clamped to its length.
+   */
+  private static final class SortedEntries {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] entries = new long[INITIAL_CAPACITY * 2];
+    private int head;
+    private int tail;
+
+    private long keyAt(final int slot) {
+      return entries[slot << 1];
+    }
+
+    private long valueAt(final int slot) {
+      return entries[(slot << 1) + 1];
+    }
+
+    /** Returns the slot of the greatest key less than or equal to the given key, or -1 */
+    private int floorSlot(final long key) {
+      return floorSlot(key, 0);
+    }
+
+    /** Returns the slot of the greatest value less than or equal to the given value, or -1 */
+    private int floorSlotByValue(final long value) {
+      return floorSlot(value, 1);
+    }
+
+    /** Returns the slot of the smallest key greater than or equal to the given key, or -1 */
+    private int ceilingSlot(final long key) {
+      final int floor = floorSlot(key);
+      if (floor >= 0 && keyAt(floor) == key) {
+        return floor;
+      }
+
+      final int ceiling = floor < 0 ? head : floor + 1;
+      return ceiling < tail ? ceiling : -1;
+    }
+
+    private int floorSlot(final long needle, final int offset) {
+      final long[] array = entries;
+      int low = head;
+      int high = Math.min(tail, array.length >> 1) - 1;
+      int floor = -1;
+
+      while (low <= high) {
+        final int mid = (low + high) >>> 1;
+        if (array[(mid << 1) + offset] <= needle) {
+          floor = mid;
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+
+      return floor;
+    }
+
+    private void put(final long key, final long value) {
+      if (head == tail || keyAt(tail - 1) < key) {
+        ensureCapacity();
+        set(tail++, key, value);
+        return;
+      }
+
+      // out of order insert, e.g. when a reader indexes a segment after the index was cleared;
+      // this is rare, so we accept the cost of shifting the tail
+      ensureCapacity();
+      final int floor = floorSlot(key);
+      if (floor >= 0 && keyAt(floor) == key) {
+        entries[(floor << 1) + 1] = value;
+        return;
+      }
+
+      final int slot = floor < 0 ? head : floor + 1;
+      System.arraycopy(entries, slot << 1, entries, (slot + 1) << 1, (tail - slot) << 1);
+      set(slot, key, value);
+      tail++;
+    }
+
+    /** Removes all entries with a key greater than the given key */
+    private void removeAfter(final long key) {
+      final int floor = floorSlot(key);
+      tail = floor < 0 ? head : floor + 1;
+      resetIfEmpty();
+    }
+
+    /** Removes all entries with a key less than the given key */
+    private void removeBefore(final long key) {
+      final int floor = floorSlot(key);
+      if (floor >= 0) {
+        head = keyAt(floor) == key ? floor : floor + 1;
+      }
+      resetIfEmpty();
+    }
+
+    private void clear() {
+      head = 0;
+      tail = 0;
+    }
+
+    private void resetIfEmpty() {
+      if (head >= tail) {
+        clear();
+      }
+    }
+
+    private void set(final int slot, final long key, final long value) {
+      entries[slot << 1] = key;
+      entries[(slot << 1) + 1] = value;
+    }
+
+    /**
+     * Ensures there is room for one more entry at the tail. If at least half of the array was
+     * compacted away, the live entries are moved to the front; otherwise the array is doubled.
+     */
+    private void ensureCapacity() {
+      final int capacity = entries.length >> 1;
+      if (tail < capacity) {
+        return;
+      }
+
+      final int size = tail - head;
+      if (head >= capacity >> 1) {
+        System.arraycopy(entries, head << 1, entries, 0, size << 1);
+      } else {
+        final long[] grown = new long[capacity << 2];
+        System.arraycopy(entries, head << 1, grown, 0, size << 1);
+        entries = grown;
+      }
+
+      head = 0;
+      tail = size;
+    }
+  }
+}
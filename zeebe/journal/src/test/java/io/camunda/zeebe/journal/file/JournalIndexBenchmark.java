@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.TestJournalRecord;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the {@link SparseJournalIndex} with the {@link SortedArrayJournalIndex}. Run it via
+ * {@link #main(String[])}, optionally adding {@code -prof gc} to the options to compare the
+ * allocation rates.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JournalIndexBenchmark {
+
+  private static final int DENSITY = 100;
+
+  @Param({"sparse", "sortedArray"})
+  public String type;
+
+  @Param({"1000000"})
+  public int entries;
+
+  private JournalIndex index;
+  private long nextIndex;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    index = newIndex();
+    for (nextIndex = 1; nextIndex <= entries; nextIndex++) {
+      index.index(record(nextIndex), (int) nextIndex);
+    }
+  }
+
+  @Benchmark
+  public long index() {
+    final long recordIndex = nextIndex++;
+    index.index(record(recordIndex), (int) recordIndex);
+
+    // keep the size of the index stable, as a journal with a fixed retention would
+    if (recordIndex % DENSITY == 0) {
+      index.deleteUntil(recordIndex - entries);
+    }
+
+    return recordIndex;
+  }
+
+  @Benchmark
+  public IndexInfo lookup() {
+    return index.lookup(randomIndex());
+  }
+
+  @Benchmark
+  public Long lookupAsqn() {
+    return index.lookupAsqn(randomIndex() * 2);
+  }
+
+  @Benchmark
+  public long deleteUntil() {
+    // compact a segment worth of entries at a time, then refill it so the index never runs empty
+    final long compactUntil = nextIndex - entries + DENSITY * 100L;
+    index.deleteUntil(compactUntil);
+    for (final long last = nextIndex + DENSITY * 100L; nextIndex < last; nextIndex++) {
+      index.index(record(nextIndex), (int) nextIndex);
+    }
+
+    return compactUntil;
+  }
+
+  private long randomIndex() {
+    return ThreadLocalRandom.current().nextLong(nextIndex - entries, nextIndex);
+  }
+
+  private JournalIndex newIndex() {
+    return switch (type) {
+      case "sparse" -> new SparseJournalIndex(DENSITY);
+      case "sortedArray" -> new SortedArrayJournalIndex(DENSITY);
+      default -> throw new IllegalArgumentException("Unknown journal index type " + type);
+    };
+  }
+
+  private static TestJournalRecord record(final long index) {
+    return new TestJournalRecord(index, index * 2, 0, null, null);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(JournalIndexBenchmark.class.getName()).build()).run();
+  }
+}
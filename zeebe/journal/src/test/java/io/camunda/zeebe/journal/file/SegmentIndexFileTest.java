@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SegmentIndexFileTest {
+  private static final int ENTRIES_PER_SEGMENT = 2;
+
+  private final List<AutoCloseable> closeables = new ArrayList<>();
+  private @TempDir Path directory;
+  private TestJournalFactory journalFactory;
+
+  @AfterEach
+  void tearDown() {
+    closeables.forEach(CloseHelper::quietClose);
+  }
+
+  @Test
+  void shouldWriteIndexFileWhenSegmentIsSealed() {
+    // given
+    final var journal = openJournal();
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+
+    // when
+    journal.append(3, journalFactory.entry());
+
+    // then
+    assertThat(indexFile(1)).exists();
+    assertThat(indexFile(2)).doesNotExist();
+  }
+
+  @Test
+  void shouldRestoreIndexFromIndexFileAfterRestart() {
+    // given
+    var journal = openJournal();
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+    final var firstIndexInfo = journal.getJournalIndex().lookup(firstIndex);
+    final var secondIndexInfo = journal.getJournalIndex().lookup(secondIndex);
+
+    // when
+    journal.close();
+    journal = openJournal();
+
+    // then
+    final var indexAfterRestart = journal.getJournalIndex();
+    assertThat(indexAfterRestart.lookup(firstIndex)).isEqualTo(firstIndexInfo);
+    assertThat(indexAfterRestart.lookup(secondIndex)).isEqualTo(secondIndexInfo);
+    assertThat(indexAfterRestart.lookupAsqn(1)).isEqualTo(firstIndex);
+  }
+
+  @Test
+  void shouldIgnoreCorruptedIndexFile() throws IOException {
+    // given
+    var journal = openJournal();
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    journal.close();
+
+    // when
+    final var content = Files.readAllBytes(indexFile(1));
+    content[content.length / 2] ^= 0xFF;
+    Files.write(indexFile(1), content);
+    journal = openJournal();
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(firstIndex)).isNull();
+  }
+
+  @Test
+  void shouldDeleteIndexFileOnTruncation() {
+    // given
+    final var journal = openJournal();
+    journal.append(1, journalFactory.entry());
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+
+    // when
+    journal.deleteAfter(secondIndex - 1);
+
+    // then
+    assertThat(indexFile(1)).doesNotExist();
+  }
+
+  @Test
+  void shouldDeleteIndexFileWithSegment() {
+    // given
+    final var journal = openJournal();
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    final var thirdIndex = journal.append(3, journalFactory.entry()).index();
+
+    // when
+    journal.deleteUntil(thirdIndex);
+
+    // then
+    assertThat(indexFile(1)).doesNotExist();
+  }
+
+  private Path indexFile(final long segmentId) {
+    return new SegmentFile(
+            SegmentFile.createSegmentFile("journal", directory.resolve("data").toFile(), segmentId))
+        .getIndexFile();
+  }
+
+  private SegmentedJournal openJournal() {
+    journalFactory = new TestJournalFactory("test", ENTRIES_PER_SEGMENT);
+    final var journal = journalFactory.journal(journalFactory.segmentsManager(directory, true));
+    closeables.add(journal);
+    return journal;
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static io.camunda.zeebe.journal.file.SparseJournalIndexTest.asJournalRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+final class SortedArrayJournalIndexTest {
+
+  @Test
+  void shouldFindIndexAfterGrowing() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(1);
+
+    // when - more entries than the initial capacity
+    for (int i = 1; i <= 1000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertThat(index.lookup(1)).isEqualTo(new IndexInfo(1, 2));
+    assertThat(index.lookup(500)).isEqualTo(new IndexInfo(500, 1000));
+    assertThat(index.lookup(5000)).isEqualTo(new IndexInfo(1000, 2000));
+    assertThat(index.lookupAsqn(4995)).isEqualTo(499);
+  }
+
+  @Test
+  void shouldReuseCompactedSlots() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(1);
+    for (int i = 1; i <= 64; i++) {
+      index.index(asJournalRecord(i, i), i);
+    }
+
+    // when - compact half of the entries, then append past the initial capacity
+    index.deleteUntil(40);
+    for (int i = 65; i <= 100; i++) {
+      index.index(asJournalRecord(i, i), i);
+    }
+
+    // then
+    assertThat(index.lookup(39)).isNull();
+    assertThat(index.lookup(40)).isEqualTo(new IndexInfo(40, 40));
+    assertThat(index.lookup(100)).isEqualTo(new IndexInfo(100, 100));
+    assertThat(index.lookupAsqn(70)).isEqualTo(70);
+  }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(15, 150), 30);
+
+    // when
+    index.index(asJournalRecord(10, 100), 20);
+
+    // then
+    assertThat(index.lookup(12)).isEqualTo(new IndexInfo(10, 20));
+    assertThat(index.lookupAsqn(120)).isEqualTo(10);
+    assertThat(index.lookup(17)).isEqualTo(new IndexInfo(15, 30));
+  }
+
+  @Test
+  void shouldOverwriteExistingEntry() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+
+    // when
+    index.index(asJournalRecord(5, 50), 12);
+
+    // then
+    assertThat(index.lookup(7)).isEqualTo(new IndexInfo(5, 12));
+    assertThat(index.lookup(10)).isEqualTo(new IndexInfo(10, 20));
+  }
+
+  @Test
+  void shouldVisitEntriesInRange() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, SegmentedJournal.ASQN_IGNORE), 20);
+    index.index(asJournalRecord(15, 150), 30);
+    index.index(asJournalRecord(20, 200), 40);
+    final List<List<Long>> visited = new ArrayList<>();
+
+    // when
+    index.forEach(6, 15, (i, asqn, position) -> visited.add(List.of(i, asqn, (long) position)));
+
+    // then
+    assertThat(visited)
+        .containsExactly(List.of(10L, SegmentedJournal.ASQN_IGNORE, 20L), List.of(15L, 150L, 30L));
+  }
+
+  @Test
+  void shouldBehaveLikeSparseJournalIndex() {
+    // given
+    final var random = new Random(42);
+    final JournalIndex expected = new SparseJournalIndex(3);
+    final JournalIndex actual = new SortedArrayJournalIndex(3);
+    long firstIndex = 1;
+    long nextIndex = 1;
+    long asqn = 1;
+
+    // when - randomly append, truncate and compact both indexes; like raft, we never truncate
+    // compacted entries, and never compact beyond the last entry
+    for (int i = 0; i < 10_000; i++) {
+      final int operation = random.nextInt(100);
+      if (operation < 90) {
+        final long recordAsqn =
+            random.nextInt(4) == 0 ? SegmentedJournal.ASQN_IGNORE : (asqn += random.nextInt(3) + 1);
+        final var record = asJournalRecord(nextIndex, recordAsqn);
+        expected.index(record, (int) nextIndex * 8);
+        actual.index(record, (int) nextIndex * 8);
+        nextIndex++;
+      } else if (operation < 95) {
+        final long truncateAfter = Math.max(firstIndex, nextIndex - random.nextInt(20));
+        expected.deleteAfter(truncateAfter);
+        actual.deleteAfter(truncateAfter);
+        nextIndex = truncateAfter + 1;
+      } else {
+        final long compactUntil = Math.max(firstIndex, nextIndex - random.nextInt(200));
+        expected.deleteUntil(compactUntil);
+        actual.deleteUntil(compactUntil);
+        firstIndex = compactUntil;
+      }
+
+      // then
+      final long probe = random.nextLong(nextIndex + 5);
+      final long asqnProbe = random.nextLong(asqn + 5);
+      assertThat(actual.lookup(probe)).isEqualTo(expected.lookup(probe));
+      assertThat(actual.hasIndexed(probe)).isEqualTo(expected.hasIndexed(probe));
+      assertThat(actual.lookupAsqn(asqnProbe)).isEqualTo(expected.lookupAsqn(asqnProbe));
+      assertThat(actual.lookupAsqn(asqnProbe, probe))
+          .isEqualTo(expected.lookupAsqn(asqnProbe, probe));
+    }
+  }
+}
@@ -114,6 +114,18 @@ final class TestJournalFactory {
         metaStore);
   }
 
+  SegmentsManager segmentsManager(final Path directory, final boolean persistedSegmentIndex) {
+    return new SegmentsManager(
+        index,
+        maxSegmentSize(),
+        directory.resolve("data").toFile(),
+        "journal",
+        segmentLoader(),
+        metrics,
+        metaStore,
+        persistedSegmentIndex);
+  }
+
   SegmentedJournal journal(final SegmentsManager segments) {
     final var segmentsFlusher = new SegmentsFlusher(metaStore);
     return new SegmentedJournal(index, segments, metrics, segmentsFlusher);
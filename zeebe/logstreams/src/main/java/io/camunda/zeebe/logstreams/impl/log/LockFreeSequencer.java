@@ -0,0 +1,350 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static io.camunda.zeebe.logstreams.impl.log.LogAppendEntryMetadata.copyMetadata;
+import static io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializer.calculateBatchLength;
+
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl.Rejection;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.InFlightEntry;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.util.Either;
+import java.io.Closeable;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import org.agrona.BitUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link Sequencer} alternative which does not serialize writers through a lock. Writers claim
+ * their positions with a single atomic add, and publish their batch into a ring buffer slot derived
+ * from the claimed position. The batches are then appended to the {@link LogStorage} in position
+ * order by whichever writer currently holds the drain flag, which appends the batches of all other
+ * writers as well, instead of having them wait on a lock one after another.
+ *
+ * <p>As with the {@link Sequencer}, {@link #tryWrite(WriteContext, List, long) tryWrite} only
+ * returns after the batch was appended to the log storage, and {@link FlowControl#onAppend} is
+ * called for every batch in position order, by a single thread at a time.
+ *
+ * <p>A writer may only publish its batch if the slot is not occupied by a batch which was not
+ * appended yet, i.e. if its position is less than {@code capacity} positions ahead of the next
+ * position to append. Otherwise, it helps draining the ring buffer until it is.
+ *
+ * <p>If appending a batch to the log storage fails, the writer of the failed batch gets the
+ * exception, like with the {@link Sequencer}. The positions claimed after it can no longer be
+ * appended without leaving a gap, so no more positions are claimed until the writers of these
+ * batches gave them up. Afterwards, positions are claimed again from the one of the failed batch,
+ * and the writers which gave up their positions retry with new ones. As with the {@link Sequencer},
+ * only the failed write fails, and the sequencer stays usable.
+ */
+final class LockFreeSequencer implements LogStreamWriter, Closeable {
+  static final int DEFAULT_CAPACITY = 1024;
+  private static final Logger LOG = LoggerFactory.getLogger(LockFreeSequencer.class);
+  private static final int MAX_SPINS = 100;
+  private static final int MAX_YIELDS = 10;
+  private static final long PARK_PERIOD_NS = 1_000;
+  // added to the next position to fence it while recovering from a failed append; any position
+  // claimed while fenced is negative
+  private static final long FENCE = Long.MIN_VALUE / 2;
+
+  private final int maxFragmentSize;
+  private final int mask;
+  private final AtomicLong nextPosition;
+  private final AtomicReferenceArray<PendingBatch> pendingBatches;
+  private final AtomicBoolean draining = new AtomicBoolean();
+
+  // the position of the next batch to append; only written while holding the drain flag
+  private volatile long appendPosition;
+  private volatile boolean isClosed = false;
+  // set while recovering from a failed append, until all positions claimed after it were given up
+  private volatile AppendFailure appendFailure;
+  private final LogStorage logStorage;
+  private final InstantSource clock;
+  private final SequencerMetrics sequencerMetrics;
+  private final FlowControl flowControl;
+
+  LockFreeSequencer(
+      final LogStorage logStorage,
+      final long initialPosition,
+      final int maxFragmentSize,
+      final InstantSource clock,
+      final SequencerMetrics sequencerMetrics,
+      final FlowControl flowControl) {
+    this(
+        logStorage,
+        initialPosition,
+        maxFragmentSize,
+        clock,
+        sequencerMetrics,
+        flowControl,
+        DEFAULT_CAPACITY);
+  }
+
+  LockFreeSequencer(
+      final LogStorage logStorage,
+      final long initialPosition,
+      final int maxFragmentSize,
+      final InstantSource clock,
+      final SequencerMetrics sequencerMetrics,
+      final FlowControl flowControl,
+      final int capacity) {
+    LOG.trace("Starting new lock-free sequencer at position {}", initialPosition);
+    if (!BitUtil.isPowerOfTwo(capacity)) {
+      throw new IllegalArgumentException(
+          "Expected capacity to be a power of two, but was %d".formatted(capacity));
+    }
+    this.logStorage = logStorage;
+    this.clock = Objects.requireNonNull(clock);
+    this.maxFragmentSize = maxFragmentSize;
+    this.sequencerMetrics =
+        Objects.requireNonNull(sequencerMetrics, "must specify sequencer metrics");
+    this.flowControl = flowControl;
+    mask = capacity - 1;
+    pendingBatches = new AtomicReferenceArray<>(capacity);
+    nextPosition = new AtomicLong(initialPosition);
+    appendPosition = initialPosition;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean canWriteEvents(final int eventCount, final int batchSize) {
+    return Sequencer.canWriteEvents(eventCount, batchSize, maxFragmentSize);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  // False positive: https://github.com/checkstyle/checkstyle/issues/14891
+  @SuppressWarnings("checkstyle:MissingSwitchDefault")
+  public Either<WriteFailure, Long> tryWrite(
+      final WriteContext context,
+      final List<LogAppendEntry> appendEntries,
+      final long sourcePosition) {
+    if (isClosed) {
+      LOG.warn("Rejecting write of {}, sequencer is closed", appendEntries);
+      return Either.left(WriteFailure.CLOSED);
+    }
+    if (appendEntries.isEmpty()) {
+      return Either.left(WriteFailure.INVALID_ARGUMENT);
+    }
+    for (final var entry : appendEntries) {
+      if (!Sequencer.isEntryValid(entry)) {
+        LOG.warn("Reject write of invalid entry {}", entry);
+        return Either.left(WriteFailure.INVALID_ARGUMENT);
+      }
+    }
+    final InFlightEntry inFlightEntry;
+    switch (flowControl.tryAcquire(context, copyMetadata(appendEntries))) {
+      case Either.Left<Rejection, InFlightEntry>(final var rejected) -> {
+        return switch (rejected) {
+          case RequestLimitExhausted -> Either.left(WriteFailure.REQUEST_LIMIT_EXHAUSTED);
+          case WriteRateLimitExhausted -> Either.left(WriteFailure.WRITE_LIMIT_EXHAUSTED);
+        };
+      }
+      case Either.Right<Rejection, InFlightEntry>(final var accepted) -> inFlightEntry = accepted;
+    }
+
+    final int batchSize = appendEntries.size();
+    final int batchLength = calculateBatchLength(appendEntries);
+
+    try {
+      while (true) {
+        final long firstPosition = claimPositions(batchSize);
+        final long highestPosition = firstPosition + batchSize - 1;
+        final var batch =
+            new PendingBatch(
+                firstPosition, sourcePosition, appendEntries, batchLength, inFlightEntry);
+
+        final var failure = awaitAppend(batch, highestPosition);
+        if (failure == null) {
+          return Either.right(highestPosition);
+        }
+
+        giveUpPositions(batch, failure);
+        if (firstPosition == failure.position()) {
+          inFlightEntry.cleanup();
+          throw failure.error();
+        }
+      }
+    } finally {
+      sequencerMetrics.observeBatchLengthBytes(batchLength);
+      sequencerMetrics.observeBatchSize(batchSize);
+    }
+  }
+
+  /**
+   * Closes the sequencer. After closing, writes are rejected. Closing the sequencer is not atomic
+   * so some writes may occur shortly after closing.
+   */
+  @Override
+  public void close() {
+    LOG.info("Closing sequencer for writing");
+    isClosed = true;
+  }
+
+  /**
+   * Claims the positions for a batch of the given size. While recovering from a failed append, no
+   * positions are claimed, so this waits until the recovery is done.
+   */
+  private long claimPositions(final int batchSize) {
+    while (true) {
+      for (int attempt = 0; nextPosition.get() < 0; attempt++) {
+        idle(attempt);
+      }
+
+      final long firstPosition = nextPosition.getAndAdd(batchSize);
+      if (firstPosition >= 0) {
+        return firstPosition;
+      }
+    }
+  }
+
+  /**
+   * Publishes the batch and waits until it was appended, helping to drain the ring buffer in the
+   * meantime.
+   *
+   * @return null if the batch was appended, or the failure which prevented appending it
+   */
+  private AppendFailure awaitAppend(final PendingBatch batch, final long highestPosition) {
+    final long firstPosition = batch.firstPosition();
+
+    // wait until our slot is free; the earlier batches are all claimed, so draining only depends
+    // on their writers publishing them
+    for (int attempt = 0; firstPosition - appendPosition > mask; attempt++) {
+      final var failure = appendFailure;
+      if (failure != null) {
+        return failure;
+      }
+      drain();
+      idle(attempt);
+    }
+    pendingBatches.setRelease(slot(firstPosition), batch);
+
+    // the writer holding the drain flag may not have seen our batch before giving it up
+    for (int attempt = 0; appendPosition <= highestPosition; attempt++) {
+      final var failure = appendFailure;
+      // the batch may have been appended right before the failure of a later one
+      if (failure != null && appendPosition <= highestPosition) {
+        return failure;
+      }
+      drain();
+      idle(attempt);
+    }
+
+    return null;
+  }
+
+  /**
+   * Gives up the positions of a batch which was not appended because of the given failure. Once all
+   * positions claimed since the failed batch were given up, positions are claimed again from the
+   * one of the failed batch.
+   */
+  private void giveUpPositions(final PendingBatch batch, final AppendFailure failure) {
+    pendingBatches.compareAndSet(slot(batch.firstPosition()), batch, null);
+
+    if (failure.giveUp(batch.entries().size())) {
+      LOG.debug("Recovered from failed append, reusing position {}", failure.position());
+      appendFailure = null;
+      nextPosition.set(failure.position());
+    }
+  }
+
+  /**
+   * Appends all published batches which directly follow the last appended one, if no other thread
+   * is doing so already.
+   */
+  private void drain() {
+    while (appendFailure == null
+        && pendingBatches.getAcquire(slot(appendPosition)) != null
+        && draining.compareAndSet(false, true)) {
+      try {
+        long position = appendPosition;
+        PendingBatch batch;
+        while ((batch = pendingBatches.getAcquire(slot(position))) != null
+            && batch.firstPosition() == position) {
+          try {
+            append(batch);
+          } catch (final RuntimeException e) {
+            LOG.error("Failed to append batch at position {}", position, e);
+            // the batches claimed after the failed one cannot be appended without a gap, so fence
+            // the positions until their writers gave them up
+            final long claimedPosition = nextPosition.getAndAdd(FENCE);
+            appendFailure = new AppendFailure(e, position, claimedPosition - position);
+            return;
+          }
+          pendingBatches.setRelease(slot(position), null);
+          position = batch.firstPosition() + batch.entries().size();
+          appendPosition = position;
+        }
+      } finally {
+        draining.setRelease(false);
+      }
+    }
+  }
+
+  private void append(final PendingBatch batch) {
+    final long highestPosition = batch.firstPosition() + batch.entries().size() - 1;
+    final var sequencedBatch =
+        new SequencedBatch(
+            clock.millis(),
+            batch.firstPosition(),
+            batch.sourcePosition(),
+            batch.entries(),
+            batch.length());
+    flowControl.onAppend(batch.inFlightEntry(), highestPosition);
+    logStorage.append(batch.firstPosition(), highestPosition, sequencedBatch, flowControl);
+  }
+
+  /**
+   * Backs off while waiting on other writers. Spinning alone is not enough, as the writer we wait
+   * for may not be scheduled at all if there are more writers than cores.
+   */
+  private static void idle(final int attempt) {
+    if (attempt < MAX_SPINS) {
+      Thread.onSpinWait();
+    } else if (attempt < MAX_SPINS + MAX_YIELDS) {
+      Thread.yield();
+    } else {
+      LockSupport.parkNanos(PARK_PERIOD_NS);
+    }
+  }
+
+  private int slot(final long position) {
+    return (int) (position & mask);
+  }
+
+  private record PendingBatch(
+      long firstPosition,
+      long sourcePosition,
+      List<LogAppendEntry> entries,
+      int length,
+      InFlightEntry inFlightEntry) {}
+
+  private record AppendFailure(
+      RuntimeException error, long position, long claimedPositions, AtomicLong givenUp) {
+
+    private AppendFailure(
+        final RuntimeException error, final long position, final long claimedPositions) {
+      this(error, position, claimedPositions, new AtomicLong());
+    }
+
+    /** Returns true if these were the last positions claimed since the failure to give up. */
+    private boolean giveUp(final int positions) {
+      return givenUp.addAndGet(positions) == claimedPositions;
+    }
+  }
+}
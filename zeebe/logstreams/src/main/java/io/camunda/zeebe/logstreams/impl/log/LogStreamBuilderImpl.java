@@ -24,6 +24,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private InstantSource clock;
   private Limit requestLimit;
   private RateLimit writeRateLimit;
+  private boolean lockFreeSequencer;
 
   @Override
   public LogStreamBuilder withMaxFragmentSize(final int maxFragmentSize) {
@@ -67,12 +68,25 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withLockFreeSequencer(final boolean lockFreeSequencer) {
+    this.lockFreeSequencer = lockFreeSequencer;
+    return this;
+  }
+
   @Override
   public LogStream build() {
     validate();
 
     return new LogStreamImpl(
-        logName, partitionId, maxFragmentSize, logStorage, clock, requestLimit, writeRateLimit);
+        logName,
+        partitionId,
+        maxFragmentSize,
+        logStorage,
+        clock,
+        requestLimit,
+        writeRateLimit,
+        lockFreeSequencer);
   }
 
   private void validate() {
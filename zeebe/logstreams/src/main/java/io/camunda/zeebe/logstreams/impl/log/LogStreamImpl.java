@@ -35,7 +35,7 @@ public final class LogStreamImpl implements LogStream, CommitListener {
   private final LogStorage logStorage;
   private final LogStreamMetrics logStreamMetrics;
   private final FlowControl flowControl;
-  private final Sequencer sequencer;
+  private final LogStreamWriter sequencer;
   private volatile boolean closed;
 
   LogStreamImpl(
@@ -45,20 +45,29 @@ public final class LogStreamImpl implements LogStream, CommitListener {
       final LogStorage logStorage,
       final InstantSource clock,
       final Limit requestLimit,
-      final RateLimit writeRateLimit) {
+      final RateLimit writeRateLimit,
+      final boolean lockFreeSequencer) {
     this.logName = logName;
     this.partitionId = partitionId;
     this.logStorage = logStorage;
     logStreamMetrics = new LogStreamMetrics(partitionId);
     flowControl = new FlowControl(logStreamMetrics, requestLimit, writeRateLimit);
     sequencer =
-        new Sequencer(
-            logStorage,
-            getWriteBuffersInitialPosition(),
-            maxFragmentSize,
-            clock,
-            new SequencerMetrics(partitionId),
-            flowControl);
+        lockFreeSequencer
+            ? new LockFreeSequencer(
+                logStorage,
+                getWriteBuffersInitialPosition(),
+                maxFragmentSize,
+                clock,
+                new SequencerMetrics(partitionId),
+                flowControl)
+            : new Sequencer(
+                logStorage,
+                getWriteBuffersInitialPosition(),
+                maxFragmentSize,
+                clock,
+                new SequencerMetrics(partitionId),
+                flowControl);
     logStorage.addCommitListener(this);
   }
 
@@ -65,6 +65,11 @@ final class Sequencer implements LogStreamWriter, Closeable {
   /** {@inheritDoc} */
   @Override
   public boolean canWriteEvents(final int eventCount, final int batchSize) {
+    return canWriteEvents(eventCount, batchSize, maxFragmentSize);
+  }
+
+  static boolean canWriteEvents(
+      final int eventCount, final int batchSize, final int maxFragmentSize) {
     final int framedMessageLength =
         batchSize
             + eventCount * (DataFrameDescriptor.HEADER_LENGTH + FRAME_ALIGNMENT)
@@ -135,7 +140,7 @@ final class Sequencer implements LogStreamWriter, Closeable {
     isClosed = true;
   }
 
-  private static boolean isEntryValid(final LogAppendEntry entry) {
+  static boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null && entry.recordMetadata() != null;
   }
 }
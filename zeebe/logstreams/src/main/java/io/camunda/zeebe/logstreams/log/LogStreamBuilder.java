@@ -56,6 +56,16 @@ public interface LogStreamBuilder {
 
   LogStreamBuilder withWriteRateLimit(RateLimit writeRateLimit);
 
+  /**
+   * Whether writers should be sequenced without a lock, by claiming their positions atomically and
+   * handing their batches over to whichever writer is currently appending to the log storage. This
+   * reduces contention when there are many concurrent writers. Defaults to false.
+   *
+   * @param lockFreeSequencer true to use the lock-free sequencer
+   * @return this builder
+   */
+  LogStreamBuilder withLockFreeSequencer(boolean lockFreeSequencer);
+
   /**
    * Returns a future which, when completed, contains a log stream that can be read from/written to.
    *
@@ -0,0 +1,278 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.test.util.asserts.EitherAssert;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.mockito.Mockito;
+
+@SuppressWarnings("resource")
+@Execution(ExecutionMode.CONCURRENT)
+final class LockFreeSequencerTest {
+
+  @Test
+  void writingMultipleEntriesIncreasesPositions() {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var sequencer = newSequencer(logStorage, LockFreeSequencer.DEFAULT_CAPACITY);
+    final var entries =
+        List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults());
+
+    // when
+    sequencer.tryWrite(WriteContext.internal(), entries);
+    final var result = sequencer.tryWrite(WriteContext.internal(), entries);
+
+    // then
+    EitherAssert.assertThat(result).isRight().right().isEqualTo(6L);
+    Mockito.verify(logStorage).append(eq(1L), eq(3L), any(BufferWriter.class), any());
+    Mockito.verify(logStorage).append(eq(4L), eq(6L), any(BufferWriter.class), any());
+  }
+
+  @Test
+  void writesBatchLargerThanCapacity() {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var sequencer = newSequencer(logStorage, 2);
+    final var entries =
+        List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults());
+
+    // when
+    sequencer.tryWrite(WriteContext.internal(), entries);
+    final var result = sequencer.tryWrite(WriteContext.internal(), entries);
+
+    // then
+    EitherAssert.assertThat(result).isRight().right().isEqualTo(6L);
+    Mockito.verify(logStorage).append(eq(4L), eq(6L), any(BufferWriter.class), any());
+  }
+
+  @Test
+  void rejectsWritesWhenClosed() {
+    // given
+    final var sequencer =
+        newSequencer(Mockito.mock(LogStorage.class), LockFreeSequencer.DEFAULT_CAPACITY);
+
+    // when
+    sequencer.close();
+
+    // then
+    EitherAssert.assertThat(sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()))
+        .isLeft()
+        .left()
+        .isEqualTo(WriteFailure.CLOSED);
+  }
+
+  @Test
+  void maintainsPositionWithMultipleWritersAndSingleEntry() throws InterruptedException {
+    assertPositionsAreMaintained(8, 16, List.of(TestEntry.ofDefaults()));
+  }
+
+  @Test
+  void maintainsPositionWithMultipleWritersAndMultipleEntries() throws InterruptedException {
+    assertPositionsAreMaintained(
+        8, 16, List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults()));
+  }
+
+  @Test
+  void maintainsPositionWhenWritersWrapAroundCapacity() throws InterruptedException {
+    assertPositionsAreMaintained(
+        8, 4, List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults()));
+  }
+
+  @Test
+  void propagatesAppendFailureToWriterAndReusesItsPosition() {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var failure = new IllegalStateException("expected");
+    Mockito.doThrow(failure)
+        .doNothing()
+        .when(logStorage)
+        .append(eq(2L), eq(2L), any(BufferWriter.class), any());
+    final var sequencer = newSequencer(logStorage, LockFreeSequencer.DEFAULT_CAPACITY);
+    sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // when
+    Assertions.assertThatThrownBy(
+            () -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()))
+        .isSameAs(failure);
+
+    // then
+    EitherAssert.assertThat(sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()))
+        .isRight()
+        .right()
+        .isEqualTo(2L);
+  }
+
+  @Test
+  void failsOnlyFailedWriteWhenAppendFailsWithMultipleWriters() throws InterruptedException {
+    // given
+    final var logStorage = new VerifyingLogStorage(1_000);
+    final var sequencer = newSequencer(logStorage, 4);
+    final var appendFailures = new ConcurrentLinkedQueue<Throwable>();
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+
+    // when
+    final var writers = new Thread[8];
+    for (int i = 0; i < writers.length; i++) {
+      writers[i] =
+          new Thread(
+              () -> {
+                for (int j = 0; j < 1_000; j++) {
+                  try {
+                    EitherAssert.assertThat(
+                            sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()))
+                        .isRight();
+                  } catch (final IllegalStateException e) {
+                    appendFailures.add(e);
+                  }
+                }
+              });
+      writers[i].setUncaughtExceptionHandler((t, e) -> testFailures.add(e));
+      writers[i].start();
+    }
+    for (final var writer : writers) {
+      writer.join(Duration.ofSeconds(30));
+    }
+
+    // then -- VerifyingLogStorage saw no gap, and all other batches were appended
+    Assertions.assertThat(writers).noneMatch(Thread::isAlive);
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(appendFailures).hasSize(1);
+    Assertions.assertThat(logStorage.position).isEqualTo(writers.length * 1_000L - 1);
+  }
+
+  private void assertPositionsAreMaintained(
+      final int numberOfWriters, final int capacity, final List<LogAppendEntry> entries)
+      throws InterruptedException {
+    // given
+    final var logStorage = new VerifyingLogStorage();
+    final var sequencer = newSequencer(logStorage, capacity);
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+
+    // when
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      writers[i] = newWriterThread(sequencer, 50_000, entries, testFailures::add);
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- VerifyingLogStorage did not throw, and all batches were appended
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(logStorage.position)
+        .isEqualTo(numberOfWriters * 50_000L * entries.size());
+  }
+
+  private LockFreeSequencer newSequencer(final LogStorage logStorage, final int capacity) {
+    return new LockFreeSequencer(
+        logStorage,
+        1,
+        16,
+        InstantSource.system(),
+        new SequencerMetrics(1),
+        new FlowControl(new LogStreamMetrics(1)),
+        capacity);
+  }
+
+  private Thread newWriterThread(
+      final LockFreeSequencer sequencer,
+      final long batchesToWrite,
+      final List<LogAppendEntry> batchToWrite,
+      final Consumer<Throwable> failedAssertionHandler) {
+    final var thread =
+        new Thread(
+            () -> {
+              var lastWrittenPosition = 0L;
+              for (long i = 0; i < batchesToWrite; i++) {
+                final var result = sequencer.tryWrite(WriteContext.internal(), batchToWrite);
+                EitherAssert.assertThat(result).isRight();
+                Assertions.assertThat(result.get()).isGreaterThan(lastWrittenPosition);
+                lastWrittenPosition = result.get();
+              }
+            });
+    thread.setUncaughtExceptionHandler((t, e) -> failedAssertionHandler.accept(e));
+
+    return thread;
+  }
+
+  private static final class VerifyingLogStorage implements LogStorage {
+
+    private final AtomicBoolean appending = new AtomicBoolean();
+    private final long failingPosition;
+    private volatile long position = 0;
+    private boolean hasFailed;
+
+    private VerifyingLogStorage() {
+      this(-1);
+    }
+
+    /** Fails the first append of a batch at the given position. */
+    private VerifyingLogStorage(final long failingPosition) {
+      this.failingPosition = failingPosition;
+    }
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      Assertions.assertThat(appending.compareAndSet(false, true))
+          .describedAs("Expected appends to be serialized")
+          .isTrue();
+      Assertions.assertThat(lowestPosition).isEqualTo(position + 1);
+      if (lowestPosition == failingPosition && !hasFailed) {
+        hasFailed = true;
+        appending.set(false);
+        throw new IllegalStateException("expected");
+      }
+      position = highestPosition;
+      listener.onCommit(position, highestPosition);
+      appending.set(false);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
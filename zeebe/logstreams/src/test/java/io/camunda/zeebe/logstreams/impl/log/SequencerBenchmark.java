@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.InstantSource;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the throughput of the {@link Sequencer} with the {@link LockFreeSequencer} for a growing
+ * number of concurrent writers. The log storage completes every append right away, so the benchmark
+ * measures the cost of sequencing itself. Run it via {@link #main(String[])}, which runs it once
+ * for each number of writers, or pass {@code -t <writers>} when using the JMH command line.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SequencerBenchmark {
+
+  private static final int[] WRITERS = {1, 2, 4, 8};
+  private static final int MAX_FRAGMENT_SIZE = 4 * 1024 * 1024;
+
+  @Param({"locking", "lockFree"})
+  public String type;
+
+  @Param({"1", "3"})
+  public int batchSize;
+
+  private LogStreamWriter sequencer;
+  private List<LogAppendEntry> batch;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final var flowControl = new FlowControl(new LogStreamMetrics(1));
+    final var logStorage = new CompletingLogStorage(flowControl);
+    final var metrics = new SequencerMetrics(1);
+    final var clock = InstantSource.system();
+    sequencer =
+        switch (type) {
+          case "locking" ->
+              new Sequencer(logStorage, 1, MAX_FRAGMENT_SIZE, clock, metrics, flowControl);
+          case "lockFree" ->
+              new LockFreeSequencer(logStorage, 1, MAX_FRAGMENT_SIZE, clock, metrics, flowControl);
+          default -> throw new IllegalArgumentException("Unknown sequencer type " + type);
+        };
+    batch = Collections.nCopies(batchSize, TestEntry.ofDefaults());
+  }
+
+  @Benchmark
+  public Either<WriteFailure, Long> write() {
+    return sequencer.tryWrite(WriteContext.internal(), batch);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    for (final int writers : WRITERS) {
+      new Runner(
+              new OptionsBuilder()
+                  .include(SequencerBenchmark.class.getName())
+                  .threads(writers)
+                  .build())
+          .run();
+    }
+  }
+
+  /**
+   * Writes, commits and processes every batch as soon as it is appended, such that the in-flight
+   * entries of the flow control do not pile up.
+   */
+  private record CompletingLogStorage(FlowControl flowControl) implements LogStorage {
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      listener.onWrite(lowestPosition, highestPosition);
+      listener.onCommit(lowestPosition, highestPosition);
+      flowControl.onProcessed(highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {}
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {}
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encoding the requests and replies of the messaging service, as sent for every command
+ * between the gateway and the brokers. Lives in the package of the encoder, as it is package
+ * private. Run it with {@code -prof gc} to measure the allocations per message.
+ *
+ * <p>The {@code copy*} and {@code pooled*} benchmarks include writing the payload, as the command
+ * transports do for every message: either into a new array, or into a pooled buffer which is
+ * released once the message is encoded.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MessageEncoderBenchmark {
+
+  @Param({"128", "1024", "16384"})
+  public int payloadSize;
+
+  private static final String SUBJECT = "command-api-1";
+
+  private final Address address = Address.from("localhost", 26502);
+  private byte[] source;
+  private EmbeddedChannel channel;
+  private ProtocolRequest request;
+  private ProtocolReply reply;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    channel = new EmbeddedChannel(new MessageEncoderV2(address));
+
+    source = new byte[payloadSize];
+    ThreadLocalRandom.current().nextBytes(source);
+    request = new ProtocolRequest(1, address, SUBJECT, source);
+    reply = new ProtocolReply(1, source, ProtocolReply.Status.OK);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    channel.finishAndReleaseAll();
+  }
+
+  @Benchmark
+  public int encodeRequest() {
+    return encode(request);
+  }
+
+  @Benchmark
+  public int encodeReply() {
+    return encode(reply);
+  }
+
+  @Benchmark
+  public int copyRequest() {
+    return encode(new ProtocolRequest(1, address, SUBJECT, copyPayload()));
+  }
+
+  @Benchmark
+  public int copyReply() {
+    return encode(new ProtocolReply(1, copyPayload(), ProtocolReply.Status.OK));
+  }
+
+  @Benchmark
+  public int pooledRequest() {
+    return encodeAndRelease(new ProtocolRequest(1, address, SUBJECT, pooledPayload()));
+  }
+
+  @Benchmark
+  public int pooledReply() {
+    return encodeAndRelease(new ProtocolReply(1, pooledPayload(), ProtocolReply.Status.OK));
+  }
+
+  private byte[] copyPayload() {
+    final byte[] payload = new byte[payloadSize];
+    System.arraycopy(source, 0, payload, 0, payloadSize);
+    return payload;
+  }
+
+  private ByteBuf pooledPayload() {
+    final ByteBuf payload = PooledByteBufAllocator.DEFAULT.directBuffer(payloadSize, payloadSize);
+    payload.writeBytes(source);
+    return payload;
+  }
+
+  private int encodeAndRelease(final ProtocolMessage message) {
+    try {
+      return encode(message);
+    } finally {
+      message.releasePayload();
+    }
+  }
+
+  private int encode(final ProtocolMessage message) {
+    channel.writeOutbound(message);
+    final ByteBuf encoded = channel.readOutbound();
+    final int length = encoded.readableBytes();
+    encoded.release();
+    return length;
+  }
+}
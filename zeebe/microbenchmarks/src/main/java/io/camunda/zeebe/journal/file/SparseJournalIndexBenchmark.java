@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures indexing and looking up entries in the {@link SparseJournalIndex}, the default index of
+ * the journal. Lives in the package of the index, as the index is not public.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SparseJournalIndexBenchmark {
+
+  private static final int DENSITY = 100;
+  private static final int POSITION = 1024;
+
+  @Param({"1000000"})
+  public int entries;
+
+  private SparseJournalIndex index;
+  private long nextIndex;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    index = new SparseJournalIndex(DENSITY);
+    for (nextIndex = 1; nextIndex <= entries; nextIndex++) {
+      index.index(nextIndex, nextIndex, POSITION);
+    }
+  }
+
+  @Benchmark
+  public long index() {
+    final long indexed = nextIndex++;
+    index.index(indexed, indexed, POSITION);
+    return indexed;
+  }
+
+  @Benchmark
+  public IndexInfo lookup() {
+    return index.lookup(ThreadLocalRandom.current().nextLong(1, entries + 1));
+  }
+
+  @Benchmark
+  public Long lookupAsqn() {
+    return index.lookupAsqn(ThreadLocalRandom.current().nextLong(1, entries + 1));
+  }
+}
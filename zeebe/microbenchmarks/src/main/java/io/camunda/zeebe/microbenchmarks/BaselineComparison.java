@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the scores of a benchmark run with the scores of a baseline run. A score regressed if it
+ * is worse than the baseline score by more than the threshold, where worse means lower for the
+ * throughput mode and higher for all other modes. Benchmarks which are not part of the baseline are
+ * ignored, e.g. because they were only added.
+ */
+public final class BaselineComparison {
+
+  private final double threshold;
+
+  /**
+   * @param threshold the accepted relative deterioration, e.g. {@code 0.1} to accept scores which
+   *     are up to 10% worse than the baseline
+   */
+  public BaselineComparison(final double threshold) {
+    if (threshold < 0) {
+      throw new IllegalArgumentException(
+          "Expected the threshold to be non-negative, but was " + threshold);
+    }
+    this.threshold = threshold;
+  }
+
+  public List<Regression> compare(
+      final List<BenchmarkScore> baseline, final List<BenchmarkScore> current) {
+    final var baselineById =
+        baseline.stream().collect(Collectors.toMap(BenchmarkScore::id, Function.identity()));
+
+    final var regressions = new ArrayList<Regression>();
+    for (final var score : current) {
+      final var baselineScore = baselineById.get(score.id());
+      if (baselineScore == null || baselineScore.score() == 0) {
+        continue;
+      }
+
+      final double change = (score.score() - baselineScore.score()) / baselineScore.score();
+      final double deterioration = score.isHigherBetter() ? -change : change;
+      if (deterioration > threshold) {
+        regressions.add(new Regression(baselineScore, score, deterioration));
+      }
+    }
+    return regressions;
+  }
+
+  /**
+   * @param deterioration the relative deterioration of the score, e.g. {@code 0.25} if it is 25%
+   *     worse than the baseline
+   */
+  public record Regression(BenchmarkScore baseline, BenchmarkScore current, double deterioration) {
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%s: %.3f %s, baseline %.3f %s (%.1f%% worse)",
+          current.id(),
+          current.score(),
+          current.unit(),
+          baseline.score(),
+          baseline.unit(),
+          deterioration * 100);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/** Creates the records and documents which are shared by the benchmarks. */
+public final class BenchmarkRecords {
+
+  private BenchmarkRecords() {}
+
+  /**
+   * Creates a MessagePack document with the given number of variables, alternating between strings,
+   * numbers and booleans, similar to the variables of a typical process instance.
+   */
+  public static DirectBuffer variables(final int count) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    writer.writeMapHeader(count);
+    for (int i = 0; i < count; i++) {
+      writer.writeString(wrapString("variable" + i));
+      switch (i % 3) {
+        case 0 -> writer.writeString(wrapString("value of variable " + i));
+        case 1 -> writer.writeInteger(i * 1_000L);
+        default -> writer.writeBoolean(i % 2 == 0);
+      }
+    }
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  /** Creates a job record as written when a service task is activated. */
+  public static JobRecord job(final int variableCount) {
+    return new JobRecord()
+        .setType("payment-service")
+        .setWorker("payment-worker-1")
+        .setRetries(3)
+        .setDeadline(1_700_000_000_000L)
+        .setBpmnProcessId("order-process")
+        .setProcessDefinitionKey(2251799813685249L)
+        .setProcessDefinitionVersion(3)
+        .setProcessInstanceKey(2251799813685251L)
+        .setElementId("charge-payment")
+        .setElementInstanceKey(2251799813685262L)
+        .setTenantId("<default>")
+        .setVariables(variables(variableCount));
+  }
+
+  public static RecordMetadata jobMetadata() {
+    return new RecordMetadata()
+        .recordType(RecordType.EVENT)
+        .valueType(ValueType.JOB)
+        .intent(JobIntent.CREATED);
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The primary score of a single benchmark run, as written by JMH in its JSON result format.
+ *
+ * @param benchmark the fully qualified name of the benchmark method
+ * @param params the parameters of the run, sorted by name
+ * @param mode the JMH mode, e.g. {@code thrpt} or {@code avgt}
+ * @param score the primary score
+ * @param unit the unit of the score, e.g. {@code ops/ms}
+ */
+public record BenchmarkScore(
+    String benchmark, Map<String, String> params, String mode, double score, String unit) {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  /** Identifies the run across result files, i.e. the benchmark, its parameters and its mode. */
+  public String id() {
+    final var sortedParams = params.isEmpty() ? "" : new TreeMap<>(params).toString();
+    return benchmark + sortedParams + " (" + mode + ")";
+  }
+
+  /** Whether a higher score is better, which is only the case for the throughput mode. */
+  public boolean isHigherBetter() {
+    return "thrpt".equals(mode);
+  }
+
+  /** Reads the scores of a result file written by JMH with the JSON result format. */
+  public static List<BenchmarkScore> read(final Path resultFile) throws IOException {
+    final var scores = new ArrayList<BenchmarkScore>();
+    for (final JsonNode run : MAPPER.readTree(resultFile.toFile())) {
+      final var params = new TreeMap<String, String>();
+      run.path("params")
+          .fields()
+          .forEachRemaining(p -> params.put(p.getKey(), p.getValue().asText()));
+
+      final var primaryMetric = run.path("primaryMetric");
+      scores.add(
+          new BenchmarkScore(
+              run.path("benchmark").asText(),
+              params,
+              run.path("mode").asText(),
+              primaryMetric.path("score").asDouble(),
+              primaryMetric.path("scoreUnit").asText()));
+    }
+    return scores;
+  }
+}
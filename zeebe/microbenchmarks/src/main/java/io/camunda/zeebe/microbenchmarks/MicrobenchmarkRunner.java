@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the microbenchmarks and writes the results as JSON. If a baseline result file is given, the
+ * results are compared with it, and the run fails if any benchmark regressed by more than the
+ * threshold.
+ *
+ * <p>Accepts all JMH command line options, e.g. a regular expression of the benchmarks to run, plus
+ * the following options:
+ *
+ * <ul>
+ *   <li>{@code --result=<file>}: where to write the results, defaults to {@code jmh-result.json}
+ *   <li>{@code --baseline=<file>}: the results of a previous run to compare with
+ *   <li>{@code --threshold=<fraction>}: the accepted deterioration compared to the baseline,
+ *       defaults to {@code 0.1}, i.e. 10%
+ * </ul>
+ *
+ * <p>For example, {@code java -jar microbenchmarks.jar MsgPack --baseline=main.json
+ * --threshold=0.05}.
+ */
+public final class MicrobenchmarkRunner {
+
+  private static final String RESULT_OPTION = "--result=";
+  private static final String BASELINE_OPTION = "--baseline=";
+  private static final String THRESHOLD_OPTION = "--threshold=";
+  private static final double DEFAULT_THRESHOLD = 0.1;
+
+  private MicrobenchmarkRunner() {}
+
+  public static void main(final String[] args) throws Exception {
+    Path resultFile = Path.of("jmh-result.json");
+    Path baselineFile = null;
+    double threshold = DEFAULT_THRESHOLD;
+
+    final var jmhArgs = new ArrayList<String>();
+    for (final String arg : args) {
+      if (arg.startsWith(RESULT_OPTION)) {
+        resultFile = Path.of(arg.substring(RESULT_OPTION.length()));
+      } else if (arg.startsWith(BASELINE_OPTION)) {
+        baselineFile = Path.of(arg.substring(BASELINE_OPTION.length()));
+      } else if (arg.startsWith(THRESHOLD_OPTION)) {
+        threshold = Double.parseDouble(arg.substring(THRESHOLD_OPTION.length()));
+      } else {
+        jmhArgs.add(arg);
+      }
+    }
+    // validate the threshold before spending time on the benchmarks
+    final var comparison = new BaselineComparison(threshold);
+
+    final var options =
+        new OptionsBuilder()
+            .parent(new CommandLineOptions(jmhArgs.toArray(String[]::new)))
+            .resultFormat(ResultFormatType.JSON)
+            .result(resultFile.toString())
+            .build();
+    new Runner(options).run();
+
+    if (baselineFile == null) {
+      return;
+    }
+
+    final var regressions =
+        comparison.compare(BenchmarkScore.read(baselineFile), BenchmarkScore.read(resultFile));
+    if (regressions.isEmpty()) {
+      System.out.printf(
+          "No benchmark regressed by more than %.1f%% compared to %s%n",
+          threshold * 100, baselineFile);
+    } else {
+      System.err.printf(
+          "%d benchmark(s) regressed by more than %.1f%% compared to %s:%n",
+          regressions.size(), threshold * 100, baselineFile);
+      regressions.forEach(regression -> System.err.println("  " + regression));
+      System.exit(1);
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.db;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the operations of a transactional column family of RocksDB, with composite keys of a
+ * scope key and an element key, as used by most of the engine state. As in the engine, all
+ * operations of an iteration run in one transaction, which is committed after the iteration.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ColumnFamilyBenchmark {
+
+  @Param({"10000"})
+  public int scopes;
+
+  @Param({"10"})
+  public int entriesPerScope;
+
+  private final DbLong scopeKey = new DbLong();
+  private final DbLong elementKey = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> key = new DbCompositeKey<>(scopeKey, elementKey);
+  private final DbLong value = new DbLong();
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("column-family-benchmark");
+    zeebeDb =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(directory.toFile());
+    transactionContext = zeebeDb.createContext();
+    columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+
+    transactionContext.runInTransaction(
+        () -> {
+          for (long scope = 0; scope < scopes; scope++) {
+            for (long element = 0; element < entriesPerScope; element++) {
+              scopeKey.wrapLong(scope);
+              elementKey.wrapLong(element);
+              value.wrapLong(element);
+              columnFamily.insert(key, value);
+            }
+          }
+        });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Setup(Level.Iteration)
+  public void openTransaction() {
+    // the column family runs the operations in the open transaction without committing them
+    transactionContext.getCurrentTransaction();
+  }
+
+  @TearDown(Level.Iteration)
+  public void commitTransaction() throws Exception {
+    transactionContext.getCurrentTransaction().commit();
+  }
+
+  @Benchmark
+  public DbLong get() {
+    wrapRandomKey();
+    return columnFamily.get(key);
+  }
+
+  @Benchmark
+  public void upsert() {
+    wrapRandomKey();
+    value.wrapLong(elementKey.getValue() + 1);
+    columnFamily.upsert(key, value);
+  }
+
+  @Benchmark
+  public long prefixIteration() {
+    scopeKey.wrapLong(ThreadLocalRandom.current().nextLong(scopes));
+    final long[] sum = {0};
+    columnFamily.whileEqualPrefix(
+        scopeKey,
+        (entryKey, entryValue) -> {
+          sum[0] += entryValue.getValue();
+          return true;
+        });
+    return sum[0];
+  }
+
+  private void wrapRandomKey() {
+    final var random = ThreadLocalRandom.current();
+    scopeKey.wrapLong(random.nextLong(scopes));
+    elementKey.wrapLong(random.nextLong(entriesPerScope));
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.journal;
+
+import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.microbenchmarks.BenchmarkRecords;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures appending a record to the {@link SegmentedJournal}, i.e. serializing it into the current
+ * segment with the segment writer and indexing it, without flushing. To bound the disk usage, the
+ * journal is reset after a fixed number of appends, which is part of the measurement.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JournalAppendBenchmark {
+
+  private static final int MAX_SEGMENT_SIZE = 64 * 1024 * 1024;
+  private static final int APPENDS_BETWEEN_RESETS = 50_000;
+
+  @Param({"10", "100"})
+  public int variables;
+
+  private final DirectBufferWriter recordWriter = new DirectBufferWriter();
+  private Path directory;
+  private SegmentedJournal journal;
+  private long asqn;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    final var record = BenchmarkRecords.job(variables);
+    final var buffer = new ExpandableArrayBuffer();
+    record.write(buffer, 0);
+    recordWriter.wrap(new UnsafeBuffer(buffer, 0, record.getLength()));
+
+    directory = Files.createTempDirectory("journal-append-benchmark");
+    journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.toFile())
+            .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+            .withMetaStore(new JournalMetaStore.InMemory())
+            .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    journal.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public JournalRecord append() {
+    final var appended = journal.append(++asqn, recordWriter);
+    if (appended.index() % APPENDS_BETWEEN_RESETS == 0) {
+      journal.reset(appended.index() + 1);
+    }
+    return appended;
+  }
+}
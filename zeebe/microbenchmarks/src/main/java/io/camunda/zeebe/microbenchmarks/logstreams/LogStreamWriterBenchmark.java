@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.logstreams;
+
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.microbenchmarks.BenchmarkRecords;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.InstantSource;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link LogStreamWriter#tryWrite(WriteContext, List)} of the sequencer of a log stream,
+ * i.e. sequencing and serializing a batch of entries. The log storage completes every append right
+ * away, so the benchmark doesn't measure the storage.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LogStreamWriterBenchmark {
+
+  @Param({"false", "true"})
+  public boolean lockFreeSequencer;
+
+  @Param({"1", "10"})
+  public int batchSize;
+
+  private LogStream logStream;
+  private LogStreamWriter writer;
+  private List<LogAppendEntry> batch;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final var logStorage = new CompletingLogStorage();
+    logStream =
+        LogStream.builder()
+            .withLogName("benchmark")
+            .withPartitionId(1)
+            .withLogStorage(logStorage)
+            .withClock(InstantSource.system())
+            .withLockFreeSequencer(lockFreeSequencer)
+            .build();
+    logStorage.flowControl = logStream.getFlowControl();
+    writer = logStream.newLogStreamWriter();
+
+    final var entry = LogAppendEntry.of(BenchmarkRecords.jobMetadata(), BenchmarkRecords.job(10));
+    batch = Collections.nCopies(batchSize, entry);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    logStream.close();
+  }
+
+  @Benchmark
+  public Either<WriteFailure, Long> tryWrite() {
+    return writer.tryWrite(WriteContext.internal(), batch);
+  }
+
+  /**
+   * Writes, commits and processes every batch as soon as it is appended, such that the in-flight
+   * entries of the flow control do not pile up.
+   */
+  private static final class CompletingLogStorage implements LogStorage {
+    private volatile FlowControl flowControl;
+
+    @Override
+    public LogStorageReader newReader() {
+      return new EmptyLogStorageReader();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      listener.onWrite(lowestPosition, highestPosition);
+      listener.onCommit(lowestPosition, highestPosition);
+      flowControl.onProcessed(highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {}
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {}
+  }
+
+  private static final class EmptyLogStorageReader implements LogStorageReader {
+
+    @Override
+    public void seek(final long position) {}
+
+    @Override
+    public void close() {}
+
+    @Override
+    public boolean hasNext() {
+      return false;
+    }
+
+    @Override
+    public DirectBuffer next() {
+      throw new NoSuchElementException();
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.msgpack;
+
+import io.camunda.zeebe.microbenchmarks.BenchmarkRecords;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading and writing a MessagePack document with the {@link MsgPackReader} and the {@link
+ * MsgPackWriter}, token by token, as done when variables are merged or transformed.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MsgPackBenchmark {
+
+  @Param({"10", "100"})
+  public int variables;
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer writeBuffer = new ExpandableArrayBuffer();
+  private DirectBuffer document;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    document = BenchmarkRecords.variables(variables);
+  }
+
+  @Benchmark
+  public void read(final Blackhole blackhole) {
+    reader.wrap(document, 0, document.capacity());
+    while (reader.hasNext()) {
+      blackhole.consume(reader.readToken());
+    }
+  }
+
+  @Benchmark
+  public int skip() {
+    reader.wrap(document, 0, document.capacity());
+    reader.skipValue();
+    return reader.getOffset();
+  }
+
+  @Benchmark
+  public int copy() {
+    reader.wrap(document, 0, document.capacity());
+    writer.wrap(writeBuffer, 0);
+    while (reader.hasNext()) {
+      final MsgPackToken token = reader.readToken();
+      switch (token.getType()) {
+        case MAP -> writer.writeMapHeader(token.getSize());
+        case STRING -> writer.writeString(token.getValueBuffer());
+        case INTEGER -> writer.writeInteger(token.getIntegerValue());
+        case BOOLEAN -> writer.writeBoolean(token.getBooleanValue());
+        default -> throw new IllegalStateException("Unexpected token " + token.getType());
+      }
+    }
+    return writer.getOffset();
+  }
+}
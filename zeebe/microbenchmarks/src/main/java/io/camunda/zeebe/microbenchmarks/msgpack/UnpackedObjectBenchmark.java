@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.msgpack;
+
+import io.camunda.zeebe.microbenchmarks.BenchmarkRecords;
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import java.util.concurrent.TimeUnit;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the serialization and deserialization of an {@link UnpackedObject}, using a job record
+ * as it is written to the log and to the state for every activated job.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class UnpackedObjectBenchmark {
+
+  @Param({"10", "100"})
+  public int variables;
+
+  private final JobRecord readRecord = new JobRecord();
+  private final ExpandableArrayBuffer writeBuffer = new ExpandableArrayBuffer();
+  private UnpackedObject record;
+  private UnsafeBuffer serialized;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    record = BenchmarkRecords.job(variables);
+    final var buffer = new ExpandableArrayBuffer();
+    record.write(buffer, 0);
+    serialized = new UnsafeBuffer(buffer, 0, record.getLength());
+  }
+
+  @Benchmark
+  public int write() {
+    record.write(writeBuffer, 0);
+    return record.getLength();
+  }
+
+  @Benchmark
+  public JobRecord read() {
+    readRecord.reset();
+    readRecord.wrap(serialized, 0, serialized.capacity());
+    return readRecord;
+  }
+}
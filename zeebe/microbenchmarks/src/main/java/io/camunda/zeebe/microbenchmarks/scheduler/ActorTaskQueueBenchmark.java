@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.scheduler;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorTask;
+import io.camunda.zeebe.scheduler.ActorTaskQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures appending tasks to and popping them from the {@link ActorTaskQueue}, as done by an actor
+ * thread for the actors which are scheduled on it. The tasks are never run, they are only claimed
+ * when they are popped.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ActorTaskQueueBenchmark {
+
+  private static final int TASKS = 64;
+
+  private final ActorTaskQueue queue = new ActorTaskQueue();
+  private final ActorTask[] tasks = new ActorTask[TASKS];
+
+  @Setup(Level.Trial)
+  public void setup() {
+    for (int i = 0; i < TASKS; i++) {
+      tasks[i] = new ActorTask(Actor.newActor().name("benchmark-" + i).build());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TASKS)
+  public int appendAndPop() {
+    for (final ActorTask task : tasks) {
+      queue.append(task);
+    }
+
+    int popped = 0;
+    while (queue.pop() != null) {
+      popped++;
+    }
+    return popped;
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.scheduler;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the queueing delay of an I/O-bound actor while other I/O-bound actors continuously block
+ * on slow I/O, simulated by sleeping for the injected latency. Each operation is a round trip to
+ * the measured actor, i.e. the time until an idle I/O thread picks up its job.
+ *
+ * <p>With platform threads, every blocked actor occupies one of the few I/O threads; once all are
+ * blocked, the measured actor waits for the injected latency. With virtual threads, many more I/O
+ * threads can be configured cheaply, as blocked ones release their carrier thread.
+ */
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class IoActorQueueingBenchmark {
+
+  @Param({"2", "16"})
+  private int ioThreads;
+
+  @Param({"false", "true"})
+  private boolean virtualThreads;
+
+  @Param({"4"})
+  private int blockingActors;
+
+  @Param({"1000"})
+  private long injectedLatencyMicros;
+
+  private ActorScheduler scheduler;
+  private final List<Actor> actors = new ArrayList<>();
+  private Actor measuredActor;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(ioThreads)
+            .setIoBoundVirtualThreads(virtualThreads)
+            .build();
+    scheduler.start();
+
+    final var injectedLatency =
+        Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(injectedLatencyMicros));
+    for (int i = 0; i < blockingActors; i++) {
+      final var actor = new BlockingActor("blocking-" + i, injectedLatency);
+      actors.add(actor);
+      scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    }
+
+    measuredActor = Actor.newActor().name("measured").build();
+    actors.add(measuredActor);
+    scheduler.submitActor(measuredActor, SchedulingHints.ioBound()).join();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    actors.forEach(actor -> actor.closeAsync().join());
+    actors.clear();
+    scheduler.close();
+  }
+
+  @Benchmark
+  public Long roundTrip() {
+    return measuredActor.call(System::nanoTime).join();
+  }
+
+  private static final class BlockingActor extends Actor {
+    private final String name;
+    private final Duration latency;
+
+    private BlockingActor(final String name, final Duration latency) {
+      this.name = name;
+      this.latency = latency;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    protected void onActorStarted() {
+      actor.submit(this::block);
+    }
+
+    private void block() {
+      try {
+        // sleep instead of park, as the actor thread may be unparked when work is submitted to it
+        Thread.sleep(latency);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      actor.submit(this::block);
+    }
+  }
+}
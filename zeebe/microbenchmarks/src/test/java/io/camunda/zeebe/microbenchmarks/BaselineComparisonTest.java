@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class BaselineComparisonTest {
+
+  private final BaselineComparison comparison = new BaselineComparison(0.1);
+
+  @Test
+  void shouldReportLowerThroughputAsRegression() {
+    // given
+    final var baseline = List.of(score("write", "thrpt", 100));
+    final var current = List.of(score("write", "thrpt", 85));
+
+    // when
+    final var regressions = comparison.compare(baseline, current);
+
+    // then
+    assertThat(regressions)
+        .singleElement()
+        .satisfies(regression -> assertThat(regression.deterioration()).isCloseTo(0.15, within()));
+  }
+
+  @Test
+  void shouldReportHigherAverageTimeAsRegression() {
+    // given
+    final var baseline = List.of(score("read", "avgt", 100));
+    final var current = List.of(score("read", "avgt", 120));
+
+    // when
+    final var regressions = comparison.compare(baseline, current);
+
+    // then
+    assertThat(regressions)
+        .singleElement()
+        .satisfies(regression -> assertThat(regression.deterioration()).isCloseTo(0.2, within()));
+  }
+
+  @Test
+  void shouldAcceptDeteriorationWithinThreshold() {
+    // given
+    final var baseline = List.of(score("write", "thrpt", 100), score("read", "avgt", 100));
+    final var current = List.of(score("write", "thrpt", 95), score("read", "avgt", 105));
+
+    // when
+    final var regressions = comparison.compare(baseline, current);
+
+    // then
+    assertThat(regressions).isEmpty();
+  }
+
+  @Test
+  void shouldAcceptImprovements() {
+    // given
+    final var baseline = List.of(score("write", "thrpt", 100), score("read", "avgt", 100));
+    final var current = List.of(score("write", "thrpt", 200), score("read", "avgt", 50));
+
+    // when
+    final var regressions = comparison.compare(baseline, current);
+
+    // then
+    assertThat(regressions).isEmpty();
+  }
+
+  @Test
+  void shouldOnlyCompareRunsWithSameParameters() {
+    // given
+    final var baseline =
+        List.of(new BenchmarkScore("read", Map.of("size", "10"), "avgt", 100, "ns/op"));
+    final var current =
+        List.of(new BenchmarkScore("read", Map.of("size", "100"), "avgt", 1000, "ns/op"));
+
+    // when
+    final var regressions = comparison.compare(baseline, current);
+
+    // then
+    assertThat(regressions).isEmpty();
+  }
+
+  @Test
+  void shouldRejectNegativeThreshold() {
+    assertThatThrownBy(() -> new BaselineComparison(-0.1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldReadJmhJsonResults(@TempDir final Path tempDir) throws IOException {
+    // given
+    final var resultFile = tempDir.resolve("result.json");
+    Files.writeString(
+        resultFile,
+        """
+        [
+          {
+            "benchmark": "io.camunda.zeebe.Benchmark.read",
+            "mode": "avgt",
+            "params": { "variables": "10", "entries": "1000" },
+            "primaryMetric": { "score": 42.5, "scoreUnit": "ns/op" }
+          }
+        ]
+        """);
+
+    // when
+    final var scores = BenchmarkScore.read(resultFile);
+
+    // then
+    assertThat(scores)
+        .containsExactly(
+            new BenchmarkScore(
+                "io.camunda.zeebe.Benchmark.read",
+                Map.of("entries", "1000", "variables", "10"),
+                "avgt",
+                42.5,
+                "ns/op"));
+  }
+
+  private static BenchmarkScore score(
+      final String benchmark, final String mode, final double score) {
+    return new BenchmarkScore(benchmark, Map.of(), mode, score, "unit");
+  }
+
+  private static Offset<Double> within() {
+    return Offset.offset(0.0001);
+  }
+}
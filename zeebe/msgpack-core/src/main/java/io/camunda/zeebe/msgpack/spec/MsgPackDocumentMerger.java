@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack.spec;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Merges two msgpack documents, i.e. maps with string keys, on the byte level. The entries of the
+ * overlay document win over the entries of the base document with the same key. The values are
+ * copied as they are, without being decoded into Java objects.
+ *
+ * <p>The keys are matched by comparing them with every key of the overlay, so this is meant for
+ * overlays with a limited number of entries.
+ *
+ * <p>The merger is not thread-safe, and it reuses its result buffer; the returned document is only
+ * valid until the next merge.
+ */
+public final class MsgPackDocumentMerger {
+
+  private static final int INITIAL_ENTRY_CAPACITY = 16;
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer resultBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
+  private final DirectBuffer keyView = new UnsafeBuffer(0, 0);
+  private final DirectBuffer overlayKeyView = new UnsafeBuffer(0, 0);
+
+  private final Entries baseEntries = new Entries();
+  private final Entries overlayEntries = new Entries();
+  private final Predicate<DirectBuffer> notOverlaidFilter = this::isNotOverlaid;
+  private DirectBuffer overlay;
+
+  /**
+   * Merges the given documents, favoring the entries of the overlay.
+   *
+   * @param base the document to merge into
+   * @param overlay the document whose entries replace the entries of the base with the same key
+   * @return a view of the merged document, valid until the next merge
+   */
+  public DirectBuffer merge(final DirectBuffer base, final DirectBuffer overlay) {
+    return merge(base, overlay, key -> true);
+  }
+
+  /**
+   * Merges the given documents, favoring the entries of the overlay. Only the entries of the
+   * overlay whose keys are accepted by the given filter are merged.
+   *
+   * @param base the document to merge into
+   * @param overlay the document whose entries replace the entries of the base with the same key
+   * @param overlayKeyFilter accepts the keys of the overlay entries to merge
+   * @return a view of the merged document, valid until the next merge
+   */
+  public DirectBuffer merge(
+      final DirectBuffer base,
+      final DirectBuffer overlay,
+      final Predicate<DirectBuffer> overlayKeyFilter) {
+    this.overlay = overlay;
+    collectEntries(overlay, overlayEntries, overlayKeyFilter);
+    collectEntries(base, baseEntries, notOverlaidFilter);
+
+    writer.wrap(resultBuffer, 0);
+    writer.writeMapHeader(baseEntries.size + overlayEntries.size);
+    writeEntries(base, baseEntries);
+    writeEntries(overlay, overlayEntries);
+
+    this.overlay = null;
+    resultView.wrap(resultBuffer, 0, writer.getOffset());
+    return resultView;
+  }
+
+  private void collectEntries(
+      final DirectBuffer document, final Entries entries, final Predicate<DirectBuffer> filter) {
+    entries.clear();
+    if (document.capacity() == 0) {
+      return;
+    }
+
+    reader.wrap(document, 0, document.capacity());
+    final int size = reader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      final int entryOffset = reader.getOffset();
+      final int keyLength = reader.readStringLength();
+      final int keyOffset = reader.getOffset();
+      reader.skipBytes(keyLength);
+      reader.skipValue();
+
+      keyView.wrap(document, keyOffset, keyLength);
+      if (filter.test(keyView)) {
+        entries.add(keyOffset, keyLength, entryOffset, reader.getOffset() - entryOffset);
+      }
+    }
+  }
+
+  private boolean isNotOverlaid(final DirectBuffer key) {
+    for (int i = 0; i < overlayEntries.size; i++) {
+      if (overlayEntries.keyLengths[i] == key.capacity()) {
+        overlayKeyView.wrap(overlay, overlayEntries.keyOffsets[i], overlayEntries.keyLengths[i]);
+        if (overlayKeyView.equals(key)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private void writeEntries(final DirectBuffer document, final Entries entries) {
+    for (int i = 0; i < entries.size; i++) {
+      writer.writeRaw(document, entries.entryOffsets[i], entries.entryLengths[i]);
+    }
+  }
+
+  private static final class Entries {
+    private int[] keyOffsets = new int[INITIAL_ENTRY_CAPACITY];
+    private int[] keyLengths = new int[INITIAL_ENTRY_CAPACITY];
+    private int[] entryOffsets = new int[INITIAL_ENTRY_CAPACITY];
+    private int[] entryLengths = new int[INITIAL_ENTRY_CAPACITY];
+    private int size;
+
+    private void add(
+        final int keyOffset, final int keyLength, final int entryOffset, final int entryLength) {
+      if (size == keyOffsets.length) {
+        final int capacity = size * 2;
+        keyOffsets = Arrays.copyOf(keyOffsets, capacity);
+        keyLengths = Arrays.copyOf(keyLengths, capacity);
+        entryOffsets = Arrays.copyOf(entryOffsets, capacity);
+        entryLengths = Arrays.copyOf(entryLengths, capacity);
+      }
+      keyOffsets[size] = keyOffset;
+      keyLengths[size] = keyLength;
+      entryOffsets[size] = entryOffset;
+      entryLengths[size] = entryLength;
+      size++;
+    }
+
+    private void clear() {
+      size = 0;
+    }
+  }
+}
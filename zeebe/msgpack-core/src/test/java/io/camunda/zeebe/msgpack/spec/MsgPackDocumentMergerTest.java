@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack.spec;
+
+import static io.camunda.zeebe.msgpack.spec.MsgPackUtil.encodeMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
+
+final class MsgPackDocumentMergerTest {
+
+  private final MsgPackDocumentMerger merger = new MsgPackDocumentMerger();
+
+  @Test
+  void shouldFavorOverlayEntries() throws IOException {
+    // given
+    final DirectBuffer base =
+        encodeMsgPack(
+            packer -> {
+              packer.packMapHeader(2);
+              packer.packString("a").packInt(1);
+              packer.packString("b").packArrayHeader(2).packInt(2).packString("x");
+            });
+    final DirectBuffer overlay =
+        encodeMsgPack(
+            packer -> {
+              packer.packMapHeader(2);
+              packer.packString("b").packMapHeader(1).packString("c").packBoolean(true);
+              packer.packString("d").packNil();
+            });
+
+    // when
+    final DirectBuffer merged = merger.merge(base, overlay);
+
+    // then
+    final DirectBuffer expected =
+        encodeMsgPack(
+            packer -> {
+              packer.packMapHeader(3);
+              packer.packString("a").packInt(1);
+              packer.packString("b").packMapHeader(1).packString("c").packBoolean(true);
+              packer.packString("d").packNil();
+            });
+    assertThat(decode(merged)).isEqualTo(decode(expected));
+  }
+
+  @Test
+  void shouldMergeOnlyAcceptedOverlayEntries() throws IOException {
+    // given
+    final DirectBuffer base =
+        encodeMsgPack(
+            packer -> {
+              packer.packMapHeader(2);
+              packer.packString("a").packInt(1);
+              packer.packString("b").packInt(2);
+            });
+    final DirectBuffer overlay =
+        encodeMsgPack(
+            packer -> {
+              packer.packMapHeader(2);
+              packer.packString("a").packInt(3);
+              packer.packString("b").packInt(4);
+            });
+    final DirectBuffer acceptedKey = new UnsafeBuffer("b".getBytes(StandardCharsets.UTF_8));
+
+    // when
+    final DirectBuffer merged = merger.merge(base, overlay, acceptedKey::equals);
+
+    // then
+    final DirectBuffer expected =
+        encodeMsgPack(
+            packer -> {
+              packer.packMapHeader(2);
+              packer.packString("a").packInt(1);
+              packer.packString("b").packInt(4);
+            });
+    assertThat(decode(merged)).isEqualTo(decode(expected));
+  }
+
+  @Test
+  void shouldMergeEmptyDocuments() throws IOException {
+    // given
+    final DirectBuffer base =
+        encodeMsgPack(
+            packer -> {
+              packer.packMapHeader(1);
+              packer.packString("a").packInt(1);
+            });
+    final DirectBuffer emptyDocument = encodeMsgPack(packer -> packer.packMapHeader(0));
+
+    // when - then
+    assertThat(decode(merger.merge(base, emptyDocument))).isEqualTo(decode(base));
+    assertThat(decode(merger.merge(emptyDocument, base))).isEqualTo(decode(base));
+    assertThat(decode(merger.merge(new UnsafeBuffer(0, 0), base))).isEqualTo(decode(base));
+  }
+
+  @Test
+  void shouldMergeDocumentsWithManyEntries() throws IOException {
+    // given
+    final int entries = 100;
+    final DirectBuffer base =
+        encodeMsgPack(
+            packer -> {
+              packer.packMapHeader(entries);
+              for (int i = 0; i < entries; i++) {
+                packer.packString("key-" + i).packInt(i);
+              }
+            });
+    final DirectBuffer overlay =
+        encodeMsgPack(
+            packer -> {
+              packer.packMapHeader(entries);
+              for (int i = 0; i < entries; i++) {
+                packer.packString("key-" + (i * 2)).packInt(-i);
+              }
+            });
+
+    // when
+    final DirectBuffer merged = merger.merge(base, overlay);
+
+    // then
+    final DirectBuffer expected =
+        encodeMsgPack(
+            packer -> {
+              packer.packMapHeader(entries + entries / 2);
+              for (int i = 1; i < entries; i += 2) {
+                packer.packString("key-" + i).packInt(i);
+              }
+              for (int i = 0; i < entries; i++) {
+                packer.packString("key-" + (i * 2)).packInt(-i);
+              }
+            });
+    assertThat(decode(merged)).isEqualTo(decode(expected));
+  }
+
+  private static Value decode(final DirectBuffer buffer) throws IOException {
+    final byte[] bytes = new byte[buffer.capacity()];
+    buffer.getBytes(0, bytes);
+    try (final MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(bytes)) {
+      return unpacker.unpackValue();
+    }
+  }
+}
@@ -217,7 +217,9 @@ public enum ZbColumnFamilies implements EnumValue {
   ENTITY_BY_GROUP(111),
   GROUP_BY_NAME(112),
 
-  REDISTRIBUTION(113);
+  REDISTRIBUTION(113),
+
+  JOB_ACTIVATABLE_BY_PROCESS(114);
 
   private final int value;
 
@@ -31,18 +31,35 @@ public final class ActorExecutor {
    * @param task the task to submit
    */
   public ActorFuture<Void> submitCpuBound(final ActorTask task) {
-    return submitTask(task, cpuBoundThreads);
+    return submitCpuBound(task, ActorPlacement.shared());
+  }
+
+  /**
+   * Initially submit a non-blocking actor to be managed by this scheduler, on the threads given by
+   * the placement.
+   *
+   * @param task the task to submit
+   * @param placement on which threads of the group the task runs
+   */
+  public ActorFuture<Void> submitCpuBound(final ActorTask task, final ActorPlacement placement) {
+    return submitTask(task, cpuBoundThreads, placement);
   }
 
   public ActorFuture<Void> submitIoBoundTask(final ActorTask task) {
-    return submitTask(task, ioBoundThreads);
+    return submitIoBoundTask(task, ActorPlacement.shared());
+  }
+
+  public ActorFuture<Void> submitIoBoundTask(final ActorTask task, final ActorPlacement placement) {
+    return submitTask(task, ioBoundThreads, placement);
   }
 
-  private ActorFuture<Void> submitTask(final ActorTask task, final ActorThreadGroup threadGroup) {
+  private ActorFuture<Void> submitTask(
+      final ActorTask task, final ActorThreadGroup threadGroup, final ActorPlacement placement) {
     if (task.getLifecyclePhase() != ActorLifecyclePhase.CLOSED) {
       throw new IllegalStateException("ActorTask was already submitted!");
     }
-    final ActorFuture<Void> startingFuture = task.onTaskScheduled(threadGroup);
+    final ActorFuture<Void> startingFuture =
+        task.onTaskScheduled(threadGroup, threadGroup.homeThreadId(placement));
 
     threadGroup.submit(task);
     return startingFuture;
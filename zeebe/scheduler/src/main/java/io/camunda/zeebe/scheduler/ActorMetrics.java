@@ -47,6 +47,46 @@ final class ActorMetrics {
           .help("The length of the job queue for an actor task")
           .labelNames("actorName")
           .register();
+
+  private static final Counter STEAL_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_steal_count")
+          .help(
+              "Number of actor tasks a certain actor thread stole from the queues of other threads")
+          .labelNames("thread")
+          .register();
+
+  private static final Counter HANDOFF_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_handoff_count")
+          .help(
+              "Number of actor tasks a certain actor thread executed which were last executed by"
+                  + " another thread")
+          .labelNames("thread")
+          .register();
+
+  private static final Histogram IDLE_TIME =
+      Histogram.build()
+          .exponentialBuckets(1 / 1_000_000f, 4, 12)
+          .namespace("zeebe")
+          .name("actor_thread_idle_time")
+          .help("Time a certain actor thread was idle before executing the next task")
+          .labelNames("thread")
+          .register();
+
+  private static final Histogram WAKE_UP_LATENCY =
+      Histogram.build()
+          .exponentialBuckets(1 / 1_000_000f, 4, 12)
+          .namespace("zeebe")
+          .name("actor_thread_wake_up_latency")
+          .help(
+              "Time between submitting work to a certain idle actor thread and the thread"
+                  + " executing its next task")
+          .labelNames("thread")
+          .register();
+
   private final boolean enabled;
 
   public ActorMetrics(final boolean metricsEnabled) {
@@ -66,6 +106,30 @@ final class ActorMetrics {
     }
   }
 
+  void countSteal(final String threadName) {
+    if (enabled) {
+      STEAL_COUNT.labels(threadName).inc();
+    }
+  }
+
+  void countHandoff(final String threadName) {
+    if (enabled) {
+      HANDOFF_COUNT.labels(threadName).inc();
+    }
+  }
+
+  void observeIdleTime(final String threadName, final long idleTimeNs) {
+    if (enabled) {
+      IDLE_TIME.labels(threadName).observe(idleTimeNs / 1_000_000_000f);
+    }
+  }
+
+  void observeWakeUpLatency(final String threadName, final long latencyNs) {
+    if (enabled) {
+      WAKE_UP_LATENCY.labels(threadName).observe(latencyNs / 1_000_000_000f);
+    }
+  }
+
   void updateJobQueueLength(final String actorName, final int length) {
     if (enabled) {
       JOB_QUEUE_LENGTH.labels(actorName).set(length);
@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+/**
+ * Describes on which threads of its thread group an actor runs.
+ *
+ * <p>By default, actors are shared: they run on any thread of the group, and idle threads steal
+ * them from busy ones. A pinned actor always runs on the home thread which is derived from its
+ * affinity key, and is never stolen by other threads. In turn, a home thread does not steal shared
+ * actors, and shared actors woken up by a pinned actor are queued on other threads, such that a
+ * shared actor which blocks does not block the pinned ones. Pinning the actors which hand work to
+ * each other with the same key keeps their data in the caches of one core, at the cost of load
+ * balancing between the threads.
+ *
+ * @param pinned whether the actor is pinned to its home thread
+ * @param affinityKey the key from which the home thread is derived, if pinned
+ */
+public record ActorPlacement(boolean pinned, int affinityKey) {
+
+  private static final ActorPlacement SHARED = new ActorPlacement(false, 0);
+
+  /** Returns the default placement, where the actor runs on any thread of its group. */
+  public static ActorPlacement shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns a placement which pins the actor to a home thread. Actors with the same key and in the
+   * same thread group run on the same thread.
+   *
+   * @param affinityKey the key from which the home thread is derived, e.g. the partition id
+   */
+  public static ActorPlacement pinned(final int affinityKey) {
+    return new ActorPlacement(true, affinityKey);
+  }
+
+  /**
+   * Returns the id of the home thread in a group of the given size, or -1 if the actor is not
+   * pinned.
+   */
+  int homeThreadId(final int numOfThreads) {
+    return pinned ? Math.floorMod(affinityKey, numOfThreads) : -1;
+  }
+}
@@ -55,13 +55,28 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
    */
   @Override
   public ActorFuture<Void> submitActor(final Actor actor, final SchedulingHints schedulingHints) {
+    return submitActor(actor, schedulingHints, ActorPlacement.shared());
+  }
+
+  /**
+   * Submits an actor like {@link #submitActor(Actor, SchedulingHints)}, additionally specifying on
+   * which threads of the selected thread group the actor runs. Pinned actors always run on their
+   * home thread and are never stolen by other threads, see {@link ActorPlacement}.
+   *
+   * @param actor the actor to submit
+   * @param schedulingHints additional scheduling hint
+   * @param placement on which threads of the thread group the actor runs
+   */
+  @Override
+  public ActorFuture<Void> submitActor(
+      final Actor actor, final SchedulingHints schedulingHints, final ActorPlacement placement) {
     checkRunningState();
 
     final ActorTask task = actor.actor.task;
 
     return switch (schedulingHints) {
-      case CPU_BOUND -> actorTaskExecutor.submitCpuBound(task);
-      case IO_BOUND -> actorTaskExecutor.submitIoBoundTask(task);
+      case CPU_BOUND -> actorTaskExecutor.submitCpuBound(task, placement);
+      case IO_BOUND -> actorTaskExecutor.submitIoBoundTask(task, placement);
     };
   }
 
@@ -131,6 +146,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorExecutor actorExecutor;
     private ActorTimerQueue actorTimerQueue;
     private boolean enableMetrics = false;
+    private boolean ioBoundVirtualThreads = false;
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
 
@@ -228,6 +244,24 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isIoBoundVirtualThreads() {
+      return ioBoundVirtualThreads;
+    }
+
+    /**
+     * Runs the I/O-bound actor threads on virtual threads instead of platform threads. Actors which
+     * block on I/O then only block their virtual thread, and release the underlying carrier thread
+     * to other I/O-bound actor threads. This makes it cheap to configure many more I/O-bound actor
+     * threads than there are cores, so that slow I/O of one actor does not hold up the others.
+     *
+     * <p>NOTE: blocking while holding a monitor, i.e. within a {@code synchronized} block, still
+     * blocks the carrier thread.
+     */
+    public ActorSchedulerBuilder setIoBoundVirtualThreads(final boolean ioBoundVirtualThreads) {
+      this.ioBoundVirtualThreads = ioBoundVirtualThreads;
+      return this;
+    }
+
     private void initActorThreadFactory() {
       if (actorThreadFactory == null) {
         actorThreadFactory = new DefaultActorThreadFactory();
@@ -17,4 +17,14 @@ public interface ActorSchedulingService {
   ActorFuture<Void> submitActor(final Actor actor);
 
   ActorFuture<Void> submitActor(final Actor actor, SchedulingHints schedulingHints);
+
+  /**
+   * Submits an actor with the given hints, placing it on the threads described by the given {@link
+   * ActorPlacement}. Implementations which do not support placement ignore it, which is the
+   * default.
+   */
+  default ActorFuture<Void> submitActor(
+      final Actor actor, final SchedulingHints schedulingHints, final ActorPlacement placement) {
+    return submitActor(actor, schedulingHints);
+  }
 }
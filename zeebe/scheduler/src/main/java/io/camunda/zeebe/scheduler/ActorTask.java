@@ -49,6 +49,10 @@ public class ActorTask {
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
   private ActorThreadGroup actorThreadGroup;
+  // the id of the thread this task is pinned to, or -1 if it can run on any thread of the group
+  private int homeThreadId = -1;
+  // only accessed by the thread executing the task; -1 if the task was not executed yet
+  private int lastRunnerId = -1;
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
@@ -65,7 +69,19 @@ public class ActorTask {
 
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
+    return onTaskScheduled(actorThreadGroup, -1);
+  }
+
+  /**
+   * called when the task is initially scheduled.
+   *
+   * @param homeThreadId the id of the thread the task is pinned to, or -1 if it is not pinned
+   */
+  public ActorFuture<Void> onTaskScheduled(
+      final ActorThreadGroup actorThreadGroup, final int homeThreadId) {
     this.actorThreadGroup = actorThreadGroup;
+    this.homeThreadId = homeThreadId;
+    lastRunnerId = -1;
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -465,6 +481,23 @@ public class ActorTask {
     return actor.getName();
   }
 
+  /** Returns the id of the thread this task is pinned to, or -1 if it is not pinned. */
+  int getHomeThreadId() {
+    return homeThreadId;
+  }
+
+  /**
+   * Records that the task is about to be executed by the given runner.
+   *
+   * @return true if the task was last executed by a different runner, i.e. it was handed off
+   *     between threads
+   */
+  boolean onExecutedBy(final int runnerId) {
+    final boolean handedOff = lastRunnerId != -1 && lastRunnerId != runnerId;
+    lastRunnerId = runnerId;
+    return handedOff;
+  }
+
   public Actor getActor() {
     return actor;
   }
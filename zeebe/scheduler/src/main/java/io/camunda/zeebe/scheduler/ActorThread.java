@@ -26,6 +26,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private static final Logger LOG = Loggers.ACTOR_LOGGER;
   private static final FatalErrorHandler FATAL_ERROR_HANDLER = FatalErrorHandler.withLogger(LOG);
   private static final VarHandle STATE_HANDLE;
+  private static final ThreadLocal<ActorThread> VIRTUAL_ACTOR_THREAD = new ThreadLocal<>();
 
   static {
     try {
@@ -49,6 +50,9 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
   private volatile ActorThreadState state;
+  // the thread which runs the actor thread's loop: this thread, or a virtual thread
+  private volatile Thread runner;
+  private boolean runsOnVirtualThread;
 
   public ActorThread(
       final String name,
@@ -104,6 +108,9 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     if (currentTask != null) {
       final var actorName = currentTask.actor.getName();
+      if (currentTask.onExecutedBy(threadId)) {
+        actorMetrics.countHandoff(getName());
+      }
       try (final var timer = actorMetrics.startExecutionTimer(actorName)) {
         executeCurrentTask();
       }
@@ -168,9 +175,14 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
      * This implementation takes advantage of the fact that ActorTaskRunner extends Thread
      * itself. If we can cast down, the current thread is the current ActorTaskRunner.
      */
-    return Thread.currentThread() instanceof ActorThread
-        ? (ActorThread) Thread.currentThread()
-        : null;
+    final Thread currentThread = Thread.currentThread();
+    if (currentThread instanceof final ActorThread actorThread) {
+      return actorThread;
+    }
+
+    // virtual threads cannot be subclassed, so there we fall back to a thread-local; it is only
+    // looked up when running on a virtual thread, which keeps the common path above cheap
+    return currentThread.isVirtual() ? VIRTUAL_ACTOR_THREAD.get() : null;
   }
 
   public static ActorThread ensureCalledFromActorThread(final String methodName) {
@@ -208,10 +220,36 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     return threadId;
   }
 
+  /** Returns true if the task this thread executes, or executed last, is pinned to it. */
+  boolean isExecutingPinnedTask() {
+    return currentTask != null && currentTask.getHomeThreadId() >= 0;
+  }
+
+  /**
+   * Makes this actor thread run its loop on a virtual thread instead of this platform thread, once
+   * started. When an actor blocks, e.g. on I/O, the virtual thread unmounts from its carrier, so
+   * that the carrier can run the other actor threads in the meantime. Tasks are still executed one
+   * at a time by each actor thread, so the serial execution of each actor is preserved.
+   *
+   * <p>Must be called before the thread is started.
+   */
+  void runOnVirtualThread() {
+    if (state != ActorThreadState.NEW) {
+      throw new IllegalStateException("Cannot run on a virtual thread, not in state 'NEW'.");
+    }
+    runsOnVirtualThread = true;
+  }
+
   @Override
   public synchronized void start() {
     if (STATE_HANDLE.compareAndSet(this, ActorThreadState.NEW, ActorThreadState.RUNNING)) {
-      super.start();
+      if (runsOnVirtualThread) {
+        runner = Thread.ofVirtual().name(getName()).unstarted(this::runOnCurrentVirtualThread);
+        runner.start();
+      } else {
+        runner = this;
+        super.start();
+      }
     } else {
       throw new IllegalStateException("Cannot start runner, not in state 'NEW'.");
     }
@@ -235,6 +273,15 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     terminationFuture.complete(null);
   }
 
+  private void runOnCurrentVirtualThread() {
+    VIRTUAL_ACTOR_THREAD.set(this);
+    try {
+      run();
+    } finally {
+      VIRTUAL_ACTOR_THREAD.remove();
+    }
+  }
+
   public CompletableFuture<Void> close() {
     if (STATE_HANDLE.compareAndSet(this, ActorThreadState.RUNNING, ActorThreadState.TERMINATING)) {
       return terminationFuture;
@@ -278,8 +325,13 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   }
 
   protected class ActorTaskRunnerIdleStrategy {
+    private static final long NO_TIMESTAMP = 0;
+
     private final IdleStrategy idleStrategy;
     private boolean isIdle;
+    // only tracked if metrics are enabled
+    private long idleStartNanos = NO_TIMESTAMP;
+    private volatile long wakeUpRequestedNanos = NO_TIMESTAMP;
 
     protected ActorTaskRunnerIdleStrategy(final IdleStrategy idleStrategy) {
       this.idleStrategy = idleStrategy;
@@ -290,13 +342,21 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
 
     public void hintWorkAvailable() {
-      LockSupport.unpark(ActorThread.this);
+      if (actorMetrics.isEnabled() && wakeUpRequestedNanos == NO_TIMESTAMP) {
+        wakeUpRequestedNanos = System.nanoTime();
+      }
+      LockSupport.unpark(runner);
     }
 
     protected void onIdle() {
       if (!isIdle) {
         clock.update();
         isIdle = true;
+
+        if (actorMetrics.isEnabled()) {
+          idleStartNanos = System.nanoTime();
+          wakeUpRequestedNanos = NO_TIMESTAMP;
+        }
       }
 
       idleStrategy.idle();
@@ -304,7 +364,26 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     protected void onTaskExecuted() {
       idleStrategy.reset();
+
+      if (isIdle && actorMetrics.isEnabled()) {
+        observeIdlePeriod();
+      }
       isIdle = false;
     }
+
+    private void observeIdlePeriod() {
+      final long now = System.nanoTime();
+      final String threadName = getName();
+      if (idleStartNanos != NO_TIMESTAMP) {
+        actorMetrics.observeIdleTime(threadName, now - idleStartNanos);
+        idleStartNanos = NO_TIMESTAMP;
+      }
+
+      final long wakeUpRequested = wakeUpRequestedNanos;
+      if (wakeUpRequested != NO_TIMESTAMP) {
+        actorMetrics.observeWakeUpLatency(threadName, now - wakeUpRequested);
+        wakeUpRequestedNanos = NO_TIMESTAMP;
+      }
+    }
   }
 }
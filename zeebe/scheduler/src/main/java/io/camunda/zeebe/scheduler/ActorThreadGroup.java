@@ -57,8 +57,24 @@ public abstract class ActorThreadGroup {
 
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
-      tasks.submit(actorTask, current.getRunnerId());
+    final int homeThreadId = actorTask.getHomeThreadId();
+    if (homeThreadId >= 0) {
+      tasks.submitPinned(actorTask, homeThreadId);
+      if (current != threads[homeThreadId]) {
+        threads[homeThreadId].hintWorkAvailable();
+      }
+    } else if (current != null && current.getActorThreadGroup() == this) {
+      if (current.isExecutingPinnedTask() && numOfThreads > 1) {
+        // a pinned actor wakes up a shared one, e.g. the stream processor wakes up its async
+        // actor: the shared actor may block, so keep it off the home thread, where it would block
+        // the pinned actor too
+        final int offset = 1 + ThreadLocalRandom.current().nextInt(numOfThreads - 1);
+        final int threadId = (current.getRunnerId() + offset) % numOfThreads;
+        tasks.submit(actorTask, threadId);
+        threads[threadId].hintWorkAvailable();
+      } else {
+        tasks.submit(actorTask, current.getRunnerId());
+      }
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
       tasks.submit(actorTask, threadId);
@@ -66,6 +82,14 @@ public abstract class ActorThreadGroup {
     }
   }
 
+  /**
+   * Returns the id of the thread in this group on which actors with the given placement run, or -1
+   * if they can run on any thread.
+   */
+  int homeThreadId(final ActorPlacement placement) {
+    return placement.homeThreadId(numOfThreads);
+  }
+
   public void start() {
     for (final ActorThread actorThread : threads) {
       actorThread.start();
@@ -0,0 +1,161 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import org.agrona.concurrent.IdleStrategy;
+
+/**
+ * An idle strategy which, like {@link org.agrona.concurrent.BackoffIdleStrategy}, spins, then
+ * yields, then parks with an exponential backoff, but adapts each phase to the rate at which work
+ * arrives on the thread.
+ *
+ * <p>The strategy keeps a moving average of how long the thread stayed idle before new work
+ * arrived:
+ *
+ * <ul>
+ *   <li>if work typically arrives within {@link #SPIN_THRESHOLD_NS}, the thread spins and yields as
+ *       configured, as it is likely to pick up new work before parking would even pay off
+ *   <li>if work typically arrives within {@link #YIELD_THRESHOLD_NS}, the thread skips spinning and
+ *       only yields before parking
+ *   <li>otherwise the thread parks right away, starting with a park period close to the expected
+ *       idle time, which avoids burning CPU on many short parks while there is nothing to do
+ * </ul>
+ *
+ * <p>Since the actor threads are unparked whenever work is submitted to them, parking earlier does
+ * not delay submitted work beyond the time it takes to wake up the thread; the park period only
+ * bounds how late timers fire.
+ *
+ * <p>As all idle strategies, instances are not thread safe and must be used by a single thread.
+ */
+public final class AdaptiveIdleStrategy implements IdleStrategy {
+
+  /** Average idle time up to which the thread spins before yielding. */
+  public static final long SPIN_THRESHOLD_NS = 10_000;
+
+  /** Average idle time up to which the thread yields before parking. */
+  public static final long YIELD_THRESHOLD_NS = 100_000;
+
+  // idle times are capped when averaging, such that a single long idle period, e.g. after a burst,
+  // does not outweigh the following short ones for too long
+  private static final long MAX_SAMPLE_NS = 2 * YIELD_THRESHOLD_NS;
+  // weight of a new sample in the moving average, as a power of two: 1/8
+  private static final int AVERAGE_SHIFT = 3;
+  private static final long NOT_IDLE = -1;
+
+  private final long maxSpins;
+  private final long maxYields;
+  private final long minParkPeriodNs;
+  private final long maxParkPeriodNs;
+  private final LongSupplier nanoClock;
+
+  private long averageIdleNs;
+  private long idleStartNs = NOT_IDLE;
+  private long spins;
+  private long yields;
+  private long parkPeriodNs;
+
+  public AdaptiveIdleStrategy(
+      final long maxSpins,
+      final long maxYields,
+      final long minParkPeriodNs,
+      final long maxParkPeriodNs) {
+    this(maxSpins, maxYields, minParkPeriodNs, maxParkPeriodNs, System::nanoTime);
+  }
+
+  AdaptiveIdleStrategy(
+      final long maxSpins,
+      final long maxYields,
+      final long minParkPeriodNs,
+      final long maxParkPeriodNs,
+      final LongSupplier nanoClock) {
+    if (minParkPeriodNs < 1 || maxParkPeriodNs < minParkPeriodNs) {
+      throw new IllegalArgumentException(
+          "Expected 1 <= minParkPeriodNs <= maxParkPeriodNs, but got %d and %d"
+              .formatted(minParkPeriodNs, maxParkPeriodNs));
+    }
+
+    this.maxSpins = maxSpins;
+    this.maxYields = maxYields;
+    this.minParkPeriodNs = minParkPeriodNs;
+    this.maxParkPeriodNs = maxParkPeriodNs;
+    this.nanoClock = nanoClock;
+  }
+
+  @Override
+  public void idle(final int workCount) {
+    if (workCount > 0) {
+      reset();
+    } else {
+      idle();
+    }
+  }
+
+  @Override
+  public void idle() {
+    if (idleStartNs == NOT_IDLE) {
+      startIdlePeriod();
+    }
+
+    if (spins > 0) {
+      spins--;
+      Thread.onSpinWait();
+    } else if (yields > 0) {
+      yields--;
+      Thread.yield();
+    } else {
+      LockSupport.parkNanos(parkPeriodNs);
+      parkPeriodNs = Math.min(parkPeriodNs << 1, maxParkPeriodNs);
+    }
+  }
+
+  @Override
+  public void reset() {
+    if (idleStartNs != NOT_IDLE) {
+      final long idleNs = Math.min(nanoClock.getAsLong() - idleStartNs, MAX_SAMPLE_NS);
+      averageIdleNs += (idleNs - averageIdleNs) >> AVERAGE_SHIFT;
+      idleStartNs = NOT_IDLE;
+    }
+  }
+
+  @Override
+  public String alias() {
+    return "adaptive";
+  }
+
+  long averageIdleNs() {
+    return averageIdleNs;
+  }
+
+  private void startIdlePeriod() {
+    idleStartNs = nanoClock.getAsLong();
+    spins = averageIdleNs <= SPIN_THRESHOLD_NS ? maxSpins : 0;
+    yields = averageIdleNs <= YIELD_THRESHOLD_NS ? maxYields : 0;
+    parkPeriodNs =
+        averageIdleNs <= YIELD_THRESHOLD_NS
+            ? minParkPeriodNs
+            : Math.clamp(averageIdleNs, minParkPeriodNs, maxParkPeriodNs);
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveIdleStrategy{"
+        + "maxSpins="
+        + maxSpins
+        + ", maxYields="
+        + maxYields
+        + ", minParkPeriodNs="
+        + minParkPeriodNs
+        + ", maxParkPeriodNs="
+        + maxParkPeriodNs
+        + ", averageIdleNs="
+        + averageIdleNs
+        + '}';
+  }
+}
@@ -14,5 +14,11 @@ public final class IoThreadGroup extends ActorThreadGroup {
   public IoThreadGroup(final ActorSchedulerBuilder builder) {
     super(
         "zb-fs-workers", builder.getIoBoundActorThreadCount(), builder, builder.getSchedulerName());
+
+    if (builder.isIoBoundVirtualThreads()) {
+      for (final ActorThread thread : threads) {
+        thread.runOnVirtualThread();
+      }
+    }
   }
 }
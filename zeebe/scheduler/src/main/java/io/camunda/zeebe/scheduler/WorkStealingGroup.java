@@ -11,16 +11,31 @@ import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
 
 import java.util.concurrent.ThreadLocalRandom;
 
-/** Workstealing group maintains a queue per thread. */
+/**
+ * Workstealing group maintains a queue per thread. Additionally, each thread has a queue of tasks
+ * which are pinned to it, see {@link ActorPlacement}; pinned tasks are never stolen by other
+ * threads, and threads which are home to pinned tasks never steal shared tasks, so that a shared
+ * task which blocks cannot block the pinned ones.
+ */
 public final class WorkStealingGroup implements TaskScheduler {
   private final int numOfThreads;
   private final ActorTaskQueue[] taskQueues;
+  private final ActorTaskQueue[] pinnedTaskQueues;
+  // per thread, whether to look at the pinned queue first on the next call; only accessed by the
+  // owning thread, alternating the queues ensures neither starves the other
+  private final boolean[] preferPinned;
+  // per thread, whether any task was ever pinned to it; such threads do not steal
+  private final boolean[] hostsPinnedTasks;
 
   public WorkStealingGroup(final int numOfThreads) {
     this.numOfThreads = numOfThreads;
     taskQueues = new ActorTaskQueue[numOfThreads];
+    pinnedTaskQueues = new ActorTaskQueue[numOfThreads];
+    preferPinned = new boolean[numOfThreads];
+    hostsPinnedTasks = new boolean[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
       taskQueues[i] = new ActorTaskQueue();
+      pinnedTaskQueues[i] = new ActorTaskQueue();
     }
   }
 
@@ -35,6 +50,19 @@ public final class WorkStealingGroup implements TaskScheduler {
     taskQueues[threadId].append(task);
   }
 
+  /**
+   * Submit the task into the provided thread's pinned queue, from which only that thread takes
+   * tasks.
+   *
+   * @param task the task to submit
+   * @param threadId the id of the thread to which the task is pinned
+   */
+  public void submitPinned(final ActorTask task, final int threadId) {
+    task.schedulingState.set(QUEUED);
+    hostsPinnedTasks[threadId] = true;
+    pinnedTaskQueues[threadId].append(task);
+  }
+
   /**
    * Attempts to acquire the next task to execute
    *
@@ -43,9 +71,19 @@ public final class WorkStealingGroup implements TaskScheduler {
   @Override
   public ActorTask getNextTask() {
     final ActorThread currentThread = ActorThread.current();
-    ActorTask nextTask = taskQueues[currentThread.getRunnerId()].pop();
+    final int runnerId = currentThread.getRunnerId();
+    final ActorTaskQueue pinnedQueue = pinnedTaskQueues[runnerId];
+    final ActorTaskQueue queue = taskQueues[runnerId];
+
+    final boolean pinnedFirst = preferPinned[runnerId];
+    preferPinned[runnerId] = !pinnedFirst;
 
+    ActorTask nextTask = pinnedFirst ? pinnedQueue.pop() : queue.pop();
     if (nextTask == null) {
+      nextTask = pinnedFirst ? queue.pop() : pinnedQueue.pop();
+    }
+
+    if (nextTask == null && !hostsPinnedTasks[runnerId]) {
       nextTask = trySteal(currentThread);
     }
 
@@ -84,6 +122,7 @@ public final class WorkStealingGroup implements TaskScheduler {
         final ActorTask stolenActor = taskQueues[runnerId].trySteal();
 
         if (stolenActor != null) {
+          currentThread.getActorMetrics().countSteal(currentThread.getName());
           return stolenActor;
         }
       }
@@ -11,8 +11,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
+import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 
 final class ActorSchedulerTest {
@@ -83,5 +87,105 @@ final class ActorSchedulerTest {
         .isInstanceOf(IllegalStateException.class);
   }
 
-  private static final class TestActor extends Actor {}
+  @Test
+  void shouldRunPinnedActorsOnTheirHomeThread() {
+    // given
+    final var scheduler = ActorScheduler.newActorScheduler().setCpuBoundActorThreadCount(4).build();
+    scheduler.start();
+    final var threadNames = ConcurrentHashMap.<String>newKeySet();
+    final var placement = ActorPlacement.pinned(6);
+    final var first = new ThreadRecordingActor(threadNames);
+    final var second = new ThreadRecordingActor(threadNames);
+
+    try {
+      scheduler.submitActor(first, SchedulingHints.cpuBound(), placement).join();
+      scheduler.submitActor(second, SchedulingHints.cpuBound(), placement).join();
+
+      // when
+      for (int i = 0; i < 1_000; i++) {
+        first.record();
+        second.record();
+      }
+      first.record().join();
+      second.record().join();
+
+      // then
+      assertThat(threadNames).containsExactly("zb-actors-2");
+    } finally {
+      scheduler.stop();
+    }
+  }
+
+  @Test
+  void shouldNotBlockPinnedActorWhenSharedActorItWokeUpBlocks() throws InterruptedException {
+    // given
+    final var scheduler = ActorScheduler.newActorScheduler().setCpuBoundActorThreadCount(2).build();
+    scheduler.start();
+    final var blocking = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    final var pinnedActor = new TestActor();
+    final var sharedActor = new BlockingActor(blocking, release);
+
+    try {
+      scheduler
+          .submitActor(pinnedActor, SchedulingHints.cpuBound(), ActorPlacement.pinned(0))
+          .join();
+      scheduler.submitActor(sharedActor).join();
+
+      // when
+      pinnedActor.call(sharedActor::block).join();
+      assertThat(blocking.await(5, TimeUnit.SECONDS)).isTrue();
+
+      // then
+      assertThat(pinnedActor.call(() -> {})).succeedsWithin(Duration.ofSeconds(5));
+    } finally {
+      release.countDown();
+      scheduler.stop();
+    }
+  }
+
+  private static final class TestActor extends Actor {
+    private ActorFuture<Void> call(final Runnable runnable) {
+      return actor.call(runnable);
+    }
+  }
+
+  private static final class BlockingActor extends Actor {
+    private final CountDownLatch blocking;
+    private final CountDownLatch release;
+
+    private BlockingActor(final CountDownLatch blocking, final CountDownLatch release) {
+      this.blocking = blocking;
+      this.release = release;
+    }
+
+    private void block() {
+      actor.run(
+          () -> {
+            blocking.countDown();
+            try {
+              release.await();
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+    }
+  }
+
+  private static final class ThreadRecordingActor extends Actor {
+    private final Set<String> threadNames;
+
+    private ThreadRecordingActor(final Set<String> threadNames) {
+      this.threadNames = threadNames;
+    }
+
+    @Override
+    protected void onActorStarting() {
+      threadNames.add(Thread.currentThread().getName());
+    }
+
+    private ActorFuture<Void> record() {
+      return actor.call(this::onActorStarting);
+    }
+  }
 }
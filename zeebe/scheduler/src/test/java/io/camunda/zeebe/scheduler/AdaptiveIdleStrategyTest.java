@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveIdleStrategyTest {
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final AdaptiveIdleStrategy idleStrategy =
+      new AdaptiveIdleStrategy(0, 0, 1, 1_000, nanoTime::get);
+
+  @Test
+  void shouldKeepAverageLowWhenWorkArrivesFrequently() {
+    // when
+    for (int i = 0; i < 100; i++) {
+      idleFor(1_000);
+    }
+
+    // then
+    assertThat(idleStrategy.averageIdleNs())
+        .isLessThanOrEqualTo(AdaptiveIdleStrategy.SPIN_THRESHOLD_NS);
+  }
+
+  @Test
+  void shouldRaiseAverageWhenIdleForLong() {
+    // when
+    for (int i = 0; i < 100; i++) {
+      idleFor(1_000_000);
+    }
+
+    // then
+    assertThat(idleStrategy.averageIdleNs()).isGreaterThan(AdaptiveIdleStrategy.YIELD_THRESHOLD_NS);
+  }
+
+  @Test
+  void shouldAdaptBackWhenWorkArrivesFrequentlyAgain() {
+    // given
+    for (int i = 0; i < 100; i++) {
+      idleFor(1_000_000);
+    }
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      idleFor(1_000);
+    }
+
+    // then
+    assertThat(idleStrategy.averageIdleNs())
+        .isLessThanOrEqualTo(AdaptiveIdleStrategy.SPIN_THRESHOLD_NS);
+  }
+
+  @Test
+  void shouldNotAdaptOnSingleLongIdlePeriod() {
+    // given
+    for (int i = 0; i < 100; i++) {
+      idleFor(1_000);
+    }
+
+    // when
+    idleFor(1_000_000);
+
+    // then
+    assertThat(idleStrategy.averageIdleNs())
+        .isLessThanOrEqualTo(AdaptiveIdleStrategy.YIELD_THRESHOLD_NS);
+  }
+
+  @Test
+  void shouldNotCountResetWithoutIdling() {
+    // when
+    for (int i = 0; i < 100; i++) {
+      nanoTime.addAndGet(1_000_000);
+      idleStrategy.reset();
+    }
+
+    // then
+    assertThat(idleStrategy.averageIdleNs()).isZero();
+  }
+
+  @Test
+  void shouldRejectInvalidParkPeriods() {
+    assertThatThrownBy(() -> new AdaptiveIdleStrategy(0, 0, 0, 1_000))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AdaptiveIdleStrategy(0, 0, 1_000, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private void idleFor(final long idleNs) {
+    idleStrategy.idle();
+    nanoTime.addAndGet(idleNs);
+    idleStrategy.reset();
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.iobound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorThread;
+import io.camunda.zeebe.scheduler.IoThreadGroup;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class VirtualIoBoundActorsTest {
+  private ActorScheduler scheduler;
+
+  @BeforeEach
+  void beforeEach() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(2)
+            .setIoBoundVirtualThreads(true)
+            .build();
+    scheduler.start();
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldRunIoBoundActorOnVirtualThread() {
+    // given
+    final var isVirtual = new AtomicBoolean();
+    final var isOnIoThreadGroup = new AtomicBoolean();
+    final var actor =
+        new Actor() {
+          @Override
+          protected void onActorStarting() {
+            isVirtual.set(Thread.currentThread().isVirtual());
+            isOnIoThreadGroup.set(
+                ActorThread.current().getActorThreadGroup() instanceof IoThreadGroup);
+          }
+        };
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    assertThat(isVirtual).isTrue();
+    assertThat(isOnIoThreadGroup).isTrue();
+  }
+
+  @Test
+  void shouldRunCpuBoundActorOnPlatformThread() {
+    // given
+    final var isVirtual = new AtomicBoolean(true);
+    final var actor =
+        new Actor() {
+          @Override
+          protected void onActorStarting() {
+            isVirtual.set(Thread.currentThread().isVirtual());
+          }
+        };
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.cpuBound()).join();
+
+    // then
+    assertThat(isVirtual).isFalse();
+  }
+
+  @Test
+  void shouldNotReturnActorThreadOnOtherVirtualThreads() throws Exception {
+    // when
+    try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final var current = executor.submit(ActorThread::current).get();
+
+      // then
+      assertThat(current).isNull();
+    }
+  }
+
+  @Test
+  void shouldExecuteJobsOfActorSerially() {
+    // given
+    final var actor = new CountingActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    final var futures = new ArrayList<ActorFuture<Void>>();
+
+    // when
+    try (final var executor = Executors.newFixedThreadPool(4)) {
+      for (int i = 0; i < 4; i++) {
+        executor.execute(
+            () -> {
+              for (int j = 0; j < 1_000; j++) {
+                synchronized (futures) {
+                  futures.add(actor.increment());
+                }
+              }
+            });
+      }
+    }
+    futures.forEach(ActorFuture::join);
+
+    // then
+    assertThat(actor.count()).isEqualTo(4_000);
+    assertThat(actor.hadConcurrentExecution).isFalse();
+  }
+
+  @Test
+  void shouldProgressOtherActorsWhileAllCarriersAreBlocked() throws Exception {
+    // given - one more I/O thread than there are carrier threads for virtual threads, so the last
+    // actor can only make progress if the blocked virtual threads unmount from their carriers
+    final int carrierCount =
+        Integer.getInteger(
+            "jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+    final var release = new CountDownLatch(1);
+    final var blocked = new CountDownLatch(carrierCount);
+    final var otherActor = new CountingActor();
+
+    try (final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(carrierCount + 1)
+            .setIoBoundVirtualThreads(true)
+            .build()) {
+      scheduler.start();
+      try {
+        final var blockingActors = new ArrayList<BlockingActor>();
+        for (int i = 0; i < carrierCount; i++) {
+          final var blockingActor = new BlockingActor(release, blocked);
+          scheduler.submitActor(blockingActor, SchedulingHints.ioBound()).join();
+          blockingActors.add(blockingActor);
+        }
+        scheduler.submitActor(otherActor, SchedulingHints.ioBound()).join();
+
+        // when
+        blockingActors.forEach(BlockingActor::block);
+        assertThat(blocked.await(10, TimeUnit.SECONDS))
+            .describedAs("Expected every blocking actor to block its own I/O thread")
+            .isTrue();
+
+        // then
+        assertThat(otherActor.increment()).succeedsWithin(Duration.ofSeconds(10));
+      } finally {
+        release.countDown();
+      }
+    }
+  }
+
+  private static final class CountingActor extends Actor {
+    private final AtomicBoolean isExecuting = new AtomicBoolean();
+    private volatile boolean hadConcurrentExecution;
+    private int count;
+
+    private ActorFuture<Void> increment() {
+      return actor.call(
+          () -> {
+            if (!isExecuting.compareAndSet(false, true)) {
+              hadConcurrentExecution = true;
+            }
+            count++;
+            isExecuting.set(false);
+          });
+    }
+
+    private int count() {
+      return actor.call(() -> count).join();
+    }
+  }
+
+  private static final class BlockingActor extends Actor {
+    private final CountDownLatch release;
+    private final CountDownLatch blocked;
+
+    private BlockingActor(final CountDownLatch release, final CountDownLatch blocked) {
+      this.release = release;
+      this.blocked = blocked;
+    }
+
+    private void block() {
+      actor.run(
+          () -> {
+            blocked.countDown();
+            try {
+              release.await();
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+    }
+  }
+}
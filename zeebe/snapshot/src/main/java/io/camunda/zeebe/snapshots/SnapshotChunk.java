@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.snapshots;
 
+import java.nio.file.Path;
+
 /** A chunk of an already persisted Snapshot. */
 public interface SnapshotChunk {
 
@@ -41,4 +43,22 @@ public interface SnapshotChunk {
   long getFileBlockPosition();
 
   long getTotalFileSize();
+
+  /**
+   * Returns the file holding the content of this chunk, if any. The content then starts at {@link
+   * #getFileBlockPosition()} in that file, and is {@link #getContentLength()} bytes long, such that
+   * it can be sent from the file as is, without reading it via {@link #getContent()} first.
+   *
+   * @return the file holding the content, or null if the content is only available in memory
+   */
+  default Path getContentFile() {
+    return null;
+  }
+
+  /**
+   * @return the length of the content of the current chunk
+   */
+  default int getContentLength() {
+    return getContent().length;
+  }
 }
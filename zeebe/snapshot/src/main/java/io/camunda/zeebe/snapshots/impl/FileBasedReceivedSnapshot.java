@@ -40,6 +40,8 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
   private SfvChecksumImpl checksumCollection;
+  private FileChannel currentFileChannel;
+  private Path currentFile;
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -171,23 +173,29 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  /**
+   * Writes the chunk to its file. The chunks of a file are received in order, so the file is kept
+   * open until its last chunk was written, and is flushed only once it is complete, instead of
+   * reopening and flushing it for every chunk.
+   */
   private void writeReceivedSnapshotChunk(
       final SnapshotChunk snapshotChunk, final Path snapshotFile) throws SnapshotWriteException {
-
-    try (final var channel =
-        FileChannel.open(snapshotFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+    try {
+      final var channel = openFile(snapshotFile);
       final ByteBuffer buffer = ByteBuffer.wrap(snapshotChunk.getContent());
+      final long fileBlockPosition = snapshotChunk.getFileBlockPosition();
 
       while (buffer.hasRemaining()) {
         final int newLimit = Math.min(buffer.capacity(), buffer.position() + BLOCK_SIZE);
-        channel.position(snapshotChunk.getFileBlockPosition() + buffer.position());
-        channel.write(buffer.limit(newLimit));
+        channel.write(buffer.limit(newLimit), fileBlockPosition + buffer.position());
         buffer.limit(buffer.capacity());
       }
 
-      channel.force(true);
-
+      if (fileBlockPosition + buffer.capacity() >= snapshotChunk.getTotalFileSize()) {
+        closeCurrentFile();
+      }
     } catch (final IOException e) {
+      closeCurrentFileQuietly();
       throw new SnapshotWriteException(
           String.format("Failed to write snapshot chunk %s", snapshotChunk), e);
     }
@@ -195,6 +203,38 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     LOGGER.trace("Wrote replicated snapshot chunk to file {}", snapshotFile);
   }
 
+  private FileChannel openFile(final Path snapshotFile) throws IOException {
+    if (!snapshotFile.equals(currentFile)) {
+      closeCurrentFile();
+      currentFileChannel =
+          FileChannel.open(snapshotFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+      currentFile = snapshotFile;
+    }
+
+    return currentFileChannel;
+  }
+
+  /** Flushes and closes the file which is currently written, if any. */
+  private void closeCurrentFile() throws IOException {
+    if (currentFileChannel == null) {
+      return;
+    }
+
+    try (final var channel = currentFileChannel) {
+      currentFileChannel = null;
+      currentFile = null;
+      channel.force(true);
+    }
+  }
+
+  private void closeCurrentFileQuietly() {
+    try {
+      closeCurrentFile();
+    } catch (final IOException e) {
+      LOGGER.debug("Failed to close snapshot chunk file of {}", this, e);
+    }
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     final CompletableActorFuture<Void> abortFuture = new CompletableActorFuture<>();
@@ -230,6 +270,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private void abortInternal() {
     try {
       LOGGER.debug("Aborting received snapshot in dir {}", directory);
+      closeCurrentFileQuietly();
       FileUtil.deleteFolderIfExists(directory);
     } catch (final IOException e) {
       LOGGER.warn("Failed to delete pending snapshot {}", this, e);
@@ -245,6 +286,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
+    try {
+      closeCurrentFile();
+    } catch (final IOException e) {
+      future.completeExceptionally(e);
+      return;
+    }
+
     final var files = directory.toFile().listFiles();
     try {
       Objects.requireNonNull(files, "No chunks have been applied yet");
@@ -22,6 +22,15 @@ import java.util.TreeSet;
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>A file which is split into multiple chunks is kept open until its last chunk was read, or the
+ * reader moves to another file. Reading the chunks sequentially from the same open file lets the
+ * operating system read ahead, instead of starting over for every chunk.
+ *
+ * <p>The chunks only compute the checksum of their content, from a memory mapping of the file. The
+ * content itself is read from the file once {@link SnapshotChunk#getContent()} is called, so
+ * senders which send it from the {@link SnapshotChunk#getContentFile() file} directly never copy it
+ * onto the heap.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
@@ -32,6 +41,8 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final int totalCount;
   private final String snapshotID;
   private long maximumChunkSize;
+  private RandomAccessFile currentFile;
+  private String currentFileName;
 
   public FileBasedSnapshotChunkReader(final Path directory) throws IOException {
     this(directory, Long.MAX_VALUE);
@@ -93,6 +104,7 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   public void close() {
     chunks.clear();
     chunksView.clear();
+    closeCurrentFile();
   }
 
   @Override
@@ -103,26 +115,58 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public SnapshotChunk next() {
     final var fileName = chunksView.first().toString();
-    final var filePath = directory.resolve(fileName).toString();
 
-    try (final var file = new RandomAccessFile(filePath, "r")) {
+    try {
+      final var file = openFile(fileName);
       final var fileLength = file.length();
-      final var bytesToRead = Math.min(maximumChunkSize, fileLength - offset);
-      final byte[] buffer = new byte[(int) bytesToRead];
-      file.seek(offset);
-      file.readFully(buffer);
+      final var bytesToRead = (int) Math.min(maximumChunkSize, fileLength - offset);
+      final var checksum = SnapshotChunkUtil.createChecksum(file.getChannel(), offset, bytesToRead);
 
       final var fileBlockPosition = offset;
       offset += bytesToRead;
       if (offset == fileLength) {
         offset = 0;
         chunksView.pollFirst();
+        closeCurrentFile();
       }
 
-      return SnapshotChunkUtil.createSnapshotChunkFromFileChunk(
-          snapshotID, totalCount, fileName, buffer, fileBlockPosition, fileLength);
+      return SnapshotChunkUtil.createSnapshotChunkFromFile(
+          snapshotID,
+          totalCount,
+          fileName,
+          directory.resolve(fileName),
+          checksum,
+          bytesToRead,
+          fileBlockPosition,
+          fileLength);
     } catch (final IOException e) {
+      closeCurrentFile();
       throw new UncheckedIOException(e);
     }
   }
+
+  private RandomAccessFile openFile(final String fileName) throws IOException {
+    if (!fileName.equals(currentFileName)) {
+      closeCurrentFile();
+      currentFile = new RandomAccessFile(directory.resolve(fileName).toFile(), "r");
+      currentFileName = fileName;
+    }
+
+    return currentFile;
+  }
+
+  private void closeCurrentFile() {
+    if (currentFile == null) {
+      return;
+    }
+
+    try {
+      currentFile.close();
+    } catch (final IOException e) {
+      // the file was only read from, so nothing is lost if closing it fails
+    } finally {
+      currentFile = null;
+      currentFileName = null;
+    }
+  }
 }
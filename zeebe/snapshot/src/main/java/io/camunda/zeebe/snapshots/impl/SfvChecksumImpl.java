@@ -93,19 +93,7 @@ public final class SfvChecksumImpl implements MutableChecksumsSFV {
 
   @Override
   public void updateFromFile(final Path filePath) throws IOException {
-    final String fileName = filePath.getFileName().toString();
-
-    final Checksum checksum = new CRC32C();
-    final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
-    try (final FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
-      readBuffer.clear();
-      while (channel.read(readBuffer) > 0) {
-        readBuffer.flip();
-        checksum.update(readBuffer);
-        readBuffer.clear();
-      }
-    }
-    checksums.put(fileName, checksum.getValue());
+    updateFromChecksum(filePath, checksumOf(filePath));
   }
 
   @Override
@@ -138,4 +126,22 @@ public final class SfvChecksumImpl implements MutableChecksumsSFV {
     final String fileName = filePath.getFileName().toString();
     checksums.put(fileName, checksum);
   }
+
+  /**
+   * Computes the CRC32C of the given file's content. This doesn't modify any checksum instance, so
+   * it can be used to compute the checksums of multiple files concurrently.
+   */
+  static long checksumOf(final Path filePath) throws IOException {
+    final Checksum checksum = new CRC32C();
+    final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
+    try (final FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+      readBuffer.clear();
+      while (channel.read(readBuffer) > 0) {
+        readBuffer.flip();
+        checksum.update(readBuffer);
+        readBuffer.clear();
+      }
+    }
+    return checksum.getValue();
+  }
 }
@@ -18,10 +18,28 @@ import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 final class SnapshotChecksum {
 
+  /**
+   * The checksums of the snapshot files are computed concurrently on a bounded pool, which is
+   * shared by all partitions, to not saturate the disk while taking or receiving snapshots. Its
+   * threads are only kept while checksums are computed.
+   */
+  private static final int CHECKSUM_THREADS =
+      Math.clamp(Runtime.getRuntime().availableProcessors(), 2, 8);
+
+  private static final ExecutorService CHECKSUM_EXECUTOR = newChecksumExecutor();
+
   private SnapshotChecksum() {
     throw new IllegalStateException("Utility class");
   }
@@ -53,7 +71,7 @@ final class SnapshotChecksum {
         Files.list(snapshotDirectory).filter(SnapshotChecksum::isNotMetadataFile).sorted()) {
       final SfvChecksumImpl sfvChecksum = new SfvChecksumImpl();
       final Map<String, Long> fullFileChecksums = provider.getSnapshotChecksums(snapshotDirectory);
-      fileStream.forEachOrdered(path -> updateChecksum(sfvChecksum, fullFileChecksums, path));
+      updateChecksums(sfvChecksum, fullFileChecksums, fileStream.toList());
 
       // While persisting transient snapshot, the checksum of metadata file is added at the end.
       // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
@@ -87,19 +105,63 @@ final class SnapshotChecksum {
     }
   }
 
-  private static void updateChecksum(
+  private static void updateChecksums(
       final MutableChecksumsSFV checksum,
       final Map<String, Long> fullFileChecksums,
-      final Path file) {
-    final String fileName = file.getFileName().toString();
-    if (fullFileChecksums.containsKey(fileName)) {
-      checksum.updateFromChecksum(file, fullFileChecksums.get(fileName));
-    } else {
-      try {
-        checksum.updateFromFile(file);
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
+      final List<Path> files)
+      throws IOException {
+    final List<Path> filesToRead = new ArrayList<>();
+    for (final var file : files) {
+      final String fileName = file.getFileName().toString();
+      if (fullFileChecksums.containsKey(fileName)) {
+        checksum.updateFromChecksum(file, fullFileChecksums.get(fileName));
+      } else {
+        filesToRead.add(file);
+      }
+    }
+
+    if (filesToRead.size() == 1) {
+      checksum.updateFromFile(filesToRead.getFirst());
+      return;
+    }
+
+    final List<CompletableFuture<Long>> fileChecksums = new ArrayList<>(filesToRead.size());
+    for (final var file : filesToRead) {
+      fileChecksums.add(CompletableFuture.supplyAsync(() -> readChecksum(file), CHECKSUM_EXECUTOR));
+    }
+
+    // the checksums are only collected here, as the SFV checksum is not thread safe
+    try {
+      for (int i = 0; i < filesToRead.size(); i++) {
+        checksum.updateFromChecksum(filesToRead.get(i), fileChecksums.get(i).join());
       }
+    } catch (final CompletionException e) {
+      fileChecksums.forEach(fileChecksum -> fileChecksum.cancel(false));
+      if (e.getCause() instanceof final UncheckedIOException ioException) {
+        throw ioException.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private static long readChecksum(final Path file) {
+    try {
+      return SfvChecksumImpl.checksumOf(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
     }
   }
+
+  private static ExecutorService newChecksumExecutor() {
+    final var executor =
+        new ThreadPoolExecutor(
+            CHECKSUM_THREADS,
+            CHECKSUM_THREADS,
+            30,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            Thread.ofPlatform().name("zb-snapshot-checksum-", 0).daemon().factory());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
 }
@@ -8,8 +8,17 @@
 package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
+import org.agrona.IoUtil;
 
 final class SnapshotChunkUtil {
 
@@ -21,45 +30,81 @@ final class SnapshotChunkUtil {
     return checksum.getValue();
   }
 
+  /**
+   * Computes the checksum of the given region of the file from a memory mapping of it, such that
+   * the content is not copied onto the heap.
+   */
+  static long createChecksum(final FileChannel channel, final long position, final int length)
+      throws IOException {
+    final Checksum checksum = newChecksum();
+    if (length == 0) {
+      return checksum.getValue();
+    }
+
+    final MappedByteBuffer content = channel.map(MapMode.READ_ONLY, position, length);
+    try {
+      checksum.update(content);
+    } finally {
+      IoUtil.unmap(content);
+    }
+
+    return checksum.getValue();
+  }
+
   static Checksum newChecksum() {
     return new CRC32C();
   }
 
-  static SnapshotChunk createSnapshotChunkFromFileChunk(
+  static SnapshotChunk createSnapshotChunkFromFile(
       final String snapshotId,
       final int totalCount,
       final String fileName,
-      final byte[] fileData,
+      final Path file,
+      final long checksum,
+      final int contentLength,
       final long fileBlockPosition,
       final long totalFileSize) {
-
-    final long checksum = createChecksum(fileData);
-    return new SnapshotChunkImpl(
-        snapshotId, totalCount, fileName, checksum, fileData, fileBlockPosition, totalFileSize);
+    return new FileSnapshotChunk(
+        snapshotId,
+        totalCount,
+        fileName,
+        file,
+        checksum,
+        contentLength,
+        fileBlockPosition,
+        totalFileSize);
   }
 
-  private static final class SnapshotChunkImpl implements SnapshotChunk {
+  /**
+   * A chunk whose content is read from its file only when {@link #getContent()} is called, so that
+   * senders which can send the content from the file directly never copy it onto the heap.
+   */
+  private static final class FileSnapshotChunk implements SnapshotChunk {
     private final String snapshotId;
     private final int totalCount;
     private final String chunkName;
-    private final byte[] content;
+    private final Path file;
     private final long checksum;
+    private final int contentLength;
     private final long fileBlockPosition;
     private final long totalFileSize;
+    private byte[] content;
 
-    SnapshotChunkImpl(
+    FileSnapshotChunk(
         final String snapshotId,
         final int totalCount,
         final String chunkName,
+        final Path file,
         final long checksum,
-        final byte[] content,
+        final int contentLength,
         final long fileBlockPosition,
         final long totalFileSize) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
+      this.file = file;
       this.checksum = checksum;
-      this.content = content;
+      this.contentLength = contentLength;
       this.fileBlockPosition = fileBlockPosition;
       this.totalFileSize = totalFileSize;
     }
@@ -86,6 +131,10 @@ final class SnapshotChunkUtil {
 
     @Override
     public byte[] getContent() {
+      if (content == null) {
+        content = readContent();
+      }
+
       return content;
     }
 
@@ -98,5 +147,32 @@ final class SnapshotChunkUtil {
     public long getTotalFileSize() {
       return totalFileSize;
     }
+
+    @Override
+    public Path getContentFile() {
+      return file;
+    }
+
+    @Override
+    public int getContentLength() {
+      return contentLength;
+    }
+
+    private byte[] readContent() {
+      final var buffer = ByteBuffer.allocate(contentLength);
+      try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        while (buffer.hasRemaining()) {
+          if (channel.read(buffer, fileBlockPosition + buffer.position()) < 0) {
+            throw new IOException(
+                "Expected to read %d bytes of %s from position %d, but reached the end of the file"
+                    .formatted(contentLength, file, fileBlockPosition));
+          }
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+
+      return buffer.array();
+    }
   }
 }
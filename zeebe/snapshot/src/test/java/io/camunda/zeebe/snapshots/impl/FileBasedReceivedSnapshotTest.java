@@ -20,12 +20,14 @@ import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkWrapper;
 import io.camunda.zeebe.test.util.asserts.DirectoryAssert;
 import io.camunda.zeebe.util.FileUtil;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -348,6 +350,90 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldWriteFileOverMultipleChunks() throws IOException {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var expectedContent = Files.readAllBytes(persistedSnapshot.getPath().resolve("file1"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+
+      var writtenBytes = 0;
+      while (writtenBytes < expectedContent.length) {
+        final var chunk = snapshotChunkReader.next();
+        receivedSnapshot.apply(chunk).join();
+        writtenBytes += chunk.getContent().length;
+
+        // then
+        assertThat(chunk.getChunkName()).isEqualTo("file1");
+        assertThat(receivedSnapshot.getPath().resolve("file1"))
+            .as("the file contains all chunks applied so far")
+            .hasBinaryContent(Arrays.copyOf(expectedContent, writtenBytes));
+      }
+    }
+  }
+
+  @Test
+  public void shouldDeletePartiallyWrittenFileOnAbort() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+    }
+
+    // when
+    receivedSnapshot.abort().join();
+
+    // then
+    assertThat(receivedSnapshot.getPath())
+        .as("the pending snapshot is deleted even though a file was still being written")
+        .doesNotExist();
+    assertThat(receiveSnapshot(persistedSnapshot).persist().join())
+        .as("the same snapshot can be received again after aborting")
+        .isEqualTo(receiverSnapshotStore.getLatestSnapshot().orElseThrow());
+  }
+
+  @Test
+  public void shouldFlushPartiallyWrittenFileOnPersist() throws IOException {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var partialFile = new ByteArrayOutputStream();
+    SnapshotChunk lastChunk = null;
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+
+      // apply all chunks but the last one, such that the last file is still open on persist
+      var chunk = snapshotChunkReader.next();
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(chunk).join();
+        if (lastChunk != null && !lastChunk.getChunkName().equals(chunk.getChunkName())) {
+          partialFile.reset();
+        }
+        partialFile.write(chunk.getContent());
+        lastChunk = chunk;
+        chunk = snapshotChunkReader.next();
+      }
+    }
+
+    // when
+    final var persisted = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persisted.getPath().resolve(lastChunk.getChunkName()))
+        .as("the chunks written to the open file are part of the persisted snapshot")
+        .hasBinaryContent(partialFile.toByteArray());
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -15,11 +15,13 @@ import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -332,6 +334,41 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldReferToContentInFile() throws IOException {
+    // given
+    final int maxChunkSize = 3;
+    final var snapshotChunkReader = newReader(maxChunkSize);
+
+    // when
+    final var snapshotChunks = getAllChunks(snapshotChunkReader);
+
+    // then
+    for (final var chunk : snapshotChunks) {
+      final var fileContent = Files.readAllBytes(chunk.getContentFile());
+      final var position = (int) chunk.getFileBlockPosition();
+      assertThat(chunk.getContentFile()).isEqualTo(snapshotDirectory.resolve(chunk.getChunkName()));
+      assertThat(chunk.getContentLength()).isEqualTo(chunk.getContent().length);
+      assertThat(Arrays.copyOfRange(fileContent, position, position + chunk.getContentLength()))
+          .isEqualTo(chunk.getContent());
+      assertThat(chunk.getChecksum())
+          .isEqualTo(SnapshotChunkUtil.createChecksum(chunk.getContent()));
+    }
+  }
+
+  @Test
+  public void shouldFailToReadContentOfDeletedFile() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader();
+    final var chunk = snapshotChunkReader.next();
+
+    // when
+    Files.delete(chunk.getContentFile());
+
+    // then
+    assertThatThrownBy(chunk::getContent).isInstanceOf(UncheckedIOException.class);
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
@@ -189,6 +189,25 @@ public final class SnapshotChecksumTest {
     assertThat(actual.getChecksums().get("file")).isEqualTo(expected);
   }
 
+  @Test
+  void shouldCalculateSameChecksumForManyFilesAsSequentially() throws IOException {
+    // given
+    final var folder = createTempDir("many");
+    final var expected = new SfvChecksumImpl();
+    for (int i = 0; i < 32; i++) {
+      final var file = folder.resolve("file" + i);
+      Files.writeString(file, "a".repeat(i * IoUtil.BLOCK_SIZE / 4 + i));
+      expected.updateFromFile(file);
+    }
+
+    // when
+    final var actual = SnapshotChecksum.calculate(folder);
+
+    // then
+    assertThat(actual.getChecksums()).isEqualTo(expected.getChecksums());
+    assertThat(actual.sameChecksums(expected)).isTrue();
+  }
+
   @Test
   void shouldAddChecksumOfMetadataAtTheEnd() throws IOException {
     // given
@@ -105,4 +105,18 @@ public interface RecordProcessor {
       Throwable processingException,
       TypedRecord record,
       ProcessingResultBuilder processingResultBuilder);
+
+  /**
+   * Called by platform after the transaction of the current processing or replay was rolled back,
+   * i.e. before the processing error is handled or the processing or replay is retried.
+   *
+   * <p><em>Contract</em>
+   *
+   * <ul>
+   *   <li>Implementors must drop any transient state which may contain the rolled back changes,
+   *       e.g. caches of the database
+   *   <li>Implementors must not write to the database
+   * </ul>
+   */
+  default void onRollback() {}
 }
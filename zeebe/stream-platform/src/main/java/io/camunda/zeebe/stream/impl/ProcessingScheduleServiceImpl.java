@@ -20,7 +20,9 @@ import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.impl.metrics.ScheduledTaskMetrics;
 import java.time.Duration;
 import java.time.InstantSource;
+import java.util.ArrayDeque;
 import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -37,12 +39,15 @@ public class ProcessingScheduleServiceImpl
 
   private final Supplier<StreamProcessor.Phase> streamProcessorPhaseSupplier;
   private final BooleanSupplier abortCondition;
+  private final BooleanSupplier hasPipelinedCommands;
   private final Supplier<LogStreamWriter> writerSupplier;
   private final StageableScheduledCommandCache commandCache;
   private final InstantSource clock;
   private final long interval;
   private final ScheduledTaskMetrics metrics;
   private final PriorityQueue<ScheduledTaskImpl> scheduledTasks = new PriorityQueue<>();
+  // tasks which became due while commands were pipelined; they run once the pipeline is done
+  private final Queue<Runnable> deferredTasks = new ArrayDeque<>();
   private LogStreamWriter logStreamWriter;
   private ActorControl actorControl;
   private AbortableRetryStrategy writeRetryStrategy;
@@ -56,8 +61,35 @@ public class ProcessingScheduleServiceImpl
       final InstantSource clock,
       final Duration interval,
       final ScheduledTaskMetrics metrics) {
+    this(
+        streamProcessorPhaseSupplier,
+        abortCondition,
+        () -> false,
+        writerSupplier,
+        commandCache,
+        clock,
+        interval,
+        metrics);
+  }
+
+  /**
+   * @param hasPipelinedCommands returns whether the stream processor has pipelined commands whose
+   *     transaction is not committed yet; scheduled tasks are deferred until the pipeline is done
+   *     (see {@link #runDeferredTasks()}), as they run on the same actor and would otherwise see
+   *     its uncommitted state
+   */
+  public ProcessingScheduleServiceImpl(
+      final Supplier<Phase> streamProcessorPhaseSupplier,
+      final BooleanSupplier abortCondition,
+      final BooleanSupplier hasPipelinedCommands,
+      final Supplier<LogStreamWriter> writerSupplier,
+      final StageableScheduledCommandCache commandCache,
+      final InstantSource clock,
+      final Duration interval,
+      final ScheduledTaskMetrics metrics) {
     this.streamProcessorPhaseSupplier = streamProcessorPhaseSupplier;
     this.abortCondition = abortCondition;
+    this.hasPipelinedCommands = hasPipelinedCommands;
     this.writerSupplier = writerSupplier;
     this.commandCache = commandCache;
     this.clock = clock;
@@ -125,11 +157,27 @@ public class ProcessingScheduleServiceImpl
   @Override
   public void close() {
     actorControl = null;
+    deferredTasks.clear();
     logStreamWriter = null;
     writeRetryStrategy = null;
     openFuture = null;
   }
 
+  /**
+   * Runs the scheduled tasks which became due while commands were pipelined. Must be called on the
+   * actor of this service once the pipelined commands are done.
+   */
+  public void runDeferredTasks() {
+    if (actorControl == null) {
+      return;
+    }
+
+    Runnable task;
+    while ((task = deferredTasks.poll()) != null) {
+      actorControl.submit(task);
+    }
+  }
+
   private void processScheduledTasks() {
     final var now = clock.millis();
     while (scheduledTasks.peek() != null && scheduledTasks.peek().scheduledTime <= now) {
@@ -178,6 +226,12 @@ public class ProcessingScheduleServiceImpl
         return;
       }
 
+      if (hasPipelinedCommands.getAsBoolean()) {
+        LOG.trace("Deferring scheduled task until the pipelined commands are done");
+        deferredTasks.add(toRunnable(task));
+        return;
+      }
+
       final var stagedCache = commandCache.stage();
       final var builder =
           new BufferedTaskResultBuilder(logStreamWriter::canWriteEvents, stagedCache);
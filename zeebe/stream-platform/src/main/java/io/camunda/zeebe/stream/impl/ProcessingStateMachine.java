@@ -10,6 +10,7 @@ package io.camunda.zeebe.stream.impl;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
@@ -21,6 +22,7 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ErrorIntent;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
@@ -44,6 +46,7 @@ import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
+import io.camunda.zeebe.util.ReflectUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.exception.RecoverableException;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
@@ -57,6 +60,7 @@ import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.function.BooleanSupplier;
 import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 /**
@@ -97,6 +101,27 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>With pipelined processing (see {@link StreamProcessorContext#getMaxCommandsInPipeline()}), the
+ * state machine does not wait for {@code updateState()} and {@code executeSideEffects()} after a
+ * command was written, if the next record on the log is a command which can be processed. Instead,
+ * it processes the next command right away in the same transaction, which already contains the
+ * changes of the previous commands. Each pipelined command is processed after a save point, such
+ * that an error only rolls back the changes of the failed command. Once the pipeline is full or no
+ * further command is available, the transaction is committed and the deferred side effects of all
+ * pipelined commands are executed in order. State changes only become visible outside of processing
+ * with the commit, and responses are only sent after it. As the follow-up records of every command
+ * are written before the commit, exactly-once processing is guaranteed by the log as before.
+ *
+ * <p>The state machine stays in processing until the pipeline is committed. The follow-up records
+ * of pipelined commands are written right away, and the next command is processed without yielding
+ * to other jobs of the actor, so these don't run in the uncommitted transaction of the pipeline.
+ * Only if the writer is full, the write is retried asynchronously; scheduled tasks which become due
+ * while commands are pipelined (see {@link #hasPipelinedCommands()}) are deferred, and run once the
+ * pipeline is done, before the next record is processed. If the commit fails with an exception
+ * which can't be retried, the stream processor fails: the follow-up records of the pipelined
+ * commands are already written, so their changes can't be rolled back, and are restored by
+ * replaying the log instead.
  */
 public final class ProcessingStateMachine {
 
@@ -111,6 +136,10 @@ public final class ProcessingStateMachine {
       "Expected to execute side effects for record '{} {}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_UPDATE_STATE_FAILED =
       "Expected to successfully update state for record '{} {}', but caught an exception. Retry.";
+  private static final String ERROR_MESSAGE_COMMIT_PIPELINE_FAILED =
+      "Expected to commit the state changes of %d pipelined commands up to position %d, but caught"
+          + " an exception. The follow-up records of these commands are already written, so their"
+          + " changes can't be rolled back.";
   private static final String ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING =
       "Expected to process record '{} {}' successfully on stream processor, but caught recoverable exception. Retry processing.";
   private static final String ERROR_MESSAGE_PROCESSING_FAILED_UNRECOVERABLE =
@@ -138,6 +167,7 @@ public final class ProcessingStateMachine {
   private final RetryStrategy sideEffectsRetryStrategy;
   private final RetryStrategy updateStateRetryStrategy;
   private final BooleanSupplier shouldProcessNext;
+  private final Runnable onPipelineDone;
   private final BooleanSupplier abortCondition;
   private final RecordValues recordValues;
   private final TypedRecordImpl typedCommand;
@@ -168,12 +198,18 @@ public final class ProcessingStateMachine {
   private final ScheduledCommandCache scheduledCommandCache;
   private volatile ErrorHandlingPhase errorHandlingPhase = ErrorHandlingPhase.NO_ERROR;
   private final ControllableStreamClock clock;
+  private final int maxCommandsInPipeline;
+  // commands which are processed and written, but whose changes are not committed yet
+  private final List<PipelinedCommand> pipelinedCommands = new ArrayList<>();
+  private int executedPipelineSideEffects;
+  private boolean inSavePoint;
 
   public ProcessingStateMachine(
       final StreamProcessorContext context,
       final BooleanSupplier shouldProcessNext,
       final List<RecordProcessor> recordProcessors,
-      final ScheduledCommandCache scheduledCommandCache) {
+      final ScheduledCommandCache scheduledCommandCache,
+      final Runnable onPipelineDone) {
     this.context = context;
     this.recordProcessors = recordProcessors;
     this.scheduledCommandCache = scheduledCommandCache;
@@ -185,11 +221,13 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    maxCommandsInPipeline = context.getMaxCommandsInPipeline();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
     updateStateRetryStrategy = new RecoverableRetryStrategy(actor);
     this.shouldProcessNext = shouldProcessNext;
+    this.onPipelineDone = onPipelineDone;
 
     final int partitionId = context.getLogStream().getPartitionId();
     typedCommand = new TypedRecordImpl(partitionId);
@@ -290,6 +328,12 @@ public final class ProcessingStateMachine {
       typedCommand.wrap(loggedEvent, metadata, value);
 
       zeebeDbTransaction = transactionContext.getCurrentTransaction();
+      if (!pipelinedCommands.isEmpty() && !inSavePoint) {
+        // the transaction contains the changes of the pipelined commands, which must be kept if
+        // the processing of this command is rolled back
+        zeebeDbTransaction.setSavePoint();
+        inSavePoint = true;
+      }
       try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
         zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
         processingMetrics.observeCommandCount(processedCommandsCount);
@@ -456,7 +500,7 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              zeebeDbTransaction.rollback();
+              rollbackCurrentCommand();
               return true;
             },
             abortCondition);
@@ -478,6 +522,17 @@ public final class ProcessingStateMachine {
         });
   }
 
+  private void rollbackCurrentCommand() throws Exception {
+    if (inSavePoint) {
+      zeebeDbTransaction.rollbackToSavePoint();
+      // the command is processed again or its error is handled, so the save point is still needed
+      zeebeDbTransaction.setSavePoint();
+    } else {
+      zeebeDbTransaction.rollback();
+    }
+    recordProcessors.forEach(RecordProcessor::onRollback);
+  }
+
   private boolean tryExitOutOfErrorLoop(final Throwable error) {
     try {
       // If in error loop and the processing record is a user command
@@ -607,27 +662,41 @@ public final class ProcessingStateMachine {
       // we might have nothing to write but likely something to send as response
       // means we will not mark the record as skipped
       writeFuture = CompletableActorFuture.completed(true);
+    } else if (maxCommandsInPipeline > 1 && tryWritePendingRecords(sourceRecordPosition)) {
+      // when pipelining, write right away if possible; only retry asynchronously if the writer is
+      // full, such that the next command can be processed without yielding the actor
+      writeFuture = CompletableActorFuture.completed(true);
     } else {
       writeFuture =
           writeRetryStrategy.runWithRetry(
-              () -> {
-                final var writeResult =
-                    logStreamWriter.tryWrite(
-                        WriteContext.processingResult(), pendingWrites, sourceRecordPosition);
-                if (writeResult.isRight()) {
-                  writtenPosition = writeResult.get();
-                  return true;
-                } else {
-                  return false;
-                }
-              },
-              abortCondition);
+              () -> tryWritePendingRecords(sourceRecordPosition), abortCondition);
     }
     return writeFuture;
   }
 
+  private boolean tryWritePendingRecords(final long sourceRecordPosition) {
+    final var writeResult =
+        logStreamWriter.tryWrite(
+            WriteContext.processingResult(), pendingWrites, sourceRecordPosition);
+    if (writeResult.isRight()) {
+      writtenPosition = writeResult.get();
+      return true;
+    } else {
+      return false;
+    }
+  }
+
   private void writeRecords() {
     final ActorFuture<Boolean> writeFuture = writeWithRetryAsync();
+    if (maxCommandsInPipeline > 1
+        && writeFuture.isDone()
+        && !writeFuture.isCompletedExceptionally()) {
+      // continue right away instead of waiting for the continuation, such that no other job of the
+      // actor runs in the uncommitted transaction of the pipeline
+      onRecordsWritten();
+      return;
+    }
+
     actor.runOnCompletion(
         writeFuture,
         (bool, t) -> {
@@ -640,24 +709,32 @@ public final class ProcessingStateMachine {
                   writeRecords();
                 });
           } else {
-            // Instead of using the position of typedCommand, we want to pick the position of the
-            // last processed command to be marked as finalized in order for it to be skipped later.
-            final var lastProcessedCommandPosition =
-                Math.max(typedCommand.getPosition(), writtenPosition)
-                    - pendingWrites.size()
-                    + lastProcessedCommandIndex
-                    + 1;
-            finalizeCommandProcessing(lastProcessedCommandPosition);
-
-            // We write various type of records. The positions are always increasing and
-            // incremented by 1 for one record (even in a batch), so we can count the amount
-            // of written records via the lastWritten and now written position.
-            metrics.recordsWritten(pendingWrites.size());
-            updateState();
+            onRecordsWritten();
           }
         });
   }
 
+  private void onRecordsWritten() {
+    // Instead of using the position of typedCommand, we want to pick the position of the
+    // last processed command to be marked as finalized in order for it to be skipped later.
+    final var lastProcessedCommandPosition =
+        Math.max(typedCommand.getPosition(), writtenPosition)
+            - pendingWrites.size()
+            + lastProcessedCommandIndex
+            + 1;
+    finalizeCommandProcessing(lastProcessedCommandPosition);
+
+    // We write various type of records. The positions are always increasing and
+    // incremented by 1 for one record (even in a batch), so we can count the amount
+    // of written records via the lastWritten and now written position.
+    metrics.recordsWritten(pendingWrites.size());
+    if (maxCommandsInPipeline > 1) {
+      pipelineCommand();
+    } else {
+      updateState();
+    }
+  }
+
   private void updateState() {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
@@ -694,24 +771,8 @@ public final class ProcessingStateMachine {
             () -> {
               // TODO refactor this into two parallel tasks, which are then combined, and on the
               // completion of which the process continues
-              for (final var processingResponse : pendingResponses) {
-                final var responseWriter = context.getCommandResponseWriter();
-
-                final var responseValue = processingResponse.responseValue();
-                final var recordMetadata = responseValue.recordMetadata();
-                responseWriter
-                    .intent(recordMetadata.getIntent())
-                    .key(responseValue.key())
-                    .recordType(recordMetadata.getRecordType())
-                    .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
-                    .rejectionType(recordMetadata.getRejectionType())
-                    .partitionId(context.getPartitionId())
-                    .valueType(recordMetadata.getValueType())
-                    .valueWriter(responseValue.recordValue())
-                    .tryWriteResponse(
-                        processingResponse.requestStreamId(), processingResponse.requestId());
-              }
-              return executePostCommitTasks();
+              writeResponses(pendingResponses);
+              return executePostCommitTasks(currentProcessingResult);
             },
             abortCondition);
 
@@ -734,12 +795,172 @@ public final class ProcessingStateMachine {
         });
   }
 
-  private boolean executePostCommitTasks() {
+  private void writeResponses(final Collection<ProcessingResponse> responses) {
+    for (final var processingResponse : responses) {
+      final var responseWriter = context.getCommandResponseWriter();
+
+      final var responseValue = processingResponse.responseValue();
+      final var recordMetadata = responseValue.recordMetadata();
+      responseWriter
+          .intent(recordMetadata.getIntent())
+          .key(responseValue.key())
+          .recordType(recordMetadata.getRecordType())
+          .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
+          .rejectionType(recordMetadata.getRejectionType())
+          .partitionId(context.getPartitionId())
+          .valueType(recordMetadata.getValueType())
+          .valueWriter(responseValue.recordValue())
+          .tryWriteResponse(processingResponse.requestStreamId(), processingResponse.requestId());
+    }
+  }
+
+  private boolean executePostCommitTasks(final ProcessingResult processingResult) {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return currentProcessingResult.executePostCommitTasks();
+      return processingResult.executePostCommitTasks();
     }
   }
 
+  /**
+   * Adds the written command to the pipeline, and either continues with the next command or commits
+   * the pipeline. The side effects of the command are deferred until the commit.
+   */
+  private void pipelineCommand() {
+    pipelinedCommands.add(
+        new PipelinedCommand(
+            copyOfTypedCommand(),
+            metadata.getIntent(),
+            currentRecord.getKey(),
+            writtenPosition,
+            currentProcessingResult,
+            pendingResponses,
+            processingTimer));
+    inSavePoint = false;
+
+    if (canPipelineNextCommand()) {
+      // stay in processing and don't yield, such that no other job of the actor can run in the
+      // uncommitted transaction of the pipeline
+      actor.run(this::processNextPipelinedCommand);
+    } else {
+      commitPipeline();
+    }
+  }
+
+  /**
+   * @return true if the next record on the log is a command, which can be processed before the
+   *     pipeline is committed
+   */
+  private boolean canPipelineNextCommand() {
+    if (pipelinedCommands.size() >= maxCommandsInPipeline
+        || onErrorRetries > 0
+        || !shouldProcessNext.getAsBoolean()
+        || !logStreamReader.hasNext()) {
+      return false;
+    }
+
+    final var nextRecord = logStreamReader.peekNext();
+    return processingFilter.applies(nextRecord) && !nextRecord.shouldSkipProcessing();
+  }
+
+  private void processNextPipelinedCommand() {
+    currentRecord = logStreamReader.next();
+    processCommand(currentRecord);
+  }
+
+  private void commitPipeline() {
+    final var lastCommand = pipelinedCommands.getLast();
+    final ActorFuture<Boolean> retryFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.commit();
+              lastSuccessfulProcessedRecordPosition = lastCommand.command().getPosition();
+              metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
+              lastWrittenPosition = lastCommand.writtenPosition();
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            // recoverable exceptions are already retried; rolling back would discard the changes
+            // of commands whose follow-up records are already written, so fail instead and restore
+            // the state by replaying the log
+            throw new UnrecoverableException(
+                ERROR_MESSAGE_COMMIT_PIPELINE_FAILED.formatted(
+                    pipelinedCommands.size(), lastCommand.command().getPosition()),
+                throwable);
+          } else {
+            pipelinedCommands.forEach(
+                command -> scheduledCommandCache.remove(command.intent(), command.key()));
+            executePipelineSideEffects();
+          }
+        });
+  }
+
+  private void executePipelineSideEffects() {
+    final ActorFuture<Boolean> retryFuture =
+        sideEffectsRetryStrategy.runWithRetry(
+            () -> {
+              // on retry, continue with the command whose side effects failed
+              while (executedPipelineSideEffects < pipelinedCommands.size()) {
+                final var command = pipelinedCommands.get(executedPipelineSideEffects);
+                writeResponses(command.responses());
+                if (!executePostCommitTasks(command.processingResult())) {
+                  return false;
+                }
+                executedPipelineSideEffects++;
+              }
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(
+                ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentRecord, metadata, throwable);
+          }
+
+          for (final var command : pipelinedCommands) {
+            notifyProcessedListener(command.command());
+            command.processingTimer().close();
+          }
+          pipelinedCommands.clear();
+          executedPipelineSideEffects = 0;
+          // the jobs which waited for the pipeline run before the next record is processed
+          onPipelineDone.run();
+
+          // continue with next record
+          markProcessingCompleted();
+          actor.submit(this::tryToReadNextRecord);
+        });
+  }
+
+  /**
+   * The typed command and the record it wraps are reused for the next command, so a pipelined
+   * command is notified with a copy of it.
+   */
+  private TypedRecord<?> copyOfTypedCommand() {
+    final var buffer = new UnsafeBuffer(new byte[currentRecord.getLength()]);
+    currentRecord.write(buffer, 0);
+    final var event = new LoggedEventImpl();
+    event.wrap(buffer, 0);
+
+    final var commandMetadata = new RecordMetadata();
+    event.readMetadata(commandMetadata);
+    final var valueClass = TypedEventRegistry.EVENT_REGISTRY.get(commandMetadata.getValueType());
+    final var value = valueClass != null ? ReflectUtil.newInstance(valueClass) : null;
+    if (value != null) {
+      event.readValue(value);
+    }
+
+    final var command = new TypedRecordImpl(context.getPartitionId());
+    command.wrap(event, commandMetadata, value);
+    return command;
+  }
+
   private void notifyProcessedListener(final TypedRecord processedRecord) {
     try {
       streamProcessorListener.onProcessed(processedRecord);
@@ -768,6 +989,14 @@ public final class ProcessingStateMachine {
     return errorHandlingPhase != ErrorHandlingPhase.ENDLESS_ERROR_LOOP;
   }
 
+  /**
+   * @return true if commands were processed in a pipeline, which is not committed yet or whose side
+   *     effects are not executed yet
+   */
+  public boolean hasPipelinedCommands() {
+    return !pipelinedCommands.isEmpty();
+  }
+
   public void startProcessing(final LastProcessingPositions lastProcessingPositions) {
     // Replay ends at the end of the log and returns the lastSourceRecordPosition
     // which is equal to the last processed position
@@ -791,6 +1020,15 @@ public final class ProcessingStateMachine {
     processingMetrics.errorHandlingPhase(errorHandlingPhase);
   }
 
+  private record PipelinedCommand(
+      TypedRecord<?> command,
+      Intent intent,
+      long key,
+      long writtenPosition,
+      ProcessingResult processingResult,
+      Collection<ProcessingResponse> responses,
+      Histogram.Timer processingTimer) {}
+
   record BatchProcessingStepResult(List<IndexedCommand> toProcess, List<LogAppendEntry> toWrite) {
     record IndexedCommand(int index, TypedRecord<?> command) {}
   }
@@ -86,6 +86,11 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final ReplayMetrics replayMetrics;
   private final List<RecordProcessor> recordProcessors;
   private final int partitionId;
+  private final int maxBatchesInReplayTransaction;
+  // the batch which failed to be replayed in the last attempt, if any
+  private Batch failedBatch;
+  private long replayStartTime;
+  private long replayedEventsCount;
 
   public ReplayStateMachine(
       final List<RecordProcessor> recordProcessors,
@@ -107,6 +112,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     logStream = context.getLogStream();
     logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
     replayMetrics = new ReplayMetrics(logStream.getPartitionId());
+    maxBatchesInReplayTransaction = context.getMaxBatchesInReplayTransaction();
   }
 
   /**
@@ -124,6 +130,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
     // start after snapshot
     logStreamBatchReader.seekToNextBatch(snapshotPosition);
+    replayStartTime = System.nanoTime();
 
     LOG.info(
         "Processor starts replay of events. [snapshot-position: {}, replay-mode: {}]",
@@ -159,16 +166,19 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
+        final var progress = currentProgress();
         replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+            .runWithRetry(() -> tryToReplayBatches(progress), abortCondition)
             .onComplete(
                 (success, failure) -> {
                   if (failure != null) {
-                    throw new RuntimeException(
-                        "Failed to replay batch at '%s %s'"
-                            .formatted(batch.current(), typedEvent.getMetadata()),
-                        failure);
+                    final var message =
+                        failedBatch != null
+                            ? "Failed to replay batch at '%s %s'"
+                                .formatted(failedBatch.current(), typedEvent.getMetadata())
+                            : "Failed to replay batches following position '%d'"
+                                .formatted(progress.lastReadRecordPosition());
+                    throw new RuntimeException(message, failure);
                   } else {
                     // observe the replay duration
                     replayDurationTimer.close();
@@ -196,18 +206,36 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
-  private boolean tryToReplayBatch(final Batch batch) throws Exception {
+  /**
+   * Replays the next batches in a single transaction, up to the configured maximum of batches per
+   * transaction, or until no further batch is available. Grouping batches saves a commit of the
+   * state per batch, which dominates the replay time when the batches are small.
+   */
+  private boolean tryToReplayBatches(final ReplayProgress progress) throws Exception {
+    failedBatch = null;
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
-      // reading the whole batch from the beginning again
-      batch.head();
+      recordProcessors.forEach(RecordProcessor::onRollback);
+      // reading all batches of the transaction from the beginning again
+      resetProgress(progress);
     }
 
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
-          batch.forEachRemaining(this::replayEvent);
+          int replayedBatches = 0;
+          do {
+            final var batch = logStreamBatchReader.next();
+            try {
+              batch.forEachRemaining(this::replayEvent);
+            } catch (final Exception e) {
+              failedBatch = batch;
+              throw e;
+            }
+            replayedBatches++;
+          } while (replayedBatches < maxBatchesInReplayTransaction
+              && logStreamBatchReader.hasNext());
 
           if (batchSourceEventPosition > snapshotPosition) {
             lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
@@ -259,6 +287,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         new LastProcessingPositions(lastProcessedPosition, lastWrittenPosition);
 
     LOG.info(LOG_STMT_REPLAY_FINISHED, lastProcessingPositions);
+    replayMetrics.setReplayThroughput(replayedEventsCount, System.nanoTime() - replayStartTime);
     recoveryFuture.complete(lastProcessingPositions);
   }
 
@@ -270,6 +299,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
    */
   private void onRecordReplayed(final LoggedEvent currentEvent) {
     replayMetrics.event();
+    replayedEventsCount++;
     final var sourceEventPosition = currentEvent.getSourceEventPosition();
     final var currentPosition = currentEvent.getPosition();
     final var currentRecordKey = currentEvent.getKey();
@@ -314,6 +344,31 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     return typedEvent;
   }
 
+  private ReplayProgress currentProgress() {
+    return new ReplayProgress(
+        lastReadRecordPosition,
+        lastReplayedEventPosition,
+        batchSourceEventPosition,
+        replayedEventsCount);
+  }
+
+  /**
+   * Resets the progress to the given one, and the reader to the batch following the last record
+   * read at that point, such that the batches can be replayed again.
+   */
+  private void resetProgress(final ReplayProgress progress) {
+    lastReadRecordPosition = progress.lastReadRecordPosition();
+    lastReplayedEventPosition = progress.lastReplayedEventPosition();
+    batchSourceEventPosition = progress.batchSourceEventPosition();
+    replayedEventsCount = progress.replayedEventsCount();
+
+    if (lastReadRecordPosition == StreamProcessor.UNSET_POSITION) {
+      logStreamBatchReader.seekToNextBatch(snapshotPosition);
+    } else {
+      logStreamBatchReader.seekToNextBatch(lastReadRecordPosition);
+    }
+  }
+
   public long getLastSourceEventPosition() {
     return lastSourceEventPosition;
   }
@@ -330,4 +385,10 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     AWAIT_RECORD,
     REPLAY_EVENT
   }
+
+  private record ReplayProgress(
+      long lastReadRecordPosition,
+      long lastReplayedEventPosition,
+      long batchSourceEventPosition,
+      long replayedEventsCount) {}
 }
@@ -16,6 +16,7 @@ import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
+import io.camunda.zeebe.scheduler.SchedulingHints;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
@@ -171,6 +172,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
           new ProcessingScheduleServiceImpl(
               streamProcessorContext::getStreamProcessorPhase,
               streamProcessorContext.getAbortCondition(),
+              () -> processingStateMachine != null && processingStateMachine.hasPipelinedCommands(),
               logStream::newLogStreamWriter,
               scheduledCommandCache,
               streamProcessorContext.getClock(),
@@ -322,7 +324,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
             streamProcessorContext,
             this::shouldProcessNext,
             recordProcessors,
-            scheduledCommandCache);
+            scheduledCommandCache,
+            processorActorService::runDeferredTasks);
 
     logStream.registerRecordAvailableListener(this);
 
@@ -338,7 +341,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
     if (isOpened.compareAndSet(false, true)) {
       shouldProcess = !pauseOnStart;
       openFuture = new CompletableActorFuture<>();
-      actorSchedulingService.submitActor(this);
+      actorSchedulingService.submitActor(
+          this, SchedulingHints.cpuBound(), streamProcessorContext.getActorPlacement());
     }
     return openFuture;
   }
@@ -399,6 +403,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
         0,
         new Step[] {
           () -> processorActorService.open(actor),
+          // the async actor is never pinned: its scheduled tasks may block, and must not block the
+          // home thread of the stream processor
           () -> actorSchedulingService.submitActor(asyncActor)
         },
         () -> startProcessing(lastProcessingPositions));
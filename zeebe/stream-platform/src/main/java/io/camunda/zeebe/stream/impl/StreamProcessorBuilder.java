@@ -9,6 +9,7 @@ package io.camunda.zeebe.stream.impl;
 
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.scheduler.ActorPlacement;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.stream.api.CommandResponseWriter;
 import io.camunda.zeebe.stream.api.EventFilter;
@@ -137,6 +138,8 @@ public final class StreamProcessorBuilder {
     Objects.requireNonNull(actorSchedulingService, "No task scheduler provided.");
     Objects.requireNonNull(streamProcessorContext.getLogStream(), "No log stream provided.");
     Objects.requireNonNull(zeebeDb, "No database provided.");
+    Objects.requireNonNull(
+        streamProcessorContext.getActorPlacement(), "No actor placement provided.");
     if (streamProcessorContext.getProcessorMode() == StreamProcessorMode.PROCESSING) {
       Objects.requireNonNull(
           streamProcessorContext.getPartitionCommandSender(),
@@ -147,6 +150,16 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getMaxCommandsInPipeline() < 1) {
+      throw new IllegalArgumentException(
+          "Pipelined processing limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxCommandsInPipeline()));
+    }
+    if (streamProcessorContext.getMaxBatchesInReplayTransaction() < 1) {
+      throw new IllegalArgumentException(
+          "Replay transaction batch limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxBatchesInReplayTransaction()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -154,6 +167,26 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder maxCommandsInPipeline(final int maxCommandsInPipeline) {
+    streamProcessorContext.maxCommandsInPipeline(maxCommandsInPipeline);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxBatchesInReplayTransaction(
+      final int maxBatchesInReplayTransaction) {
+    streamProcessorContext.maxBatchesInReplayTransaction(maxBatchesInReplayTransaction);
+    return this;
+  }
+
+  /**
+   * Sets on which actor threads the stream processor runs. Its async actor is always shared, as
+   * blocking scheduled tasks must not block the stream processor's home thread.
+   */
+  public StreamProcessorBuilder actorPlacement(final ActorPlacement actorPlacement) {
+    streamProcessorContext.actorPlacement(actorPlacement);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
@@ -12,6 +12,7 @@ import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.ActorPlacement;
 import io.camunda.zeebe.stream.api.CommandResponseWriter;
 import io.camunda.zeebe.stream.api.EventFilter;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
@@ -30,6 +31,8 @@ import java.util.function.BooleanSupplier;
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final int DEFAULT_MAX_COMMANDS_IN_PIPELINE = 1;
+  public static final int DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION = 1;
   private static final StreamProcessorListener NOOP_LISTENER = processedCommand -> {};
   private ActorControl actor;
   private LogStream logStream;
@@ -52,7 +55,10 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int maxCommandsInPipeline = DEFAULT_MAX_COMMANDS_IN_PIPELINE;
+  private int maxBatchesInReplayTransaction = DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION;
   private boolean enableAsyncScheduledTasks = true;
+  private ActorPlacement actorPlacement = ActorPlacement.shared();
   private EventFilter processingFilter = e -> true;
   private ControllableStreamClock clock;
   private MeterRegistry meterRegistry;
@@ -223,6 +229,34 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxCommandsInBatch;
   }
 
+  public StreamProcessorContext maxCommandsInPipeline(final int maxCommandsInPipeline) {
+    this.maxCommandsInPipeline = maxCommandsInPipeline;
+    return this;
+  }
+
+  public int getMaxCommandsInPipeline() {
+    return maxCommandsInPipeline;
+  }
+
+  public StreamProcessorContext maxBatchesInReplayTransaction(
+      final int maxBatchesInReplayTransaction) {
+    this.maxBatchesInReplayTransaction = maxBatchesInReplayTransaction;
+    return this;
+  }
+
+  public int getMaxBatchesInReplayTransaction() {
+    return maxBatchesInReplayTransaction;
+  }
+
+  public StreamProcessorContext actorPlacement(final ActorPlacement actorPlacement) {
+    this.actorPlacement = actorPlacement;
+    return this;
+  }
+
+  public ActorPlacement getActorPlacement() {
+    return actorPlacement;
+  }
+
   public StreamProcessorContext setEnableAsyncScheduledTasks(final boolean enabled) {
     enableAsyncScheduledTasks = enabled;
     return this;
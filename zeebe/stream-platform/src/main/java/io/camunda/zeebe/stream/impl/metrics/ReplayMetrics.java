@@ -41,14 +41,29 @@ public final class ReplayMetrics {
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
+  private static final Gauge REPLAY_THROUGHPUT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("replay_events_per_second")
+          .help("Number of events replayed per second during the last recovery of the state.")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
   private final String partitionIdLabel;
+  private final Counter.Child replayEventsCount;
 
   public ReplayMetrics(final int partitionId) {
     partitionIdLabel = String.valueOf(partitionId);
+    replayEventsCount = REPLAY_EVENTS_COUNT.labels(partitionIdLabel);
   }
 
   public void event() {
-    REPLAY_EVENTS_COUNT.labels(partitionIdLabel).inc();
+    replayEventsCount.inc();
+  }
+
+  public void setReplayThroughput(final long replayedEvents, final long durationNanos) {
+    final double durationSeconds = Math.max(durationNanos, 1) / 1_000_000_000d;
+    REPLAY_THROUGHPUT.labels(partitionIdLabel).set(replayedEvents / durationSeconds);
   }
 
   public Histogram.Timer startReplayDurationTimer() {
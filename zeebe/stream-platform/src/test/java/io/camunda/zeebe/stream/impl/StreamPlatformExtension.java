@@ -91,11 +91,12 @@ public class StreamPlatformExtension implements BeforeEachCallback {
 
     public StreamProcessorTestContext() {
       closables = new ArrayList<AutoCloseable>();
-      // actor scheduler
+      // actor scheduler; with at least two threads, so that blocking async scheduled tasks cannot
+      // block the stream processor
       final var builder =
           ActorScheduler.newActorScheduler()
               .setCpuBoundActorThreadCount(
-                  Math.max(1, Runtime.getRuntime().availableProcessors() - 2))
+                  Math.max(2, Runtime.getRuntime().availableProcessors() - 2))
               .setIoBoundActorThreadCount(2)
               .setActorClock(clock);
 
@@ -0,0 +1,327 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.scheduling.Task;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import io.camunda.zeebe.util.exception.RecoverableException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.verification.VerificationWithTimeout;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorPipelinedProcessingTest {
+
+  private static final VerificationWithTimeout TIMEOUT = timeout(2_000L);
+  private static final int KEYS_PER_COMMAND = 3;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  @Test
+  void shouldCommitStateOfAllPipelinedCommands() {
+    // given
+    final var processor = spy(new KeyGeneratingProcessor());
+    startStreamProcessor(processor, 2);
+    final var keyGenerator = committedKeyGenerator(processor);
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    writeCommands(3);
+
+    // then
+    verify(processor, TIMEOUT.times(3)).process(any(), any());
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    assertThat(keyGenerator.nextKey()).isEqualTo(firstKey + 3 * KEYS_PER_COMMAND + 1);
+  }
+
+  @Test
+  void shouldOnlyRollbackFailedCommandOfPipeline() {
+    // given
+    final var processor = spy(new KeyGeneratingProcessor());
+    processor.failingCommands = 1;
+    startStreamProcessor(processor, 10);
+    final var keyGenerator = committedKeyGenerator(processor);
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    writeCommands(2);
+
+    // then
+    verify(processor, TIMEOUT).onProcessingError(any(), any(), any());
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(2)).onProcessed(any());
+    assertThat(keyGenerator.nextKey()).isEqualTo(firstKey + KEYS_PER_COMMAND + 1);
+  }
+
+  @Test
+  void shouldNotifyListenerWithEveryPipelinedCommand() {
+    // given
+    final var processor = spy(new KeyGeneratingProcessor());
+    startStreamProcessor(processor, 10);
+
+    // when
+    final var lastPosition = writeCommands(3);
+
+    // then
+    final var captor = ArgumentCaptor.forClass(TypedRecord.class);
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3))
+        .onProcessed(captor.capture());
+    assertThat(captor.getAllValues())
+        .extracting(TypedRecord::getPosition)
+        .containsExactly(lastPosition - 2, lastPosition - 1, lastPosition);
+    assertThat(captor.getAllValues())
+        .extracting(TypedRecord::getIntent)
+        .containsOnly(ACTIVATE_ELEMENT);
+  }
+
+  @Test
+  void shouldWriteResponsesOfPipelinedCommandsInOrder() {
+    // given
+    final var processor = spy(new KeyGeneratingProcessor());
+    startStreamProcessor(processor, 10);
+
+    // when
+    final var lastPosition = writeCommands(3);
+
+    // then
+    final var responseWriter = streamPlatform.getMockCommandResponseWriter();
+    verify(responseWriter, TIMEOUT.times(3)).tryWriteResponse(anyInt(), anyLong());
+    final var inOrder = inOrder(responseWriter);
+    inOrder.verify(responseWriter).key(lastPosition - 2);
+    inOrder.verify(responseWriter).key(lastPosition - 1);
+    inOrder.verify(responseWriter).key(lastPosition);
+  }
+
+  @Test
+  void shouldNotRunOtherJobsInUncommittedPipeline() throws InterruptedException {
+    // given
+    final var processor = spy(new KeyGeneratingProcessor());
+    processor.blockFirstCommand = true;
+    final StreamProcessorLifecycleAware pauseListener =
+        new StreamProcessorLifecycleAware() {
+          @Override
+          public void onPaused() {
+            processor.captureKeys();
+          }
+        };
+    final var streamProcessor =
+        streamPlatform
+            .withRecordProcessors(List.of(processor))
+            .buildStreamProcessor(
+                streamPlatform.getLogStream(),
+                true,
+                cfg -> cfg.maxCommandsInPipeline(10).addLifecycleListener(pauseListener));
+    writeCommands(3);
+    assertThat(processor.firstCommandStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // when - another job of the actor is submitted while the pipeline is open
+    final var pauseFuture = streamProcessor.pauseProcessing();
+    processor.firstCommandReleased.countDown();
+    pauseFuture.join(10, TimeUnit.SECONDS);
+
+    // then
+    assertThat(processor.keysSeenOnPause)
+        .describedAs("the key seen in the current transaction is committed")
+        .containsExactly(processor.keysSeenOnPause[1], processor.keysSeenOnPause[1]);
+  }
+
+  @Test
+  void shouldRunScheduledTaskOnceThePipelineIsDone() throws InterruptedException {
+    // given
+    final var processor = spy(new KeyGeneratingProcessor());
+    processor.blockFirstCommand = true;
+    processor.scheduleTaskOnFirstCommand = true;
+    processor.recoverableFailures = 1;
+    streamPlatform
+        .withRecordProcessors(List.of(processor))
+        .buildStreamProcessor(
+            streamPlatform.getLogStream(),
+            true,
+            cfg -> cfg.maxCommandsInPipeline(10).setEnableAsyncScheduledTasks(false));
+    writeCommands(3);
+    assertThat(processor.firstCommandStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // when - the task becomes due while the processing of the second pipelined command is retried
+    processor.firstCommandReleased.countDown();
+
+    // then
+    assertThat(processor.scheduledTaskExecuted.await(10, TimeUnit.SECONDS)).isTrue();
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    assertThat(processor.keysSeenOnScheduledTask)
+        .describedAs("the key seen by the scheduled task is committed")
+        .containsExactly(
+            processor.keysSeenOnScheduledTask[1], processor.keysSeenOnScheduledTask[1]);
+    assertThat(processor.scheduledTaskExecutions).isOne();
+  }
+
+  private void startStreamProcessor(final RecordProcessor processor, final int pipelineLimit) {
+    streamPlatform
+        .withRecordProcessors(List.of(processor))
+        .buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxCommandsInPipeline(pipelineLimit));
+  }
+
+  private DbKeyGenerator committedKeyGenerator(final KeyGeneratingProcessor processor) {
+    final var zeebeDb = processor.context.getZeebeDb();
+    return new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext());
+  }
+
+  private long writeCommands(final int count) {
+    final var commands = new RecordToWrite[count];
+    for (int i = 0; i < count; i++) {
+      commands[i] =
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(i + 1));
+    }
+    return streamPlatform.writeBatch(commands);
+  }
+
+  private static final class KeyGeneratingProcessor implements RecordProcessor {
+
+    private RecordProcessorContext context;
+    private int processedCommands;
+    private int failingCommands;
+    private int recoverableFailures;
+    private boolean blockFirstCommand;
+    private boolean scheduleTaskOnFirstCommand;
+    private final CountDownLatch firstCommandStarted = new CountDownLatch(1);
+    private final CountDownLatch firstCommandReleased = new CountDownLatch(1);
+    private long[] keysSeenOnPause;
+    private final CountDownLatch scheduledTaskExecuted = new CountDownLatch(1);
+    private volatile int scheduledTaskExecutions;
+    private volatile long[] keysSeenOnScheduledTask;
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {
+      context = recordProcessorContext;
+    }
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return true;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      final var keyGenerator =
+          new DbKeyGenerator(1, context.getZeebeDb(), context.getTransactionContext());
+      for (int i = 0; i < KEYS_PER_COMMAND; i++) {
+        keyGenerator.nextKey();
+      }
+
+      if (scheduleTaskOnFirstCommand && processedCommands == 0) {
+        context
+            .getScheduleService()
+            .runDelayed(
+                Duration.ZERO,
+                (Task)
+                    taskResultBuilder -> {
+                      scheduledTaskExecutions++;
+                      keysSeenOnScheduledTask = currentAndCommittedKeys();
+                      scheduledTaskExecuted.countDown();
+                      return taskResultBuilder.build();
+                    });
+      }
+
+      if (blockFirstCommand && processedCommands == 0) {
+        firstCommandStarted.countDown();
+        awaitRelease();
+      }
+
+      if (processedCommands == 1 && recoverableFailures-- > 0) {
+        throw new RecoverableException("expected");
+      }
+
+      if (processedCommands++ >= 1 && failingCommands-- > 0) {
+        throw new RuntimeException("expected");
+      }
+
+      return processingResultBuilder
+          .appendRecord(
+              record.getKey(),
+              Records.processInstance(1),
+              new RecordMetadata()
+                  .recordType(RecordType.EVENT)
+                  .valueType(ValueType.PROCESS_INSTANCE)
+                  .intent(ELEMENT_ACTIVATING)
+                  .rejectionType(RejectionType.NULL_VAL)
+                  .rejectionReason(""))
+          .withResponse(
+              RecordType.EVENT,
+              record.getPosition(),
+              ELEMENT_ACTIVATING,
+              Records.processInstance(1),
+              ValueType.PROCESS_INSTANCE,
+              RejectionType.NULL_VAL,
+              "",
+              record.getRequestId(),
+              record.getRequestStreamId())
+          .build();
+    }
+
+    private void awaitRelease() {
+      try {
+        firstCommandReleased.await(10, TimeUnit.SECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    private void captureKeys() {
+      keysSeenOnPause = currentAndCommittedKeys();
+    }
+
+    private long[] currentAndCommittedKeys() {
+      final var zeebeDb = context.getZeebeDb();
+      final var currentKey =
+          new DbKeyGenerator(1, zeebeDb, context.getTransactionContext()).getCurrentKey();
+      final var committedKey =
+          new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext()).getCurrentKey();
+      return new long[] {currentKey, committedKey};
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      return processingResultBuilder.appendPostCommitTask(() -> true).build();
+    }
+  }
+}
@@ -164,6 +164,38 @@ final class StreamProcessorReplayTest {
     assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
   }
 
+  @Test
+  void shouldRestoreFromLogWithManyBatchesInReplayTransaction() {
+    // given
+    for (int i = 0; i < 3; i++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+          RecordToWrite.event()
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+              .key(Protocol.encodePartitionId(1, 19 + i))
+              .causedBy(0));
+    }
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxBatchesInReplayTransaction(10));
+
+    // then
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    verify(recordProcessor, TIMEOUT.times(3)).replay(any());
+
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(5L));
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(6L));
+
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(5);
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(21L);
+  }
+
   @Test
   void shouldRestoreFromSnapshot() throws Exception {
     // given
@@ -34,6 +34,7 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.scheduler.ActorPlacement;
 import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
 import io.camunda.zeebe.stream.api.EmptyProcessingResult;
 import io.camunda.zeebe.stream.api.PostCommitTask;
@@ -185,6 +186,7 @@ public final class StreamProcessorTest {
     inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
     inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onRollback();
     inOrder
         .verify(defaultRecordProcessor, TIMEOUT)
         .onProcessingError(eq(processingError), any(), any());
@@ -600,6 +602,22 @@ public final class StreamProcessorTest {
 
   @Test
   public void shouldProcessEvenIfAsyncSchedulingBlocks() throws InterruptedException {
+    assertProcessingEvenIfAsyncSchedulingBlocks(streamPlatform::startStreamProcessor);
+  }
+
+  @Test
+  public void shouldProcessEvenIfAsyncSchedulingBlocksWithPinnedActors()
+      throws InterruptedException {
+    assertProcessingEvenIfAsyncSchedulingBlocks(
+        () ->
+            streamPlatform.buildStreamProcessor(
+                streamPlatform.getLogStream(),
+                true,
+                cfg -> cfg.actorPlacement(ActorPlacement.pinned(1))));
+  }
+
+  private void assertProcessingEvenIfAsyncSchedulingBlocks(final Runnable startStreamProcessor)
+      throws InterruptedException {
     // given
     final var mockProcessorLifecycleAware = streamPlatform.getMockProcessorLifecycleAware();
     final CountDownLatch asyncServiceLatch = new CountDownLatch(1);
@@ -628,7 +646,7 @@ public final class StreamProcessorTest {
         .onRecovered(any());
 
     final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
-    streamPlatform.startStreamProcessor();
+    startStreamProcessor.run();
 
     try {
       // when
@@ -1480,6 +1498,7 @@ public final class StreamProcessorTest {
     inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
     inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onRollback();
     inOrder
         .verify(defaultRecordProcessor, TIMEOUT)
         .onProcessingError(eq(processingError), any(), any());
@@ -61,11 +61,8 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
       final boolean shouldRetry,
       final Duration timeout) {
 
-    // copy once
-    final var length = clientRequest.getLength();
-    final var requestBytes = new byte[length];
-    final var buffer = new UnsafeBuffer(requestBytes);
-    clientRequest.write(buffer, 0);
+    // write once into a pooled buffer, which is released when the request is done
+    final var requestBuffer = PooledBuffers.write(clientRequest);
 
     final var partitionId = clientRequest.getPartitionId();
     final var requestType = clientRequest.getRequestType();
@@ -77,7 +74,7 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
             nodeAddressSupplier,
             partitionId,
             requestType,
-            requestBytes,
+            requestBuffer,
             responseValidator,
             shouldRetry,
             timeout);
@@ -154,9 +151,11 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
           requestContext.getTopicName());
     }
 
-    final var requestBytes = requestContext.getRequestBytes();
+    // the messaging service releases what it is given, but the request may be retried, so hand it
+    // a retained view and keep our own reference until the request is done
+    final var requestBuffer = requestContext.getRequestBuffer().retainedDuplicate();
     messagingService
-        .sendAndReceive(nodeAddress, requestContext.getTopicName(), requestBytes, calculateTimeout)
+        .sendAndReceive(nodeAddress, requestContext.getTopicName(), requestBuffer, calculateTimeout)
         .whenComplete(
             (response, errorOnRequest) ->
                 actor.run(() -> handleResponse(requestContext, response, errorOnRequest)));
@@ -223,6 +222,8 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
 
   private void timeoutFuture(final RequestContext requestContext) {
     if (requestContext.isDone()) {
+      // the request future may have been completed by the caller, so we never released the request
+      requestContext.releaseRequestBuffer();
       return;
     }
 
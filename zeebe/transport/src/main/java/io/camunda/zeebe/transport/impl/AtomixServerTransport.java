@@ -14,6 +14,7 @@ import io.camunda.zeebe.transport.RequestHandler;
 import io.camunda.zeebe.transport.RequestType;
 import io.camunda.zeebe.transport.ServerResponse;
 import io.camunda.zeebe.transport.ServerTransport;
+import io.netty.buffer.ByteBuf;
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import org.agrona.collections.Int2ObjectHashMap;
@@ -29,7 +30,7 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
   private static final String ERROR_MSG_MISSING_PARTITON_MAP =
       "Node already unsubscribed from partition %d, this can only happen when atomix does not cleanly remove its handlers.";
 
-  private final Int2ObjectHashMap<Long2ObjectHashMap<CompletableFuture<byte[]>>>
+  private final Int2ObjectHashMap<Long2ObjectHashMap<CompletableFuture<ByteBuf>>>
       partitionsRequestMap;
   private final MessagingService messagingService;
 
@@ -68,7 +69,7 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
           final var topicName = topicName(partitionId, requestType);
           LOG.trace("Subscribe for topic {}", topicName);
           partitionsRequestMap.computeIfAbsent(partitionId, id -> new Long2ObjectHashMap<>());
-          messagingService.registerHandler(
+          messagingService.registerBufferHandler(
               topicName,
               (sender, request) ->
                   handleAtomixRequest(request, partitionId, requestType, requestHandler));
@@ -97,12 +98,12 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
     messagingService.unregisterHandler(topicName);
   }
 
-  private CompletableFuture<byte[]> handleAtomixRequest(
+  private CompletableFuture<ByteBuf> handleAtomixRequest(
       final byte[] requestBytes,
       final int partitionId,
       final RequestType requestType,
       final RequestHandler requestHandler) {
-    final var completableFuture = new CompletableFuture<byte[]>();
+    final var completableFuture = new CompletableFuture<ByteBuf>();
     actor.call(
         () -> {
           final long requestId = requestIdGenerator.nextId();
@@ -146,12 +147,10 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
   public void sendResponse(final ServerResponse response) {
     final var requestId = response.getRequestId();
     final var partitionId = response.getPartitionId();
-    final var length = response.getLength();
-    final var bytes = new byte[length];
 
-    // here we can't reuse a buffer, because sendResponse can be called concurrently
-    final var unsafeBuffer = new UnsafeBuffer(bytes);
-    response.write(unsafeBuffer, 0);
+    // here we can't reuse a buffer, because sendResponse can be called concurrently; the pooled
+    // buffer is handed over to the messaging service, which releases it once the reply is written
+    final var buffer = PooledBuffers.write(response);
 
     actor.run(
         () -> {
@@ -161,6 +160,7 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
                 "Node is no longer leader for partition {}, tried to respond on request with id {}",
                 partitionId,
                 requestId);
+            buffer.release();
             return;
           }
 
@@ -170,9 +170,14 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
               LOG.trace("Send response to request {}", requestId);
             }
 
-            completableFuture.complete(bytes);
-          } else if (LOG.isTraceEnabled()) {
-            LOG.trace("Wasn't able to send response to request {}", requestId);
+            if (!completableFuture.complete(buffer)) {
+              buffer.release();
+            }
+          } else {
+            if (LOG.isTraceEnabled()) {
+              LOG.trace("Wasn't able to send response to request {}", requestId);
+            }
+            buffer.release();
           }
         });
   }
@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.impl;
+
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Writes requests and responses into buffers of the same pooled allocator the messaging service
+ * uses, so they can be handed over to the messaging layer without copying them into an array first.
+ */
+final class PooledBuffers {
+
+  private PooledBuffers() {}
+
+  /**
+   * Allocates a pooled buffer of the writer's length and writes into it. The caller owns the
+   * returned buffer and is responsible for releasing it, or handing it over to the messaging
+   * service which releases it.
+   *
+   * @param writer the writer to write into the buffer
+   * @return a pooled buffer whose readable bytes are what the writer wrote
+   */
+  static ByteBuf write(final BufferWriter writer) {
+    final var length = writer.getLength();
+    final var buffer = PooledByteBufAllocator.DEFAULT.directBuffer(length, length);
+
+    try {
+      final var view =
+          buffer.hasMemoryAddress()
+              ? new UnsafeBuffer(buffer.memoryAddress(), length)
+              : new UnsafeBuffer(buffer.nioBuffer(0, length));
+      writer.write(view, 0);
+      buffer.writerIndex(length);
+      return buffer;
+    } catch (final RuntimeException e) {
+      buffer.release();
+      throw e;
+    }
+  }
+}
@@ -14,6 +14,7 @@ import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.RequestType;
+import io.netty.buffer.ByteBuf;
 import java.time.Duration;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
@@ -26,20 +27,21 @@ final class RequestContext {
   private final Supplier<String> nodeAddressSupplier;
   private final int partitionId;
   private final RequestType requestType;
-  private final byte[] requestBytes;
+  private final ByteBuf requestBuffer;
   private final boolean shouldRetry;
   private final long startTime;
   private final Duration timeout;
   private final Predicate<DirectBuffer> responseValidator;
 
   private ScheduledTimer scheduledTimer;
+  private boolean isRequestBufferReleased;
 
   RequestContext(
       final CompletableActorFuture<DirectBuffer> currentFuture,
       final Supplier<String> nodeAddressSupplier,
       final int partitionId,
       final RequestType requestType,
-      final byte[] requestBytes,
+      final ByteBuf requestBuffer,
       final Predicate<DirectBuffer> responseValidator,
       final boolean shouldRetry,
       final Duration timeout) {
@@ -47,7 +49,7 @@ final class RequestContext {
     this.nodeAddressSupplier = nodeAddressSupplier;
     this.partitionId = partitionId;
     this.requestType = requestType;
-    this.requestBytes = requestBytes;
+    this.requestBuffer = requestBuffer;
     this.shouldRetry = shouldRetry;
     startTime = ActorClock.currentTimeMillis();
     this.responseValidator = responseValidator;
@@ -67,8 +69,11 @@ final class RequestContext {
     return topicName(partitionId, requestType);
   }
 
-  byte[] getRequestBytes() {
-    return requestBytes;
+  /**
+   * @return the request buffer, which is released once the request is done; retain it to send it
+   */
+  ByteBuf getRequestBuffer() {
+    return requestBuffer;
   }
 
   public Duration getTimeout() {
@@ -94,11 +99,24 @@ final class RequestContext {
   public void complete(final DirectBuffer buffer) {
     currentFuture.complete(buffer);
     cancelTimer();
+    releaseRequestBuffer();
   }
 
   public void completeExceptionally(final Throwable throwable) {
     currentFuture.completeExceptionally(throwable);
     cancelTimer();
+    releaseRequestBuffer();
+  }
+
+  /**
+   * Releases the request buffer, if it wasn't released yet. Sends which are still in flight hold
+   * their own reference to it.
+   */
+  void releaseRequestBuffer() {
+    if (!isRequestBufferReleased) {
+      isRequestBufferReleased = true;
+      requestBuffer.release();
+    }
   }
 
   private void cancelTimer() {
@@ -114,6 +132,7 @@ final class RequestContext {
   public void timeout() {
     currentFuture.completeExceptionally(
         new TimeoutException("Request timed out after " + timeout.toString()));
+    releaseRequestBuffer();
   }
 
   public boolean shouldRetry() {
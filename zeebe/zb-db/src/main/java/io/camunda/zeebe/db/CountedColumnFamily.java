@@ -0,0 +1,35 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * A column family which maintains the number of its entries per counted prefix. The counts are
+ * stored in a separate column family and are updated together with the entries, in the same
+ * transaction. This makes counting the entries of a prefix a single lookup, instead of iterating
+ * over all entries like {@link #countEqualPrefix(DbKey)} does.
+ *
+ * <p>The counted prefix of an entry is derived from its key, see {@link
+ * ZeebeDb#createCountedColumnFamily(Enum, TransactionContext, DbKey, DbValue, Enum,
+ * java.util.function.Function)}.
+ *
+ * @param <KeyType> the type of the keys
+ * @param <ValueType> the type of the values
+ * @param <PrefixType> the type of the counted prefix
+ */
+public interface CountedColumnFamily<
+        KeyType extends DbKey, ValueType extends DbValue, PrefixType extends DbKey>
+    extends ColumnFamily<KeyType, ValueType> {
+
+  /**
+   * Returns the number of entries with the given counted prefix, without iterating over them.
+   *
+   * @param prefix the counted prefix
+   * @return the number of entries in the column family with the given prefix
+   */
+  long countPrefix(PrefixType prefix);
+}
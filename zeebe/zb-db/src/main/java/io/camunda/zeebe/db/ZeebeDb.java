@@ -7,9 +7,12 @@
  */
 package io.camunda.zeebe.db;
 
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.PrefixCountingColumnFamily;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * The zeebe database, to store key value pairs in different column families. The column families
@@ -44,6 +47,43 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<? extends EnumValue> & En
           KeyType keyInstance,
           ValueType valueInstance);
 
+  /**
+   * Creates an instance of a specific column family like {@link #createColumnFamily(Enum,
+   * TransactionContext, DbKey, DbValue)}, which additionally maintains the number of its entries
+   * per counted prefix in the given count column family. The counts are updated in the same
+   * transaction as the entries, such that {@link CountedColumnFamily#countPrefix(DbKey)} doesn't
+   * need to iterate over the entries.
+   *
+   * <p>The counted prefix is derived from the key instance of the column family, for example the
+   * first part of a {@link io.camunda.zeebe.db.impl.DbCompositeKey}. The count column family stores
+   * the counts by the prefix, and must not be used for anything else.
+   *
+   * @param <KeyType> the key type of the column family
+   * @param <ValueType> the value type of the column family
+   * @param <PrefixType> the type of the counted prefix
+   * @param columnFamily the enum instance of the column family
+   * @param keyInstance this instance defines the type of the column family key type
+   * @param valueInstance this instance defines the type of the column family value type
+   * @param countColumnFamily the enum instance of the column family which stores the counts
+   * @param countedPrefix returns the counted prefix of a key
+   * @return the created column family instance
+   */
+  default <KeyType extends DbKey, ValueType extends DbValue, PrefixType extends DbKey>
+      CountedColumnFamily<KeyType, ValueType, PrefixType> createCountedColumnFamily(
+          final ColumnFamilyType columnFamily,
+          final TransactionContext context,
+          final KeyType keyInstance,
+          final ValueType valueInstance,
+          final ColumnFamilyType countColumnFamily,
+          final Function<KeyType, PrefixType> countedPrefix) {
+    return new PrefixCountingColumnFamily<>(
+        context,
+        createColumnFamily(columnFamily, context, keyInstance, valueInstance),
+        createColumnFamily(
+            countColumnFamily, context, countedPrefix.apply(keyInstance), new DbLong()),
+        countedPrefix);
+  }
+
   /**
    * Creates a snapshot of the current database in the given directory.
    *
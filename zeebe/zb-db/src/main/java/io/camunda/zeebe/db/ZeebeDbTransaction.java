@@ -38,4 +38,23 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Marks the current state of the transaction, such that the changes made afterwards can be
+   * discarded via {@link #rollbackToSavePoint()}, while the changes made before are kept.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavePoint() throws Exception;
+
+  /**
+   * Discards all changes made since the latest save point and removes the save point. The changes
+   * made before the save point are kept in the transaction.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown, e.g. if no
+   *     save point was set
+   */
+  void rollbackToSavePoint() throws Exception;
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.CountedColumnFamily;
+import io.camunda.zeebe.db.DbKey;
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
+import io.camunda.zeebe.db.TransactionContext;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Maintains the number of entries per prefix of a column family in a second column family. Both
+ * column families share the same transaction context, and an entry is always changed together with
+ * its count in one transaction, such that the counts are committed or rolled back with the entries.
+ *
+ * <p>An entry is counted when it is inserted, and no longer counted when it is deleted. As
+ * upserting and deleting an entry that may not exist can't tell whether the count changes, they
+ * look up the entry first. The count of a prefix is removed when it drops to zero.
+ */
+public final class PrefixCountingColumnFamily<
+        KeyType extends DbKey, ValueType extends DbValue, PrefixType extends DbKey>
+    implements CountedColumnFamily<KeyType, ValueType, PrefixType> {
+
+  private final TransactionContext context;
+  private final ColumnFamily<KeyType, ValueType> columnFamily;
+  private final ColumnFamily<PrefixType, DbLong> countColumnFamily;
+  private final Function<KeyType, PrefixType> countedPrefix;
+  private final DbLong count = new DbLong();
+
+  public PrefixCountingColumnFamily(
+      final TransactionContext context,
+      final ColumnFamily<KeyType, ValueType> columnFamily,
+      final ColumnFamily<PrefixType, DbLong> countColumnFamily,
+      final Function<KeyType, PrefixType> countedPrefix) {
+    this.context = context;
+    this.columnFamily = columnFamily;
+    this.countColumnFamily = countColumnFamily;
+    this.countedPrefix = countedPrefix;
+  }
+
+  @Override
+  public void insert(final KeyType key, final ValueType value) {
+    context.runInTransaction(
+        () -> {
+          columnFamily.insert(key, value);
+          changeCount(key, 1);
+        });
+  }
+
+  @Override
+  public void update(final KeyType key, final ValueType value) {
+    columnFamily.update(key, value);
+  }
+
+  @Override
+  public void upsert(final KeyType key, final ValueType value) {
+    context.runInTransaction(
+        () -> {
+          final var exists = columnFamily.exists(key);
+          columnFamily.upsert(key, value);
+          if (!exists) {
+            changeCount(key, 1);
+          }
+        });
+  }
+
+  @Override
+  public ValueType get(final KeyType key) {
+    return columnFamily.get(key);
+  }
+
+  @Override
+  public void forEach(final Consumer<ValueType> consumer) {
+    columnFamily.forEach(consumer);
+  }
+
+  @Override
+  public void forEach(final BiConsumer<KeyType, ValueType> consumer) {
+    columnFamily.forEach(consumer);
+  }
+
+  @Override
+  public void whileTrue(
+      final KeyType startAtKey, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    columnFamily.whileTrue(startAtKey, visitor);
+  }
+
+  @Override
+  public void whileTrue(final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    columnFamily.whileTrue(visitor);
+  }
+
+  @Override
+  public void whileEqualPrefix(
+      final DbKey keyPrefix, final BiConsumer<KeyType, ValueType> visitor) {
+    columnFamily.whileEqualPrefix(keyPrefix, visitor);
+  }
+
+  @Override
+  public void whileEqualPrefix(
+      final DbKey keyPrefix, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    columnFamily.whileEqualPrefix(keyPrefix, visitor);
+  }
+
+  @Override
+  public void whileEqualPrefix(
+      final DbKey keyPrefix,
+      final KeyType startAtKey,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    columnFamily.whileEqualPrefix(keyPrefix, startAtKey, visitor);
+  }
+
+  @Override
+  public void deleteExisting(final KeyType key) {
+    context.runInTransaction(
+        () -> {
+          columnFamily.deleteExisting(key);
+          changeCount(key, -1);
+        });
+  }
+
+  @Override
+  public void deleteIfExists(final KeyType key) {
+    context.runInTransaction(
+        () -> {
+          if (columnFamily.exists(key)) {
+            columnFamily.deleteExisting(key);
+            changeCount(key, -1);
+          }
+        });
+  }
+
+  @Override
+  public boolean exists(final KeyType key) {
+    return columnFamily.exists(key);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return columnFamily.isEmpty();
+  }
+
+  @Override
+  public long count() {
+    return columnFamily.count();
+  }
+
+  @Override
+  public long countEqualPrefix(final DbKey prefix) {
+    return columnFamily.countEqualPrefix(prefix);
+  }
+
+  @Override
+  public long countPrefix(final PrefixType prefix) {
+    final var storedCount = countColumnFamily.get(prefix);
+    return storedCount != null ? storedCount.getValue() : 0L;
+  }
+
+  private void changeCount(final KeyType key, final long delta) {
+    final var prefix = countedPrefix.apply(key);
+    final var newCount = countPrefix(prefix) + delta;
+    if (newCount > 0) {
+      count.wrapLong(newCount);
+      countColumnFamily.upsert(prefix, count);
+    } else {
+      countColumnFamily.deleteIfExists(prefix);
+    }
+  }
+}
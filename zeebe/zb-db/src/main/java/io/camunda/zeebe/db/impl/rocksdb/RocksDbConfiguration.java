@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -52,6 +53,22 @@ public final class RocksDbConfiguration {
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
 
+  /**
+   * Maps logical column families, by their name, to a dedicated RocksDB column family, instead of
+   * the default one which is shared by all other logical column families. A dedicated column family
+   * has its own memtables, compactions and SST files. Its options are derived from the default
+   * column family options, and can be overwritten by the given mutable column family options, e.g.
+   * {@code write_buffer_size}.
+   *
+   * <p>Keys are moved between the default and the dedicated column families when the database is
+   * opened with a different mapping, so snapshots remain compatible in both directions. As there is
+   * then more than one column family, atomic flushes are enabled to keep checkpoints consistent
+   * even if the WAL is disabled.
+   *
+   * <p>Empty by default, i.e. all logical column families share the default column family.
+   */
+  private Map<String, Properties> dedicatedColumnFamilies = Map.of();
+
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
    * for performance reasons, if we set a value higher then zero it needs to keep track of open
@@ -155,4 +172,14 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public Map<String, Properties> getDedicatedColumnFamilies() {
+    return dedicatedColumnFamilies;
+  }
+
+  public RocksDbConfiguration setDedicatedColumnFamilies(
+      final Map<String, Properties> dedicatedColumnFamilies) {
+    this.dedicatedColumnFamilies = dedicatedColumnFamilies;
+    return this;
+  }
 }
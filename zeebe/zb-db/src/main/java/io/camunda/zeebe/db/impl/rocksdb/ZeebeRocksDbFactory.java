@@ -114,6 +114,8 @@ public final class ZeebeRocksDbFactory<
     final var props = new Properties();
     props.put("file_checksum_gen_factory", "FileChecksumGenCrc32cFactory");
     //    Enables full file checksum
+    final var hasDedicatedColumnFamilies =
+        !rocksDbConfiguration.getDedicatedColumnFamilies().isEmpty();
 
     final var dbOptions =
         DBOptions.getDBOptionsFromProps(props)
@@ -123,8 +125,11 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
-            .setCreateMissingColumnFamilies(false)
+            // we only use the default CF, unless some column families are dedicated
+            .setCreateMissingColumnFamilies(hasDedicatedColumnFamilies)
+            // with multiple CFs and a disabled WAL, checkpoints are only consistent across all CFs
+            // if they are flushed together
+            .setAtomicFlush(hasDedicatedColumnFamilies)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
             .setAvoidFlushDuringRecovery(true)
@@ -208,9 +213,15 @@ public final class ZeebeRocksDbFactory<
     // create
     // a filter for each memtable, allowing us to skip the prefixes if possible
     final var memtablePrefixFilterMemory = 0.15;
+    // every dedicated column family has its own memtables, so the budget is split evenly between
+    // them and the default column family; a dedicated one can be given a bigger share via its own
+    // options
+    final var physicalColumnFamilyCount =
+        1 + rocksDbConfiguration.getDedicatedColumnFamilies().size();
     final var memtableMemory =
         Math.round(
-            ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
+            ((totalMemoryBudget - blockCacheMemory)
+                    / (double) (maxConcurrentMemtableCount * physicalColumnFamilyCount))
                 * (1 - memtablePrefixFilterMemory));
 
     final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
@@ -15,9 +15,11 @@ import org.rocksdb.DBOptions;
  * change these depending on its own configuration. As each of the parts must be individually
  * closed, this record allows easily passing both configurations around within Zeebe.
  *
- * <p>While each column family in RocksDB can be configured differently, Zeebe only uses a single
- * RocksDB column family. We therefore don't have to differentiate further than a single database
- * options and a single column family options.
+ * <p>While each column family in RocksDB can be configured differently, Zeebe uses the default
+ * RocksDB column family for all of its logical column families, unless some are dedicated. These
+ * dedicated column families are opened with the same options, and only differ by the mutable
+ * options applied once the database is open. We therefore don't have to differentiate further than
+ * a single database options and a single column family options.
  *
  * @param dbOptions The database options used to open the RocksDB database
  * @param cfOptions The column family options used to open the RocksDB database
@@ -18,24 +18,39 @@ import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.FlushOptions;
+import org.rocksdb.MutableColumnFamilyOptions;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -45,6 +60,21 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
+  // number of keys moved per write batch when moving keys between column families
+  private static final int MIGRATION_BATCH_SIZE = 10_000;
+  // properties which are tracked per database, or per shared block cache, and not per column
+  // family; summing them up over all column families would count them several times
+  private static final Set<String> DB_WIDE_PROPERTIES =
+      Set.of(
+          "rocksdb.block-cache-capacity",
+          "rocksdb.block-cache-usage",
+          "rocksdb.block-cache-pinned-usage",
+          "rocksdb.is-write-stopped",
+          "rocksdb.actual-delayed-write-rate",
+          "rocksdb.num-running-flushes",
+          "rocksdb.num-running-compactions",
+          "rocksdb.num-snapshots",
+          "rocksdb.background-errors");
   private final OptimisticTransactionDB optimisticTransactionDB;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
@@ -52,6 +82,8 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
   private final long defaultNativeHandle;
+  private final Map<String, ColumnFamilyHandle> dedicatedHandles;
+  private final Map<String, Boolean> migratedColumnFamilies = new ConcurrentHashMap<>();
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
 
@@ -62,8 +94,27 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration accessMetricsConfiguration) {
+    this(
+        defaultHandle,
+        Map.of(),
+        optimisticTransactionDB,
+        closables,
+        rocksDbConfiguration,
+        consistencyChecksSettings,
+        accessMetricsConfiguration);
+  }
+
+  protected ZeebeTransactionDb(
+      final ColumnFamilyHandle defaultHandle,
+      final Map<String, ColumnFamilyHandle> dedicatedHandles,
+      final OptimisticTransactionDB optimisticTransactionDB,
+      final List<AutoCloseable> closables,
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final AccessMetricsConfiguration accessMetricsConfiguration) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
+    this.dedicatedHandles = dedicatedHandles;
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
@@ -93,30 +144,63 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final ConsistencyChecksSettings consistencyChecksSettings,
           final AccessMetricsConfiguration metrics)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    final var dedicatedColumnFamilies = rocksDbConfiguration.getDedicatedColumnFamilies();
+    // column families which are no longer dedicated must still be opened to move their keys back
+    final var columnFamilyNames = new LinkedHashSet<>(dedicatedColumnFamilies.keySet());
+    columnFamilyNames.addAll(listNonDefaultColumnFamilies(options, path));
+
+    final List<ColumnFamilyDescriptor> cfDescriptors = new ArrayList<>();
+    cfDescriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    for (final var name : columnFamilyNames) {
+      cfDescriptors.add(
+          new ColumnFamilyDescriptor(name.getBytes(StandardCharsets.UTF_8), options.cfOptions()));
+    }
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(optimisticTransactionDB);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
     final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
     closables.add(defaultColumnFamilyHandle);
 
-    return new ZeebeTransactionDb<>(
-        defaultColumnFamilyHandle,
-        optimisticTransactionDB,
-        closables,
-        rocksDbConfiguration,
-        consistencyChecksSettings,
-        metrics);
+    final Map<String, ColumnFamilyHandle> dedicatedHandles = new HashMap<>();
+    final List<ColumnFamilyHandle> staleHandles = new ArrayList<>();
+    for (final var handle : cfHandles.subList(1, cfHandles.size())) {
+      closables.add(handle);
+      final var name = new String(handle.getName(), StandardCharsets.UTF_8);
+      final var columnFamilyOptions = dedicatedColumnFamilies.get(name);
+      if (columnFamilyOptions == null) {
+        staleHandles.add(handle);
+        continue;
+      }
+
+      dedicatedHandles.put(name, handle);
+      if (!columnFamilyOptions.isEmpty()) {
+        optimisticTransactionDB.setOptions(
+            handle, MutableColumnFamilyOptions.parse(toOptionsString(columnFamilyOptions)).build());
+      }
+    }
+
+    final var db =
+        new ZeebeTransactionDb<ColumnFamilyNames>(
+            defaultColumnFamilyHandle,
+            Map.copyOf(dedicatedHandles),
+            optimisticTransactionDB,
+            closables,
+            rocksDbConfiguration,
+            consistencyChecksSettings,
+            metrics);
+    for (final var staleHandle : staleHandles) {
+      db.dropDedicatedColumnFamily(staleHandle);
+    }
+    return db;
   }
 
   static long getNativeHandle(final RocksObject object) {
@@ -144,6 +228,36 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return defaultNativeHandle;
   }
 
+  /**
+   * Returns the handle of the physical column family which holds the keys of the given logical
+   * column family. On the first access to a dedicated column family, keys of the logical column
+   * family which are still in the default column family, e.g. because the database was restored
+   * from a snapshot taken before the column family was dedicated, are moved to it.
+   */
+  protected ColumnFamilyHandle getHandle(final Enum<? extends EnumValue> columnFamily) {
+    if (dedicatedHandles.isEmpty()) {
+      return defaultHandle;
+    }
+
+    final var handle = dedicatedHandles.get(columnFamily.name());
+    if (handle == null) {
+      return defaultHandle;
+    }
+
+    migratedColumnFamilies.computeIfAbsent(
+        columnFamily.name(),
+        name -> {
+          moveToDedicatedColumnFamily(((EnumValue) columnFamily).getValue(), handle);
+          return true;
+        });
+    return handle;
+  }
+
+  protected long getNativeHandle(final Enum<? extends EnumValue> columnFamily) {
+    final var handle = getHandle(columnFamily);
+    return handle == defaultHandle ? defaultNativeHandle : getNativeHandle(handle);
+  }
+
   @Override
   public <KeyType extends DbKey, ValueType extends DbValue>
       ColumnFamily<KeyType, ValueType> createColumnFamily(
@@ -182,9 +296,34 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   @Override
   public Optional<String> getProperty(final String propertyName) {
+    final var defaultValue = getProperty(defaultHandle, propertyName);
+    if (dedicatedHandles.isEmpty()
+        || defaultValue.isEmpty()
+        || DB_WIDE_PROPERTIES.contains(propertyName)) {
+      return defaultValue;
+    }
+
+    // numeric column family properties are aggregated over all physical column families, such
+    // that they cover all logical column families as if they all shared the default one
+    try {
+      long aggregatedValue = Long.parseLong(defaultValue.get());
+      for (final var handle : dedicatedHandles.values()) {
+        final var value = getProperty(handle, propertyName);
+        if (value.isPresent()) {
+          aggregatedValue += Long.parseLong(value.get());
+        }
+      }
+      return Optional.of(String.valueOf(aggregatedValue));
+    } catch (final NumberFormatException e) {
+      LOG.trace("Cannot aggregate non-numeric property {}", propertyName, e);
+      return defaultValue;
+    }
+  }
+
+  private Optional<String> getProperty(final ColumnFamilyHandle handle, final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      propertyValue = optimisticTransactionDB.getProperty(handle, propertyName);
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
@@ -211,6 +350,96 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return optimisticTransactionDB.beginTransaction(defaultWriteOptions, oldTransaction);
   }
 
+  private static List<String> listNonDefaultColumnFamilies(
+      final RocksDbOptions options, final String path) throws RocksDBException {
+    if (!new File(path, "CURRENT").exists()) {
+      return List.of();
+    }
+
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      return RocksDB.listColumnFamilies(listOptions, path).stream()
+          .filter(name -> !Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY))
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
+  }
+
+  private static String toOptionsString(final Properties columnFamilyOptions) {
+    return columnFamilyOptions.entrySet().stream()
+        .map(entry -> entry.getKey() + "=" + entry.getValue())
+        .collect(Collectors.joining(";"));
+  }
+
+  private void moveToDedicatedColumnFamily(
+      final long columnFamilyPrefix, final ColumnFamilyHandle dedicatedHandle) {
+    final var prefix = new byte[Long.BYTES];
+    new UnsafeBuffer(prefix).putLong(0, columnFamilyPrefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+
+    try (final var iterator =
+        optimisticTransactionDB.newIterator(defaultHandle, prefixReadOptions)) {
+      iterator.seek(prefix);
+      final var movedKeys = moveKeys(iterator, defaultHandle, dedicatedHandle);
+      if (movedKeys > 0) {
+        LOG.info(
+            "Moved {} keys of column family {} to its dedicated column family {}",
+            movedKeys,
+            columnFamilyPrefix,
+            new String(dedicatedHandle.getName(), StandardCharsets.UTF_8));
+      }
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          "Failed to move keys of column family %d to its dedicated column family"
+              .formatted(columnFamilyPrefix),
+          e);
+    }
+  }
+
+  /**
+   * Moves all keys of a column family which is no longer dedicated back to the default column
+   * family, and drops it afterwards. The default column family is flushed before dropping, as
+   * dropping is persisted right away, while the moved keys may only be in the memtable if the WAL
+   * is disabled.
+   */
+  private void dropDedicatedColumnFamily(final ColumnFamilyHandle handle) throws RocksDBException {
+    final var name = new String(handle.getName(), StandardCharsets.UTF_8);
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var iterator = optimisticTransactionDB.newIterator(handle, readOptions);
+        final var flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      iterator.seekToFirst();
+      final var movedKeys = moveKeys(iterator, handle, defaultHandle);
+      optimisticTransactionDB.flush(flushOptions, defaultHandle);
+      LOG.info(
+          "Moved {} keys of column family {} back to the default column family", movedKeys, name);
+    }
+
+    optimisticTransactionDB.dropColumnFamily(handle);
+  }
+
+  private long moveKeys(
+      final RocksIterator iterator, final ColumnFamilyHandle from, final ColumnFamilyHandle to)
+      throws RocksDBException {
+    long movedKeys = 0;
+    try (final var batch = new WriteBatch()) {
+      for (; iterator.isValid(); iterator.next()) {
+        final var key = iterator.key();
+        batch.put(to, key, iterator.value());
+        batch.delete(from, key);
+        movedKeys++;
+
+        if (movedKeys % MIGRATION_BATCH_SIZE == 0) {
+          optimisticTransactionDB.write(defaultWriteOptions, batch);
+          batch.clear();
+        }
+      }
+      iterator.status();
+
+      if (batch.count() > 0) {
+        optimisticTransactionDB.write(defaultWriteOptions, batch);
+      }
+    }
+    return movedKeys;
+  }
+
   @Override
   public void close() {
     // Correct order of closing
@@ -0,0 +1,195 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.CountedColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class CountedColumnFamilyTest {
+
+  private ZeebeDb<TestColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private DbLong scopeKey;
+  private DbLong elementKey;
+  private DbCompositeKey<DbLong, DbLong> scopeElementKey;
+  private DbString value;
+  private CountedColumnFamily<DbCompositeKey<DbLong, DbLong>, DbString, DbLong> columnFamily;
+  private ColumnFamily<DbLong, DbLong> countColumnFamily;
+
+  @BeforeEach
+  void setup(final @TempDir File path) {
+    zeebeDb = DefaultZeebeDbFactory.<TestColumnFamilies>getDefaultFactory().createDb(path);
+    transactionContext = zeebeDb.createContext();
+
+    scopeKey = new DbLong();
+    elementKey = new DbLong();
+    scopeElementKey = new DbCompositeKey<>(scopeKey, elementKey);
+    value = new DbString();
+    columnFamily =
+        zeebeDb.createCountedColumnFamily(
+            TestColumnFamilies.ELEMENTS,
+            transactionContext,
+            scopeElementKey,
+            value,
+            TestColumnFamilies.ELEMENT_COUNTS,
+            DbCompositeKey::first);
+    countColumnFamily =
+        zeebeDb.createColumnFamily(
+            TestColumnFamilies.ELEMENT_COUNTS, transactionContext, new DbLong(), new DbLong());
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldCountInsertedEntriesPerPrefix() {
+    // when
+    insert(1, 10);
+    insert(1, 11);
+    insert(2, 20);
+
+    // then
+    assertThat(countPrefix(1)).isEqualTo(2);
+    assertThat(countPrefix(2)).isOne();
+    assertThat(countPrefix(3)).isZero();
+  }
+
+  @Test
+  void shouldNotCountUpdatedEntries() {
+    // given
+    insert(1, 10);
+
+    // when
+    setKey(1, 10);
+    value.wrapString("updated");
+    columnFamily.update(scopeElementKey, value);
+    columnFamily.upsert(scopeElementKey, value);
+
+    // then
+    assertThat(countPrefix(1)).isOne();
+  }
+
+  @Test
+  void shouldCountUpsertedEntries() {
+    // when
+    setKey(1, 10);
+    value.wrapString("upserted");
+    columnFamily.upsert(scopeElementKey, value);
+
+    // then
+    assertThat(countPrefix(1)).isOne();
+  }
+
+  @Test
+  void shouldNotCountDeletedEntries() {
+    // given
+    insert(1, 10);
+    insert(1, 11);
+    insert(1, 12);
+
+    // when
+    setKey(1, 10);
+    columnFamily.deleteExisting(scopeElementKey);
+    setKey(1, 11);
+    columnFamily.deleteIfExists(scopeElementKey);
+    setKey(1, 13);
+    columnFamily.deleteIfExists(scopeElementKey);
+
+    // then
+    assertThat(countPrefix(1)).isOne();
+    assertThat(countPrefix(1)).isEqualTo(columnFamily.countEqualPrefix(scopeKey));
+  }
+
+  @Test
+  void shouldRemoveCountWhenLastEntryIsDeleted() {
+    // given
+    insert(1, 10);
+
+    // when
+    setKey(1, 10);
+    columnFamily.deleteExisting(scopeElementKey);
+
+    // then
+    assertThat(countPrefix(1)).isZero();
+    assertThat(countColumnFamily.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldNotCountEntryIfInsertFails() {
+    // given
+    insert(1, 10);
+
+    // when
+    assertThatThrownBy(() -> insert(1, 10)).isInstanceOf(RuntimeException.class);
+
+    // then
+    assertThat(countPrefix(1)).isOne();
+  }
+
+  @Test
+  void shouldRollbackCountWithEntries() throws Exception {
+    // given
+    insert(1, 10);
+    final var transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          insert(1, 11);
+          setKey(1, 10);
+          columnFamily.deleteExisting(scopeElementKey);
+          insert(2, 20);
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(countPrefix(1)).isOne();
+    assertThat(countPrefix(2)).isZero();
+  }
+
+  private void insert(final long scope, final long element) {
+    setKey(scope, element);
+    value.wrapString("element-" + element);
+    columnFamily.insert(scopeElementKey, value);
+  }
+
+  private void setKey(final long scope, final long element) {
+    scopeKey.wrapLong(scope);
+    elementKey.wrapLong(element);
+  }
+
+  private long countPrefix(final long scope) {
+    final var prefix = new DbLong();
+    prefix.wrapLong(scope);
+    return columnFamily.countPrefix(prefix);
+  }
+
+  private enum TestColumnFamilies implements EnumValue {
+    DEFAULT, // rocksDB needs a default column family
+    ELEMENTS,
+    ELEMENT_COUNTS;
+
+    @Override
+    public int getValue() {
+      return ordinal();
+    }
+  }
+}
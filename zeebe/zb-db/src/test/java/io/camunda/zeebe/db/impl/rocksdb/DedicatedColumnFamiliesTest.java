@@ -0,0 +1,217 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+
+final class DedicatedColumnFamiliesTest {
+
+  private static final Map<String, Properties> DEDICATED =
+      Map.of(TestColumnFamilies.DEDICATED.name(), new Properties());
+
+  @Test
+  void shouldStoreDedicatedColumnFamilyInPhysicalColumnFamily(final @TempDir File path)
+      throws Exception {
+    // given
+    final var factory = createFactory(DEDICATED);
+
+    // when
+    try (final var db = factory.createDb(path)) {
+      put(db, TestColumnFamilies.SHARED, 1, "shared");
+      put(db, TestColumnFamilies.DEDICATED, 1, "dedicated");
+    }
+
+    // then
+    assertThat(listColumnFamilies(path)).containsExactlyInAnyOrder("default", "DEDICATED");
+    try (final var db = factory.createDb(path)) {
+      assertThat(get(db, TestColumnFamilies.SHARED, 1)).isEqualTo("shared");
+      assertThat(get(db, TestColumnFamilies.DEDICATED, 1)).isEqualTo("dedicated");
+    }
+  }
+
+  @Test
+  void shouldMoveKeysToDedicatedColumnFamily(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = createFactory(Map.of()).createDb(path)) {
+      put(db, TestColumnFamilies.SHARED, 1, "shared");
+      put(db, TestColumnFamilies.DEDICATED, 1, "first");
+      put(db, TestColumnFamilies.DEDICATED, 2, "second");
+    }
+
+    // when
+    try (final var db = createFactory(DEDICATED).createDb(path)) {
+      // then
+      assertThat(get(db, TestColumnFamilies.SHARED, 1)).isEqualTo("shared");
+      assertThat(get(db, TestColumnFamilies.DEDICATED, 1)).isEqualTo("first");
+      assertThat(get(db, TestColumnFamilies.DEDICATED, 2)).isEqualTo("second");
+      assertThat(count(db, TestColumnFamilies.DEDICATED)).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void shouldMoveKeysBackToDefaultColumnFamily(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = createFactory(DEDICATED).createDb(path)) {
+      put(db, TestColumnFamilies.SHARED, 1, "shared");
+      put(db, TestColumnFamilies.DEDICATED, 1, "dedicated");
+    }
+
+    // when
+    try (final var db = createFactory(Map.of()).createDb(path)) {
+      // then
+      assertThat(get(db, TestColumnFamilies.SHARED, 1)).isEqualTo("shared");
+      assertThat(get(db, TestColumnFamilies.DEDICATED, 1)).isEqualTo("dedicated");
+      assertThat(count(db, TestColumnFamilies.DEDICATED)).isEqualTo(1);
+    }
+    assertThat(listColumnFamilies(path)).containsExactly("default");
+  }
+
+  @Test
+  void shouldApplyDedicatedColumnFamilyOptions(final @TempDir File path) throws Exception {
+    // given
+    final var options = new Properties();
+    options.put("write_buffer_size", String.valueOf(16 * 1024 * 1024));
+    final var factory = createFactory(Map.of(TestColumnFamilies.DEDICATED.name(), options));
+
+    // when
+    try (final var db = factory.createDb(path)) {
+      put(db, TestColumnFamilies.DEDICATED, 1, "dedicated");
+
+      // then
+      assertThat(get(db, TestColumnFamilies.DEDICATED, 1)).isEqualTo("dedicated");
+    }
+  }
+
+  @Test
+  void shouldAggregatePropertiesOverAllColumnFamilies(final @TempDir File path) throws Exception {
+    // given
+    final var factory = createFactory(DEDICATED);
+    try (final var sharedOnlyDb =
+            createFactory(Map.of()).createDb(path.toPath().resolve("shared").toFile());
+        final var db = factory.createDb(path.toPath().resolve("dedicated").toFile())) {
+
+      // when
+      put(db, TestColumnFamilies.SHARED, 1, "shared");
+      put(db, TestColumnFamilies.DEDICATED, 1, "first");
+      put(db, TestColumnFamilies.DEDICATED, 2, "second");
+
+      // then
+      assertThat(db.getProperty("rocksdb.estimate-num-keys")).hasValue("3");
+      assertThat(db.getProperty("rocksdb.block-cache-capacity"))
+          .isEqualTo(sharedOnlyDb.getProperty("rocksdb.block-cache-capacity"));
+    }
+  }
+
+  @Test
+  void shouldSnapshotDedicatedColumnFamilies(final @TempDir File path, final @TempDir File tempDir)
+      throws Exception {
+    // given
+    final var factory = createFactory(DEDICATED);
+    try (final var db = factory.createDb(path)) {
+      put(db, TestColumnFamilies.SHARED, 1, "shared");
+      put(db, TestColumnFamilies.DEDICATED, 1, "dedicated");
+    }
+
+    // when
+    final var snapshotPath = new File(tempDir, "snapshot");
+    try (final var db = factory.openSnapshotOnlyDb(path)) {
+      db.createSnapshot(snapshotPath);
+    }
+
+    // then
+    try (final var db = factory.createDb(snapshotPath)) {
+      assertThat(get(db, TestColumnFamilies.SHARED, 1)).isEqualTo("shared");
+      assertThat(get(db, TestColumnFamilies.DEDICATED, 1)).isEqualTo("dedicated");
+    }
+  }
+
+  private static ZeebeRocksDbFactory<TestColumnFamilies> createFactory(
+      final Map<String, Properties> dedicatedColumnFamilies) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration().setDedicatedColumnFamilies(dedicatedColumnFamilies),
+        new ConsistencyChecksSettings(true, true),
+        new AccessMetricsConfiguration(Kind.NONE, 1));
+  }
+
+  private static void put(
+      final ZeebeDb<TestColumnFamilies> db,
+      final TestColumnFamilies columnFamily,
+      final long key,
+      final String value) {
+    final var dbKey = new DbLong();
+    final var dbValue = new DbString();
+    final var column = db.createColumnFamily(columnFamily, db.createContext(), dbKey, dbValue);
+    dbKey.wrapLong(key);
+    dbValue.wrapString(value);
+    column.insert(dbKey, dbValue);
+  }
+
+  private static String get(
+      final ZeebeDb<TestColumnFamilies> db, final TestColumnFamilies columnFamily, final long key) {
+    final var dbKey = new DbLong();
+    final var column =
+        db.createColumnFamily(columnFamily, db.createContext(), dbKey, new DbString());
+    dbKey.wrapLong(key);
+    final var value = column.get(dbKey);
+    return value == null ? null : value.toString();
+  }
+
+  private static int count(
+      final ZeebeDb<TestColumnFamilies> db, final TestColumnFamilies columnFamily) {
+    final var column =
+        db.createColumnFamily(columnFamily, db.createContext(), new DbLong(), new DbString());
+    final var count = new int[1];
+    column.forEach((key, value) -> count[0]++);
+    return count[0];
+  }
+
+  private static List<String> listColumnFamilies(final File path) throws RocksDBException {
+    try (final var options = new Options()) {
+      final var names = new ArrayList<String>();
+      for (final var name : RocksDB.listColumnFamilies(options, path.getAbsolutePath())) {
+        names.add(new String(name, StandardCharsets.UTF_8));
+      }
+      return names;
+    }
+  }
+
+  private enum TestColumnFamilies implements EnumValue {
+    SHARED(1),
+    DEDICATED(2);
+
+    private final int value;
+
+    TestColumnFamilies(final int value) {
+      this.value = value;
+    }
+
+    @Override
+    public int getValue() {
+      return value;
+    }
+  }
+}